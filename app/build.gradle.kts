@@ -62,6 +62,10 @@ android {
     buildFeatures {
         buildConfig = true
     }
+    // 로컬 단위 테스트에서 android.util.Log 등 프레임워크 호출은 기본값 반환
+    testOptions {
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -88,9 +92,10 @@ dependencies {
     // Scalars Converter (응답을 String 등 기본 타입으로 받기 위함)
     implementation("com.squareup.retrofit2:converter-scalars:2.9.0")
 
-    // AI 채팅 기능을 위한 OkHttp & Logging Interceptor
+    // AI 채팅 기능을 위한 OkHttp & Logging Interceptor (SSE는 스트리밍 응답용)
     implementation("com.squareup.okhttp3:okhttp:4.12.0")
     implementation("com.squareup.okhttp3:logging-interceptor:4.12.0")
+    implementation("com.squareup.okhttp3:okhttp-sse:4.12.0")
 
     // ViewModel과 LiveData
     implementation("androidx.lifecycle:lifecycle-viewmodel:2.6.2")
@@ -102,6 +107,9 @@ dependencies {
     implementation("org.jetbrains.kotlinx:kotlinx-coroutines-android:1.7.3")
     implementation("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.7.3")
 
+    // WorkManager (일정 전 날씨/경로 미리 받기)
+    implementation("androidx.work:work-runtime:2.9.1")
+
     testImplementation(libs.junit)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
@@ -3,7 +3,14 @@ package com.sjoneon.cap;
 import android.app.Application;
 import android.util.Log;
 
+import com.sjoneon.cap.helpers.EventPrefetchScheduler;
 import com.sjoneon.cap.helpers.NotificationHelper;
+import com.sjoneon.cap.repositories.AlarmRepository;
+import com.sjoneon.cap.repositories.CalendarEventRepository;
+import com.sjoneon.cap.repositories.LocalStorage;
+import com.sjoneon.cap.repositories.NotificationRepository;
+import com.sjoneon.cap.repositories.SyncOutbox;
+import com.sjoneon.cap.repositories.WeatherRepository;
 
 /**
  * 애플리케이션 클래스
@@ -32,5 +39,26 @@ public class MyApplication extends Application {
     private void initializeServices() {
         // 알림 채널 초기화 등
         new NotificationHelper(this);
+
+        // 화면/리시버가 처음 접근하기 전에 로컬 데이터를 백그라운드에서 미리 로드
+        CalendarEventRepository.getInstance(this).preload();
+        AlarmRepository.getInstance(this).preload();
+        NotificationRepository.getInstance(this).preload();
+        WeatherRepository.getInstance(this).preload();
+
+        // 장소가 있는 다음 일정에 맞춰 날씨/경로 미리 받기 예약
+        EventPrefetchScheduler.reschedule(this);
+
+        // 오프라인 중 쌓인 서버 변경 요청 전송
+        SyncOutbox.getInstance(this).start();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        // 모든 화면이 가려지면 프로세스 종료 대상이 될 수 있으므로 대기 중인 로컬 변경 기록
+        if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            LocalStorage.flushAllAsync();
+        }
     }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.sjoneon.cap.activities;
 
 import android.Manifest;
 import android.app.AlertDialog;
-import android.app.ProgressDialog;
 import android.content.Intent;
 import android.content.SharedPreferences;
 import android.content.pm.PackageManager;
@@ -34,6 +33,7 @@ import androidx.core.content.ContextCompat;
 import androidx.core.view.GravityCompat;
 import androidx.drawerlayout.widget.DrawerLayout;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
@@ -50,6 +50,7 @@ import com.sjoneon.cap.fragments.WeatherFragment;
 import com.sjoneon.cap.helpers.NavigationCategoryHelper;
 import com.sjoneon.cap.helpers.PermissionHelper;
 import com.sjoneon.cap.models.local.Message;
+import com.sjoneon.cap.repositories.LocalStorage;
 import com.sjoneon.cap.services.SpeechToTextService;
 import com.sjoneon.cap.services.DaySyncApiService;
 import com.sjoneon.cap.models.api.ChatRequest;
@@ -62,9 +63,11 @@ import com.sjoneon.cap.models.api.MessageListResponse;
 import com.sjoneon.cap.models.api.SessionInfo;
 import com.sjoneon.cap.models.api.MessageInfo;
 import com.sjoneon.cap.utils.ApiClient;
+import com.sjoneon.cap.utils.ChatStreamClient;
+import com.sjoneon.cap.viewmodels.RouteViewModel;
 import com.sjoneon.cap.fragments.SessionListBottomSheet;
-import com.sjoneon.cap.BuildConfig;
 
+import okhttp3.sse.EventSource;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -78,15 +81,8 @@ import java.util.Calendar;
 import java.util.List;
 import java.util.Locale;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonElement;
-import com.sjoneon.cap.models.api.WeatherResponse;
-import com.sjoneon.cap.services.WeatherApiService;
-import okhttp3.OkHttpClient;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import com.sjoneon.cap.models.local.VillageForecast;
+import com.sjoneon.cap.repositories.WeatherRepository;
 import java.util.Collections;
 
 /**
@@ -115,13 +111,12 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
 
     private SpeechToTextService speechToTextService;
     private DaySyncApiService apiService;
+    private EventSource activeChatStream;
+    // 스트림을 새로 열거나 세션이 바뀔 때마다 증가 (이전 스트림의 늦은 콜백 무시)
+    private int chatStreamGeneration;
     private String userUuid;
     private Integer sessionId;
-    private WeatherApiService weatherApiService;
-    private Gson lenientGson;
-    private JsonObject cachedWeatherData = null;
-    private int currentNx = 69;  // 청주시 기본 좌표
-    private int currentNy = 107;
+    private WeatherRepository weatherRepository;
     private View inputLayout;
     private View chatContainer;
 
@@ -154,7 +149,7 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
         setupChatInterface();
 
         initializeAiServices();
-        initializeWeatherService();
+        weatherRepository = WeatherRepository.getInstance(this);
         loadUserUuid();
         checkAndSyncUserWithServer();
         checkRecordAudioPermission();
@@ -720,6 +715,8 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
 
     /**
      * API로 메시지 전송
+     * 스트리밍 API로 응답을 받아 도착하는 대로 표시하고, 함수 호출 정보는 받는 즉시 처리합니다.
+     * 스트림을 열지 못하면(서버 미지원, 연결 실패) 일반 API로 다시 요청합니다.
      */
     private void sendMessageToApi(String messageText) {
         if (userUuid == null) {
@@ -731,9 +728,128 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
         ChatRequest request = new ChatRequest(userUuid, messageText, sessionId);
         Log.d(TAG, "API 호출 시작 - UUID: " + userUuid + ", SessionID: " + sessionId);
 
+        // 이전 응답이 아직 스트리밍 중이면 취소 (두 응답이 섞이지 않도록)
+        cancelActiveChatStream();
+        final int generation = chatStreamGeneration;
+
+        activeChatStream = ChatStreamClient.getInstance().streamChat(request, new ChatStreamClient.StreamCallback() {
+            // 스트리밍 중인 AI 메시지와 위치 (첫 토큰 전에는 null, -1)
+            private Message streamingMessage;
+            private int messagePosition = -1;
+            private boolean metadataApplied = false;
+            private boolean actionStarted = false;
+
+            /**
+             * 취소 전에 이미 전달된 콜백이거나 세션 전환으로 목록이 바뀌었으면 false
+             */
+            private boolean isCurrent() {
+                if (generation != chatStreamGeneration) {
+                    return false;
+                }
+                return messagePosition < 0
+                        || (messagePosition < messageList.size() && messageList.get(messagePosition) == streamingMessage);
+            }
+
+            @Override
+            public void onMetadata(ChatResponse metadata) {
+                if (!isCurrent()) {
+                    return;
+                }
+                metadataApplied = true;
+                actionStarted = applyChatMetadata(metadata);
+            }
+
+            @Override
+            public void onToken(String text) {
+                if (!isCurrent()) {
+                    return;
+                }
+                if (messagePosition < 0) {
+                    // 첫 토큰 앞의 공백/줄바꿈은 표시하지 않음
+                    String firstText = text.replaceAll("^\\s+", "");
+                    if (firstText.isEmpty()) {
+                        return;
+                    }
+                    streamingMessage = new Message(firstText, false);
+                    chatAdapter.addMessage(streamingMessage);
+                    messagePosition = messageList.size() - 1;
+                    scrollToBottom();
+                } else {
+                    chatAdapter.appendToMessage(messagePosition, text);
+                    recyclerView.scrollToPosition(messagePosition);
+                }
+            }
+
+            @Override
+            public void onComplete(ChatResponse chatResponse) {
+                if (!isCurrent()) {
+                    Log.d(TAG, "이전 스트림의 완료 응답 무시");
+                    return;
+                }
+                activeChatStream = null;
+                if (chatResponse == null || !chatResponse.isSuccess()) {
+                    showChatError(chatResponse);
+                    return;
+                }
+
+                String aiMessage = chatResponse.getAiResponse();
+                if (aiMessage != null && !aiMessage.isEmpty()) {
+                    // 최종 응답으로 정리 (토큰 사이 공백 처리 차이 보정)
+                    if (messagePosition < 0) {
+                        addAiMessage(aiMessage);
+                    } else {
+                        chatAdapter.setMessageContent(messagePosition, cleanAiMessage(aiMessage));
+                        scrollToBottom();
+                    }
+                    Log.d(TAG, "AI 응답 수신: " + aiMessage);
+                }
+
+                if (!metadataApplied) {
+                    actionStarted = applyChatMetadata(chatResponse);
+                } else {
+                    updateSessionId(chatResponse);
+                }
+
+                if (!actionStarted && aiMessage != null && !aiMessage.isEmpty()) {
+                    startAutoListeningIfQuestion(aiMessage);
+                }
+            }
+
+            @Override
+            public void onError(String message, boolean streamingUnsupported) {
+                if (generation != chatStreamGeneration) {
+                    // 취소했거나 다른 대화로 넘어간 스트림
+                    return;
+                }
+                activeChatStream = null;
+                if (streamingUnsupported) {
+                    Log.w(TAG, "스트리밍 사용 불가 (" + message + ") - 일반 API로 재요청");
+                    sendMessageWithoutStreaming(request);
+                    return;
+                }
+                addAiMessage("오류: " + message);
+                Log.e(TAG, "AI 응답 스트리밍 중 오류: " + message);
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 AI 응답 스트림 취소 (이미 전달 대기 중인 콜백도 무시됨)
+     */
+    private void cancelActiveChatStream() {
+        chatStreamGeneration++;
+        if (activeChatStream != null) {
+            activeChatStream.cancel();
+            activeChatStream = null;
+        }
+    }
+
+    /**
+     * 일반 API로 메시지 전송 (전체 응답을 받은 뒤 표시)
+     */
+    private void sendMessageWithoutStreaming(ChatRequest request) {
         Call<ChatResponse> call = apiService.sendChatMessage(request);
         call.enqueue(new Callback<ChatResponse>() {
-            // sendMessageToApi() 메서드 내부의 onResponse 콜백 수정
             @Override
             public void onResponse(@NonNull Call<ChatResponse> call,
                                    @NonNull Response<ChatResponse> response) {
@@ -742,69 +858,17 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
 
                     if (chatResponse.isSuccess()) {
                         String aiMessage = chatResponse.getAiResponse();
-
                         if (aiMessage != null && !aiMessage.isEmpty()) {
                             addAiMessage(aiMessage);
                             Log.d(TAG, "AI 응답 수신: " + aiMessage);
-
-                            // 경로 탐색 요청 처리
-                            if (chatResponse.getRouteSearchRequested() != null &&
-                                    chatResponse.getRouteSearchRequested()) {
-                                handleRouteSearchRequest(
-                                        chatResponse.getStartLocation(),
-                                        chatResponse.getDestination()
-                                );
-                                return;
-                            }
-
-                            // 날씨 조회 요청 처리
-                            if (chatResponse.getWeatherRequested() != null &&
-                                    chatResponse.getWeatherRequested()) {
-                                handleWeatherRequest(chatResponse.getWeatherTargetDate());
-                                return;
-                            }
-
-                            // AI가 질문으로 끝나고 마지막 입력이 음성일 때만 자동 음성 인식 시작
-                            if (isQuestion(aiMessage) && lastInputWasVoice) {
-                                Log.d(TAG, "후속 질문 감지 + 이전 입력이 음성 → 자동 음성인식 시작");
-                                startAutoListening();
-                            } else if (isQuestion(aiMessage)) {
-                                Log.d(TAG, "후속 질문 감지되었으나 이전 입력이 텍스트 → 자동 음성인식 취소");
-                            }
-                        }
-
-                        if (chatResponse.getSessionId() != null) {
-                            sessionId = chatResponse.getSessionId();
-                            saveUserInfo();
-                            Log.d(TAG, "세션 ID 업데이트: " + sessionId);
                         }
 
-                        if (chatResponse.getFunctionCalled() != null) {
-                            String functionName = chatResponse.getFunctionCalled();
-                            Log.d(TAG, "Function 호출됨: " + functionName);
-
-                            // 일정 관련 함수 처리
-                            if ("create_schedule".equals(functionName) ||
-                                    "update_schedule".equals(functionName) ||
-                                    "delete_schedule".equals(functionName)) {
-                                refreshCalendarIfVisible();
-                            }
-                            // 알람 관련 함수 처리
-                            else if ("create_alarm".equals(functionName) ||
-                                    "update_alarm".equals(functionName) ||
-                                    "delete_alarm".equals(functionName)) {
-                                refreshAlarmIfVisible();
-                            }
+                        boolean actionStarted = applyChatMetadata(chatResponse);
+                        if (!actionStarted && aiMessage != null && !aiMessage.isEmpty()) {
+                            startAutoListeningIfQuestion(aiMessage);
                         }
                     } else {
-                        String error = chatResponse.getError();
-                        if (error != null && !error.isEmpty()) {
-                            addAiMessage("오류: " + error);
-                            Log.e(TAG, "AI 응답 오류: " + error);
-                        } else {
-                            addAiMessage("알 수 없는 오류가 발생했습니다");
-                            Log.e(TAG, "AI 응답 실패 (오류 메시지 없음)");
-                        }
+                        showChatError(chatResponse);
                     }
                 } else {
                     addAiMessage("서버 응답 오류가 발생했습니다");
@@ -822,20 +886,99 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
         });
     }
 
+    /**
+     * 응답의 세션/함수 호출 정보 처리
+     * 스트리밍에서는 응답 텍스트가 끝나기 전에 호출되어 화면 전환이나 날씨 조회를 먼저 시작합니다.
+     *
+     * @return 경로 탐색 또는 날씨 조회를 시작했으면 true (자동 음성 인식 생략)
+     */
+    private boolean applyChatMetadata(ChatResponse chatResponse) {
+        updateSessionId(chatResponse);
+
+        if (chatResponse.getFunctionCalled() != null) {
+            String functionName = chatResponse.getFunctionCalled();
+            Log.d(TAG, "Function 호출됨: " + functionName);
+
+            // 일정 관련 함수 처리
+            if ("create_schedule".equals(functionName) ||
+                    "update_schedule".equals(functionName) ||
+                    "delete_schedule".equals(functionName)) {
+                refreshCalendarIfVisible();
+            }
+            // 알람 관련 함수 처리
+            else if ("create_alarm".equals(functionName) ||
+                    "update_alarm".equals(functionName) ||
+                    "delete_alarm".equals(functionName)) {
+                refreshAlarmIfVisible();
+            }
+        }
+
+        // 경로 탐색 요청 처리
+        if (Boolean.TRUE.equals(chatResponse.getRouteSearchRequested())) {
+            handleRouteSearchRequest(chatResponse.getStartLocation(), chatResponse.getDestination());
+            return true;
+        }
+
+        // 날씨 조회 요청 처리
+        if (Boolean.TRUE.equals(chatResponse.getWeatherRequested())) {
+            handleWeatherRequest(chatResponse.getWeatherTargetDate());
+            return true;
+        }
+        return false;
+    }
+
+    private void updateSessionId(ChatResponse chatResponse) {
+        Integer newSessionId = chatResponse.getSessionId();
+        if (newSessionId != null && !newSessionId.equals(sessionId)) {
+            sessionId = newSessionId;
+            saveUserInfo();
+            Log.d(TAG, "세션 ID 업데이트: " + sessionId);
+        }
+    }
+
+    /**
+     * AI가 질문으로 끝나고 마지막 입력이 음성일 때만 자동 음성 인식 시작
+     */
+    private void startAutoListeningIfQuestion(String aiMessage) {
+        if (isQuestion(aiMessage) && lastInputWasVoice) {
+            Log.d(TAG, "후속 질문 감지 + 이전 입력이 음성 → 자동 음성인식 시작");
+            startAutoListening();
+        } else if (isQuestion(aiMessage)) {
+            Log.d(TAG, "후속 질문 감지되었으나 이전 입력이 텍스트 → 자동 음성인식 취소");
+        }
+    }
+
+    private void showChatError(ChatResponse chatResponse) {
+        String error = chatResponse != null ? chatResponse.getError() : null;
+        if (error != null && !error.isEmpty()) {
+            addAiMessage("오류: " + error);
+            Log.e(TAG, "AI 응답 오류: " + error);
+        } else {
+            addAiMessage("알 수 없는 오류가 발생했습니다");
+            Log.e(TAG, "AI 응답 실패 (오류 메시지 없음)");
+        }
+    }
+
     /**
      * AI 메시지를 채팅에 추가
      */
     private void addAiMessage(String content) {
+        Message aiMessage = new Message(cleanAiMessage(content), false);
+        chatAdapter.addMessage(aiMessage);
+        scrollToBottom();
+    }
+
+    /**
+     * AI 응답 앞뒤 공백과 끝 줄바꿈 제거
+     */
+    private String cleanAiMessage(String content) {
         if (content != null) {
             // 앞뒤 공백과 줄바꿈 완전히 제거
             content = content.trim();
             // 끝에 있는 줄바꿈 문자 제거
             content = content.replaceAll("[\\n\\r]+$", "");
         }
-
-        Message aiMessage = new Message(content, false);
-        chatAdapter.addMessage(aiMessage);
-        scrollToBottom();
+        return content;
     }
 
     /**
@@ -1077,6 +1220,13 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
         updateNavigationHeader();
     }
 
+    @Override
+    protected void onStop() {
+        super.onStop();
+        // 백그라운드 전환 후 프로세스가 종료될 수 있으므로 대기 중인 로컬 변경을 기록 (메인 스레드는 기다리지 않음)
+        LocalStorage.flushAllAsync();
+    }
+
     @Override
     protected void onDestroy() {
         super.onDestroy();
@@ -1095,6 +1245,9 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
                 autoListenHandler.removeCallbacks(autoListenTimeoutRunnable);
             }
         }
+
+        // 진행 중인 AI 응답 스트림 정리
+        cancelActiveChatStream();
     }
 
     /**
@@ -1133,320 +1286,62 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
                 .findFragmentById(R.id.fragment_container);
 
         if (currentFragment instanceof AlarmFragment) {
-            showFragment(new AlarmFragment());
-            toolbar.setTitle(R.string.menu_alarm);
-            Log.d(TAG, "AlarmFragment 새로고침 완료");
+            // 프래그먼트를 다시 만들지 않고 변경분만 동기화
+            ((AlarmFragment) currentFragment).syncFromServer();
+            Log.d(TAG, "AlarmFragment 서버 동기화 요청");
         }
     }
 
     /**
-     * 날씨 데이터 API 호출
+     * 날씨 조회 요청 처리
+     * 날씨 화면과 같은 저장소/격자를 사용하므로 이미 받은 예보가 있으면 네트워크 호출 없이 응답합니다.
      */
-    private void fetchWeatherDataForChat(String targetDate) {
-        String currentDate = new SimpleDateFormat("yyyyMMdd", Locale.getDefault())
-                .format(Calendar.getInstance().getTime());
-        String baseTime = getWeatherBaseTime();
-
-        Log.d(TAG, "날씨 API 호출 - baseDate: " + currentDate + ", baseTime: " + baseTime +
-                ", nx: " + currentNx + ", ny: " + currentNy);
-
-        weatherApiService.getVillageForecast(
-                BuildConfig.KMA_API_HUB_KEY,
-                500,
-                1,
-                "JSON",
-                currentDate,
-                baseTime,
-                currentNx,
-                currentNy
-        ).enqueue(new retrofit2.Callback<String>() {
-            @Override
-            public void onResponse(@NonNull retrofit2.Call<String> call,
-                                   @NonNull retrofit2.Response<String> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    Log.d(TAG, "날씨 API 응답 성공");
+    private void handleWeatherRequest(String targetDate) {
+        if (targetDate == null) {
+            Log.w(TAG, "날씨 조회 대상 날짜가 null");
+            return;
+        }
 
-                    try {
-                        cachedWeatherData = lenientGson.fromJson(response.body(), JsonObject.class);
-                        String weatherInfo = formatWeatherInfoFromData(cachedWeatherData, targetDate);
+        Log.d(TAG, "날씨 조회 요청: " + targetDate);
 
-                        if (weatherInfo != null && !weatherInfo.isEmpty()) {
-                            sendWeatherContextToAi(weatherInfo);
-                        } else {
-                            addAiMessage("날씨 정보를 처리하는 중 문제가 발생했어요");
-                        }
-                    } catch (Exception e) {
-                        Log.e(TAG, "날씨 데이터 파싱 실패", e);
-                        addAiMessage("날씨 정보를 처리하는 중 문제가 발생했어요");
-                    }
+        int[] grid = weatherRepository.getLastGrid();
+        weatherRepository.getVillageForecast(grid[0], grid[1], new WeatherRepository.ForecastCallback() {
+            @Override
+            public void onSuccess(VillageForecast forecast) {
+                String weatherInfo = formatWeatherInfo(forecast, targetDate);
+                if (weatherInfo != null && !weatherInfo.isEmpty()) {
+                    sendWeatherContextToAi(weatherInfo);
                 } else {
-                    Log.e(TAG, "날씨 API 응답 실패: " + response.code());
-                    addAiMessage("날씨 정보를 가져오는데 실패했어요");
+                    addAiMessage("날씨 정보를 처리하는 중 문제가 발생했어요");
                 }
             }
 
             @Override
-            public void onFailure(@NonNull retrofit2.Call<String> call, @NonNull Throwable t) {
-                Log.e(TAG, "날씨 API 호출 실패", t);
-                addAiMessage("네트워크 오류로 날씨 정보를 가져올 수 없어요");
+            public void onError(String message) {
+                Log.e(TAG, "날씨 조회 실패: " + message);
+                addAiMessage("날씨 정보를 가져오는데 실패했어요");
             }
         });
     }
 
-    /**
-     * 날씨 API 기준 시각 계산
-     */
-    private String getWeatherBaseTime() {
-        Calendar cal = Calendar.getInstance();
-        int hour = cal.get(Calendar.HOUR_OF_DAY);
-        int minute = cal.get(Calendar.MINUTE);
-
-        if (hour < 2 || (hour == 2 && minute <= 10)) {
-            cal.add(Calendar.DATE, -1);
-            return "2300";
-        }
-
-        int[] baseTimes = {2, 5, 8, 11, 14, 17, 20, 23};
-        for (int i = baseTimes.length - 1; i >= 0; i--) {
-            if (hour >= baseTimes[i]) {
-                return String.format(Locale.getDefault(), "%02d00", baseTimes[i]);
-            }
-        }
-
-        return "2300";
-    }
-
     /**
      * 날씨 데이터를 자연스러운 문장으로 포맷팅
      */
-    private String formatWeatherInfoFromData(JsonObject weatherData, String targetDate) {
-        if (weatherData == null) {
-            return null;
+    private String formatWeatherInfo(VillageForecast forecast, String targetDate) {
+        // 대상 날짜 계산
+        Calendar targetCal = Calendar.getInstance();
+        if ("tomorrow".equals(targetDate)) {
+            targetCal.add(Calendar.DATE, 1);
+        } else if ("day_after_tomorrow".equals(targetDate)) {
+            targetCal.add(Calendar.DATE, 2);
         }
 
-        try {
-            JsonObject responseObj = weatherData.getAsJsonObject("response");
-            if (responseObj == null) return null;
-
-            JsonElement bodyElement = responseObj.get("body");
-            if (bodyElement == null || !bodyElement.isJsonObject()) return null;
-
-            JsonElement itemsElement = bodyElement.getAsJsonObject().get("items");
-            if (itemsElement == null || !itemsElement.isJsonObject()) return null;
-
-            JsonElement itemElement = itemsElement.getAsJsonObject().get("item");
-            if (itemElement == null || !itemElement.isJsonArray()) return null;
-
-            List<WeatherResponse.WeatherItem> items = lenientGson.fromJson(
-                    itemElement.getAsJsonArray(),
-                    new com.google.gson.reflect.TypeToken<List<WeatherResponse.WeatherItem>>() {}.getType()
-            );
-
-            // 대상 날짜 계산
-            Calendar targetCal = Calendar.getInstance();
-            if ("tomorrow".equals(targetDate)) {
-                targetCal.add(Calendar.DATE, 1);
-            } else if ("day_after_tomorrow".equals(targetDate)) {
-                targetCal.add(Calendar.DATE, 2);
-            }
-
-            String targetDateStr = new SimpleDateFormat("yyyyMMdd", Locale.getDefault())
-                    .format(targetCal.getTime());
-            int currentHour = Calendar.getInstance().get(Calendar.HOUR_OF_DAY);
-            boolean isToday = "today".equals(targetDate);
-
-            // 대상 날짜 데이터 필터링
-            List<WeatherResponse.WeatherItem> targetDateItems = items.stream()
-                    .filter(item -> targetDateStr.equals(item.fcstDate))
-                    .collect(Collectors.toList());
-
-            if (targetDateItems.isEmpty()) {
-                return null;
-            }
-
-            // 시간대별 날씨 정보 그룹화
-            Map<String, Map<String, String>> hourlyData = targetDateItems.stream()
-                    .collect(Collectors.groupingBy(
-                            item -> item.fcstTime,
-                            Collectors.toMap(
-                                    item -> item.category,
-                                    item -> item.fcstValue,
-                                    (v1, v2) -> v1
-                            )
-                    ));
-
-            List<String> sortedHours = new ArrayList<>(hourlyData.keySet());
-            Collections.sort(sortedHours);
-
-            int startHour = isToday ? currentHour : 0;
-            String startTimeStr = String.format(Locale.getDefault(), "%02d00", startHour);
-
-            StringBuilder weatherInfo = new StringBuilder();
-
-            if (isToday) {
-                weatherInfo.append(String.format("현재 %d시, ", currentHour));
-            }
-
-            String prevCondition = null;
-            int prevHour = -1;
-            int sameConditionStartHour = -1;
-
-            for (String hour : sortedHours) {
-                if (hour.compareTo(startTimeStr) < 0) continue;
-
-                Map<String, String> data = hourlyData.get(hour);
+        String targetDateStr = new SimpleDateFormat("yyyyMMdd", Locale.getDefault())
+                .format(targetCal.getTime());
+        boolean isToday = "today".equals(targetDate);
+        int startHour = isToday ? Calendar.getInstance().get(Calendar.HOUR_OF_DAY) : 0;
 
-                // 빈 문자열 방어: 기본값 설정
-                String sky = data.getOrDefault("SKY", "1");
-                String pty = data.getOrDefault("PTY", "0");
-
-                // 추가 방어: null이나 빈 문자열 체크
-                if (sky == null || sky.trim().isEmpty()) {
-                    sky = "1";
-                }
-                if (pty == null || pty.trim().isEmpty()) {
-                    pty = "0";
-                }
-
-                String condition = getWeatherConditionText(sky, pty);
-                int hourInt = Integer.parseInt(hour.substring(0, 2));
-
-                if (prevCondition == null) {
-                    sameConditionStartHour = hourInt;
-                    prevCondition = condition;
-                } else if (!condition.equals(prevCondition)) {
-                    if (sameConditionStartHour == prevHour) {
-                        weatherInfo.append(String.format("%d시에는 %s, ", prevHour, prevCondition));
-                    } else {
-                        weatherInfo.append(String.format("%d시부터 %d시까지는 %s, ",
-                                sameConditionStartHour, prevHour, prevCondition));
-                    }
-
-                    sameConditionStartHour = hourInt;
-                    prevCondition = condition;
-                }
-
-                prevHour = hourInt;
-            }
-
-            if (prevCondition != null && sameConditionStartHour != -1) {
-                if (sameConditionStartHour == prevHour) {
-                    weatherInfo.append(String.format("%d시에는 %s 소식이 있어요", prevHour, prevCondition));
-                } else {
-                    weatherInfo.append(String.format("%d시부터는 %s 소식이 있어요",
-                            sameConditionStartHour, prevCondition));
-                }
-            }
-
-            // 최고/최저 기온 추가
-            String maxTemp = getMaxTemp(targetDateItems);
-            String minTemp = getMinTemp(targetDateItems);
-            if (maxTemp != null && minTemp != null) {
-                weatherInfo.append(String.format(". 최고 기온 %s도, 최저 기온 %s도예요", maxTemp, minTemp));
-            }
-
-            return weatherInfo.toString();
-
-        } catch (Exception e) {
-            Log.e(TAG, "날씨 정보 포맷팅 실패", e);
-            return null;
-        }
-    }
-
-    /**
-     * 날씨 상태 코드를 텍스트로 변환
-     */
-    private String getWeatherConditionText(String sky, String pty) {
-        // 빈 문자열이거나 null이면 기본값 사용
-        if (pty == null || pty.trim().isEmpty()) {
-            pty = "0";
-        }
-        if (sky == null || sky.trim().isEmpty()) {
-            sky = "1";
-        }
-
-        int ptyValue;
-        try {
-            ptyValue = Integer.parseInt(pty.trim());
-        } catch (NumberFormatException e) {
-            Log.w(TAG, "PTY 값 파싱 실패: " + pty);
-            ptyValue = 0;
-        }
-
-        if (ptyValue > 0) {
-            switch (ptyValue) {
-                case 1: return "비";
-                case 2: return "비/눈";
-                case 3: return "눈";
-                case 4: return "소나기";
-                default: return "강수";
-            }
-        }
-
-        int skyValue;
-        try {
-            skyValue = Integer.parseInt(sky.trim());
-        } catch (NumberFormatException e) {
-            Log.w(TAG, "SKY 값 파싱 실패: " + sky);
-            skyValue = 1;
-        }
-
-        switch (skyValue) {
-            case 1: return "맑음";
-            case 3: return "구름많음";
-            case 4: return "흐림";
-            default: return "알 수 없음";
-        }
-    }
-
-    /**
-     * 최고 기온 조회
-     */
-    private String getMaxTemp(List<WeatherResponse.WeatherItem> items) {
-        for (WeatherResponse.WeatherItem item : items) {
-            if ("TMX".equals(item.category)) {
-                return item.fcstValue;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 최저 기온 조회
-     */
-    private String getMinTemp(List<WeatherResponse.WeatherItem> items) {
-        for (WeatherResponse.WeatherItem item : items) {
-            if ("TMN".equals(item.category)) {
-                return item.fcstValue;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 날씨 조회 요청 처리
-     */
-    private void handleWeatherRequest(String targetDate) {
-        if (targetDate == null) {
-            Log.w(TAG, "날씨 조회 대상 날짜가 null");
-            return;
-        }
-
-        Log.d(TAG, "날씨 조회 요청: " + targetDate);
-
-        // 캐시된 날씨 데이터가 있으면 바로 사용
-        if (cachedWeatherData != null) {
-            String weatherInfo = formatWeatherInfoFromData(cachedWeatherData, targetDate);
-
-            if (weatherInfo != null && !weatherInfo.isEmpty()) {
-                sendWeatherContextToAi(weatherInfo);
-                return;
-            }
-        }
-
-        // 캐시된 데이터가 없으면 API 호출
-        Log.d(TAG, "날씨 데이터 API 호출 시작");
-        fetchWeatherDataForChat(targetDate);
+        return forecast.describeDay(targetDateStr, startHour, isToday);
     }
 
     /**
@@ -1490,29 +1385,6 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
         });
     }
 
-    /**
-     * 날씨 API 서비스 초기화
-     */
-    private void initializeWeatherService() {
-        lenientGson = new GsonBuilder().setLenient().create();
-
-        OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                .connectTimeout(60, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS)
-                .build();
-
-        retrofit2.Retrofit retrofit = new retrofit2.Retrofit.Builder()
-                .baseUrl("https://apihub.kma.go.kr/api/typ02/openApi/")
-                .client(okHttpClient)
-                .addConverterFactory(retrofit2.converter.scalars.ScalarsConverterFactory.create())
-                .build();
-
-        weatherApiService = retrofit.create(WeatherApiService.class);
-
-        Log.d(TAG, "날씨 API 서비스 초기화 완료");
-    }
-
     /**
      * 경로 탐색 요청 처리
      */
@@ -1525,13 +1397,11 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
 
         Log.d(TAG, "경로 탐색 시작 - 출발지: " + startLocation + ", 도착지: " + destination);
 
-        // 로딩 다이얼로그 표시
-        ProgressDialog loadingDialog = new ProgressDialog(this);
-        loadingDialog.setMessage("경로를 탐색 중입니다...");
-        loadingDialog.setCancelable(false);
-        loadingDialog.show();
+        // 화면 전환을 기다리지 않고 현재 위치 조회와 도착지 지오코딩을 바로 시작
+        RouteViewModel routeViewModel = new ViewModelProvider(this).get(RouteViewModel.class);
+        routeViewModel.startAutoSearch(startLocation, destination);
 
-        // RouteFragment로 이동하여 경로 탐색 수행
+        // RouteFragment로 이동하면 진행 중인 탐색 결과를 받아 표시
         RouteFragment routeFragment = new RouteFragment();
         Bundle args = new Bundle();
         args.putString("destination", destination);
@@ -1539,26 +1409,18 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
         args.putBoolean("auto_search", true);
         routeFragment.setArguments(args);
 
-        // 다이얼로그를 0.5초 후에 닫고 화면 전환
-        new Handler(Looper.getMainLooper()).postDelayed(() -> {
-            loadingDialog.dismiss();
-
-            // 채팅 컨테이너 숨기기
-            View chatContainer = findViewById(R.id.chat_container);
-            chatContainer.setVisibility(View.GONE);
-
-            // RouteFragment로 전환
-            getSupportFragmentManager().beginTransaction()
-                    .replace(R.id.fragment_container, routeFragment)
-                    .addToBackStack(null)
-                    .commit();
+        // 채팅 컨테이너 숨기기
+        View chatContainer = findViewById(R.id.chat_container);
+        chatContainer.setVisibility(View.GONE);
 
-            if (getSupportActionBar() != null) {
-                getSupportActionBar().setTitle("추천 경로 정보");
-            }
+        getSupportFragmentManager().beginTransaction()
+                .replace(R.id.fragment_container, routeFragment)
+                .addToBackStack(null)
+                .commit();
 
-            Toast.makeText(this, "경로 탐색이 완료되면 결과가 표시됩니다", Toast.LENGTH_LONG).show();
-        }, 500);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setTitle("추천 경로 정보");
+        }
     }
 
     /**
@@ -1737,6 +1599,7 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
      * 다른 세션으로 전환
      */
     private void switchToSession(int newSessionId) {
+        cancelActiveChatStream();
         sessionId = newSessionId;
         saveUserInfo();
 
@@ -1752,6 +1615,7 @@ public class MainActivity extends AppCompatActivity implements NavigationView.On
      * 새 대화 시작
      */
     private void startNewChat() {
+        cancelActiveChatStream();
         sessionId = null;
         saveUserInfo();
 
@@ -24,6 +24,9 @@ public class ChatAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
     private static final int VIEW_TYPE_USER = 1;
     private static final int VIEW_TYPE_AI = 2;
 
+    // 스트리밍 중 메시지 내용만 다시 그릴 때 쓰는 payload
+    private static final Object PAYLOAD_CONTENT = new Object();
+
     private List<Message> messageList;
 
     /**
@@ -62,6 +65,18 @@ public class ChatAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
         }
     }
 
+    /**
+     * 내용만 바뀐 경우 시간/레이아웃은 그대로 두고 텍스트만 갱신
+     */
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (!payloads.contains(PAYLOAD_CONTENT) || !(holder instanceof AiMessageViewHolder)) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        ((AiMessageViewHolder) holder).textViewMessage.setText(messageList.get(position).getContent());
+    }
+
     @Override
     public int getItemCount() {
         return messageList.size();
@@ -81,6 +96,26 @@ public class ChatAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
         notifyItemInserted(messageList.size() - 1);
     }
 
+    /**
+     * 스트리밍 중인 메시지에 텍스트 조각 추가 (해당 항목의 텍스트만 다시 그림)
+     * @param position 메시지 위치
+     * @param text 추가할 텍스트
+     */
+    public void appendToMessage(int position, String text) {
+        messageList.get(position).appendContent(text);
+        notifyItemChanged(position, PAYLOAD_CONTENT);
+    }
+
+    /**
+     * 메시지 내용 교체 (스트리밍 완료 후 최종 응답으로 정리할 때 사용)
+     * @param position 메시지 위치
+     * @param content 새 내용
+     */
+    public void setMessageContent(int position, String content) {
+        messageList.get(position).setContent(content);
+        notifyItemChanged(position, PAYLOAD_CONTENT);
+    }
+
     /**
      * 시간 포맷팅 메서드
      * @param timestamp 타임스탬프
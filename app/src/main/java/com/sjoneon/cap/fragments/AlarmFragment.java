@@ -30,12 +30,18 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.sjoneon.cap.R;
 import com.sjoneon.cap.helpers.AlarmScheduler;
+import com.sjoneon.cap.models.local.AlarmItem;
 import com.sjoneon.cap.repositories.AlarmRepository;
+import com.sjoneon.cap.repositories.LocalStorage;
+import com.sjoneon.cap.repositories.SyncOutbox;
+import com.sjoneon.cap.repositories.SyncStateRepository;
 import com.sjoneon.cap.utils.ApiClient;
+import com.sjoneon.cap.utils.SyncReconciler;
+import com.sjoneon.cap.models.api.AlarmChangesResponse;
 import com.sjoneon.cap.models.api.AlarmRequest;
 import com.sjoneon.cap.models.api.AlarmResponse;
 import com.sjoneon.cap.models.api.AlarmUpdateRequest;
-import com.sjoneon.cap.models.api.ApiResponse;
+import com.sjoneon.cap.models.local.OutboxEntry;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -45,8 +51,11 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 
 public class AlarmFragment extends Fragment {
 
@@ -57,6 +66,10 @@ public class AlarmFragment extends Fragment {
     private AlarmAdapter alarmAdapter;
     private List<AlarmItem> alarmList = new ArrayList<>();
     private AlarmRepository alarmRepository;
+    private SyncStateRepository syncStateRepository;
+    private SyncOutbox syncOutbox;
+    // 서버 응답 콜백 등 화면이 분리된 뒤에도 실행될 수 있는 곳에서 알람 예약/취소에 사용
+    private Context appContext;
     private static final int REQUEST_SCHEDULE_EXACT_ALARM = 1;
 
     @Nullable
@@ -69,7 +82,10 @@ public class AlarmFragment extends Fragment {
         textNoAlarms = view.findViewById(R.id.textNoAlarms);
         fabAddAlarm = view.findViewById(R.id.fabAddAlarm);
 
+        appContext = requireContext().getApplicationContext();
         alarmRepository = AlarmRepository.getInstance(requireContext());
+        syncStateRepository = SyncStateRepository.getInstance(requireContext());
+        syncOutbox = SyncOutbox.getInstance(requireContext());
 
         recyclerViewAlarms.setLayoutManager(new LinearLayoutManager(getContext()));
         alarmAdapter = new AlarmAdapter(alarmList);
@@ -92,8 +108,18 @@ public class AlarmFragment extends Fragment {
     }
 
     private void loadAlarmsFromRepository() {
+        if (!alarmRepository.isReady()) {
+            // 로드가 끝나면 다시 표시 (메인 스레드에서 로드를 기다리지 않음)
+            alarmRepository.whenReady(() -> {
+                if (isAdded()) {
+                    loadAlarmsFromRepository();
+                }
+            });
+            return;
+        }
+
         alarmList.clear();
-        alarmList.addAll(alarmRepository.getAllAlarms());
+        alarmList.addAll(alarmRepository.getSnapshot());
         if (alarmAdapter != null) {
             alarmAdapter.notifyDataSetChanged();
         }
@@ -109,6 +135,69 @@ public class AlarmFragment extends Fragment {
             return;
         }
 
+        if (syncStateRepository.isDeltaSupported()) {
+            syncAlarmChangesWithServer(userUuid);
+        } else {
+            syncAllAlarmsWithServer(userUuid);
+        }
+    }
+
+    /**
+     * 외부에서 호출 가능한 서버 동기화 메서드
+     */
+    public void syncFromServer() {
+        Log.d(TAG, "외부에서 동기화 요청됨");
+        syncWithServer();
+    }
+
+    /**
+     * 마지막 동기화 이후 변경분만 받아 반영 (cursor가 없으면 서버가 전체 목록을 보냄)
+     */
+    private void syncAlarmChangesWithServer(String userUuid) {
+        String cursor = syncStateRepository.getCursor(SyncStateRepository.SCOPE_ALARMS, userUuid);
+
+        ApiClient.getInstance().getApiService()
+                .getUserAlarmChanges(userUuid, cursor)
+                .enqueue(new Callback<AlarmChangesResponse>() {
+                    @Override
+                    public void onResponse(Call<AlarmChangesResponse> call,
+                                           Response<AlarmChangesResponse> response) {
+                        if (response != null && response.code() == 404) {
+                            Log.w(TAG, "서버가 알람 변경분 API를 지원하지 않음 - 전체 조회로 대체");
+                            syncStateRepository.markDeltaUnsupported();
+                            syncAllAlarmsWithServer(userUuid);
+                            return;
+                        }
+                        if (response == null || !response.isSuccessful() || response.body() == null) {
+                            loadAlarmsFromRepository();
+                            return;
+                        }
+
+                        AlarmChangesResponse changes = response.body();
+                        boolean fullSync = cursor == null || changes.isFullSync();
+                        SyncReconciler.Report report =
+                                syncAlarmsWithServer(changes.getAlarms(), fullSync ? null : changes.getDeletedIds());
+
+                        // 반영하지 못한 변경이 있으면 cursor를 유지해 다음 동기화에서 같은 변경분을 다시 받음
+                        if (!report.isComplete()) {
+                            Log.w(TAG, "알람 변경분 " + report.failed + "건 반영 실패 - cursor 유지");
+                            return;
+                        }
+
+                        // 변경분이 기록된 뒤에만 cursor를 진행 (중간에 종료되면 같은 변경분을 다시 받음)
+                        LocalStorage.flushAllAsync(() -> syncStateRepository.saveCursor(
+                                SyncStateRepository.SCOPE_ALARMS, userUuid, changes.getCursor()));
+                    }
+
+                    @Override
+                    public void onFailure(Call<AlarmChangesResponse> call, Throwable t) {
+                        Log.e(TAG, "서버 동기화 실패", t);
+                        loadAlarmsFromRepository();
+                    }
+                });
+    }
+
+    private void syncAllAlarmsWithServer(String userUuid) {
         ApiClient.getInstance().getApiService()
                 .getUserAlarms(userUuid)
                 .enqueue(new Callback<List<AlarmResponse>>() {
@@ -116,68 +205,134 @@ public class AlarmFragment extends Fragment {
                     public void onResponse(Call<List<AlarmResponse>> call,
                                            Response<List<AlarmResponse>> response) {
                         if (response != null && response.isSuccessful() && response.body() != null) {
-                            syncAlarmsWithServer(response.body());
+                            syncAlarmsWithServer(response.body(), null);
+                        } else {
+                            loadAlarmsFromRepository();
                         }
                     }
 
                     @Override
                     public void onFailure(Call<List<AlarmResponse>> call, Throwable t) {
                         Log.e(TAG, "서버 동기화 실패", t);
+                        loadAlarmsFromRepository();
                     }
                 });
     }
 
-    private void syncAlarmsWithServer(List<AlarmResponse> serverAlarms) {
+    /**
+     * 서버 알람을 로컬 알람에 반영
+     * @param deletedServerIds 변경분 동기화의 삭제 ID (null이면 serverAlarms가 전체 목록이며, 없는 알람은 로컬에서도 삭제)
+     */
+    private SyncReconciler.Report syncAlarmsWithServer(List<AlarmResponse> serverAlarms, List<Integer> deletedServerIds) {
         SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm", Locale.getDefault());
         SimpleDateFormat serverFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
 
-        int syncedCount = 0;
-        int addedCount = 0;
-
+        // 서버 알람 시각을 한 번만 변환 (실패한 알람은 로컬 데이터를 그대로 유지)
+        Map<Integer, String> serverTimes = new HashMap<>();
         for (AlarmResponse serverAlarm : serverAlarms) {
             try {
                 Date serverTime = serverFormat.parse(serverAlarm.getAlarmTime());
-                String timeString = timeFormat.format(serverTime);
+                serverTimes.put(serverAlarm.getId(), timeFormat.format(serverTime));
+            } catch (Exception e) {
+                Log.e(TAG, "알람 동기화 오류: " + serverAlarm.getId(), e);
+            }
+        }
+
+        SyncReconciler.ItemMapper<AlarmResponse, AlarmItem> mapper =
+                new SyncReconciler.ItemMapper<AlarmResponse, AlarmItem>() {
+                    @Override
+                    public int getServerItemId(AlarmResponse serverAlarm) {
+                        return serverAlarm.getId();
+                    }
 
-                AlarmItem existingAlarm = alarmRepository.getAlarmByServerId(serverAlarm.getId());
+                    @Override
+                    public Integer getLocalServerId(AlarmItem localAlarm) {
+                        return localAlarm.getServerId();
+                    }
+
+                    @Override
+                    public boolean needsUpdate(AlarmResponse serverAlarm, AlarmItem localAlarm) {
+                        String timeString = serverTimes.get(serverAlarm.getId());
+                        return timeString != null
+                                && (!timeString.equals(localAlarm.getTime())
+                                || !Objects.equals(serverAlarm.getLabel(), localAlarm.getLabel())
+                                || serverAlarm.isEnabled() != localAlarm.isEnabled());
+                    }
+                };
+
+        // 아직 서버로 보내지 않은 로컬 변경은 서버 목록으로 덮어쓰거나 삭제하지 않음
+        SyncOutbox.PendingSnapshot pendingSnapshot = syncOutbox.getPendingSnapshot(OutboxEntry.TYPE_ALARM);
+        SyncReconciler.PendingChanges<AlarmItem> pending = new SyncReconciler.PendingChanges<AlarmItem>() {
+            @Override
+            public boolean hasPendingChange(AlarmItem localAlarm) {
+                return pendingSnapshot.hasPendingChange(localAlarm.getId());
+            }
+
+            @Override
+            public boolean hasPendingDelete(int serverId) {
+                return pendingSnapshot.hasPendingDelete(serverId);
+            }
+        };
+
+        List<AlarmItem> localAlarms = alarmRepository.getAllAlarms();
+        SyncReconciler<AlarmResponse, AlarmItem> reconciler = deletedServerIds == null
+                ? SyncReconciler.diff(serverAlarms, localAlarms, mapper, pending)
+                : SyncReconciler.diffChanges(serverAlarms, deletedServerIds, localAlarms, mapper, pending);
+
+        // 서버 알람 반영은 한 번의 로컬 기록으로 처리
+        alarmRepository.beginBatch();
+        SyncReconciler.Report report;
+        try {
+            report = reconciler.apply(new SyncReconciler.Applier<AlarmResponse, AlarmItem>() {
+                @Override
+                public boolean insert(AlarmResponse serverAlarm) {
+                    String timeString = serverTimes.get(serverAlarm.getId());
+                    if (timeString == null) {
+                        return false;
+                    }
 
-                if (existingAlarm != null) {
-                    // 기존 알람 업데이트
-                    existingAlarm.setTime(timeString);
-                    existingAlarm.setLabel(serverAlarm.getLabel());
-                    existingAlarm.setEnabled(serverAlarm.isEnabled());
-                    alarmRepository.updateAlarm(existingAlarm);
-                    syncedCount++;
-                } else {
-                    // 새로운 알람 추가
                     int localId = (int) System.currentTimeMillis() + serverAlarm.getId();
                     AlarmItem newAlarm = new AlarmItem(localId, timeString,
                             serverAlarm.getLabel(), serverAlarm.isEnabled(), true, true);
                     newAlarm.setServerId(serverAlarm.getId());
-
                     alarmRepository.addAlarm(newAlarm);
-                    addedCount++;
 
                     // 알람이 활성화되어 있으면 스케줄링
                     if (serverAlarm.isEnabled()) {
                         String[] timeParts = timeString.split(":");
                         int hour = Integer.parseInt(timeParts[0]);
                         int minute = Integer.parseInt(timeParts[1]);
-                        AlarmScheduler.scheduleAlarm(getContext(), localId,
+                        AlarmScheduler.scheduleAlarm(appContext, localId,
                                 hour, minute, serverAlarm.getLabel());
                     }
+                    return true;
                 }
-            } catch (Exception e) {
-                Log.e(TAG, "알람 동기화 오류: " + serverAlarm.getId(), e);
-            }
+
+                @Override
+                public boolean update(AlarmResponse serverAlarm, AlarmItem localAlarm) {
+                    localAlarm.setTime(serverTimes.get(serverAlarm.getId()));
+                    localAlarm.setLabel(serverAlarm.getLabel());
+                    localAlarm.setEnabled(serverAlarm.isEnabled());
+                    return alarmRepository.updateAlarm(localAlarm);
+                }
+
+                @Override
+                public boolean delete(AlarmItem localAlarm) {
+                    AlarmScheduler.cancelAlarm(appContext, localAlarm.getId());
+                    return alarmRepository.deleteAlarm(localAlarm.getId());
+                }
+            });
+        } finally {
+            alarmRepository.endBatch();
         }
 
         // UI 새로고침
         loadAlarmsFromRepository();
 
-        if (addedCount > 0 || syncedCount > 0) {
-            Log.d(TAG, "동기화 완료: 추가 " + addedCount + "개, 업데이트 " + syncedCount + "개");
+        if (report.hasChanges()) {
+            Log.d(TAG, "동기화 완료: " + report);
         }
+        return report;
     }
 
     private void updateAlarmListVisibility() {
@@ -283,95 +438,35 @@ public class AlarmFragment extends Fragment {
                 .getSharedPreferences("UserPrefs", Context.MODE_PRIVATE);
         String userUuid = preferences.getString("user_uuid", null);
 
-        if (userUuid == null || ApiClient.getInstance() == null) {
+        if (userUuid == null) {
             Log.e(TAG, "서버에 알람 추가 불가");
             return;
         }
 
-        Calendar calendar = Calendar.getInstance();
-        calendar.set(Calendar.HOUR_OF_DAY, hourOfDay);
-        calendar.set(Calendar.MINUTE, minute);
-        calendar.set(Calendar.SECOND, 0);
-
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
-        String alarmTime = sdf.format(calendar.getTime());
-
-        AlarmRequest request = new AlarmRequest(userUuid, alarmTime, label);
-
-        ApiClient.getInstance().getApiService()
-                .createAlarm(request)
-                .enqueue(new Callback<AlarmResponse>() {
-                    @Override
-                    public void onResponse(Call<AlarmResponse> call,
-                                           Response<AlarmResponse> response) {
-                        if (response != null && response.isSuccessful() && response.body() != null) {
-                            int serverId = response.body().getId();
-                            Log.d(TAG, "서버에 알람 추가 성공, ID: " + serverId);
-
-                            localAlarm.setServerId(serverId);
-                            alarmRepository.updateAlarm(localAlarm);
-                        }
-                    }
+        AlarmRequest request = new AlarmRequest(userUuid, formatServerAlarmTime(hourOfDay, minute), label);
 
-                    @Override
-                    public void onFailure(Call<AlarmResponse> call, Throwable t) {
-                        Log.e(TAG, "서버 통신 실패", t);
-                    }
-                });
+        // 전송 실패 시 대기열에 남아 재시도되며, 성공하면 로컬 알람에 서버 ID가 저장됨
+        syncOutbox.enqueue(OutboxEntry.TYPE_ALARM, localAlarm.getId(), null, OutboxEntry.OP_CREATE, request);
     }
 
-    private void deleteAlarmFromServer(int serverId) {
-        if (ApiClient.getInstance() == null) {
-            Log.e(TAG, "ApiClient 없음");
-            return;
-        }
-
-        ApiClient.getInstance().getApiService()
-                .deleteAlarm(serverId)
-                .enqueue(new Callback<ApiResponse>() {
-                    @Override
-                    public void onResponse(Call<ApiResponse> call, Response<ApiResponse> response) {
-                        if (response != null && response.isSuccessful()) {
-                            Log.d(TAG, "서버에서 알람 삭제 성공: ID=" + serverId);
-                        } else {
-                            Log.e(TAG, "서버 알람 삭제 실패: " +
-                                    (response != null ? response.code() : "null"));
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(Call<ApiResponse> call, Throwable t) {
-                        Log.e(TAG, "서버 통신 실패", t);
-                    }
-                });
+    private void deleteAlarmFromServer(AlarmItem alarm) {
+        // 서버 생성 요청이 아직 대기 중이면 두 요청 모두 취소됨
+        syncOutbox.enqueue(OutboxEntry.TYPE_ALARM, alarm.getId(), alarm.getServerId(), OutboxEntry.OP_DELETE, null);
     }
 
-    private void updateAlarmOnServer(int serverId, String label, String alarmTime) {
-        if (ApiClient.getInstance() == null) {
-            Log.e(TAG, "ApiClient 없음");
-            return;
-        }
-
+    private void updateAlarmOnServer(AlarmItem alarm, String label, String alarmTime) {
         AlarmUpdateRequest request = new AlarmUpdateRequest(alarmTime, label);
+        syncOutbox.enqueue(OutboxEntry.TYPE_ALARM, alarm.getId(), alarm.getServerId(), OutboxEntry.OP_UPDATE, request);
+    }
 
-        ApiClient.getInstance().getApiService()
-                .updateAlarm(serverId, request)
-                .enqueue(new Callback<AlarmResponse>() {
-                    @Override
-                    public void onResponse(Call<AlarmResponse> call,
-                                           Response<AlarmResponse> response) {
-                        if (response != null && response.isSuccessful()) {
-                            Log.d(TAG, "서버에 알람 수정 성공: ID=" + serverId);
-                        } else {
-                            Log.e(TAG, "서버 알람 수정 실패");
-                        }
-                    }
+    private static String formatServerAlarmTime(int hourOfDay, int minute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.HOUR_OF_DAY, hourOfDay);
+        calendar.set(Calendar.MINUTE, minute);
+        calendar.set(Calendar.SECOND, 0);
 
-                    @Override
-                    public void onFailure(Call<AlarmResponse> call, Throwable t) {
-                        Log.e(TAG, "서버 통신 실패", t);
-                    }
-                });
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
+        return sdf.format(calendar.getTime());
     }
 
     @Override
@@ -383,44 +478,6 @@ public class AlarmFragment extends Fragment {
         }
     }
 
-    public static class AlarmItem {
-        private int id;
-        private String time;
-        private String label;
-        private boolean isEnabled;
-        private boolean soundEnabled;
-        private boolean vibrationEnabled;
-        private Integer serverId;
-
-        public AlarmItem() {}
-
-        public AlarmItem(int id, String time, String label, boolean isEnabled,
-                         boolean soundEnabled, boolean vibrationEnabled) {
-            this.id = id;
-            this.time = time;
-            this.label = label;
-            this.isEnabled = isEnabled;
-            this.soundEnabled = soundEnabled;
-            this.vibrationEnabled = vibrationEnabled;
-        }
-
-        public int getId() { return id; }
-        public String getTime() { return time; }
-        public String getLabel() { return label; }
-        public boolean isEnabled() { return isEnabled; }
-        public boolean isSoundEnabled() { return soundEnabled; }
-        public boolean isVibrationEnabled() { return vibrationEnabled; }
-        public Integer getServerId() { return serverId; }
-
-        public void setId(int id) { this.id = id; }
-        public void setTime(String time) { this.time = time; }
-        public void setEnabled(boolean enabled) { isEnabled = enabled; }
-        public void setLabel(String label) { this.label = label; }
-        public void setSoundEnabled(boolean soundEnabled) { this.soundEnabled = soundEnabled; }
-        public void setVibrationEnabled(boolean vibrationEnabled) { this.vibrationEnabled = vibrationEnabled; }
-        public void setServerId(Integer serverId) { this.serverId = serverId; }
-    }
-
     private class AlarmAdapter extends RecyclerView.Adapter<AlarmAdapter.AlarmViewHolder> {
         private List<AlarmItem> alarms;
 
@@ -459,25 +516,21 @@ public class AlarmFragment extends Fragment {
                     String[] timeParts = alarm.getTime().split(":");
                     int hour = Integer.parseInt(timeParts[0]);
                     int minute = Integer.parseInt(timeParts[1]);
-                    AlarmScheduler.scheduleAlarm(getContext(), alarm.getId(),
+                    AlarmScheduler.scheduleAlarm(appContext, alarm.getId(),
                             hour, minute, alarm.getLabel());
                 } else {
-                    AlarmScheduler.cancelAlarm(getContext(), alarm.getId());
+                    AlarmScheduler.cancelAlarm(appContext, alarm.getId());
                 }
             });
 
             holder.buttonSettings.setOnClickListener(v -> showAlarmEditDialog(alarm, position));
 
             holder.buttonDelete.setOnClickListener(v -> {
-                AlarmScheduler.cancelAlarm(getContext(), alarm.getId());
+                AlarmScheduler.cancelAlarm(appContext, alarm.getId());
 
                 alarmRepository.deleteAlarm(alarm.getId());
 
-                if (alarm.getServerId() != null) {
-                    deleteAlarmFromServer(alarm.getServerId());
-                } else {
-                    Log.w(TAG, "서버 ID가 없어 로컬에서만 삭제됨");
-                }
+                deleteAlarmFromServer(alarm);
 
                 alarms.remove(position);
                 notifyItemRemoved(position);
@@ -548,20 +601,9 @@ public class AlarmFragment extends Fragment {
 
                     alarmRepository.updateAlarm(alarm);
 
-                    if (alarm.getServerId() != null) {
-                        Calendar calendar = Calendar.getInstance();
-                        String[] timeParts = alarm.getTime().split(":");
-                        calendar.set(Calendar.HOUR_OF_DAY, Integer.parseInt(timeParts[0]));
-                        calendar.set(Calendar.MINUTE, Integer.parseInt(timeParts[1]));
-                        calendar.set(Calendar.SECOND, 0);
-
-                        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
-                        String alarmTime = sdf.format(calendar.getTime());
-
-                        updateAlarmOnServer(alarm.getServerId(), label, alarmTime);
-                    } else {
-                        Log.w(TAG, "서버 ID가 없어 로컬에만 수정됨");
-                    }
+                    String[] serverTimeParts = alarm.getTime().split(":");
+                    updateAlarmOnServer(alarm, label, formatServerAlarmTime(
+                            Integer.parseInt(serverTimeParts[0]), Integer.parseInt(serverTimeParts[1])));
 
                     if (alarm.isEnabled()) {
                         String[] timeParts = alarm.getTime().split(":");
@@ -25,15 +25,21 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.sjoneon.cap.repositories.CalendarEventRepository;
+import com.sjoneon.cap.repositories.LocalStorage;
+import com.sjoneon.cap.repositories.SyncOutbox;
+import com.sjoneon.cap.repositories.SyncStateRepository;
 import com.sjoneon.cap.R;
 import com.sjoneon.cap.helpers.EventAlarmManager;
+import com.sjoneon.cap.helpers.EventPrefetchScheduler;
 import com.sjoneon.cap.helpers.PermissionHelper;
 import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.models.local.OutboxEntry;
 import com.sjoneon.cap.utils.ApiClient;
+import com.sjoneon.cap.utils.SyncReconciler;
+import com.sjoneon.cap.models.api.CalendarEventChangesResponse;
 import com.sjoneon.cap.models.api.CalendarEventRequest;
 import com.sjoneon.cap.models.api.CalendarEventResponse;
 import com.sjoneon.cap.models.api.CalendarEventUpdateRequest;
-import com.sjoneon.cap.models.api.ApiResponse;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -42,8 +48,10 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
 
 public class CalendarFragment extends Fragment {
@@ -56,6 +64,8 @@ public class CalendarFragment extends Fragment {
     private TextView textNoEvents;
 
     private CalendarEventRepository eventRepository;
+    private SyncStateRepository syncStateRepository;
+    private SyncOutbox syncOutbox;
     private EventAlarmManager alarmManager;
     private CalendarEventAdapter eventAdapter;
     private List<CalendarEvent> currentEvents = new ArrayList<>();
@@ -77,6 +87,8 @@ public class CalendarFragment extends Fragment {
         Log.d(TAG, "Views initialized");
 
         eventRepository = CalendarEventRepository.getInstance(requireContext());
+        syncStateRepository = SyncStateRepository.getInstance(requireContext());
+        syncOutbox = SyncOutbox.getInstance(requireContext());
         alarmManager = new EventAlarmManager(requireContext());
 
         Log.d(TAG, "Repository and AlarmManager initialized");
@@ -87,7 +99,8 @@ public class CalendarFragment extends Fragment {
 
         Log.d(TAG, "Setup methods called");
 
-        loadEventsFromServer();
+        // 서버 동기화는 onResume에서 수행하고 우선 로컬 일정 표시
+        loadEventsForDate(selectedDate);
 
         Log.d(TAG, "Initial data loaded");
 
@@ -154,6 +167,64 @@ public class CalendarFragment extends Fragment {
             return;
         }
 
+        if (syncStateRepository.isDeltaSupported()) {
+            loadEventChangesFromServer(userUuid);
+        } else {
+            loadAllEventsFromServer(userUuid);
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 변경분만 받아 반영 (cursor가 없으면 서버가 전체 목록을 보냄)
+     */
+    private void loadEventChangesFromServer(String userUuid) {
+        String cursor = syncStateRepository.getCursor(SyncStateRepository.SCOPE_CALENDAR, userUuid);
+
+        ApiClient.getInstance().getApiService()
+                .getUserEventChanges(userUuid, cursor)
+                .enqueue(new Callback<CalendarEventChangesResponse>() {
+                    @Override
+                    public void onResponse(Call<CalendarEventChangesResponse> call, Response<CalendarEventChangesResponse> response) {
+                        if (response != null && response.code() == 404) {
+                            Log.w(TAG, "서버가 일정 변경분 API를 지원하지 않음 - 전체 조회로 대체");
+                            syncStateRepository.markDeltaUnsupported();
+                            loadAllEventsFromServer(userUuid);
+                            return;
+                        }
+                        if (response == null || !response.isSuccessful() || response.body() == null) {
+                            loadEventsForDate(selectedDate);
+                            return;
+                        }
+
+                        CalendarEventChangesResponse changes = response.body();
+                        boolean fullSync = cursor == null || changes.isFullSync();
+                        Log.d(TAG, "서버 일정 변경분 수신: 변경 " + changes.getEvents().size() +
+                                "개, 삭제 " + changes.getDeletedIds().size() + "개, 전체 동기화: " + fullSync);
+
+                        SyncReconciler.Report report =
+                                syncEventsWithServer(changes.getEvents(), fullSync ? null : changes.getDeletedIds());
+
+                        // 반영하지 못한 변경이 있으면 cursor를 유지해 다음 동기화에서 같은 변경분을 다시 받음
+                        if (report.isComplete()) {
+                            // 변경분이 기록된 뒤에만 cursor를 진행 (중간에 종료되면 같은 변경분을 다시 받음)
+                            LocalStorage.flushAllAsync(() -> syncStateRepository.saveCursor(
+                                    SyncStateRepository.SCOPE_CALENDAR, userUuid, changes.getCursor()));
+                        } else {
+                            Log.w(TAG, "일정 변경분 " + report.failed + "건 반영 실패 - cursor 유지");
+                        }
+
+                        loadEventsForDate(selectedDate);
+                    }
+
+                    @Override
+                    public void onFailure(Call<CalendarEventChangesResponse> call, Throwable t) {
+                        Log.e(TAG, "서버 통신 실패", t);
+                        loadEventsForDate(selectedDate);
+                    }
+                });
+    }
+
+    private void loadAllEventsFromServer(String userUuid) {
         ApiClient.getInstance().getApiService()
                 .getUserEvents(userUuid)
                 .enqueue(new Callback<List<CalendarEventResponse>>() {
@@ -166,70 +237,7 @@ public class CalendarFragment extends Fragment {
 
                         Log.d(TAG, "서버에서 일정 불러오기 성공: " + response.body().size() + "개");
 
-                        // 타임존을 한국 시간으로 설정
-                        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
-                        sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-
-                        List<CalendarEvent> existingEvents = eventRepository.getAllEvents();
-
-                        for (CalendarEventResponse eventResponse : response.body()) {
-                            CalendarEvent existingEvent = null;
-
-                            // serverId로 기존 일정 찾기
-                            for (CalendarEvent event : existingEvents) {
-                                if (event.getServerId() != null && event.getServerId() == eventResponse.getId()) {
-                                    existingEvent = event;
-                                    break;
-                                }
-                            }
-
-                            try {
-                                Date startDate = sdf.parse(eventResponse.getEventStartTime());
-                                if (startDate == null) {
-                                    Log.e(TAG, "날짜 파싱 실패: " + eventResponse.getEventStartTime());
-                                    continue;
-                                }
-
-                                long newDateTime = startDate.getTime();
-
-                                if (existingEvent != null) {
-                                    // 서버와 로컬 데이터 비교
-                                    String serverDescription = eventResponse.getDescription() != null ? eventResponse.getDescription() : "";
-                                    String localDescription = existingEvent.getDescription() != null ? existingEvent.getDescription() : "";
-
-                                    boolean timeChanged = existingEvent.getDateTime() != newDateTime;
-                                    boolean descriptionChanged = !serverDescription.equals(localDescription);
-                                    boolean titleChanged = !eventResponse.getEventTitle().equals(existingEvent.getTitle());
-
-                                    // 시간, 설명, 제목 중 하나라도 변경되면 업데이트
-                                    if (timeChanged || descriptionChanged || titleChanged) {
-                                        Log.d(TAG, "일정 변경 감지: " + eventResponse.getEventTitle());
-                                        Log.d(TAG, "시간변경: " + timeChanged + ", 설명변경: " + descriptionChanged + ", 제목변경: " + titleChanged);
-
-                                        existingEvent.setDateTime(newDateTime);
-                                        existingEvent.setTitle(eventResponse.getEventTitle());
-                                        existingEvent.setDescription(serverDescription);
-
-                                        eventRepository.updateEvent(existingEvent);
-                                        Log.d(TAG, "로컬 일정 업데이트 완료");
-                                    } else {
-                                        Log.d(TAG, "일정 변경 없음: " + eventResponse.getEventTitle());
-                                    }
-                                } else {
-                                    // 새 일정인 경우 - 추가
-                                    CalendarEvent newEvent = new CalendarEvent(
-                                            eventResponse.getEventTitle(),
-                                            eventResponse.getDescription() != null ? eventResponse.getDescription() : "",
-                                            newDateTime
-                                    );
-                                    newEvent.setServerId(eventResponse.getId());
-                                    eventRepository.addEvent(newEvent);
-                                    Log.d(TAG, "서버에서 가져온 새 일정 추가: " + eventResponse.getEventTitle());
-                                }
-                            } catch (Exception e) {
-                                Log.e(TAG, "날짜 파싱 오류: " + eventResponse.getEventStartTime(), e);
-                            }
-                        }
+                        syncEventsWithServer(response.body(), null);
 
                         // UI 업데이트
                         loadEventsForDate(selectedDate);
@@ -243,38 +251,147 @@ public class CalendarFragment extends Fragment {
                 });
     }
 
-    private void loadEventsForDate(long date) {
-        Log.d(TAG, "loadEventsForDate 호출 - 날짜: " + new Date(date));
+    /**
+     * 서버 일정을 로컬 일정에 반영
+     * @param deletedServerIds 변경분 동기화의 삭제 ID (null이면 serverEvents가 전체 목록이며, 없는 일정은 로컬에서도 삭제)
+     */
+    private SyncReconciler.Report syncEventsWithServer(List<CalendarEventResponse> serverEvents, List<Integer> deletedServerIds) {
+        // 타임존을 한국 시간으로 설정
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
+        sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
 
-        Calendar startOfDay = Calendar.getInstance();
-        startOfDay.setTimeInMillis(date);
-        startOfDay.set(Calendar.HOUR_OF_DAY, 0);
-        startOfDay.set(Calendar.MINUTE, 0);
-        startOfDay.set(Calendar.SECOND, 0);
-        startOfDay.set(Calendar.MILLISECOND, 0);
+        // 서버 일정 시각을 한 번만 파싱 (실패한 일정은 로컬 데이터를 그대로 유지)
+        Map<Integer, Long> serverDateTimes = new HashMap<>();
+        for (CalendarEventResponse eventResponse : serverEvents) {
+            try {
+                Date startDate = sdf.parse(eventResponse.getEventStartTime());
+                if (startDate != null) {
+                    serverDateTimes.put(eventResponse.getId(), startDate.getTime());
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "날짜 파싱 오류: " + eventResponse.getEventStartTime(), e);
+            }
+        }
 
-        Calendar endOfDay = Calendar.getInstance();
-        endOfDay.setTimeInMillis(date);
-        endOfDay.set(Calendar.HOUR_OF_DAY, 23);
-        endOfDay.set(Calendar.MINUTE, 59);
-        endOfDay.set(Calendar.SECOND, 59);
-        endOfDay.set(Calendar.MILLISECOND, 999);
+        SyncReconciler.ItemMapper<CalendarEventResponse, CalendarEvent> mapper =
+                new SyncReconciler.ItemMapper<CalendarEventResponse, CalendarEvent>() {
+                    @Override
+                    public int getServerItemId(CalendarEventResponse serverEvent) {
+                        return serverEvent.getId();
+                    }
 
-        long startTime = startOfDay.getTimeInMillis();
-        long endTime = endOfDay.getTimeInMillis();
+                    @Override
+                    public Integer getLocalServerId(CalendarEvent localEvent) {
+                        return localEvent.getServerId();
+                    }
 
-        Log.d(TAG, "검색 범위: " + new Date(startTime) + " ~ " + new Date(endTime));
+                    @Override
+                    public boolean needsUpdate(CalendarEventResponse serverEvent, CalendarEvent localEvent) {
+                        Long newDateTime = serverDateTimes.get(serverEvent.getId());
+                        if (newDateTime == null) {
+                            return false;
+                        }
 
-        List<CalendarEvent> allEvents = eventRepository.getAllEvents();
-        currentEvents.clear();
+                        // 시간, 설명, 제목, 장소 중 하나라도 변경되면 업데이트
+                        return localEvent.getDateTime() != newDateTime
+                                || !nonNull(serverEvent.getDescription()).equals(nonNull(localEvent.getDescription()))
+                                || !serverEvent.getEventTitle().equals(localEvent.getTitle())
+                                || !nonNull(serverEvent.getLocationAlias()).equals(nonNull(localEvent.getLocationAlias()));
+                    }
+                };
+
+        // 아직 서버로 보내지 않은 로컬 변경은 서버 목록으로 덮어쓰거나 삭제하지 않음
+        SyncOutbox.PendingSnapshot pendingSnapshot = syncOutbox.getPendingSnapshot(OutboxEntry.TYPE_CALENDAR_EVENT);
+        SyncReconciler.PendingChanges<CalendarEvent> pending = new SyncReconciler.PendingChanges<CalendarEvent>() {
+            @Override
+            public boolean hasPendingChange(CalendarEvent localEvent) {
+                return pendingSnapshot.hasPendingChange(localEvent.getId());
+            }
 
-        for (CalendarEvent event : allEvents) {
-            if (event.getDateTime() >= startTime && event.getDateTime() <= endTime) {
-                currentEvents.add(event);
-                Log.d(TAG, "이벤트 발견: " + event.getTitle() + " at " + new Date(event.getDateTime()));
+            @Override
+            public boolean hasPendingDelete(int serverId) {
+                return pendingSnapshot.hasPendingDelete(serverId);
             }
+        };
+
+        List<CalendarEvent> localEvents = eventRepository.getAllEvents();
+        SyncReconciler<CalendarEventResponse, CalendarEvent> reconciler = deletedServerIds == null
+                ? SyncReconciler.diff(serverEvents, localEvents, mapper, pending)
+                : SyncReconciler.diffChanges(serverEvents, deletedServerIds, localEvents, mapper, pending);
+
+        // 서버 일정 반영은 한 번의 로컬 기록으로 처리
+        eventRepository.beginBatch();
+        SyncReconciler.Report report;
+        try {
+            report = reconciler.apply(new SyncReconciler.Applier<CalendarEventResponse, CalendarEvent>() {
+                @Override
+                public boolean insert(CalendarEventResponse serverEvent) {
+                    Long dateTime = serverDateTimes.get(serverEvent.getId());
+                    if (dateTime == null) {
+                        return false;
+                    }
+
+                    CalendarEvent newEvent = new CalendarEvent(
+                            serverEvent.getEventTitle(), nonNull(serverEvent.getDescription()), dateTime);
+                    newEvent.setServerId(serverEvent.getId());
+                    newEvent.setLocationAlias(serverEvent.getLocationAlias());
+                    eventRepository.addEvent(newEvent);
+                    return true;
+                }
+
+                @Override
+                public boolean update(CalendarEventResponse serverEvent, CalendarEvent localEvent) {
+                    localEvent.setDateTime(serverDateTimes.get(serverEvent.getId()));
+                    localEvent.setTitle(serverEvent.getEventTitle());
+                    localEvent.setDescription(nonNull(serverEvent.getDescription()));
+                    localEvent.setLocationAlias(serverEvent.getLocationAlias());
+                    return eventRepository.updateEvent(localEvent);
+                }
+
+                @Override
+                public boolean delete(CalendarEvent localEvent) {
+                    alarmManager.cancelEventNotifications(localEvent);
+                    if (getContext() != null) {
+                        EventPrefetchScheduler.clearEventData(getContext(), localEvent.getId());
+                    }
+                    return eventRepository.deleteEvent(localEvent.getId());
+                }
+            });
+        } finally {
+            eventRepository.endBatch();
+        }
+
+        Log.d(TAG, "서버 일정 동기화 완료: " + report);
+
+        // 서버에서 장소가 있는 일정이 추가/변경됐을 수 있으므로 미리 받기 다시 예약 (반영한 일정 전체에 대해 한 번)
+        if (getContext() != null) {
+            EventPrefetchScheduler.reschedule(getContext());
+        }
+        return report;
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private void loadEventsForDate(long date) {
+        Log.d(TAG, "loadEventsForDate 호출 - 날짜: " + new Date(date));
+
+        if (!eventRepository.isReady()) {
+            // 로드가 끝나면 다시 표시 (메인 스레드에서 로드를 기다리지 않음)
+            eventRepository.whenReady(() -> {
+                if (isAdded()) {
+                    loadEventsForDate(selectedDate);
+                }
+            });
+            return;
         }
 
+        // 저장소의 시간 인덱스로 해당 날짜 범위만 조회
+        List<CalendarEvent> eventsForDate = eventRepository.getEventsForDate(date);
+        currentEvents.clear();
+        currentEvents.addAll(eventsForDate);
+
         Log.d(TAG, "선택된 날짜의 이벤트 수: " + currentEvents.size());
 
         if (eventAdapter != null) {
@@ -486,7 +603,7 @@ public class CalendarFragment extends Fragment {
 
         Log.d(TAG, "이벤트 저장 완료, ID: " + eventId);
 
-        createEventOnServer(title, description, dateTime);
+        createEventOnServer(newEvent);
 
         if (!notificationSettings.isEmpty()) {
             if (!PermissionHelper.hasNotificationPermission(getContext()) ||
@@ -499,6 +616,7 @@ public class CalendarFragment extends Fragment {
                 alarmManager.scheduleEventNotifications(newEvent);
             }
         }
+        EventPrefetchScheduler.reschedule(requireContext());
 
         Calendar eventCalendar = Calendar.getInstance();
         eventCalendar.setTimeInMillis(dateTime);
@@ -523,58 +641,31 @@ public class CalendarFragment extends Fragment {
         Toast.makeText(getContext(), successMessage, Toast.LENGTH_SHORT).show();
     }
 
-    private void createEventOnServer(String title, String description, long dateTime) {
+    private void createEventOnServer(CalendarEvent event) {
         SharedPreferences preferences = requireActivity()
                 .getSharedPreferences("UserPrefs", Context.MODE_PRIVATE);
         String userUuid = preferences.getString("user_uuid", null);
 
-        if (userUuid == null || ApiClient.getInstance() == null) {
+        if (userUuid == null) {
             Log.e(TAG, "서버에 일정 추가 불가");
             return;
         }
 
-        // 타임존을 한국 시간으로 설정
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
-        sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-        String eventStartTime = sdf.format(new Date(dateTime));
+        CalendarEventRequest request = new CalendarEventRequest(userUuid, event.getTitle(),
+                formatServerTime(event.getDateTime()));
+        request.setDescription(event.getDescription());
+        request.setLocationAlias(event.getLocationAlias());
 
-        CalendarEventRequest request = new CalendarEventRequest(userUuid, title, eventStartTime);
-        request.setDescription(description);
-
-        ApiClient.getInstance().getApiService()
-                .createCalendarEvent(request)
-                .enqueue(new Callback<CalendarEventResponse>() {
-                    @Override
-                    public void onResponse(Call<CalendarEventResponse> call,
-                                           Response<CalendarEventResponse> response) {
-                        if (response != null && response.isSuccessful() && response.body() != null) {
-                            int serverId = response.body().getId();
-                            Log.d(TAG, "서버에 일정 추가 성공, ID: " + serverId);
-
-                            saveServerIdToLocalEvent(title, dateTime, serverId);
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(Call<CalendarEventResponse> call, Throwable t) {
-                        Log.e(TAG, "서버 통신 실패", t);
-                    }
-                });
+        // 전송 실패 시 대기열에 남아 재시도되며, 성공하면 로컬 일정에 서버 ID가 저장됨
+        syncOutbox.enqueue(OutboxEntry.TYPE_CALENDAR_EVENT, event.getId(), null,
+                OutboxEntry.OP_CREATE, request);
     }
 
-    private void saveServerIdToLocalEvent(String title, long dateTime, int serverId) {
-        List<CalendarEvent> events = eventRepository.getAllEvents();
-
-        for (CalendarEvent event : events) {
-            if (event.getTitle().equals(title) &&
-                    Math.abs(event.getDateTime() - dateTime) < 1000) {
-                event.setServerId(serverId);
-                eventRepository.updateEvent(event);
-                Log.d(TAG, "로컬 이벤트에 서버 ID 저장 완료: " + serverId);
-                return;
-            }
-        }
-        Log.w(TAG, "서버 ID를 저장할 로컬 이벤트를 찾지 못함");
+    private static String formatServerTime(long dateTime) {
+        // 타임존을 한국 시간으로 설정
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
+        sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        return sdf.format(new Date(dateTime));
     }
 
     private void updateEvent(CalendarEvent event, String title, String description, long dateTime,
@@ -588,11 +679,8 @@ public class CalendarFragment extends Fragment {
 
         eventRepository.updateEvent(event);
 
-        if (event.getServerId() != null) {
-            updateEventOnServer(event.getServerId(), title, description, dateTime);
-        } else {
-            Log.w(TAG, "서버 ID가 없어 로컬에만 수정됨");
-        }
+        // 서버 생성 요청이 아직 대기 중이면 그 요청에 합쳐짐
+        updateEventOnServer(event, title, description, dateTime);
 
         if (!notificationSettings.isEmpty()) {
             if (PermissionHelper.hasNotificationPermission(getContext()) &&
@@ -604,43 +692,19 @@ public class CalendarFragment extends Fragment {
                         Toast.LENGTH_LONG).show();
             }
         }
+        EventPrefetchScheduler.reschedule(requireContext());
 
         loadEventsForDate(selectedDate);
         Toast.makeText(getContext(), "일정이 수정되었습니다.", Toast.LENGTH_SHORT).show();
     }
 
-    private void updateEventOnServer(int serverId, String title, String description, long dateTime) {
-        if (ApiClient.getInstance() == null) {
-            Log.e(TAG, "ApiClient 없음");
-            return;
-        }
-
-        // 타임존을 한국 시간으로 설정
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
-        sdf.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-        String eventStartTime = sdf.format(new Date(dateTime));
-
-        CalendarEventUpdateRequest request = new CalendarEventUpdateRequest(title, eventStartTime);
+    private void updateEventOnServer(CalendarEvent event, String title, String description, long dateTime) {
+        CalendarEventUpdateRequest request = new CalendarEventUpdateRequest(title, formatServerTime(dateTime));
         request.setDescription(description);
+        request.setLocationAlias(event.getLocationAlias());
 
-        ApiClient.getInstance().getApiService()
-                .updateCalendarEvent(serverId, request)
-                .enqueue(new Callback<CalendarEventResponse>() {
-                    @Override
-                    public void onResponse(Call<CalendarEventResponse> call,
-                                           Response<CalendarEventResponse> response) {
-                        if (response != null && response.isSuccessful()) {
-                            Log.d(TAG, "서버에 일정 수정 성공: ID=" + serverId);
-                        } else {
-                            Log.e(TAG, "서버 일정 수정 실패");
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(Call<CalendarEventResponse> call, Throwable t) {
-                        Log.e(TAG, "서버 통신 실패", t);
-                    }
-                });
+        syncOutbox.enqueue(OutboxEntry.TYPE_CALENDAR_EVENT, event.getId(), event.getServerId(),
+                OutboxEntry.OP_UPDATE, request);
     }
 
     private void showDeleteConfirmationDialog(CalendarEvent event) {
@@ -654,45 +718,19 @@ public class CalendarFragment extends Fragment {
 
     private void deleteEvent(CalendarEvent event) {
         alarmManager.cancelEventNotifications(event);
+        EventPrefetchScheduler.clearEventData(requireContext(), event.getId());
 
         eventRepository.deleteEvent(event.getId());
+        EventPrefetchScheduler.reschedule(requireContext());
 
-        if (event.getServerId() != null) {
-            deleteEventFromServer(event.getServerId());
-        } else {
-            Log.w(TAG, "서버 ID가 없어 로컬에서만 삭제됨");
-        }
+        // 서버 생성 요청이 아직 대기 중이면 두 요청 모두 취소됨
+        syncOutbox.enqueue(OutboxEntry.TYPE_CALENDAR_EVENT, event.getId(), event.getServerId(),
+                OutboxEntry.OP_DELETE, null);
 
         loadEventsForDate(selectedDate);
         Toast.makeText(getContext(), "일정이 삭제되었습니다.", Toast.LENGTH_SHORT).show();
     }
 
-    private void deleteEventFromServer(int serverId) {
-        if (ApiClient.getInstance() == null) {
-            Log.e(TAG, "ApiClient 없음");
-            return;
-        }
-
-        ApiClient.getInstance().getApiService()
-                .deleteCalendarEvent(serverId)
-                .enqueue(new Callback<ApiResponse>() {
-                    @Override
-                    public void onResponse(Call<ApiResponse> call, Response<ApiResponse> response) {
-                        if (response != null && response.isSuccessful()) {
-                            Log.d(TAG, "서버에서 일정 삭제 성공: ID=" + serverId);
-                        } else {
-                            Log.e(TAG, "서버 일정 삭제 실패: " +
-                                    (response != null ? response.code() : "null"));
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(Call<ApiResponse> call, Throwable t) {
-                        Log.e(TAG, "서버 통신 실패", t);
-                    }
-                });
-    }
-
     private class CalendarEventAdapter extends RecyclerView.Adapter<CalendarEventAdapter.EventViewHolder> {
 
         private List<CalendarEvent> adapterEvents = new ArrayList<>();
@@ -774,15 +812,13 @@ public class CalendarFragment extends Fragment {
         super.onResume();
         Log.d(TAG, "onResume called");
 
-        // 일정 변경 플래그 확인
+        // 일정 변경 플래그와 관계없이 변경분 동기화 (바뀐 것이 없으면 빈 응답)
         SharedPreferences prefs = requireActivity().getSharedPreferences("UserPrefs", Context.MODE_PRIVATE);
         if (prefs.getBoolean("calendar_needs_sync", false)) {
             Log.d(TAG, "일정 변경 플래그 감지 - 서버 동기화");
-            loadEventsFromServer();
             prefs.edit().putBoolean("calendar_needs_sync", false).apply();
-        } else {
-            syncWithServer();
         }
+        loadEventsFromServer();
 
         if (getView() != null) {
             getView().postDelayed(() -> {
@@ -798,31 +834,4 @@ public class CalendarFragment extends Fragment {
         Log.d(TAG, "외부에서 동기화 요청됨");
         loadEventsFromServer();
     }
-
-    private void syncWithServer() {
-        SharedPreferences preferences = requireActivity()
-                .getSharedPreferences("UserPrefs", Context.MODE_PRIVATE);
-        String userUuid = preferences.getString("user_uuid", null);
-
-        if (userUuid == null || ApiClient.getInstance() == null) {
-            return;
-        }
-
-        ApiClient.getInstance().getApiService()
-                .getUserEvents(userUuid)
-                .enqueue(new Callback<List<CalendarEventResponse>>() {
-                    @Override
-                    public void onResponse(Call<List<CalendarEventResponse>> call,
-                                           Response<List<CalendarEventResponse>> response) {
-                        if (response != null && response.isSuccessful() && response.body() != null) {
-                            Log.d(TAG, "서버 동기화 성공: " + response.body().size() + "개");
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(Call<List<CalendarEventResponse>> call, Throwable t) {
-                        Log.e(TAG, "서버 동기화 실패", t);
-                    }
-                });
-    }
 }
\ No newline at end of file
@@ -40,8 +40,12 @@ import com.naver.maps.map.util.FusedLocationSource;
 import com.sjoneon.cap.BuildConfig;
 import com.sjoneon.cap.R;
 import com.sjoneon.cap.models.api.TmapPedestrianResponse;
+import com.sjoneon.cap.models.local.RouteInfo;
 import com.sjoneon.cap.services.TmapApiService;
+import com.sjoneon.cap.utils.BusRideTimeModel;
+import com.sjoneon.cap.utils.ModelCodecs;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -54,6 +58,9 @@ import retrofit2.converter.gson.GsonConverterFactory;
 public class NavigationFragment extends Fragment implements OnMapReadyCallback {
 
     private static final String TAG = "NavigationFragment";
+
+    // 안내할 경로 (ModelCodecs.ROUTE_INFO 바이너리)
+    public static final String ARG_ROUTE_INFO = "route_info";
     private static final int LOCATION_PERMISSION_REQUEST_CODE = 1002;
     private static final int ARRIVAL_THRESHOLD_METERS = 50;
 
@@ -82,6 +89,9 @@ public class NavigationFragment extends Fragment implements OnMapReadyCallback {
     private double endStopLng;
     private double destinationLat;
     private double destinationLng;
+    private String routeId;
+    private double busRideDistance;
+    private long busBoardedAtMillis = 0;
 
     private int currentNavigationStep = 0;
     private PolylineOverlay currentRouteOverlay;
@@ -103,17 +113,25 @@ public class NavigationFragment extends Fragment implements OnMapReadyCallback {
                 .create(TmapApiService.class);
 
         Bundle args = getArguments();
-        if (args != null) {
-            startStopName = args.getString("start_stop_name");
-            endStopName = args.getString("end_stop_name");
-            busNumber = args.getString("bus_number");
-            directionInfo = args.getString("direction_info");
-            startStopLat = args.getDouble("start_stop_lat");
-            startStopLng = args.getDouble("start_stop_lng");
-            endStopLat = args.getDouble("end_stop_lat");
-            endStopLng = args.getDouble("end_stop_lng");
-            destinationLat = args.getDouble("destination_lat");
-            destinationLng = args.getDouble("destination_lng");
+        byte[] encodedRoute = args != null ? args.getByteArray(ARG_ROUTE_INFO) : null;
+        if (encodedRoute != null) {
+            try {
+                RouteInfo route = ModelCodecs.ROUTE_INFO.decode(encodedRoute);
+                startStopName = route.getStartStopName();
+                endStopName = route.getEndStopName();
+                busNumber = route.getBusNumber();
+                directionInfo = route.getDirectionInfo();
+                startStopLat = route.getStartStopLat();
+                startStopLng = route.getStartStopLng();
+                endStopLat = route.getEndStopLat();
+                endStopLng = route.getEndStopLng();
+                destinationLat = route.getDestinationLat();
+                destinationLng = route.getDestinationLng();
+                routeId = route.getRouteId();
+                busRideDistance = route.getBusRideDistance();
+            } catch (IOException e) {
+                Log.e(TAG, "경로 정보 복원 실패", e);
+            }
         }
     }
 
@@ -214,11 +232,22 @@ public class NavigationFragment extends Fragment implements OnMapReadyCallback {
                 break;
 
             case 1:
+                // 출발 정류장을 벗어나는 시점을 버스 탑승 시각으로 기록
+                if (busBoardedAtMillis == 0) {
+                    double distanceFromStartStop = calculateDistance(
+                            location.getLatitude(), location.getLongitude(),
+                            startStopLat, startStopLng);
+                    if (distanceFromStartStop > ARRIVAL_THRESHOLD_METERS * 2) {
+                        busBoardedAtMillis = System.currentTimeMillis();
+                    }
+                }
+
                 double distanceToEndStop = calculateDistance(
                         location.getLatitude(), location.getLongitude(),
                         endStopLat, endStopLng);
 
                 if (distanceToEndStop <= ARRIVAL_THRESHOLD_METERS) {
+                    recordBusRide();
                     currentNavigationStep = 2;
                     updateNavigationStep();
                 }
@@ -238,6 +267,19 @@ public class NavigationFragment extends Fragment implements OnMapReadyCallback {
         }
     }
 
+    /**
+     * 실제 탑승 시간을 노선별 탑승 시간 모델에 기록
+     */
+    private void recordBusRide() {
+        if (busBoardedAtMillis == 0 || routeId == null || busRideDistance <= 0) {
+            return;
+        }
+
+        double rideMinutes = (System.currentTimeMillis() - busBoardedAtMillis) / 60000.0;
+        BusRideTimeModel.getInstance(requireContext())
+                .recordRideObservation(routeId, busRideDistance, rideMinutes, busBoardedAtMillis);
+    }
+
     private void updateNavigationStep() {
         if (currentLocation == null) return;
 
@@ -1,6 +1,7 @@
 package com.sjoneon.cap.fragments;
 
 import android.os.Bundle;
+import android.text.TextUtils;
 import android.text.format.DateUtils;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -13,6 +14,7 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
@@ -28,11 +30,18 @@ import java.util.List;
  */
 public class NotificationsFragment extends Fragment {
 
+    // 한 번에 불러오는 알림 개수
+    private static final int PAGE_SIZE = 50;
+    // 목록 끝에서 이 개수 이내로 스크롤되면 다음 페이지 로드
+    private static final int PREFETCH_DISTANCE = 10;
+
     private TextView textNoNotifications;
     private RecyclerView recyclerViewNotifications;
     private Button buttonMarkAllRead;
     private NotificationAdapter notificationAdapter;
     private NotificationRepository notificationRepository;
+    // 다음 페이지 cursor (null이면 마지막 페이지까지 로드됨)
+    private Long nextCursor;
 
     @Nullable
     @Override
@@ -70,8 +79,23 @@ public class NotificationsFragment extends Fragment {
      * 리사이클러뷰 설정
      */
     private void setupRecyclerView() {
-        recyclerViewNotifications.setLayoutManager(new LinearLayoutManager(getContext()));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(getContext());
+        recyclerViewNotifications.setLayoutManager(layoutManager);
         recyclerViewNotifications.setHasFixedSize(true); // 성능 최적화
+
+        // 목록 끝에 가까워지면 다음 페이지 로드
+        recyclerViewNotifications.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy <= 0 || nextCursor == null || notificationAdapter == null) {
+                    return;
+                }
+                int lastVisible = layoutManager.findLastVisibleItemPosition();
+                if (lastVisible >= notificationAdapter.getItemCount() - PREFETCH_DISTANCE) {
+                    loadNextPage();
+                }
+            }
+        });
     }
 
     /**
@@ -99,59 +123,85 @@ public class NotificationsFragment extends Fragment {
 
     /**
      * 알림 목록 로드 (개선된 버전)
+     * 이미 불러온 만큼을 최신순으로 다시 조회하고 변경된 항목만 갱신합니다.
      */
     private void loadNotifications() {
-        try {
-            List<NotificationItem> notifications = notificationRepository.getAllNotifications();
-
-            if (notifications == null || notifications.isEmpty()) {
-                // UI 스레드에서 실행
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        textNoNotifications.setVisibility(View.VISIBLE);
-                        recyclerViewNotifications.setVisibility(View.GONE);
-
-                        // 모두 읽음 버튼 숨기기
-                        buttonMarkAllRead.setVisibility(View.GONE);
-                    });
+        if (!notificationRepository.isReady()) {
+            // 로드가 끝나면 다시 표시 (메인 스레드에서 로드를 기다리지 않음)
+            notificationRepository.whenReady(() -> {
+                if (isAdded()) {
+                    loadNotifications();
                 }
+            });
+            return;
+        }
+
+        try {
+            int loadedCount = notificationAdapter != null ? notificationAdapter.getItemCount() : 0;
+            NotificationRepository.Page page =
+                    notificationRepository.loadPage(null, Math.max(PAGE_SIZE, loadedCount));
+            List<NotificationItem> notifications = page.getItems();
+            nextCursor = page.getNextCursor();
+
+            if (notifications.isEmpty()) {
+                textNoNotifications.setVisibility(View.VISIBLE);
+                recyclerViewNotifications.setVisibility(View.GONE);
+
+                // 모두 읽음 버튼 숨기기
+                buttonMarkAllRead.setVisibility(View.GONE);
             } else {
-                // UI 스레드에서 실행
-                if (getActivity() != null) {
-                    getActivity().runOnUiThread(() -> {
-                        textNoNotifications.setVisibility(View.GONE);
-                        recyclerViewNotifications.setVisibility(View.VISIBLE);
-
-                        // 읽지 않은 알림이 있는 경우에만 모두 읽음 버튼 표시
-                        int unreadCount = notificationRepository.getUnreadCount();
-                        buttonMarkAllRead.setVisibility(unreadCount > 0 ? View.VISIBLE : View.GONE);
-
-                        // 어댑터 설정 또는 업데이트
-                        if (notificationAdapter == null) {
-                            notificationAdapter = new NotificationAdapter(new ArrayList<>(notifications));
-                            recyclerViewNotifications.setAdapter(notificationAdapter);
-                        } else {
-                            // 기존 어댑터의 데이터 업데이트
-                            notificationAdapter.updateNotifications(notifications);
-                        }
-                    });
-                }
+                textNoNotifications.setVisibility(View.GONE);
+                recyclerViewNotifications.setVisibility(View.VISIBLE);
+            }
+
+            // 읽지 않은 알림이 있는 경우에만 모두 읽음 버튼 표시
+            updateMarkAllReadButton();
+
+            // 어댑터 설정 또는 업데이트
+            if (notificationAdapter == null) {
+                notificationAdapter = new NotificationAdapter(new ArrayList<>(notifications));
+                recyclerViewNotifications.setAdapter(notificationAdapter);
+            } else {
+                // 기존 어댑터의 데이터 업데이트 (변경된 항목만)
+                notificationAdapter.updateNotifications(notifications);
             }
         } catch (Exception e) {
             // 예외 발생 시 기본 UI 상태로 설정
-            if (getActivity() != null) {
-                getActivity().runOnUiThread(() -> {
-                    textNoNotifications.setVisibility(View.VISIBLE);
-                    recyclerViewNotifications.setVisibility(View.GONE);
-                    buttonMarkAllRead.setVisibility(View.GONE);
-
-                    // 오류 메시지 표시
-                    Toast.makeText(getContext(), "알림 목록을 불러오는 중 오류가 발생했습니다.", Toast.LENGTH_SHORT).show();
-                });
-            }
+            textNoNotifications.setVisibility(View.VISIBLE);
+            recyclerViewNotifications.setVisibility(View.GONE);
+            buttonMarkAllRead.setVisibility(View.GONE);
+
+            // 오류 메시지 표시
+            Toast.makeText(getContext(), "알림 목록을 불러오는 중 오류가 발생했습니다.", Toast.LENGTH_SHORT).show();
         }
     }
 
+    /**
+     * 다음 페이지 로드 (목록 끝에 추가)
+     */
+    private void loadNextPage() {
+        if (nextCursor == null || notificationAdapter == null) {
+            return;
+        }
+
+        NotificationRepository.Page page = notificationRepository.loadPage(nextCursor, PAGE_SIZE);
+        nextCursor = page.getNextCursor();
+        // 스크롤 콜백 중에는 목록을 바로 바꿀 수 없으므로 다음 프레임에 추가
+        recyclerViewNotifications.post(() -> {
+            if (notificationAdapter != null) {
+                notificationAdapter.appendNotifications(page.getItems());
+            }
+        });
+    }
+
+    /**
+     * 읽지 않은 알림이 있는 경우에만 모두 읽음 버튼 표시
+     */
+    private void updateMarkAllReadButton() {
+        int unreadCount = notificationRepository.getUnreadCount();
+        buttonMarkAllRead.setVisibility(unreadCount > 0 ? View.VISIBLE : View.GONE);
+    }
+
     /**
      * 알림 어댑터 (완전히 개선된 버전)
      */
@@ -168,11 +218,56 @@ public class NotificationsFragment extends Fragment {
          * @param newNotifications 새로운 알림 목록
          */
         public void updateNotifications(List<NotificationItem> newNotifications) {
-            if (newNotifications != null) {
-                this.notifications.clear();
-                this.notifications.addAll(newNotifications);
-                notifyDataSetChanged();
+            if (newNotifications == null) {
+                return;
+            }
+
+            List<NotificationItem> oldNotifications = new ArrayList<>(notifications);
+            DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+                @Override
+                public int getOldListSize() {
+                    return oldNotifications.size();
+                }
+
+                @Override
+                public int getNewListSize() {
+                    return newNotifications.size();
+                }
+
+                @Override
+                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                    NotificationItem oldItem = oldNotifications.get(oldItemPosition);
+                    NotificationItem newItem = newNotifications.get(newItemPosition);
+                    return oldItem.getId() == newItem.getId()
+                            && oldItem.getTimestamp() == newItem.getTimestamp();
+                }
+
+                @Override
+                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                    NotificationItem oldItem = oldNotifications.get(oldItemPosition);
+                    NotificationItem newItem = newNotifications.get(newItemPosition);
+                    return oldItem.isRead() == newItem.isRead()
+                            && TextUtils.equals(oldItem.getTitle(), newItem.getTitle())
+                            && TextUtils.equals(oldItem.getContent(), newItem.getContent());
+                }
+            });
+
+            this.notifications.clear();
+            this.notifications.addAll(newNotifications);
+            diffResult.dispatchUpdatesTo(this);
+        }
+
+        /**
+         * 다음 페이지 알림을 목록 끝에 추가
+         * @param moreNotifications 추가할 알림 목록
+         */
+        public void appendNotifications(List<NotificationItem> moreNotifications) {
+            if (moreNotifications == null || moreNotifications.isEmpty()) {
+                return;
             }
+            int start = notifications.size();
+            notifications.addAll(moreNotifications);
+            notifyItemRangeInserted(start, moreNotifications.size());
         }
 
         /**
@@ -248,13 +343,14 @@ public class NotificationsFragment extends Fragment {
                 try {
                     NotificationItem currentNotification = notifications.get(currentPosition);
                     if (!currentNotification.isRead()) {
-                        boolean success = notificationRepository.markAsRead(currentNotification.getId());
+                        boolean success = notificationRepository.markAsRead(currentNotification);
                         if (success) {
+                            // 화면 목록은 복사본이므로 읽음 상태를 함께 반영
+                            currentNotification.setRead(true);
                             holder.viewUnread.setVisibility(View.INVISIBLE);
 
                             // 모두 읽음 버튼 상태 업데이트
-                            int unreadCount = notificationRepository.getUnreadCount();
-                            buttonMarkAllRead.setVisibility(unreadCount > 0 ? View.VISIBLE : View.GONE);
+                            updateMarkAllReadButton();
 
                             Toast.makeText(getContext(), R.string.notification_read, Toast.LENGTH_SHORT).show();
                         }
@@ -290,7 +386,7 @@ public class NotificationsFragment extends Fragment {
                     NotificationItem currentNotification = notifications.get(currentPosition);
 
                     // Repository에서 삭제 (성공/실패 확인)
-                    boolean deleteSuccess = notificationRepository.deleteNotification(currentNotification.getId());
+                    boolean deleteSuccess = notificationRepository.deleteNotification(currentNotification);
 
                     if (deleteSuccess) {
                         // 어댑터에서 안전하게 제거
@@ -304,8 +400,7 @@ public class NotificationsFragment extends Fragment {
                                 buttonMarkAllRead.setVisibility(View.GONE);
                             } else {
                                 // 읽지 않은 알림 개수에 따라 모두 읽음 버튼 상태 업데이트
-                                int unreadCount = notificationRepository.getUnreadCount();
-                                buttonMarkAllRead.setVisibility(unreadCount > 0 ? View.VISIBLE : View.GONE);
+                                updateMarkAllReadButton();
                             }
 
                             Toast.makeText(getContext(), R.string.notification_deleted, Toast.LENGTH_SHORT).show();
@@ -6,8 +6,6 @@ import android.location.Address;
 import android.location.Geocoder;
 import android.location.Location;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
 import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -20,41 +18,27 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.app.ActivityCompat;
 import androidx.fragment.app.Fragment;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.gms.location.FusedLocationProviderClient;
 import com.google.android.gms.location.LocationServices;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.sjoneon.cap.BuildConfig;
 import com.sjoneon.cap.R;
-import com.sjoneon.cap.models.api.WeatherResponse;
+import com.sjoneon.cap.models.local.HourlyForecastItem;
+import com.sjoneon.cap.models.local.VillageForecast;
+import com.sjoneon.cap.models.local.WeatherCondition;
 import com.sjoneon.cap.models.local.WeeklyForecastItem;
-import com.sjoneon.cap.services.WeatherApiService;
+import com.sjoneon.cap.repositories.WeatherRepository;
+import com.sjoneon.cap.utils.KmaGrid;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.concurrent.TimeUnit;
-import java.util.Collections;
-import java.util.Date;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-import retrofit2.Retrofit;
-import retrofit2.converter.scalars.ScalarsConverterFactory;
-
-import okhttp3.OkHttpClient;
 
 /**
  * 날씨 정보를 표시하는 프래그먼트
@@ -63,9 +47,8 @@ public class WeatherFragment extends Fragment {
 
     private static final String TAG = "WeatherFragment";
     private static final int LOCATION_PERMISSION_REQUEST_CODE = 1001;
-    private static final String KMA_API_BASE_URL = "https://apihub.kma.go.kr/api/typ02/openApi/";
-    private static final int MAX_RETRY_COUNT = 3;
-    private static final int RETRY_DELAY_MS = 2000;
+    // 시간별 예보 표시 개수 (1시간 간격)
+    private static final int HOURLY_SLOT_COUNT = 24;
 
     // UI 요소
     private TextView textCurrentLocation, textCurrentTemp, textCurrentCondition, textPrecipitation, textHumidity, textWindSpeed;
@@ -74,20 +57,16 @@ public class WeatherFragment extends Fragment {
 
     // 서비스 및 데이터
     private FusedLocationProviderClient fusedLocationProviderClient;
-    private WeatherApiService weatherApiService;
+    private WeatherRepository weatherRepository;
     private Geocoder geocoder;
     private HourlyForecastAdapter hourlyAdapter;
     private WeeklyForecastAdapter weeklyAdapter;
-    private List<WeatherForecastItem> hourlyForecastList = new ArrayList<>();
-    private List<WeeklyForecastItem> weeklyForecastList = new ArrayList<>();
-    private Gson lenientGson;
-    private Handler retryHandler;
 
     // 위치 정보
     private int currentNx, currentNy;
 
-    // API 응답 데이터 임시 저장 변수
-    private JsonObject shortTermData = null;
+    // 현재 표시 중인 단기예보
+    private VillageForecast forecast;
 
     @Nullable
     @Override
@@ -102,17 +81,10 @@ public class WeatherFragment extends Fragment {
     @Override
     public void onResume() {
         super.onResume();
+        showCachedForecast();
         checkPermissionAndLoadWeather();
     }
 
-    @Override
-    public void onDestroyView() {
-        super.onDestroyView();
-        if (retryHandler != null) {
-            retryHandler.removeCallbacksAndMessages(null);
-        }
-    }
-
     private void initializeViews(View view) {
         textCurrentLocation = view.findViewById(R.id.textCurrentLocation);
         textCurrentTemp = view.findViewById(R.id.textCurrentTemp);
@@ -126,22 +98,7 @@ public class WeatherFragment extends Fragment {
     }
 
     private void initializeServices() {
-        lenientGson = new GsonBuilder().setLenient().create();
-        retryHandler = new Handler(Looper.getMainLooper());
-
-        // 타임아웃 60초로 증가
-        OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                .connectTimeout(60, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(60, TimeUnit.SECONDS)
-                .build();
-
-        Retrofit retrofit = new Retrofit.Builder()
-                .baseUrl(KMA_API_BASE_URL)
-                .client(okHttpClient)
-                .addConverterFactory(ScalarsConverterFactory.create())
-                .build();
-        weatherApiService = retrofit.create(WeatherApiService.class);
+        weatherRepository = WeatherRepository.getInstance(requireContext());
         fusedLocationProviderClient = LocationServices.getFusedLocationProviderClient(requireContext());
         geocoder = new Geocoder(requireContext(), Locale.KOREA);
     }
@@ -149,8 +106,8 @@ public class WeatherFragment extends Fragment {
     private void setupRecyclerViews() {
         recyclerViewHourlyForecast.setLayoutManager(new LinearLayoutManager(getContext(), LinearLayoutManager.HORIZONTAL, false));
         recyclerViewWeeklyForecast.setLayoutManager(new LinearLayoutManager(getContext()));
-        hourlyAdapter = new HourlyForecastAdapter(hourlyForecastList);
-        weeklyAdapter = new WeeklyForecastAdapter(weeklyForecastList);
+        hourlyAdapter = new HourlyForecastAdapter();
+        weeklyAdapter = new WeeklyForecastAdapter();
         recyclerViewHourlyForecast.setAdapter(hourlyAdapter);
         recyclerViewWeeklyForecast.setAdapter(weeklyAdapter);
     }
@@ -182,7 +139,9 @@ public class WeatherFragment extends Fragment {
         }
         fusedLocationProviderClient.getLastLocation().addOnSuccessListener(location -> {
             if (location != null) {
-                convertLatLngToGrid(location.getLatitude(), location.getLongitude());
+                int[] grid = KmaGrid.toGrid(location.getLatitude(), location.getLongitude());
+                currentNx = grid[0];
+                currentNy = grid[1];
                 updateLocationText(location.getLatitude(), location.getLongitude());
                 fetchWeatherData();
             } else {
@@ -196,41 +155,6 @@ public class WeatherFragment extends Fragment {
         });
     }
 
-    private void convertLatLngToGrid(double lat, double lon) {
-        double RE = 6371.00877;
-        double GRID = 5.0;
-        double SLAT1 = 30.0;
-        double SLAT2 = 60.0;
-        double OLON = 126.0;
-        double OLAT = 38.0;
-        double XO = 43;
-        double YO = 136;
-
-        double DEGRAD = Math.PI / 180.0;
-        double re = RE / GRID;
-        double slat1 = SLAT1 * DEGRAD;
-        double slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD;
-        double olat = OLAT * DEGRAD;
-
-        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
-        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
-        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
-        ro = re * sf / Math.pow(ro, sn);
-
-        double ra = Math.tan(Math.PI * 0.25 + (lat) * DEGRAD * 0.5);
-        ra = re * sf / Math.pow(ra, sn);
-        double theta = lon * DEGRAD - olon;
-        if (theta > Math.PI) theta -= 2.0 * Math.PI;
-        if (theta < -Math.PI) theta += 2.0 * Math.PI;
-        theta *= sn;
-
-        currentNx = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
-        currentNy = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
-    }
-
     private void updateLocationText(double lat, double lon) {
         try {
             List<Address> addresses = geocoder.getFromLocation(lat, lon, 1);
@@ -247,502 +171,160 @@ public class WeatherFragment extends Fragment {
     }
 
     private void setFallbackLocation() {
-        currentNx = 69;
-        currentNy = 107;
+        currentNx = WeatherRepository.DEFAULT_NX;
+        currentNy = WeatherRepository.DEFAULT_NY;
         textCurrentLocation.setText("충청북도 청주시");
     }
 
-    private void fetchWeatherData() {
-        shortTermData = null;
-        weeklyForecastList.clear();
-
-        // baseTime과 baseDate를 함께 계산
-        Calendar cal = Calendar.getInstance();
-        int hour = cal.get(Calendar.HOUR_OF_DAY);
-        int minute = cal.get(Calendar.MINUTE);
-
-        // 02:10 이전이면 전날 2300시 데이터 사용
-        if (hour < 2 || (hour == 2 && minute <= 10)) {
-            cal.add(Calendar.DATE, -1);
-        }
-
-        String baseDate = new SimpleDateFormat("yyyyMMdd", Locale.getDefault()).format(cal.getTime());
-        fetchVillageForecast(baseDate, 0);
-    }
-
-    private void fetchVillageForecast(String baseDate, int retryCount) {
-        String baseTime = getBaseTimeFor("village");
-        Log.d(TAG, "날씨 API 호출 시도 " + (retryCount + 1) + "/" + MAX_RETRY_COUNT +
-                " - baseDate: " + baseDate + ", baseTime: " + baseTime +
-                ", nx: " + currentNx + ", ny: " + currentNy);
-
-        weatherApiService.getVillageForecast(BuildConfig.KMA_API_HUB_KEY, 500, 1, "JSON", baseDate, baseTime, currentNx, currentNy)
-                .enqueue(new Callback<String>() {
-                    @Override
-                    public void onResponse(@NonNull Call<String> call, @NonNull Response<String> response) {
-                        if (response.isSuccessful() && response.body() != null) {
-                            Log.d(TAG, "날씨 API 응답 성공");
-
-                            shortTermData = lenientGson.fromJson(response.body(), JsonObject.class);
-
-                            // API 에러 코드 확인
-                            if (shortTermData != null && shortTermData.has("response")) {
-                                JsonObject responseObj = shortTermData.getAsJsonObject("response");
-                                if (responseObj.has("header")) {
-                                    JsonObject header = responseObj.getAsJsonObject("header");
-                                    String resultCode = header.has("resultCode") ? header.get("resultCode").getAsString() : "00";
-
-                                    if (!"00".equals(resultCode)) {
-                                        String resultMsg = header.has("resultMsg") ? header.get("resultMsg").getAsString() : "알 수 없는 오류";
-                                        Log.e(TAG, "API 에러: " + resultCode + " - " + resultMsg);
-
-                                        if (isAdded()) {
-                                            getActivity().runOnUiThread(() -> {
-                                                Toast.makeText(getContext(),
-                                                        "날씨 정보를 불러올 수 없습니다",
-                                                        Toast.LENGTH_SHORT).show();
-                                            });
-                                        }
-                                        return;
-                                    }
-                                }
-                            }
-
-                            parseAndDisplayShortTermWeather();
-                            parseAndDisplayWeeklyForecast();
-                        } else if (retryCount < MAX_RETRY_COUNT) {
-                            Log.w(TAG, "날씨 API 응답 실패 (코드: " + response.code() + "), " + RETRY_DELAY_MS + "ms 후 재시도");
-                            retryHandler.postDelayed(() -> fetchVillageForecast(baseDate, retryCount + 1), RETRY_DELAY_MS);
-                        } else {
-                            handleApiError("단기예보", response);
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(@NonNull Call<String> call, @NonNull Throwable t) {
-                        if (retryCount < MAX_RETRY_COUNT) {
-                            Log.w(TAG, "날씨 API 네트워크 실패, " + RETRY_DELAY_MS + "ms 후 재시도: " + t.getMessage());
-                            retryHandler.postDelayed(() -> fetchVillageForecast(baseDate, retryCount + 1), RETRY_DELAY_MS);
-                        } else {
-                            handleApiFailure("단기예보", t);
-                        }
-                    }
-                });
-    }
-
-    private void parseAndDisplayShortTermWeather() {
-        if (shortTermData == null) return;
-        try {
-            JsonObject responseObj = shortTermData.getAsJsonObject("response");
-            if (responseObj == null) throw new IllegalStateException("Response object is null");
-            JsonElement headerElement = responseObj.get("header");
-            if(headerElement == null || !headerElement.isJsonObject()) return;
-            String resultCode = headerElement.getAsJsonObject().get("resultCode").getAsString();
-            if (!"00".equals(resultCode)) return;
-
-            JsonElement bodyElement = responseObj.get("body");
-            if(bodyElement == null || !bodyElement.isJsonObject()) return;
-            JsonElement itemsElement = bodyElement.getAsJsonObject().get("items");
-            if(itemsElement == null || !itemsElement.isJsonObject()) return;
-            JsonElement itemElement = itemsElement.getAsJsonObject().get("item");
-            if(itemElement == null || !itemElement.isJsonArray()) return;
-
-            List<WeatherResponse.WeatherItem> items = lenientGson.fromJson(itemElement.getAsJsonArray(), new com.google.gson.reflect.TypeToken<List<WeatherResponse.WeatherItem>>() {}.getType());
-            String currentFcstTime = items.stream().map(it -> it.fcstTime).findFirst().orElse("");
-            Map<String, String> currentWeatherData = items.stream()
-                    .filter(it -> it.fcstTime.equals(currentFcstTime))
-                    .collect(Collectors.toMap(it -> it.category, it -> it.fcstValue, (v1, v2) -> v1));
-            displayCurrentWeather(currentWeatherData);
-
-            hourlyForecastList.clear();
-            items.stream()
-                    .collect(Collectors.groupingBy(item -> item.fcstTime))
-                    .entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .forEach(entry -> {
-                        Map<String, String> data = entry.getValue().stream()
-                                .collect(Collectors.toMap(item -> item.category, item -> item.fcstValue, (v1, v2) -> v1));
-                        if (data.containsKey("TMP") && data.containsKey("SKY")) {
-                            hourlyForecastList.add(new WeatherForecastItem(entry.getKey(), data.get("SKY"), data.get("TMP")));
-                        }
-                    });
-            hourlyAdapter.notifyDataSetChanged();
-        } catch (Exception e) {
-            Log.e(TAG, "단기예보 파싱 에러: " + e.getMessage());
+    /**
+     * 위치 확인 전에 마지막 위치의 저장된 예보를 먼저 표시
+     */
+    private void showCachedForecast() {
+        if (forecast != null) return;
+        int[] grid = weatherRepository.getLastGrid();
+        VillageForecast cached = weatherRepository.getCachedForecast(grid[0], grid[1]);
+        if (cached != null) {
+            forecast = cached;
+            displayShortTermWeather();
+            displayWeeklyForecast(weatherRepository.getCachedWeeklyForecast(grid[0], grid[1]));
         }
     }
 
-    private void parseAndDisplayWeeklyForecast() {
-        if (shortTermData == null) return;
-
-        List<WeeklyForecastItem> dailyList = new ArrayList<>();
-        try {
-            // 안전한 JSON 파싱 - 각 단계별 null 체크
-            JsonObject response = shortTermData.getAsJsonObject("response");
-            if (response == null) {
-                Log.e(TAG, "response 객체가 null입니다.");
-                return;
-            }
-
-            JsonObject body = response.getAsJsonObject("body");
-            if (body == null) {
-                Log.e(TAG, "body 객체가 null입니다.");
-                return;
+    private void fetchWeatherData() {
+        // 새 발표분을 받는 동안 이전 예보를 먼저 표시하고, 받으면 다시 표시
+        weatherRepository.getVillageForecast(currentNx, currentNy, true, new WeatherRepository.ForecastCallback() {
+            @Override
+            public void onSuccess(VillageForecast result) {
+                if (!isAdded()) return;
+                forecast = result;
+                displayShortTermWeather();
             }
 
-            JsonObject items = body.getAsJsonObject("items");
-            if (items == null) {
-                Log.e(TAG, "items 객체가 null입니다.");
-                return;
+            @Override
+            public void onError(String message) {
+                if (isAdded()) Toast.makeText(getContext(), message, Toast.LENGTH_SHORT).show();
             }
+        });
 
-            JsonArray itemsArray = items.getAsJsonArray("item");
-            if (itemsArray == null || itemsArray.size() == 0) {
-                Log.e(TAG, "item 배열이 null이거나 비어있습니다.");
-                return;
+        // 주간 예보는 단기예보(~3일)와 중기예보(~10일)를 합쳐서 표시 (오류 메시지는 위에서 표시)
+        weatherRepository.getWeeklyForecast(currentNx, currentNy, true, new WeatherRepository.WeeklyForecastCallback() {
+            @Override
+            public void onSuccess(List<WeeklyForecastItem> forecasts) {
+                if (!isAdded()) return;
+                displayWeeklyForecast(forecasts);
             }
 
-            List<WeatherResponse.WeatherItem> itemsList = lenientGson.fromJson(
-                    itemsArray,
-                    new com.google.gson.reflect.TypeToken<List<WeatherResponse.WeatherItem>>() {}.getType()
-            );
-
-            Map<String, List<WeatherResponse.WeatherItem>> groupedByDate = itemsList.stream()
-                    .collect(Collectors.groupingBy(item -> item.fcstDate));
-
-            Calendar cal = Calendar.getInstance();
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd", Locale.KOREAN);
-
-            for (int i = 0; i <= 2; i++) {
-                cal.setTime(Calendar.getInstance().getTime());
-                cal.add(Calendar.DATE, i);
-                String date = sdf.format(cal.getTime());
-
-                if (groupedByDate.containsKey(date)) {
-                    List<WeatherResponse.WeatherItem> dailyItems = groupedByDate.get(date);
-
-                    int maxTemp = dailyItems.stream()
-                            .filter(item -> "TMX".equals(item.category))
-                            .mapToInt(item -> (int)Double.parseDouble(item.fcstValue))
-                            .findFirst()
-                            .orElse((int) dailyItems.stream()
-                                    .filter(item->"TMP".equals(item.category))
-                                    .mapToDouble(item->Double.parseDouble(item.fcstValue))
-                                    .max()
-                                    .orElse(0.0));
-
-                    int minTemp = dailyItems.stream()
-                            .filter(item -> "TMN".equals(item.category))
-                            .mapToInt(item -> (int)Double.parseDouble(item.fcstValue))
-                            .findFirst()
-                            .orElse((int) dailyItems.stream()
-                                    .filter(item->"TMP".equals(item.category))
-                                    .mapToDouble(item->Double.parseDouble(item.fcstValue))
-                                    .min()
-                                    .orElse(0.0));
-
-                    String amCondition = getWeatherConditionFromShortTerm(dailyItems, "0900");
-                    String pmCondition = getWeatherConditionFromShortTerm(dailyItems, "1500");
-                    int amRainChance = getRainChanceFromShortTerm(dailyItems, "0900");
-                    int pmRainChance = getRainChanceFromShortTerm(dailyItems, "1500");
-
-                    String dateStr = new SimpleDateFormat("M/d", Locale.KOREAN).format(cal.getTime());
-                    String dayOfWeekStr = (i == 0) ? "오늘" : new SimpleDateFormat("E요일", Locale.KOREAN).format(cal.getTime());
-
-                    dailyList.add(new WeeklyForecastItem(dateStr, dayOfWeekStr, amCondition, pmCondition, amRainChance, pmRainChance, minTemp, maxTemp));
-                }
+            @Override
+            public void onError(String message) {
+                Log.w(TAG, "주간 예보 조회 실패: " + message);
             }
-        } catch (Exception e) {
-            Log.e(TAG, "단기예보->주간예보 변환 에러", e);
-        }
-
-        if (getActivity() != null) {
-            getActivity().runOnUiThread(() -> {
-                weeklyForecastList.clear();
-                weeklyForecastList.addAll(dailyList);
-                weeklyForecastList.sort(Comparator.comparing(w -> w.getDate()));
-                weeklyAdapter.notifyDataSetChanged();
-            });
-        }
-    }
-
-    private String getWeatherConditionFromShortTerm(List<WeatherResponse.WeatherItem> items, String time) {
-        String sky = items.stream().filter(i -> time.equals(i.fcstTime) && "SKY".equals(i.category)).findFirst().map(i -> i.fcstValue).orElse("1");
-        String pty = items.stream().filter(i -> time.equals(i.fcstTime) && "PTY".equals(i.category)).findFirst().map(i -> i.fcstValue).orElse("0");
-        return convertShortTermCodeToText(pty, sky);
-    }
-
-    private int getRainChanceFromShortTerm(List<WeatherResponse.WeatherItem> items, String time) {
-        return items.stream().filter(i -> time.equals(i.fcstTime) && "POP".equals(i.category)).mapToInt(i -> Integer.parseInt(i.fcstValue)).findFirst().orElse(0);
+        });
     }
 
-    private void displayCurrentWeather(Map<String, String> data) {
-        textCurrentTemp.setText(data.getOrDefault("TMP", "--") + "°C");
-        textPrecipitation.setText("강수확률 " + data.getOrDefault("POP", "--") + "%");
-        textHumidity.setText("습도 " + data.getOrDefault("REH", "--") + "%");
-        textWindSpeed.setText("바람 " + data.getOrDefault("WSD", "--") + "m/s");
-        updateWeatherConditionAndIcon(data.getOrDefault("PTY", "0"), data.getOrDefault("SKY", "1"), textCurrentCondition, imageWeatherIcon);
-    }
+    private void displayShortTermWeather() {
+        if (forecast == null || forecast.getSlotCount() == 0) return;
 
-    private void updateWeatherConditionAndIcon(String pty, String sky, TextView conditionView, ImageView iconView) {
-        String conditionText = convertShortTermCodeToText(pty, sky);
-        conditionView.setText(conditionText);
-        iconView.setImageResource(getWeatherIconResource(conditionText));
-    }
+        // 저장된 예보는 몇 시간 전에 받은 것일 수 있으므로 지금 시각의 시간대부터 표시
+        int currentSlot = findCurrentSlot();
+        displayCurrentWeather(currentSlot);
 
-    private String convertShortTermCodeToText(String pty, String sky) {
-        int ptyCode = Integer.parseInt(pty);
-        int skyCode = Integer.parseInt(sky);
-        if (ptyCode == 0) {
-            switch (skyCode) {
-                case 1: return "맑음";
-                case 3: return "구름많음";
-                case 4: return "흐림";
-                default: return "정보 없음";
-            }
-        } else {
-            switch (ptyCode) {
-                case 1: return "비";
-                case 2: return "비/눈";
-                case 3: return "눈";
-                case 5: case 6: case 7: return "진눈깨비";
-                default: return "강수";
+        // 표시 문자열과 아이콘은 여기서 한 번만 만들고 바인딩에서는 그대로 사용
+        List<HourlyForecastItem> hourly = new ArrayList<>();
+        int slotEnd = Math.min(forecast.getSlotCount(), currentSlot + HOURLY_SLOT_COUNT);
+        for (int slot = currentSlot; slot < slotEnd; slot++) {
+            if (forecast.hasValue(slot, VillageForecast.CATEGORY_TEMPERATURE)
+                    && forecast.hasValue(slot, VillageForecast.CATEGORY_SKY)) {
+                hourly.add(HourlyForecastItem.fromSlot(forecast, slot));
             }
         }
+        hourlyAdapter.submitList(hourly);
     }
 
-    private int getWeatherIconResource(String condition) {
-        if (condition == null) {
-            return R.drawable.ic_weather_default;
-        }
-
-        // 맑음
-        if (condition.contains("맑음")) {
-            return R.drawable.ic_weather_sunny;
-        }
-        // 구름많음
-        else if (condition.contains("구름")) {
-            return R.drawable.ic_weather_cloudy;
-        }
-        // 흐림
-        else if (condition.contains("흐림")) {
-            return R.drawable.ic_weather_overcast;
-        }
-        // 비 (비/눈 혼합 체크)
-        else if (condition.contains("비")) {
-            if (condition.contains("눈")) {
-                return R.drawable.ic_weather_sleet;
-            }
-            return R.drawable.ic_weather_rainy;
-        }
-        // 눈
-        else if (condition.contains("눈")) {
-            return R.drawable.ic_weather_snowy;
-        }
-        // 진눈깨비
-        else if (condition.contains("진눈깨비")) {
-            return R.drawable.ic_weather_sleet;
-        }
-
-        // 기본값 (정보 없음)
-        return R.drawable.ic_weather_default;
+    /**
+     * 현재 시각(정시)과 같거나 이후인 첫 예보 시간대 (모두 지났으면 마지막 시간대)
+     */
+    private int findCurrentSlot() {
+        Date now = new Date();
+        String date = new SimpleDateFormat("yyyyMMdd", Locale.getDefault()).format(now);
+        String hour = new SimpleDateFormat("HH", Locale.getDefault()).format(now) + "00";
+        int slot = forecast.findFirstSlotFrom(date, hour);
+        return slot >= 0 ? slot : forecast.getSlotCount() - 1;
     }
 
-    private String getBaseTimeFor(String apiType) {
-        Calendar cal = Calendar.getInstance();
-        int hour = cal.get(Calendar.HOUR_OF_DAY);
-        int minute = cal.get(Calendar.MINUTE);
-        if (hour < 2 || (hour == 2 && minute <= 10)) {
-            cal.add(Calendar.DATE, -1); return "2300";
-        }
-        int[] baseTimes = {2, 5, 8, 11, 14, 17, 20, 23};
-        for (int i = baseTimes.length - 1; i >= 0; i--) {
-            if (hour >= baseTimes[i]) return String.format(Locale.getDefault(), "%02d00", baseTimes[i]);
-        }
-        return "2300";
+    private void displayWeeklyForecast(List<WeeklyForecastItem> forecasts) {
+        weeklyAdapter.submitList(forecasts);
     }
 
-    private void handleApiError(String apiName, Response<?> response) {
-        Log.e(TAG, apiName + " API 에러: " + response.code() + " " + response.message());
-        if(isAdded()) Toast.makeText(getContext(), apiName + " 정보를 가져오는 데 실패했습니다.", Toast.LENGTH_SHORT).show();
+    private void displayCurrentWeather(int slot) {
+        textCurrentTemp.setText(forecast.getValue(slot, VillageForecast.CATEGORY_TEMPERATURE, "--") + "°C");
+        textPrecipitation.setText("강수확률 " + forecast.getValue(slot, VillageForecast.CATEGORY_PRECIPITATION_CHANCE, "--") + "%");
+        textHumidity.setText("습도 " + forecast.getValue(slot, VillageForecast.CATEGORY_HUMIDITY, "--") + "%");
+        textWindSpeed.setText("바람 " + forecast.getValue(slot, VillageForecast.CATEGORY_WIND_SPEED, "--") + "m/s");
+        updateWeatherConditionAndIcon(forecast.getValue(slot, VillageForecast.CATEGORY_PRECIPITATION_TYPE, "0"),
+                forecast.getValue(slot, VillageForecast.CATEGORY_SKY, "1"), textCurrentCondition, imageWeatherIcon);
     }
 
-    private void handleApiFailure(String apiName, Throwable t) {
-        Log.e(TAG, apiName + " API 네트워크 실패", t);
-        if(isAdded()) Toast.makeText(getContext(), "네트워크 오류로 " + apiName + " 정보를 가져올 수 없습니다.", Toast.LENGTH_SHORT).show();
+    private void updateWeatherConditionAndIcon(String pty, String sky, TextView conditionView, ImageView iconView) {
+        String conditionText = VillageForecast.conditionText(pty, sky);
+        conditionView.setText(conditionText);
+        iconView.setImageResource(WeatherCondition.fromText(conditionText).getIconRes());
     }
 
     /**
      * 특정 날짜의 날씨 정보를 자연스러운 형식으로 반환
      */
     public String getFormattedWeatherInfo(Calendar targetCal) {
-        if (shortTermData == null) {
+        if (forecast == null) {
             return null;
         }
 
-        try {
-            JsonObject responseObj = shortTermData.getAsJsonObject("response");
-            if (responseObj == null) return null;
-
-            JsonElement bodyElement = responseObj.get("body");
-            if (bodyElement == null || !bodyElement.isJsonObject()) return null;
-
-            JsonElement itemsElement = bodyElement.getAsJsonObject().get("items");
-            if (itemsElement == null || !itemsElement.isJsonObject()) return null;
-
-            JsonElement itemElement = itemsElement.getAsJsonObject().get("item");
-            if (itemElement == null || !itemElement.isJsonArray()) return null;
-
-            List<WeatherResponse.WeatherItem> items = lenientGson.fromJson(
-                    itemElement.getAsJsonArray(),
-                    new com.google.gson.reflect.TypeToken<List<WeatherResponse.WeatherItem>>() {}.getType()
-            );
-
-            String targetDate = new SimpleDateFormat("yyyyMMdd", Locale.getDefault()).format(targetCal.getTime());
-            int currentHour = Calendar.getInstance().get(Calendar.HOUR_OF_DAY);
-            boolean isToday = targetDate.equals(new SimpleDateFormat("yyyyMMdd", Locale.getDefault()).format(new Date()));
-
-            List<WeatherResponse.WeatherItem> targetDateItems = items.stream()
-                    .filter(item -> targetDate.equals(item.fcstDate))
-                    .collect(Collectors.toList());
-
-            if (targetDateItems.isEmpty()) {
-                return null;
-            }
-
-            Map<String, Map<String, String>> hourlyData = targetDateItems.stream()
-                    .collect(Collectors.groupingBy(
-                            item -> item.fcstTime,
-                            Collectors.toMap(item -> item.category, item -> item.fcstValue, (v1, v2) -> v1)
-                    ));
-
-            List<String> sortedHours = new ArrayList<>(hourlyData.keySet());
-            Collections.sort(sortedHours);
-
-            int startHour = isToday ? currentHour : 0;
-            String startTimeStr = String.format(Locale.getDefault(), "%02d00", startHour);
-
-            StringBuilder weatherInfo = new StringBuilder();
-
-            if (isToday) {
-                weatherInfo.append(String.format("현재 %d시, ", currentHour));
-            }
-
-            String prevCondition = null;
-            int prevHour = -1;
-            int sameConditionStartHour = -1;
-
-            for (String hour : sortedHours) {
-                if (hour.compareTo(startTimeStr) < 0) continue;
-
-                Map<String, String> data = hourlyData.get(hour);
-                String sky = data.getOrDefault("SKY", "");
-                String pty = data.getOrDefault("PTY", "0");
-
-                String condition = getWeatherCondition(sky, pty);
-                int hourInt = Integer.parseInt(hour.substring(0, 2));
-
-                if (prevCondition == null) {
-                    sameConditionStartHour = hourInt;
-                    prevCondition = condition;
-                } else if (!condition.equals(prevCondition)) {
-                    if (sameConditionStartHour == prevHour) {
-                        weatherInfo.append(String.format("%d시에는 %s, ", prevHour, prevCondition));
-                    } else {
-                        weatherInfo.append(String.format("%d시부터 %d시까지는 %s, ", sameConditionStartHour, prevHour, prevCondition));
-                    }
-
-                    sameConditionStartHour = hourInt;
-                    prevCondition = condition;
-                }
-
-                prevHour = hourInt;
-            }
-
-            if (prevCondition != null && sameConditionStartHour != -1) {
-                if (sameConditionStartHour == prevHour) {
-                    weatherInfo.append(String.format("%d시에는 %s 소식이 있어요", prevHour, prevCondition));
-                } else {
-                    weatherInfo.append(String.format("%d시부터는 %s 소식이 있어요", sameConditionStartHour, prevCondition));
-                }
-            }
-
-            String maxTemp = getMaxTemp(targetDateItems);
-            String minTemp = getMinTemp(targetDateItems);
-            if (maxTemp != null && minTemp != null) {
-                weatherInfo.append(String.format(". 최고 기온 %s도, 최저 기온 %s도예요", maxTemp, minTemp));
-            }
-
-            return weatherInfo.toString();
-
-        } catch (Exception e) {
-            Log.e(TAG, "날씨 정보 포맷팅 실패", e);
-            return null;
-        }
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd", Locale.getDefault());
+        String targetDate = sdf.format(targetCal.getTime());
+        boolean isToday = targetDate.equals(sdf.format(new Date()));
+        int startHour = isToday ? Calendar.getInstance().get(Calendar.HOUR_OF_DAY) : 0;
+        return forecast.describeDay(targetDate, startHour, isToday);
     }
 
     /**
-     * 날씨 상태를 문자열로 변환
+     * 시간별 예보 어댑터
+     * 항목은 예보 시각으로 식별하며, DiffUtil로 바뀐 칸만 갱신합니다.
      */
-    private String getWeatherCondition(String sky, String pty) {
-        int ptyValue = Integer.parseInt(pty);
-
-        if (ptyValue > 0) {
-            switch (ptyValue) {
-                case 1: return "비";
-                case 2: return "비/눈";
-                case 3: return "눈";
-                case 4: return "소나기";
-                default: return "강수";
-            }
-        }
+    private static class HourlyForecastAdapter extends RecyclerView.Adapter<HourlyForecastAdapter.ForecastViewHolder> {
+        private final List<HourlyForecastItem> forecasts = new ArrayList<>();
 
-        int skyValue = Integer.parseInt(sky);
-        switch (skyValue) {
-            case 1: return "맑음";
-            case 3: return "구름많음";
-            case 4: return "흐림";
-            default: return "알 수 없음";
+        HourlyForecastAdapter() {
+            setHasStableIds(true);
         }
-    }
 
-    /**
-     * 최고 기온 조회
-     */
-    private String getMaxTemp(List<WeatherResponse.WeatherItem> items) {
-        for (WeatherResponse.WeatherItem item : items) {
-            if ("TMX".equals(item.category)) {
-                return item.fcstValue;
-            }
-        }
-        return null;
-    }
+        void submitList(List<HourlyForecastItem> newForecasts) {
+            List<HourlyForecastItem> oldForecasts = new ArrayList<>(forecasts);
+            DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+                @Override
+                public int getOldListSize() {
+                    return oldForecasts.size();
+                }
 
-    /**
-     * 최저 기온 조회
-     */
-    private String getMinTemp(List<WeatherResponse.WeatherItem> items) {
-        for (WeatherResponse.WeatherItem item : items) {
-            if ("TMN".equals(item.category)) {
-                return item.fcstValue;
-            }
-        }
-        return null;
-    }
+                @Override
+                public int getNewListSize() {
+                    return newForecasts.size();
+                }
+
+                @Override
+                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                    return oldForecasts.get(oldItemPosition).getId() == newForecasts.get(newItemPosition).getId();
+                }
 
-    public static class WeatherForecastItem {
-        private String time, skyCondition, temperature;
-        public WeatherForecastItem(String time, String sky, String temp) {
-            this.time = time.substring(0, 2) + "시"; this.skyCondition = sky; this.temperature = temp;
+                @Override
+                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                    return oldForecasts.get(oldItemPosition).hasSameContent(newForecasts.get(newItemPosition));
+                }
+            });
+
+            forecasts.clear();
+            forecasts.addAll(newForecasts);
+            diffResult.dispatchUpdatesTo(this);
         }
-        public String getTime() { return time; }
-        public String getSkyCondition() { return skyCondition; }
-        public String getTemperature() { return temperature; }
-    }
 
-    private class HourlyForecastAdapter extends RecyclerView.Adapter<HourlyForecastAdapter.ForecastViewHolder> {
-        private List<WeatherForecastItem> forecasts;
-        public HourlyForecastAdapter(List<WeatherForecastItem> forecasts) { this.forecasts = forecasts; }
         @NonNull @Override
         public ForecastViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
             View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_weather_forecast, parent, false);
@@ -750,14 +332,15 @@ public class WeatherFragment extends Fragment {
         }
         @Override
         public void onBindViewHolder(@NonNull ForecastViewHolder holder, int position) {
-            WeatherForecastItem forecast = forecasts.get(position);
-            holder.textDay.setText(forecast.getTime());
-            holder.textHighTemp.setText(forecast.getTemperature() + "°");
-            holder.textLowTemp.setVisibility(View.GONE);
-            updateWeatherConditionAndIcon("0", forecast.getSkyCondition(), holder.textCondition, holder.imageIcon);
+            HourlyForecastItem forecast = forecasts.get(position);
+            holder.textDay.setText(forecast.getTimeLabel());
+            holder.textHighTemp.setText(forecast.getTemperatureLabel());
+            holder.textCondition.setText(forecast.getConditionText());
+            holder.imageIcon.setImageResource(forecast.getCondition().getIconRes());
         }
         @Override public int getItemCount() { return forecasts.size(); }
-        class ForecastViewHolder extends RecyclerView.ViewHolder {
+        @Override public long getItemId(int position) { return forecasts.get(position).getId(); }
+        static class ForecastViewHolder extends RecyclerView.ViewHolder {
             TextView textDay, textHighTemp, textLowTemp, textCondition;
             ImageView imageIcon;
             public ForecastViewHolder(@NonNull View itemView) {
@@ -767,13 +350,52 @@ public class WeatherFragment extends Fragment {
                 textHighTemp = itemView.findViewById(R.id.textForecastHigh);
                 textLowTemp = itemView.findViewById(R.id.textForecastLow);
                 imageIcon = itemView.findViewById(R.id.imageForecastIcon);
+                // 시간별 예보는 기온 하나만 표시
+                textLowTemp.setVisibility(View.GONE);
             }
         }
     }
 
-    private class WeeklyForecastAdapter extends RecyclerView.Adapter<WeeklyForecastAdapter.WeeklyForecastViewHolder> {
-        private List<WeeklyForecastItem> forecasts;
-        public WeeklyForecastAdapter(List<WeeklyForecastItem> forecasts) { this.forecasts = forecasts; }
+    /**
+     * 주간 예보 어댑터
+     * 항목은 날짜로 식별하며, 중기예보가 뒤늦게 합쳐져도 바뀐 날짜만 갱신합니다.
+     */
+    private static class WeeklyForecastAdapter extends RecyclerView.Adapter<WeeklyForecastAdapter.WeeklyForecastViewHolder> {
+        private final List<WeeklyForecastItem> forecasts = new ArrayList<>();
+
+        WeeklyForecastAdapter() {
+            setHasStableIds(true);
+        }
+
+        void submitList(List<WeeklyForecastItem> newForecasts) {
+            List<WeeklyForecastItem> oldForecasts = new ArrayList<>(forecasts);
+            DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+                @Override
+                public int getOldListSize() {
+                    return oldForecasts.size();
+                }
+
+                @Override
+                public int getNewListSize() {
+                    return newForecasts.size();
+                }
+
+                @Override
+                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                    return oldForecasts.get(oldItemPosition).getId() == newForecasts.get(newItemPosition).getId();
+                }
+
+                @Override
+                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                    return oldForecasts.get(oldItemPosition).hasSameContent(newForecasts.get(newItemPosition));
+                }
+            });
+
+            forecasts.clear();
+            forecasts.addAll(newForecasts);
+            diffResult.dispatchUpdatesTo(this);
+        }
+
         @NonNull @Override
         public WeeklyForecastViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
             View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_weather_weekly_forecast, parent, false);
@@ -784,17 +406,18 @@ public class WeatherFragment extends Fragment {
             WeeklyForecastItem forecast = forecasts.get(position);
             holder.textDay.setText(forecast.getDayOfWeek());
             holder.textDate.setText(forecast.getDate());
-            holder.textLowTemp.setText(forecast.getMinTemp() + "°");
-            holder.textHighTemp.setText(forecast.getMaxTemp() + "°");
+            holder.textLowTemp.setText(forecast.getMinTempLabel());
+            holder.textHighTemp.setText(forecast.getMaxTempLabel());
             holder.textAmCondition.setText(forecast.getAmCondition());
-            holder.textAmRainChance.setText("강수: " + forecast.getAmPrecipitation() + "%");
-            holder.imageAmIcon.setImageResource(getWeatherIconResource(forecast.getAmCondition()));
+            holder.textAmRainChance.setText(forecast.getAmPrecipitationLabel());
+            holder.imageAmIcon.setImageResource(forecast.getAmWeather().getIconRes());
             holder.textPmCondition.setText(forecast.getPmCondition());
-            holder.textPmRainChance.setText("강수: " + forecast.getPmPrecipitation() + "%");
-            holder.imagePmIcon.setImageResource(getWeatherIconResource(forecast.getPmCondition()));
+            holder.textPmRainChance.setText(forecast.getPmPrecipitationLabel());
+            holder.imagePmIcon.setImageResource(forecast.getPmWeather().getIconRes());
         }
         @Override public int getItemCount() { return forecasts.size(); }
-        class WeeklyForecastViewHolder extends RecyclerView.ViewHolder {
+        @Override public long getItemId(int position) { return forecasts.get(position).getId(); }
+        static class WeeklyForecastViewHolder extends RecyclerView.ViewHolder {
             TextView textDay, textDate, textLowTemp, textHighTemp;
             TextView textAmCondition, textAmRainChance, textPmCondition, textPmRainChance;
             ImageView imageAmIcon, imagePmIcon;
@@ -813,4 +436,4 @@ public class WeatherFragment extends Fragment {
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -59,6 +59,7 @@ public class EventAlarmManager {
 
     /**
      * 일정의 모든 알림 설정
+     * 미리 받기 예약은 호출한 쪽에서 변경을 모두 반영한 뒤 EventPrefetchScheduler.reschedule로 한 번만 갱신합니다.
      */
     public void scheduleEventNotifications(CalendarEvent event) {
         Log.d(TAG, "일정 알림 설정 시작: " + event.getTitle());
@@ -154,7 +155,7 @@ public class EventAlarmManager {
     }
 
     /**
-     * 일정의 모든 알림 취소
+     * 일정의 모든 알림 취소 (미리 받기 예약 갱신은 호출한 쪽에서)
      */
     public void cancelEventNotifications(CalendarEvent event) {
         Log.d(TAG, "일정 알림 취소: " + event.getTitle());
@@ -214,6 +215,19 @@ public class EventAlarmManager {
         public void onReceive(Context context, Intent intent) {
             Log.d(TAG, "일정 알림 수신됨");
 
+            // 저장된 예보를 디스크에서 읽을 수 있으므로 리시버 스레드가 아닌 백그라운드에서 알림 구성
+            Context appContext = context.getApplicationContext();
+            PendingResult pendingResult = goAsync();
+            new Thread(() -> {
+                try {
+                    showEventNotification(appContext, intent);
+                } finally {
+                    pendingResult.finish();
+                }
+            }, TAG).start();
+        }
+
+        private void showEventNotification(Context context, Intent intent) {
             try {
                 long eventId = intent.getLongExtra("event_id", 0);
                 String eventTitle = intent.getStringExtra("event_title");
@@ -234,6 +248,18 @@ public class EventAlarmManager {
                 if (eventTime > 0) {
                     SimpleDateFormat sdf = new SimpleDateFormat("MM월 dd일 HH:mm", Locale.getDefault());
                     content += "\n일정 시간: " + sdf.format(new Date(eventTime));
+
+                    // 로컬에 저장된 예보로만 구성 (네트워크 호출 없음)
+                    String weather = WeatherDigestBuilder.buildForEvent(context, eventId, eventTime);
+                    if (weather != null) {
+                        content += "\n" + weather;
+                    }
+                }
+
+                // 일정 전에 미리 계산해 둔 예상 소요 시간
+                Integer etaMinutes = EventPrefetchScheduler.getEtaMinutes(context, eventId);
+                if (etaMinutes != null) {
+                    content += "\n예상 소요 시간: 약 " + etaMinutes + "분";
                 }
 
                 // 일정 알림 표시 (중요도 높음으로 수정됨)
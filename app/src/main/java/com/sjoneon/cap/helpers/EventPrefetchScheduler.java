@@ -0,0 +1,227 @@
+package com.sjoneon.cap.helpers;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+
+import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.repositories.CalendarEventRepository;
+import com.sjoneon.cap.services.EventPrefetchWorker;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소가 있는 일정 전에 날씨/경로를 미리 받아 두는 작업 예약
+ * 다음 일정 시작 PREFETCH_LEAD_MS 전에 한 번 깨어나 BATCH_WINDOW_MS 안에 시작하는 일정을 한꺼번에 처리하고,
+ * 처리가 끝나면 그 다음 일정에 맞춰 다시 예약합니다. 예약은 항상 하나만 유지합니다.
+ */
+public class EventPrefetchScheduler {
+
+    private static final String TAG = "EventPrefetchScheduler";
+    private static final String WORK_NAME = "event_prefetch";
+
+    // 일정 시작 몇 분 전에 미리 받을지
+    private static final long PREFETCH_LEAD_MS = 40 * 60 * 1000;
+    // 한 번 깨어날 때 함께 처리할 범위 (이 안에 시작하는 일정은 같은 작업에서 처리)
+    public static final long BATCH_WINDOW_MS = 90 * 60 * 1000;
+    // 다음 일정을 찾을 때 살펴볼 최대 일정 수
+    private static final int UPCOMING_SCAN_LIMIT = 50;
+
+    // 미리 계산한 예상 소요 시간 (일정 알림에 표시)
+    private static final String PREFS_NAME = "event_prefetch";
+    private static final String KEY_ETA_PREFIX = "eta_";
+    private static final String KEY_ETA_SAVED_AT_PREFIX = "eta_saved_at_";
+    // 일정 장소의 기상청 격자 (일정 알림의 날씨 요약에 사용)
+    private static final String KEY_GRID_NX_PREFIX = "grid_nx_";
+    private static final String KEY_GRID_NY_PREFIX = "grid_ny_";
+    // 일정 시작 후 미리 받은 값을 보관하는 시간 (일정 시각 알림에서도 사용)
+    private static final long EVENT_DATA_RETENTION_MS = 60 * 60 * 1000;
+
+    /**
+     * 일정 목록이 바뀌었을 때 다음 미리 받기 작업을 다시 예약
+     * 일정 로드가 끝난 뒤 메인 스레드에서 실행되므로 호출한 스레드를 막지 않습니다.
+     */
+    public static void reschedule(Context context) {
+        Context appContext = context.getApplicationContext();
+        CalendarEventRepository repository = CalendarEventRepository.getInstance(appContext);
+        repository.whenReady(() -> scheduleAfter(appContext, System.currentTimeMillis(), false));
+    }
+
+    /**
+     * 미리 받기 작업이 끝날 때 다음 묶음 예약 (작업 스레드에서 호출)
+     * 실행 중인 작업을 취소하지 않도록 현재 작업 뒤에 이어 붙입니다.
+     *
+     * @param processedUntil 이번 작업에서 처리를 마친 시각 (이 시각 이후에 시작하는 일정부터 다음 작업 대상)
+     */
+    public static void scheduleNextBatch(Context context, long processedUntil) {
+        scheduleAfter(context.getApplicationContext(), processedUntil, true);
+    }
+
+    /**
+     * after 이후에 시작하는 첫 번째 장소 있는 일정에 맞춰 예약 (없으면 예약 취소)
+     */
+    private static void scheduleAfter(Context context, long after, boolean fromWorker) {
+        pruneEventData(context, System.currentTimeMillis());
+
+        List<CalendarEvent> upcoming = CalendarEventRepository.getInstance(context)
+                .getUpcoming(after + 1, UPCOMING_SCAN_LIMIT);
+
+        CalendarEvent next = null;
+        for (CalendarEvent event : upcoming) {
+            if (event.hasLocation()) {
+                next = event;
+                break;
+            }
+        }
+
+        WorkManager workManager = WorkManager.getInstance(context);
+        if (next == null) {
+            if (!fromWorker) {
+                workManager.cancelUniqueWork(WORK_NAME);
+            }
+            Log.d(TAG, "미리 받을 일정 없음 - 예약 취소");
+            return;
+        }
+
+        long delay = Math.max(0, next.getDateTime() - PREFETCH_LEAD_MS - System.currentTimeMillis());
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.CONNECTED)
+                .build();
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(EventPrefetchWorker.class)
+                .setInitialDelay(delay, TimeUnit.MILLISECONDS)
+                .setConstraints(constraints)
+                .build();
+        workManager.enqueueUniqueWork(WORK_NAME,
+                fromWorker ? ExistingWorkPolicy.APPEND_OR_REPLACE : ExistingWorkPolicy.REPLACE, request);
+
+        Log.d(TAG, "미리 받기 예약: " + next.getTitle() + " (" + (delay / 60000) + "분 후)");
+    }
+
+    // ================================================================================================
+    // 예상 소요 시간
+    // ================================================================================================
+
+    public static void saveEtaMinutes(Context context, long eventId, int minutes) {
+        prefs(context).edit()
+                .putInt(KEY_ETA_PREFIX + eventId, minutes)
+                .putLong(KEY_ETA_SAVED_AT_PREFIX + eventId, System.currentTimeMillis())
+                .apply();
+    }
+
+    /**
+     * 미리 계산한 일정 장소까지의 예상 소요 시간(분)
+     *
+     * @return 계산한 적이 없거나 한 묶음 처리 범위보다 오래된 값이면 null
+     */
+    public static Integer getEtaMinutes(Context context, long eventId) {
+        SharedPreferences prefs = prefs(context);
+        long savedAt = prefs.getLong(KEY_ETA_SAVED_AT_PREFIX + eventId, 0);
+        if (savedAt == 0 || System.currentTimeMillis() - savedAt > BATCH_WINDOW_MS) {
+            return null;
+        }
+        return prefs.getInt(KEY_ETA_PREFIX + eventId, 0);
+    }
+
+    // ================================================================================================
+    // 일정 장소 격자
+    // ================================================================================================
+
+    public static void saveEventGrid(Context context, long eventId, int nx, int ny) {
+        prefs(context).edit()
+                .putInt(KEY_GRID_NX_PREFIX + eventId, nx)
+                .putInt(KEY_GRID_NY_PREFIX + eventId, ny)
+                .apply();
+    }
+
+    /**
+     * 미리 받기 때 계산한 일정 장소의 격자 {nx, ny} (없으면 null)
+     */
+    public static int[] getEventGrid(Context context, long eventId) {
+        SharedPreferences prefs = prefs(context);
+        if (!prefs.contains(KEY_GRID_NX_PREFIX + eventId)) {
+            return null;
+        }
+        return new int[]{prefs.getInt(KEY_GRID_NX_PREFIX + eventId, 0), prefs.getInt(KEY_GRID_NY_PREFIX + eventId, 0)};
+    }
+
+    // ================================================================================================
+    // 정리
+    // ================================================================================================
+
+    /**
+     * 삭제된 일정의 예상 소요 시간/격자 삭제
+     */
+    public static void clearEventData(Context context, long eventId) {
+        prefs(context).edit()
+                .remove(KEY_ETA_PREFIX + eventId)
+                .remove(KEY_ETA_SAVED_AT_PREFIX + eventId)
+                .remove(KEY_GRID_NX_PREFIX + eventId)
+                .remove(KEY_GRID_NY_PREFIX + eventId)
+                .apply();
+    }
+
+    /**
+     * 삭제됐거나 장소가 없어졌거나 이미 지난 일정의 저장 값 정리 (예약할 때마다 실행)
+     */
+    private static void pruneEventData(Context context, long now) {
+        SharedPreferences prefs = prefs(context);
+        CalendarEventRepository repository = CalendarEventRepository.getInstance(context);
+        Set<Long> checkedIds = new HashSet<>();
+        SharedPreferences.Editor editor = null;
+
+        for (String key : prefs.getAll().keySet()) {
+            long eventId = parseEventId(key);
+            if (eventId < 0 || !checkedIds.add(eventId)) {
+                continue;
+            }
+
+            CalendarEvent event = repository.getEventById(eventId);
+            if (event != null && event.hasLocation() && event.getDateTime() + EVENT_DATA_RETENTION_MS > now) {
+                continue;
+            }
+            if (editor == null) {
+                editor = prefs.edit();
+            }
+            editor.remove(KEY_ETA_PREFIX + eventId)
+                    .remove(KEY_ETA_SAVED_AT_PREFIX + eventId)
+                    .remove(KEY_GRID_NX_PREFIX + eventId)
+                    .remove(KEY_GRID_NY_PREFIX + eventId);
+        }
+
+        if (editor != null) {
+            editor.apply();
+            Log.d(TAG, "지난/삭제된 일정의 미리 받은 값 정리");
+        }
+    }
+
+    /**
+     * 저장 키의 일정 ID (알 수 없는 키면 -1)
+     */
+    private static long parseEventId(String key) {
+        // "eta_saved_at_"이 "eta_"로도 시작하므로 긴 접두사부터 확인
+        String[] prefixes = {KEY_ETA_SAVED_AT_PREFIX, KEY_ETA_PREFIX, KEY_GRID_NX_PREFIX, KEY_GRID_NY_PREFIX};
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                try {
+                    return Long.parseLong(key.substring(prefix.length()));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -15,6 +15,7 @@ import androidx.core.app.NotificationCompat;
 import androidx.core.app.NotificationManagerCompat;
 
 import com.sjoneon.cap.activities.MainActivity;
+import com.sjoneon.cap.repositories.LocalStorage;
 import com.sjoneon.cap.repositories.NotificationRepository;
 import com.sjoneon.cap.R;
 import com.sjoneon.cap.models.local.NotificationItem;
@@ -244,6 +245,8 @@ public class NotificationHelper {
             NotificationRepository.getInstance(context).addNotification(
                     new NotificationItem(id, title, content, System.currentTimeMillis(), false)
             );
+            // 리시버에서 호출되면 직후 프로세스가 종료될 수 있으므로 바로 기록
+            LocalStorage.flushAll();
             Log.d(TAG, "알림 저장 완료 - ID: " + id);
         } catch (Exception e) {
             Log.e(TAG, "알림 저장 중 오류 발생", e);
@@ -0,0 +1,82 @@
+package com.sjoneon.cap.helpers;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.sjoneon.cap.models.local.VillageForecast;
+import com.sjoneon.cap.repositories.WeatherRepository;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 일정 알림에 붙일 날씨 요약 생성
+ * 알림 시점에 네트워크를 기다리지 않도록 로컬에 저장된 단기예보만 사용합니다.
+ * 예보가 최신 발표분이 아니면 발표 시각을 함께 표시하고, 일정 시각의 예보가 없으면 요약을 생략합니다.
+ */
+public final class WeatherDigestBuilder {
+
+    private static final String TAG = "WeatherDigestBuilder";
+
+    private WeatherDigestBuilder() {
+    }
+
+    /**
+     * 일정 시각의 날씨 요약 (백그라운드 스레드 전용, 만들 수 없으면 null)
+     * 일정 장소의 격자를 미리 받아 두었으면 그 격자를, 아니면 마지막으로 조회한 격자를 사용합니다.
+     */
+    public static String buildForEvent(Context context, long eventId, long eventTime) {
+        WeatherRepository repository = WeatherRepository.getInstance(context);
+        int[] grid = EventPrefetchScheduler.getEventGrid(context, eventId);
+        if (grid == null) {
+            grid = repository.getLastGrid();
+        }
+
+        try {
+            VillageForecast forecast = repository.readCachedForecast(grid[0], grid[1]);
+            return build(forecast, eventTime, Calendar.getInstance());
+        } catch (RuntimeException e) {
+            // 날씨 요약 때문에 알림이 빠지지 않도록 실패는 생략으로 처리
+            Log.w(TAG, "날씨 요약 생성 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 예보에서 일정 시각의 날씨 요약 생성 (예보가 없거나 일정 시각이 예보 범위 밖이면 null)
+     * 예: "날씨: 구름많음, 18°C, 강수확률 30%"
+     */
+    public static String build(VillageForecast forecast, long eventTime, Calendar now) {
+        if (forecast == null) {
+            return null;
+        }
+
+        Date eventDate = new Date(eventTime);
+        String fcstDate = new SimpleDateFormat("yyyyMMdd", Locale.US).format(eventDate);
+        String fcstTime = new SimpleDateFormat("HH", Locale.US).format(eventDate) + "00";
+
+        String summary;
+        int slot = forecast.findSlot(fcstDate, fcstTime);
+        if (slot >= 0 && forecast.hasValue(slot, VillageForecast.CATEGORY_TEMPERATURE)) {
+            summary = forecast.getCondition(slot)
+                    + ", " + forecast.getValue(slot, VillageForecast.CATEGORY_TEMPERATURE) + "°C"
+                    + ", 강수확률 " + forecast.getValue(slot, VillageForecast.CATEGORY_PRECIPITATION_CHANCE, "--") + "%";
+        } else {
+            // 시간별 예보가 없으면 그날 최저/최고 기온으로 대신 표시
+            Integer min = forecast.getMinTemperature(fcstDate);
+            Integer max = forecast.getMaxTemperature(fcstDate);
+            if (min == null || max == null) {
+                return null;
+            }
+            summary = "최저 " + min + "°C / 최고 " + max + "°C";
+        }
+
+        if (!WeatherRepository.isCurrent(forecast, now)) {
+            String baseTime = forecast.getBaseTime();
+            summary += " (" + Integer.parseInt(baseTime.substring(0, 2)) + "시 발표 예보)";
+        }
+        return "날씨: " + summary;
+    }
+}
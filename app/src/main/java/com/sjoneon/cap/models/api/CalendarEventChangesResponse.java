@@ -0,0 +1,38 @@
+package com.sjoneon.cap.models.api;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 변경분 응답 모델
+ * GET /api/schedule/calendar/events/{user_uuid}/changes?updated_since={cursor}
+ * cursor 없이 요청하거나 서버가 전체 재동기화를 요구하면 full_sync=true와 함께 전체 목록을 보냅니다.
+ */
+public class CalendarEventChangesResponse {
+
+    @SerializedName("events")
+    private List<CalendarEventResponse> events;
+
+    @SerializedName("deleted_ids")
+    private List<Integer> deletedIds;
+
+    @SerializedName("cursor")
+    private String cursor;
+
+    @SerializedName("full_sync")
+    private boolean fullSync;
+
+    public List<CalendarEventResponse> getEvents() {
+        return events != null ? events : new ArrayList<>();
+    }
+
+    public List<Integer> getDeletedIds() {
+        return deletedIds != null ? deletedIds : new ArrayList<>();
+    }
+
+    public String getCursor() { return cursor; }
+
+    public boolean isFullSync() { return fullSync; }
+}
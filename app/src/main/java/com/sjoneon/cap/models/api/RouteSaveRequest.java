@@ -1,7 +1,7 @@
 package com.sjoneon.cap.models.api;
 
 import com.google.gson.annotations.SerializedName;
-import com.sjoneon.cap.fragments.RouteFragment;
+import com.sjoneon.cap.models.local.RouteInfo;
 import java.util.List;
 
 public class RouteSaveRequest {
@@ -48,7 +48,7 @@ public class RouteSaveRequest {
     public void setUserUuid(String userUuid) { this.userUuid = userUuid; }
 
     // RouteInfo를 RouteDataItem으로 변환하는 헬퍼 메서드
-    public static RouteDataItem fromRouteInfo(RouteFragment.RouteInfo routeInfo) {
+    public static RouteDataItem fromRouteInfo(RouteInfo routeInfo) {
         return new RouteDataItem(
                 routeInfo.getType(),
                 routeInfo.getDuration(),
@@ -65,7 +65,10 @@ public class RouteSaveRequest {
                 routeInfo.getEndStopLat(),
                 routeInfo.getEndStopLng(),
                 routeInfo.getDestinationLat(),
-                routeInfo.getDestinationLng()
+                routeInfo.getDestinationLng(),
+                routeInfo.getRouteId(),
+                routeInfo.getCityCode(),
+                routeInfo.getStartStopId()
         );
     }
 
@@ -118,12 +121,23 @@ public class RouteSaveRequest {
         @SerializedName("destination_lng")
         private double destinationLng;
 
+        // 캐시된 경로의 실시간 도착 정보 갱신용 식별 정보
+        @SerializedName("route_id")
+        private String routeId;
+
+        @SerializedName("city_code")
+        private String cityCode;
+
+        @SerializedName("start_stop_id")
+        private String startStopId;
+
         public RouteDataItem(String type, int duration, int busWaitTime, String busNumber,
                              String startStopName, String endStopName, int busRideTime,
                              int walkingTimeToStartStop, int walkingTimeToDestination,
                              String directionInfo, double startStopLat, double startStopLng,
                              double endStopLat, double endStopLng, double destinationLat,
-                             double destinationLng) {
+                             double destinationLng, String routeId, String cityCode,
+                             String startStopId) {
             this.type = type;
             this.duration = duration;
             this.busWaitTime = busWaitTime;
@@ -140,6 +154,9 @@ public class RouteSaveRequest {
             this.endStopLng = endStopLng;
             this.destinationLat = destinationLat;
             this.destinationLng = destinationLng;
+            this.routeId = routeId;
+            this.cityCode = cityCode;
+            this.startStopId = startStopId;
         }
 
         // Getters (필요한 경우 Setters도 추가)
@@ -159,5 +176,8 @@ public class RouteSaveRequest {
         public double getEndStopLng() { return endStopLng; }
         public double getDestinationLat() { return destinationLat; }
         public double getDestinationLng() { return destinationLng; }
+        public String getRouteId() { return routeId; }
+        public String getCityCode() { return cityCode; }
+        public String getStartStopId() { return startStopId; }
     }
 }
\ No newline at end of file
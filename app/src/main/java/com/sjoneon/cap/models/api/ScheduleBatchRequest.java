@@ -0,0 +1,55 @@
+package com.sjoneon.cap.models.api;
+
+import com.google.gson.JsonElement;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정/알람 일괄 변경 요청 모델
+ * POST /api/schedule/calendar/events:batch, POST /api/schedule/alarms:batch
+ * 작업은 목록 순서대로 처리되며, 각 작업의 결과는 idempotency_key로 구분됩니다.
+ */
+public class ScheduleBatchRequest {
+
+    @SerializedName("operations")
+    private List<Operation> operations = new ArrayList<>();
+
+    public void addOperation(Operation operation) {
+        operations.add(operation);
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * 개별 작업 (create / update / delete)
+     */
+    public static class Operation {
+        @SerializedName("op")
+        private String op;
+
+        @SerializedName("idempotency_key")
+        private String idempotencyKey;
+
+        @SerializedName("id")
+        private Integer id;             // 수정/삭제 대상 서버 ID
+
+        @SerializedName("data")
+        private JsonElement data;       // 생성/수정 요청 본문 (단건 API와 같은 형식)
+
+        public Operation(String op, String idempotencyKey, Integer id, JsonElement data) {
+            this.op = op;
+            this.idempotencyKey = idempotencyKey;
+            this.id = id;
+            this.data = data;
+        }
+
+        public String getOp() { return op; }
+        public String getIdempotencyKey() { return idempotencyKey; }
+        public Integer getId() { return id; }
+        public JsonElement getData() { return data; }
+    }
+}
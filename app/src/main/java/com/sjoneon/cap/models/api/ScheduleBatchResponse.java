@@ -0,0 +1,42 @@
+package com.sjoneon.cap.models.api;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정/알람 일괄 변경 응답 모델
+ * 작업별 결과를 요청 순서대로 담으며, status는 같은 작업을 단건 API로 보냈을 때의 HTTP 상태 코드입니다.
+ */
+public class ScheduleBatchResponse {
+
+    @SerializedName("results")
+    private List<Result> results;
+
+    public List<Result> getResults() {
+        return results != null ? results : new ArrayList<>();
+    }
+
+    /**
+     * 개별 작업 결과
+     */
+    public static class Result {
+        @SerializedName("idempotency_key")
+        private String idempotencyKey;
+
+        @SerializedName("status")
+        private int status;
+
+        @SerializedName("id")
+        private Integer id;             // 생성된(또는 대상) 서버 ID
+
+        @SerializedName("error")
+        private String error;
+
+        public String getIdempotencyKey() { return idempotencyKey; }
+        public int getStatus() { return status; }
+        public Integer getId() { return id; }
+        public String getError() { return error; }
+    }
+}
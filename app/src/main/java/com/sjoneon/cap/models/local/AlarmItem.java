@@ -0,0 +1,42 @@
+package com.sjoneon.cap.models.local;
+
+/**
+ * 알람 정보를 담는 데이터 클래스
+ */
+public class AlarmItem {
+    private int id;
+    private String time;
+    private String label;
+    private boolean isEnabled;
+    private boolean soundEnabled;
+    private boolean vibrationEnabled;
+    private Integer serverId;
+
+    public AlarmItem() {}
+
+    public AlarmItem(int id, String time, String label, boolean isEnabled,
+                     boolean soundEnabled, boolean vibrationEnabled) {
+        this.id = id;
+        this.time = time;
+        this.label = label;
+        this.isEnabled = isEnabled;
+        this.soundEnabled = soundEnabled;
+        this.vibrationEnabled = vibrationEnabled;
+    }
+
+    public int getId() { return id; }
+    public String getTime() { return time; }
+    public String getLabel() { return label; }
+    public boolean isEnabled() { return isEnabled; }
+    public boolean isSoundEnabled() { return soundEnabled; }
+    public boolean isVibrationEnabled() { return vibrationEnabled; }
+    public Integer getServerId() { return serverId; }
+
+    public void setId(int id) { this.id = id; }
+    public void setTime(String time) { this.time = time; }
+    public void setEnabled(boolean enabled) { isEnabled = enabled; }
+    public void setLabel(String label) { this.label = label; }
+    public void setSoundEnabled(boolean soundEnabled) { this.soundEnabled = soundEnabled; }
+    public void setVibrationEnabled(boolean vibrationEnabled) { this.vibrationEnabled = vibrationEnabled; }
+    public void setServerId(Integer serverId) { this.serverId = serverId; }
+}
@@ -15,6 +15,7 @@ public class CalendarEvent {
     private long createdAt;
     private long updatedAt;
     private Integer serverId;  // 서버 DB ID 추가
+    private String locationAlias;  // 일정 장소 (서버 location_alias, 없으면 null)
 
     public CalendarEvent(long id, String title, String description, long dateTime) {
         this.id = id;
@@ -61,10 +62,28 @@ public class CalendarEvent {
     public long getCreatedAt() { return createdAt; }
     public long getUpdatedAt() { return updatedAt; }
 
+    /**
+     * 저장된 생성/수정 시각 복원 (로컬 저장소에서 읽을 때만 사용)
+     */
+    public void restoreTimestamps(long createdAt, long updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     // 서버 ID getter/setter
     public Integer getServerId() { return serverId; }
     public void setServerId(Integer serverId) { this.serverId = serverId; }
 
+    public String getLocationAlias() { return locationAlias; }
+    public void setLocationAlias(String locationAlias) {
+        this.locationAlias = locationAlias;
+        this.updatedAt = System.currentTimeMillis();
+    }
+
+    public boolean hasLocation() {
+        return locationAlias != null && !locationAlias.trim().isEmpty();
+    }
+
     public void addNotificationSetting(NotificationSetting setting) {
         if (notificationSettings == null) {
             notificationSettings = new ArrayList<>();
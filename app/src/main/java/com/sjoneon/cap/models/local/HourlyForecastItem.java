@@ -0,0 +1,48 @@
+package com.sjoneon.cap.models.local;
+
+/**
+ * 시간별 예보 항목 (화면 표시용)
+ * 표시할 문자열과 날씨 분류는 예보를 받았을 때 한 번만 만들어 두고, 바인딩에서는 그대로 사용합니다.
+ */
+public class HourlyForecastItem {
+    private final long id;                  // 예보 시각 키 (yyyyMMddHHmm), 목록 갱신 시 항목 식별용
+    private final String timeLabel;         // 예: "14시"
+    private final String conditionText;     // 예: "구름많음"
+    private final WeatherCondition condition;
+    private final String temperatureLabel;  // 예: "18°"
+
+    public HourlyForecastItem(long id, String timeLabel, String conditionText, String temperatureLabel) {
+        this.id = id;
+        this.timeLabel = timeLabel;
+        this.conditionText = conditionText;
+        this.condition = WeatherCondition.fromText(conditionText);
+        this.temperatureLabel = temperatureLabel;
+    }
+
+    /**
+     * 단기예보 시간대로 항목 생성
+     */
+    public static HourlyForecastItem fromSlot(VillageForecast forecast, int slot) {
+        String fcstTime = forecast.getSlotTime(slot);
+        return new HourlyForecastItem(
+                Long.parseLong(forecast.getSlotDate(slot) + fcstTime),
+                fcstTime.substring(0, 2) + "시",
+                forecast.getCondition(slot),
+                forecast.getValue(slot, VillageForecast.CATEGORY_TEMPERATURE, "--") + "°");
+    }
+
+    public long getId() { return id; }
+    public String getTimeLabel() { return timeLabel; }
+    public String getConditionText() { return conditionText; }
+    public WeatherCondition getCondition() { return condition; }
+    public String getTemperatureLabel() { return temperatureLabel; }
+
+    /**
+     * 화면에 보이는 내용이 같은지 여부 (같은 시각 항목끼리 비교)
+     */
+    public boolean hasSameContent(HourlyForecastItem other) {
+        return timeLabel.equals(other.timeLabel)
+                && conditionText.equals(other.conditionText)
+                && temperatureLabel.equals(other.temperatureLabel);
+    }
+}
@@ -30,6 +30,17 @@ public class Message {
         return content;
     }
 
+    /**
+     * 스트리밍 중인 AI 응답에 텍스트 조각 추가
+     */
+    public void appendContent(String text) {
+        content = content == null ? text : content + text;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
     public boolean isUser() {
         return isUser;
     }
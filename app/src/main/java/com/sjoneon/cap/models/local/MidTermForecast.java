@@ -0,0 +1,161 @@
+package com.sjoneon.cap.models.local;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기상청 중기예보(중기기온 + 중기육상) 결과
+ * 값은 발표일(tmFc의 날짜)로부터 며칠 뒤인지(일차)로 저장하며, 없는 값은 null입니다.
+ * 3~7일차는 오전/오후가 나뉘고, 8일차 이후는 하루 값 하나를 오전/오후에 같이 넣습니다.
+ */
+public class MidTermForecast {
+    public static final int MAX_DAY_OFFSET = 10;
+
+    private final String temperatureRegId;
+    private final String landRegId;
+    // 발표 시각 (yyyyMMddHHmm, 06시/18시)
+    private final String tmFc;
+
+    private final Integer[] minTemps;
+    private final Integer[] maxTemps;
+    private final String[] amConditions;
+    private final String[] pmConditions;
+    private final Integer[] amRainChances;
+    private final Integer[] pmRainChances;
+
+    private MidTermForecast(Builder builder) {
+        this.temperatureRegId = builder.temperatureRegId;
+        this.landRegId = builder.landRegId;
+        this.tmFc = builder.tmFc;
+        this.minTemps = builder.minTemps;
+        this.maxTemps = builder.maxTemps;
+        this.amConditions = builder.amConditions;
+        this.pmConditions = builder.pmConditions;
+        this.amRainChances = builder.amRainChances;
+        this.pmRainChances = builder.pmRainChances;
+    }
+
+    public String getTemperatureRegId() { return temperatureRegId; }
+    public String getLandRegId() { return landRegId; }
+    public String getTmFc() { return tmFc; }
+
+    /**
+     * 날짜(yyyyMMdd)가 발표일로부터 며칠 뒤인지 (계산할 수 없으면 -1)
+     */
+    public int getDayOffset(String fcstDate) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd", Locale.US);
+        try {
+            long issued = format.parse(tmFc.substring(0, 8)).getTime();
+            long target = format.parse(fcstDate).getTime();
+            // 일광절약시간이 없는 지역이지만 반올림으로 시간대 오차를 흡수
+            return (int) Math.round((target - issued) / (24.0 * 60 * 60 * 1000));
+        } catch (ParseException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    public Integer getMinTemp(int dayOffset) { return valueAt(minTemps, dayOffset); }
+    public Integer getMaxTemp(int dayOffset) { return valueAt(maxTemps, dayOffset); }
+    public String getAmCondition(int dayOffset) { return valueAt(amConditions, dayOffset); }
+    public String getPmCondition(int dayOffset) { return valueAt(pmConditions, dayOffset); }
+    public Integer getAmRainChance(int dayOffset) { return valueAt(amRainChances, dayOffset); }
+    public Integer getPmRainChance(int dayOffset) { return valueAt(pmRainChances, dayOffset); }
+
+    /**
+     * 해당 일차에 기온 예보가 있는지 여부
+     */
+    public boolean hasTemperature(int dayOffset) {
+        return getMinTemp(dayOffset) != null && getMaxTemp(dayOffset) != null;
+    }
+
+    private static <T> T valueAt(T[] values, int dayOffset) {
+        return dayOffset >= 0 && dayOffset < values.length ? values[dayOffset] : null;
+    }
+
+    public static class Builder {
+        private final String temperatureRegId;
+        private final String landRegId;
+        private final String tmFc;
+
+        private final Integer[] minTemps = new Integer[MAX_DAY_OFFSET + 1];
+        private final Integer[] maxTemps = new Integer[MAX_DAY_OFFSET + 1];
+        private final String[] amConditions = new String[MAX_DAY_OFFSET + 1];
+        private final String[] pmConditions = new String[MAX_DAY_OFFSET + 1];
+        private final Integer[] amRainChances = new Integer[MAX_DAY_OFFSET + 1];
+        private final Integer[] pmRainChances = new Integer[MAX_DAY_OFFSET + 1];
+
+        public Builder(String temperatureRegId, String landRegId, String tmFc) {
+            this.temperatureRegId = temperatureRegId;
+            this.landRegId = landRegId;
+            this.tmFc = tmFc;
+        }
+
+        public Builder setTemperature(int dayOffset, Integer minTemp, Integer maxTemp) {
+            if (dayOffset >= 0 && dayOffset <= MAX_DAY_OFFSET) {
+                minTemps[dayOffset] = minTemp;
+                maxTemps[dayOffset] = maxTemp;
+            }
+            return this;
+        }
+
+        public Builder setLand(int dayOffset, String amCondition, String pmCondition,
+                               Integer amRainChance, Integer pmRainChance) {
+            if (dayOffset >= 0 && dayOffset <= MAX_DAY_OFFSET) {
+                amConditions[dayOffset] = amCondition;
+                pmConditions[dayOffset] = pmCondition;
+                amRainChances[dayOffset] = amRainChance;
+                pmRainChances[dayOffset] = pmRainChance;
+            }
+            return this;
+        }
+
+        /**
+         * 중기기온 응답 항목 (taMin3, taMax3, ...) 반영
+         */
+        public Builder applyTemperatureItem(Map<String, String> item) {
+            for (int day = 0; day <= MAX_DAY_OFFSET; day++) {
+                Integer min = parseInt(item.get("taMin" + day));
+                Integer max = parseInt(item.get("taMax" + day));
+                if (min != null || max != null) {
+                    setTemperature(day, min, max);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 중기육상 응답 항목 (wf3Am, rnSt3Am, ..., wf8, rnSt8) 반영
+         */
+        public Builder applyLandItem(Map<String, String> item) {
+            for (int day = 0; day <= MAX_DAY_OFFSET; day++) {
+                String daily = item.get("wf" + day);
+                String am = item.containsKey("wf" + day + "Am") ? item.get("wf" + day + "Am") : daily;
+                String pm = item.containsKey("wf" + day + "Pm") ? item.get("wf" + day + "Pm") : daily;
+                Integer dailyRain = parseInt(item.get("rnSt" + day));
+                Integer amRain = item.containsKey("rnSt" + day + "Am") ? parseInt(item.get("rnSt" + day + "Am")) : dailyRain;
+                Integer pmRain = item.containsKey("rnSt" + day + "Pm") ? parseInt(item.get("rnSt" + day + "Pm")) : dailyRain;
+                if (am != null || pm != null) {
+                    setLand(day, am, pm, amRain, pmRain);
+                }
+            }
+            return this;
+        }
+
+        public MidTermForecast build() {
+            return new MidTermForecast(this);
+        }
+
+        private static Integer parseInt(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return null;
+            }
+            try {
+                return (int) Math.round(Double.parseDouble(value.trim()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -26,6 +26,14 @@ public class NotificationItem {
         this.isRead = isRead;
     }
 
+    /**
+     * 복사 생성자
+     * @param other 복사할 알림
+     */
+    public NotificationItem(NotificationItem other) {
+        this(other.id, other.title, other.content, other.timestamp, other.isRead);
+    }
+
     /**
      * 알림 ID 반환
      * @return 알림 ID
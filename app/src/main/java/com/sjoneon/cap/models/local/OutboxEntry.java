@@ -0,0 +1,55 @@
+package com.sjoneon.cap.models.local;
+
+/**
+ * 서버 전송 대기 중인 변경 요청
+ * 같은 엔티티에 대한 요청은 전송 전까지 하나로 합쳐지며, 재전송 시에도 같은 멱등성 키를 사용합니다.
+ */
+public class OutboxEntry {
+    public static final String TYPE_CALENDAR_EVENT = "calendar_event";
+    public static final String TYPE_ALARM = "alarm";
+    public static final String TYPE_ROUTE = "route";
+
+    public static final String OP_CREATE = "create";
+    public static final String OP_UPDATE = "update";
+    public static final String OP_DELETE = "delete";
+
+    private long sequence;          // 대기열 순서 (레코드 ID)
+    private String entityType;
+    private long localId;           // 로컬 엔티티 ID (0이면 합치지 않는 요청)
+    private Integer serverId;       // 생성 요청이 끝나기 전에는 null일 수 있음
+    private String operation;
+    private String payload;         // 요청 본문 JSON (삭제는 null)
+    private String idempotencyKey;
+    private int attempts;
+    private long createdAt;
+
+    public OutboxEntry() {}
+
+    public OutboxEntry(long sequence, String entityType, long localId, Integer serverId,
+                       String operation, String payload, String idempotencyKey) {
+        this.sequence = sequence;
+        this.entityType = entityType;
+        this.localId = localId;
+        this.serverId = serverId;
+        this.operation = operation;
+        this.payload = payload;
+        this.idempotencyKey = idempotencyKey;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    public long getSequence() { return sequence; }
+    public String getEntityType() { return entityType; }
+    public long getLocalId() { return localId; }
+    public Integer getServerId() { return serverId; }
+    public String getOperation() { return operation; }
+    public String getPayload() { return payload; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public int getAttempts() { return attempts; }
+    public long getCreatedAt() { return createdAt; }
+
+    public void setServerId(Integer serverId) { this.serverId = serverId; }
+    public void setOperation(String operation) { this.operation = operation; }
+    public void setPayload(String payload) { this.payload = payload; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+}
@@ -0,0 +1,166 @@
+package com.sjoneon.cap.models.local;
+
+/**
+ * 버스 경로 탐색 결과 (목록 표시, 길안내, 서버 저장에 사용)
+ */
+public class RouteInfo {
+    private String type;
+    private int duration;
+    private int busWaitTime;
+    private String busNumber;
+    private String startStopName;
+    private String endStopName;
+    private int busRideTime;
+    private int walkingTimeToStartStop;
+    private int walkingTimeToDestination;
+    private boolean isExpanded = false;
+    private String directionInfo;
+    private String routeId;
+    private double busRideDistance;
+
+    // 실시간 도착 정보 갱신을 위한 출발 정류장 식별 정보
+    private String cityCode;
+    private String startStopId;
+
+    // 캐시된 검색 결과 여부 (실시간 도착 정보로 갱신되면 false)
+    private boolean isCached = false;
+
+    // 실시간 갱신에서 이 노선의 도착 예정 버스가 사라진 경우 (대기 시간을 믿을 수 없음)
+    private boolean isArrivalUnavailable = false;
+
+    // [추가] 길안내를 위한 좌표 정보
+    private double startStopLat;
+    private double startStopLng;
+    private double endStopLat;
+    private double endStopLng;
+    private double destinationLat;
+    private double destinationLng;
+
+    public RouteInfo(String type, int duration, int busWaitTime, String busNumber, String startStopName, String endStopName) {
+        this.type = type;
+        this.duration = duration;
+        this.busWaitTime = busWaitTime;
+        this.busNumber = busNumber;
+        this.startStopName = startStopName;
+        this.endStopName = endStopName;
+    }
+
+    // Getters
+    public String getType() { return type; }
+    public int getDuration() { return duration; }
+    public int getBusWaitTime() { return busWaitTime; }
+    public String getBusNumber() { return busNumber; }
+    public String getStartStopName() { return startStopName; }
+    public String getEndStopName() { return endStopName; }
+    public int getBusRideTime() { return busRideTime; }
+    public int getWalkingTimeToStartStop() { return walkingTimeToStartStop; }
+    public int getWalkingTimeToDestination() { return walkingTimeToDestination; }
+    public boolean isExpanded() { return isExpanded; }
+    public String getDirectionInfo() { return directionInfo; }
+    public String getRouteId() { return routeId; }
+    public double getBusRideDistance() { return busRideDistance; }
+    public String getCityCode() { return cityCode; }
+    public String getStartStopId() { return startStopId; }
+    public boolean isCached() { return isCached; }
+    public boolean isArrivalUnavailable() { return isArrivalUnavailable; }
+
+    // [추가] 좌표 정보 Getters
+    public double getStartStopLat() { return startStopLat; }
+    public double getStartStopLng() { return startStopLng; }
+    public double getEndStopLat() { return endStopLat; }
+    public double getEndStopLng() { return endStopLng; }
+    public double getDestinationLat() { return destinationLat; }
+    public double getDestinationLng() { return destinationLng; }
+
+    // Setters
+    public void setBusRideTime(int busRideTime) { this.busRideTime = busRideTime; }
+    public void setWalkingTimeToStartStop(int time) { this.walkingTimeToStartStop = time; }
+    public void setWalkingTimeToDestination(int time) { this.walkingTimeToDestination = time; }
+    public void setExpanded(boolean expanded) { this.isExpanded = expanded; }
+    public void setDirectionInfo(String directionInfo) { this.directionInfo = directionInfo; }
+    public void setRouteId(String routeId) { this.routeId = routeId; }
+    public void setBusRideDistance(double distance) { this.busRideDistance = distance; }
+    public void setCityCode(String cityCode) { this.cityCode = cityCode; }
+    public void setStartStopId(String startStopId) { this.startStopId = startStopId; }
+    public void setCached(boolean cached) { this.isCached = cached; }
+    public void setArrivalUnavailable(boolean unavailable) { this.isArrivalUnavailable = unavailable; }
+
+    // [추가] 좌표 정보 Setters
+    public void setStartStopLat(double lat) { this.startStopLat = lat; }
+    public void setStartStopLng(double lng) { this.startStopLng = lng; }
+    public void setEndStopLat(double lat) { this.endStopLat = lat; }
+    public void setEndStopLng(double lng) { this.endStopLng = lng; }
+    public void setDestinationLat(double lat) { this.destinationLat = lat; }
+    public void setDestinationLng(double lng) { this.destinationLng = lng; }
+
+    /**
+     * 목록 비교용 경로 식별 키 (버스 번호 + 승하차 정류장)
+     */
+    public String getRouteKey() {
+        return busNumber + "|" + startStopName + "|" + endStopName;
+    }
+
+    /**
+     * 버스 대기 시간만 바꾼 복사본 생성 (총 소요 시간도 함께 재계산)
+     * 새 도착 정보가 반영된 복사본은 실시간 경로로 취급
+     */
+    public RouteInfo withBusWaitTime(int newBusWaitTime) {
+        RouteInfo copy = new RouteInfo(type, duration - busWaitTime + newBusWaitTime,
+                newBusWaitTime, busNumber, startStopName, endStopName);
+        copy.busRideTime = busRideTime;
+        copy.walkingTimeToStartStop = walkingTimeToStartStop;
+        copy.walkingTimeToDestination = walkingTimeToDestination;
+        copy.isExpanded = isExpanded;
+        copy.directionInfo = directionInfo;
+        copy.routeId = routeId;
+        copy.busRideDistance = busRideDistance;
+        copy.cityCode = cityCode;
+        copy.startStopId = startStopId;
+        copy.startStopLat = startStopLat;
+        copy.startStopLng = startStopLng;
+        copy.endStopLat = endStopLat;
+        copy.endStopLng = endStopLng;
+        copy.destinationLat = destinationLat;
+        copy.destinationLng = destinationLng;
+        return copy;
+    }
+
+    /**
+     * 도착 예정 버스가 없는 경로로 표시한 복사본 생성 (대기/총 소요 시간은 마지막 값 유지)
+     */
+    public RouteInfo withArrivalUnavailable() {
+        RouteInfo copy = withBusWaitTime(busWaitTime);
+        copy.isCached = isCached;
+        copy.isArrivalUnavailable = true;
+        return copy;
+    }
+
+    public String getRouteSummary() {
+        int totalWalkTime = walkingTimeToStartStop + walkingTimeToDestination;
+        return String.format("총 %d분 소요 (도보 %d분 + 대기 %d분 + 버스 %d분)",
+                duration, totalWalkTime, busWaitTime, busRideTime);
+    }
+
+    public String getDepartureTimeInfo() {
+        if (isArrivalUnavailable) {
+            return "도착 예정 버스 없음";
+        }
+        return String.format("약 %d분 후 버스 도착", busWaitTime);
+    }
+
+    public String getDetailedRouteInfo() {
+        if (directionInfo != null && !directionInfo.equals("방향 정보 없음")) {
+            return String.format("%s번 버스 (%s)", busNumber, directionInfo);
+        } else {
+            return String.format("%s번 버스", busNumber);
+        }
+    }
+
+    public String getStopInfo() {
+        return String.format("%s → %s", startStopName, endStopName);
+    }
+
+    public String getBoardingInfo() {
+        return String.format("%s 정류장에서 승차", startStopName);
+    }
+}
@@ -0,0 +1,464 @@
+package com.sjoneon.cap.models.local;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기상청 단기예보(동네예보) 파싱 결과
+ * 예보 시각(fcstDate + fcstTime) 순으로 정렬된 시간대 x 자료구분코드의 숫자 표로 저장하므로,
+ * 시간대/날짜 조회와 칸 하나를 읽는 비용이 모두 O(1)입니다.
+ * 응답을 한 번만 파싱해 날씨 화면과 채팅이 함께 사용합니다.
+ */
+public class VillageForecast {
+    // 자료구분코드
+    public static final String CATEGORY_TEMPERATURE = "TMP";
+    public static final String CATEGORY_MAX_TEMPERATURE = "TMX";
+    public static final String CATEGORY_MIN_TEMPERATURE = "TMN";
+    public static final String CATEGORY_SKY = "SKY";
+    public static final String CATEGORY_PRECIPITATION_TYPE = "PTY";
+    public static final String CATEGORY_PRECIPITATION_CHANCE = "POP";
+    public static final String CATEGORY_HUMIDITY = "REH";
+    public static final String CATEGORY_WIND_SPEED = "WSD";
+    public static final String CATEGORY_PRECIPITATION = "PCP";
+    public static final String CATEGORY_SNOWFALL = "SNO";
+
+    // 표의 열 순서 (단기예보 전체 자료구분코드, 목록에 없는 코드는 버림)
+    private static final String[] CATEGORIES = {
+            CATEGORY_TEMPERATURE, CATEGORY_MAX_TEMPERATURE, CATEGORY_MIN_TEMPERATURE,
+            CATEGORY_SKY, CATEGORY_PRECIPITATION_TYPE, CATEGORY_PRECIPITATION_CHANCE,
+            CATEGORY_HUMIDITY, CATEGORY_WIND_SPEED, CATEGORY_PRECIPITATION, CATEGORY_SNOWFALL,
+            "UUU", "VVV", "VEC", "WAV"
+    };
+    private static final int CATEGORY_COUNT = CATEGORIES.length;
+    private static final Map<String, Integer> CATEGORY_COLUMNS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            CATEGORY_COLUMNS.put(CATEGORIES[i], i);
+        }
+    }
+
+    private static final int[] EMPTY_RANGE = {0, 0};
+
+    private final int nx;
+    private final int ny;
+    private final String baseDate;
+    private final String baseTime;
+
+    // 시간대 (정렬됨)
+    private final String[] slotDates;
+    private final String[] slotTimes;
+    private final Map<String, Integer> slotIndex;
+    // 날짜 -> 시간대 범위 [시작, 끝)
+    private final Map<String, int[]> dayRanges;
+    // 시간대 x 자료구분코드 숫자값 (값이 없거나 숫자가 아니면 NaN)
+    private final double[] values;
+    // 숫자가 아닌 예보값 ("강수없음", "1.0mm" 등), 칸 번호 -> 원문
+    private final Map<Integer, String> textValues;
+
+    private VillageForecast(int nx, int ny, String baseDate, String baseTime, String[] slotDates,
+                            String[] slotTimes, double[] values, Map<Integer, String> textValues) {
+        this.nx = nx;
+        this.ny = ny;
+        this.baseDate = baseDate;
+        this.baseTime = baseTime;
+        this.slotDates = slotDates;
+        this.slotTimes = slotTimes;
+        this.values = values;
+        this.textValues = textValues;
+        this.slotIndex = new HashMap<>();
+        this.dayRanges = new HashMap<>();
+        for (int i = 0; i < slotDates.length; i++) {
+            slotIndex.put(slotDates[i] + slotTimes[i], i);
+            int[] range = dayRanges.get(slotDates[i]);
+            if (range == null) {
+                dayRanges.put(slotDates[i], new int[]{i, i + 1});
+            } else {
+                range[1] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * 표에 저장되는 자료구분코드 목록 (직렬화용)
+     */
+    public static String[] getCategories() {
+        return CATEGORIES.clone();
+    }
+
+    public int getNx() { return nx; }
+    public int getNy() { return ny; }
+    public String getBaseDate() { return baseDate; }
+    public String getBaseTime() { return baseTime; }
+
+    public int getSlotCount() {
+        return slotDates.length;
+    }
+
+    public String getSlotDate(int slot) {
+        return slotDates[slot];
+    }
+
+    public String getSlotTime(int slot) {
+        return slotTimes[slot];
+    }
+
+    /**
+     * 예보 시각의 시간대 번호 (없으면 -1)
+     */
+    public int findSlot(String fcstDate, String fcstTime) {
+        Integer slot = slotIndex.get(fcstDate + fcstTime);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * 주어진 시각 이후(같은 시각 포함) 첫 시간대 번호 (모두 지난 시간대면 -1)
+     * 시간대는 정렬되어 있으므로 이진 탐색으로 찾습니다.
+     */
+    public int findFirstSlotFrom(String fcstDate, String fcstTime) {
+        String target = fcstDate + fcstTime;
+        int low = 0;
+        int high = slotDates.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((slotDates[mid] + slotTimes[mid]).compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < slotDates.length ? low : -1;
+    }
+
+    /**
+     * 해당 날짜의 시간대 범위 [시작, 끝) (데이터가 없으면 {0, 0})
+     */
+    public int[] getSlotRange(String fcstDate) {
+        int[] range = dayRanges.get(fcstDate);
+        return range != null ? range.clone() : EMPTY_RANGE.clone();
+    }
+
+    /**
+     * 시간대의 숫자 예보값 (없거나 숫자가 아니면 NaN)
+     */
+    public double getNumber(int slot, String category) {
+        int cell = cellIndex(slot, category);
+        return cell >= 0 ? values[cell] : Double.NaN;
+    }
+
+    /**
+     * 시간대의 예보값 (없으면 null)
+     */
+    public String getValue(int slot, String category) {
+        int cell = cellIndex(slot, category);
+        if (cell < 0) {
+            return null;
+        }
+        double number = values[cell];
+        if (!Double.isNaN(number)) {
+            return formatNumber(number);
+        }
+        return textValues.get(cell);
+    }
+
+    public String getValue(int slot, String category, String defaultValue) {
+        String value = getValue(slot, category);
+        return value != null && !value.trim().isEmpty() ? value : defaultValue;
+    }
+
+    public boolean hasValue(int slot, String category) {
+        int cell = cellIndex(slot, category);
+        return cell >= 0 && (!Double.isNaN(values[cell]) || textValues.containsKey(cell));
+    }
+
+    /**
+     * 시간대의 날씨 상태 텍스트 (강수 형태가 있으면 우선)
+     */
+    public String getCondition(int slot) {
+        return conditionText(codeAt(slot, CATEGORY_PRECIPITATION_TYPE, 0), codeAt(slot, CATEGORY_SKY, 1));
+    }
+
+    private int codeAt(int slot, String category, int defaultValue) {
+        double number = getNumber(slot, category);
+        return Double.isNaN(number) ? defaultValue : (int) number;
+    }
+
+    private int cellIndex(int slot, String category) {
+        Integer column = CATEGORY_COLUMNS.get(category);
+        if (column == null || slot < 0 || slot >= slotDates.length) {
+            return -1;
+        }
+        return slot * CATEGORY_COUNT + column;
+    }
+
+    private static String formatNumber(double number) {
+        if (number == Math.rint(number) && !Double.isInfinite(number)) {
+            return Long.toString((long) number);
+        }
+        return Double.toString(number);
+    }
+
+    /**
+     * 날짜의 최고 기온 (TMX가 없으면 시간별 기온 최댓값, 데이터가 없으면 null)
+     */
+    public Integer getMaxTemperature(String fcstDate) {
+        return getDailyTemperature(fcstDate, CATEGORY_MAX_TEMPERATURE, true);
+    }
+
+    /**
+     * 날짜의 최저 기온 (TMN이 없으면 시간별 기온 최솟값, 데이터가 없으면 null)
+     */
+    public Integer getMinTemperature(String fcstDate) {
+        return getDailyTemperature(fcstDate, CATEGORY_MIN_TEMPERATURE, false);
+    }
+
+    private Integer getDailyTemperature(String fcstDate, String dailyCategory, boolean max) {
+        int[] range = getSlotRange(fcstDate);
+        double hourlyExtreme = Double.NaN;
+        for (int slot = range[0]; slot < range[1]; slot++) {
+            double daily = getNumber(slot, dailyCategory);
+            if (!Double.isNaN(daily)) {
+                return (int) Math.round(daily);
+            }
+            double hourly = getNumber(slot, CATEGORY_TEMPERATURE);
+            if (!Double.isNaN(hourly) && (Double.isNaN(hourlyExtreme)
+                    || (max ? hourly > hourlyExtreme : hourly < hourlyExtreme))) {
+                hourlyExtreme = hourly;
+            }
+        }
+        return !Double.isNaN(hourlyExtreme) ? (int) Math.round(hourlyExtreme) : null;
+    }
+
+    /**
+     * 날짜의 시간대별 날씨를 자연스러운 문장으로 요약 (채팅 응답용)
+     *
+     * @param fcstDate  대상 날짜 (yyyyMMdd)
+     * @param startHour 이 시각 이후만 요약 (오늘이면 현재 시각)
+     * @param isToday   "현재 N시" 머리말 포함 여부
+     * @return 데이터가 없으면 null
+     */
+    public String describeDay(String fcstDate, int startHour, boolean isToday) {
+        int[] range = getSlotRange(fcstDate);
+        if (range[0] == range[1]) {
+            return null;
+        }
+
+        String startTime = String.format(Locale.US, "%02d00", startHour);
+        StringBuilder weatherInfo = new StringBuilder();
+        if (isToday) {
+            weatherInfo.append(String.format(Locale.KOREAN, "현재 %d시, ", startHour));
+        }
+
+        String prevCondition = null;
+        int prevHour = -1;
+        int sameConditionStartHour = -1;
+
+        for (int slot = range[0]; slot < range[1]; slot++) {
+            String time = slotTimes[slot];
+            if (time.compareTo(startTime) < 0) continue;
+
+            String condition = getCondition(slot);
+            int hour = Integer.parseInt(time.substring(0, 2));
+
+            if (prevCondition == null) {
+                sameConditionStartHour = hour;
+                prevCondition = condition;
+            } else if (!condition.equals(prevCondition)) {
+                if (sameConditionStartHour == prevHour) {
+                    weatherInfo.append(String.format(Locale.KOREAN, "%d시에는 %s, ", prevHour, prevCondition));
+                } else {
+                    weatherInfo.append(String.format(Locale.KOREAN, "%d시부터 %d시까지는 %s, ",
+                            sameConditionStartHour, prevHour, prevCondition));
+                }
+                sameConditionStartHour = hour;
+                prevCondition = condition;
+            }
+            prevHour = hour;
+        }
+
+        if (prevCondition != null) {
+            if (sameConditionStartHour == prevHour) {
+                weatherInfo.append(String.format(Locale.KOREAN, "%d시에는 %s 소식이 있어요", prevHour, prevCondition));
+            } else {
+                weatherInfo.append(String.format(Locale.KOREAN, "%d시부터는 %s 소식이 있어요",
+                        sameConditionStartHour, prevCondition));
+            }
+        }
+
+        Integer maxTemp = getMaxTemperature(fcstDate);
+        Integer minTemp = getMinTemperature(fcstDate);
+        if (maxTemp != null && minTemp != null) {
+            weatherInfo.append(String.format(Locale.KOREAN, ". 최고 기온 %d도, 최저 기온 %d도예요", maxTemp, minTemp));
+        }
+        return weatherInfo.toString();
+    }
+
+    /**
+     * 강수 형태(PTY)와 하늘 상태(SKY) 코드를 텍스트로 변환
+     */
+    public static String conditionText(String pty, String sky) {
+        return conditionText(parseCode(pty, 0), parseCode(sky, 1));
+    }
+
+    public static String conditionText(int ptyCode, int skyCode) {
+        if (ptyCode > 0) {
+            switch (ptyCode) {
+                case 1: return "비";
+                case 2: return "비/눈";
+                case 3: return "눈";
+                case 4: return "소나기";
+                case 5: case 6: case 7: return "진눈깨비";
+                default: return "강수";
+            }
+        }
+
+        switch (skyCode) {
+            case 1: return "맑음";
+            case 3: return "구름많음";
+            case 4: return "흐림";
+            default: return "정보 없음";
+        }
+    }
+
+    private static int parseCode(String value, int defaultValue) {
+        double number = parseNumber(value);
+        return Double.isNaN(number) ? defaultValue : (int) number;
+    }
+
+    /**
+     * 예보값을 숫자로 변환 (숫자가 아니면 NaN)
+     */
+    private static double parseNumber(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return Double.NaN;
+        }
+        // "강수없음", "적설없음" 등은 예외 없이 바로 걸러냄
+        char first = trimmed.charAt(0);
+        if (first != '-' && first != '+' && first != '.' && (first < '0' || first > '9')) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            // "1.0mm" 등 단위가 붙은 예보값
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 예보 항목을 모아 시간대 순으로 정렬된 VillageForecast 생성
+     * 응답은 보통 시간대 순으로 오므로 행을 순서대로 쌓고, 순서가 어긋난 경우에만 정렬합니다.
+     */
+    public static class Builder {
+        private final int nx;
+        private final int ny;
+        private final String baseDate;
+        private final String baseTime;
+
+        // 시간대 키(fcstDate + fcstTime) -> 행
+        private final Map<String, Row> rows = new HashMap<>();
+        private final List<String> slotKeys = new ArrayList<>();
+        private boolean sorted = true;
+        private Row lastRow;
+        private String lastKey;
+
+        public Builder(int nx, int ny, String baseDate, String baseTime) {
+            this.nx = nx;
+            this.ny = ny;
+            this.baseDate = baseDate;
+            this.baseTime = baseTime;
+        }
+
+        public Builder add(String fcstDate, String fcstTime, String category, String value) {
+            if (fcstDate == null || fcstTime == null || category == null || value == null) {
+                return this;
+            }
+            Integer column = CATEGORY_COLUMNS.get(category);
+            if (column == null) {
+                return this;
+            }
+
+            Row row = getRow(fcstDate + fcstTime);
+            // 같은 시간대/자료가 중복되면 처음 값 유지
+            if (!Double.isNaN(row.numbers[column]) || (row.texts != null && row.texts[column] != null)) {
+                return this;
+            }
+            double number = parseNumber(value);
+            if (!Double.isNaN(number)) {
+                row.numbers[column] = number;
+            } else {
+                if (row.texts == null) {
+                    row.texts = new String[CATEGORY_COUNT];
+                }
+                row.texts[column] = value;
+            }
+            return this;
+        }
+
+        private Row getRow(String key) {
+            // 같은 시간대의 항목은 연속으로 오므로 직전 행을 먼저 확인
+            if (key.equals(lastKey)) {
+                return lastRow;
+            }
+            Row row = rows.get(key);
+            if (row == null) {
+                row = new Row();
+                rows.put(key, row);
+                if (!slotKeys.isEmpty() && key.compareTo(slotKeys.get(slotKeys.size() - 1)) < 0) {
+                    sorted = false;
+                }
+                slotKeys.add(key);
+            }
+            lastKey = key;
+            lastRow = row;
+            return row;
+        }
+
+        public VillageForecast build() {
+            if (!sorted) {
+                Collections.sort(slotKeys);
+            }
+
+            int size = slotKeys.size();
+            String[] slotDates = new String[size];
+            String[] slotTimes = new String[size];
+            double[] values = new double[size * CATEGORY_COUNT];
+            Map<Integer, String> textValues = new HashMap<>();
+
+            for (int slot = 0; slot < size; slot++) {
+                String key = slotKeys.get(slot);
+                slotDates[slot] = key.substring(0, 8);
+                slotTimes[slot] = key.substring(8);
+
+                Row row = rows.get(key);
+                System.arraycopy(row.numbers, 0, values, slot * CATEGORY_COUNT, CATEGORY_COUNT);
+                if (row.texts != null) {
+                    for (int column = 0; column < CATEGORY_COUNT; column++) {
+                        if (row.texts[column] != null) {
+                            textValues.put(slot * CATEGORY_COUNT + column, row.texts[column]);
+                        }
+                    }
+                }
+            }
+            return new VillageForecast(nx, ny, baseDate, baseTime, slotDates, slotTimes, values, textValues);
+        }
+
+        private static class Row {
+            final double[] numbers = new double[CATEGORY_COUNT];
+            String[] texts;
+
+            Row() {
+                Arrays.fill(numbers, Double.NaN);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.sjoneon.cap.models.local;
+
+import com.sjoneon.cap.R;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날씨 상태 분류와 아이콘
+ * 단기예보("구름많음", "비/눈")와 중기예보("구름많고 비", "흐리고 눈") 문구를 같은 분류로 묶습니다.
+ * 예보 문구는 종류가 몇 개 안 되므로 문구별 분류 결과를 캐시해 문자열 비교를 한 번만 합니다.
+ */
+public enum WeatherCondition {
+    SUNNY(R.drawable.ic_weather_sunny),
+    CLOUDY(R.drawable.ic_weather_cloudy),
+    OVERCAST(R.drawable.ic_weather_overcast),
+    RAIN(R.drawable.ic_weather_rainy),
+    SHOWER(R.drawable.ic_weather_rainy),
+    SLEET(R.drawable.ic_weather_sleet),
+    SNOW(R.drawable.ic_weather_snowy),
+    UNKNOWN(R.drawable.ic_weather_default);
+
+    private static final Map<String, WeatherCondition> BY_TEXT = new ConcurrentHashMap<>();
+
+    private final int iconRes;
+
+    WeatherCondition(int iconRes) {
+        this.iconRes = iconRes;
+    }
+
+    public int getIconRes() {
+        return iconRes;
+    }
+
+    /**
+     * 예보 문구의 날씨 분류 (null이면 UNKNOWN)
+     */
+    public static WeatherCondition fromText(String text) {
+        if (text == null) {
+            return UNKNOWN;
+        }
+        return BY_TEXT.computeIfAbsent(text, WeatherCondition::classify);
+    }
+
+    private static WeatherCondition classify(String text) {
+        // 강수를 먼저 확인 (중기예보는 "구름많고 비", "흐리고 비/눈"처럼 하늘상태와 함께 옴)
+        if (text.contains("진눈깨비")) {
+            return SLEET;
+        }
+        if (text.contains("소나기")) {
+            return SHOWER;
+        }
+        if (text.contains("비")) {
+            return text.contains("눈") ? SLEET : RAIN;
+        }
+        if (text.contains("눈")) {
+            return SNOW;
+        }
+        if (text.contains("맑음")) {
+            return SUNNY;
+        }
+        if (text.contains("구름")) {
+            return CLOUDY;
+        }
+        // 흐림 (중기예보는 "흐리고 ...")
+        if (text.contains("흐")) {
+            return OVERCAST;
+        }
+        return UNKNOWN;
+    }
+}
@@ -3,8 +3,10 @@ package com.sjoneon.cap.models.local;
 /**
  * 주간 예보 데이터 모델 클래스
  * DB 모델로도 활용 가능하도록 설계되었습니다.
+ * 화면에 표시할 문자열과 날씨 분류는 생성할 때 한 번만 만들어 두고, 바인딩에서는 그대로 사용합니다.
  */
 public class WeeklyForecastItem {
+    private final long id;              // 날짜 키 (예: 20250729), 목록 갱신 시 항목 식별용
     private final String date;          // 날짜 (예: "7/29")
     private final String dayOfWeek;     // 요일 (예: "월요일")
     private final String amCondition;   // 오전 날씨 상태 (예: "맑음")
@@ -14,8 +16,17 @@ public class WeeklyForecastItem {
     private final int minTemp;          // 최저 기온
     private final int maxTemp;          // 최고 기온
 
-    public WeeklyForecastItem(String date, String dayOfWeek, String amCondition, String pmCondition,
+    // 표시용 (생성 시 계산)
+    private final WeatherCondition amWeather;
+    private final WeatherCondition pmWeather;
+    private final String minTempLabel;
+    private final String maxTempLabel;
+    private final String amPrecipitationLabel;
+    private final String pmPrecipitationLabel;
+
+    public WeeklyForecastItem(long id, String date, String dayOfWeek, String amCondition, String pmCondition,
                               int amPrecipitation, int pmPrecipitation, int minTemp, int maxTemp) {
+        this.id = id;
         this.date = date;
         this.dayOfWeek = dayOfWeek;
         this.amCondition = amCondition;
@@ -24,9 +35,17 @@ public class WeeklyForecastItem {
         this.pmPrecipitation = pmPrecipitation;
         this.minTemp = minTemp;
         this.maxTemp = maxTemp;
+
+        this.amWeather = WeatherCondition.fromText(amCondition);
+        this.pmWeather = WeatherCondition.fromText(pmCondition);
+        this.minTempLabel = minTemp + "°";
+        this.maxTempLabel = maxTemp + "°";
+        this.amPrecipitationLabel = "강수: " + amPrecipitation + "%";
+        this.pmPrecipitationLabel = "강수: " + pmPrecipitation + "%";
     }
 
     // Getter 메서드
+    public long getId() { return id; }
     public String getDate() { return date; }
     public String getDayOfWeek() { return dayOfWeek; }
     public String getAmCondition() { return amCondition; }
@@ -35,4 +54,24 @@ public class WeeklyForecastItem {
     public int getPmPrecipitation() { return pmPrecipitation; }
     public int getMinTemp() { return minTemp; }
     public int getMaxTemp() { return maxTemp; }
-}
\ No newline at end of file
+
+    public WeatherCondition getAmWeather() { return amWeather; }
+    public WeatherCondition getPmWeather() { return pmWeather; }
+    public String getMinTempLabel() { return minTempLabel; }
+    public String getMaxTempLabel() { return maxTempLabel; }
+    public String getAmPrecipitationLabel() { return amPrecipitationLabel; }
+    public String getPmPrecipitationLabel() { return pmPrecipitationLabel; }
+
+    /**
+     * 화면에 보이는 내용이 같은지 여부 (같은 날짜 항목끼리 비교)
+     */
+    public boolean hasSameContent(WeeklyForecastItem other) {
+        return minTemp == other.minTemp
+                && maxTemp == other.maxTemp
+                && amPrecipitation == other.amPrecipitation
+                && pmPrecipitation == other.pmPrecipitation
+                && dayOfWeek.equals(other.dayOfWeek)
+                && amCondition.equals(other.amCondition)
+                && pmCondition.equals(other.pmCondition);
+    }
+}
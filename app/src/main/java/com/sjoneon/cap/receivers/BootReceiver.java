@@ -7,6 +7,7 @@ import android.util.Log;
 
 import com.sjoneon.cap.repositories.CalendarEventRepository;
 import com.sjoneon.cap.helpers.EventAlarmManager;
+import com.sjoneon.cap.helpers.EventPrefetchScheduler;
 import com.sjoneon.cap.helpers.NotificationHelper;
 import com.sjoneon.cap.models.local.CalendarEvent;
 
@@ -28,15 +29,22 @@ public class BootReceiver extends BroadcastReceiver {
 
             Log.d(TAG, "부팅 완료 감지, 알람 복원 시작");
 
-            try {
-                // 일정 알람 복원
-                restoreEventAlarms(context);
+            // 일정 로드가 오래 걸려도 리시버 스레드가 막히지 않도록 백그라운드에서 복원
+            Context appContext = context.getApplicationContext();
+            PendingResult pendingResult = goAsync();
+            new Thread(() -> {
+                try {
+                    // 일정 알람 복원
+                    restoreEventAlarms(appContext);
 
-                Log.d(TAG, "알람 복원 완료");
+                    Log.d(TAG, "알람 복원 완료");
 
-            } catch (Exception e) {
-                Log.e(TAG, "알람 복원 중 오류 발생", e);
-            }
+                } catch (Exception e) {
+                    Log.e(TAG, "알람 복원 중 오류 발생", e);
+                } finally {
+                    pendingResult.finish();
+                }
+            }, TAG).start();
         }
     }
 
@@ -48,21 +56,21 @@ public class BootReceiver extends BroadcastReceiver {
             CalendarEventRepository repository = CalendarEventRepository.getInstance(context);
             EventAlarmManager alarmManager = new EventAlarmManager(context);
 
-            List<CalendarEvent> allEvents = repository.getAllEvents();
-
-            int restoredCount = 0;
+            // 아직 지나지 않은 일정만 시간 인덱스에서 바로 조회
             long currentTime = System.currentTimeMillis();
+            List<CalendarEvent> upcomingEvents = repository.getUpcoming(currentTime + 1, Integer.MAX_VALUE);
 
-            for (CalendarEvent event : allEvents) {
-                // 아직 지나지 않은 일정만 복원
-                if (event.getDateTime() > currentTime) {
-                    alarmManager.scheduleEventNotifications(event);
-                    restoredCount++;
-                }
+            int restoredCount = 0;
+            for (CalendarEvent event : upcomingEvents) {
+                alarmManager.scheduleEventNotifications(event);
+                restoredCount++;
             }
 
             Log.d(TAG, "총 " + restoredCount + "개의 일정 알람이 복원되었습니다");
 
+            // 복원한 일정 전체를 기준으로 미리 받기 예약은 한 번만 갱신
+            EventPrefetchScheduler.reschedule(context);
+
             // 복원 완료 알림 (선택사항)
             if (restoredCount > 0) {
                 NotificationHelper notificationHelper = new NotificationHelper(context);
@@ -1,32 +1,65 @@
 package com.sjoneon.cap.repositories;
 
 import android.content.Context;
-import android.content.SharedPreferences;
+import android.util.Log;
 
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
-import com.sjoneon.cap.fragments.AlarmFragment.AlarmItem;
+import com.sjoneon.cap.models.local.AlarmItem;
+import com.sjoneon.cap.utils.ModelCodecs;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 알람 데이터를 영구 저장하는 저장소 클래스
+ * 알람은 레코드 단위로 로컬 DB에 저장되며, 첫 접근 시점에 메모리로 로드됩니다.
+ * 앱 시작 시 preload()로 백그라운드에서 미리 로드하며, 화면은 whenReady() 이후에 조회해야 메인 스레드가 막히지 않습니다.
  */
 public class AlarmRepository {
+    private static final String TAG = "AlarmRepository";
+
+    // 기존 SharedPreferences 저장 위치 (마이그레이션용)
     private static final String PREFS_NAME = "alarm_prefs";
     private static final String KEY_ALARMS = "alarms";
 
+    private static final String STORE_NAME = "alarms";
+
     private static AlarmRepository instance;
     private final Context context;
+    private final RecordStore<AlarmItem> store;
+
+    // 첫 접근 전까지 null (지연 로드)
     private List<AlarmItem> alarms;
-    private final Gson gson;
+    private Map<Integer, AlarmItem> alarmsById;
+
+    private final ReadySignal readySignal = new ReadySignal();
+    // 잠금 없이 읽는 전체 알람 스냅샷 (변경되면 null, 다음 조회 시 다시 생성)
+    private volatile List<AlarmItem> snapshot;
 
     private AlarmRepository(Context context) {
         this.context = context.getApplicationContext();
-        this.gson = new Gson();
-        loadAlarms();
+        this.store = new RecordStore<>(this.context, STORE_NAME, AlarmItem.class,
+                new RecordStore.KeyMapper<AlarmItem>() {
+                    @Override
+                    public long getRecordId(AlarmItem alarm) {
+                        return alarm.getId();
+                    }
+
+                    @Override
+                    public long getSortKey(AlarmItem alarm) {
+                        // 알람은 추가된 순서를 유지 (같은 정렬 키 내에서는 저장 순)
+                        return 0;
+                    }
+
+                    @Override
+                    public String getSecondaryKey(AlarmItem alarm) {
+                        return alarm.getServerId() != null ? String.valueOf(alarm.getServerId()) : null;
+                    }
+                }, ModelCodecs.ALARM);
     }
 
     public static synchronized AlarmRepository getInstance(Context context) {
@@ -37,71 +70,146 @@ public class AlarmRepository {
     }
 
     /**
-     * SharedPreferences에서 알람 로드
+     * 저장된 알람 로드 (최초 1회, 기존 SharedPreferences 데이터는 DB로 이전)
      */
-    private void loadAlarms() {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        String json = prefs.getString(KEY_ALARMS, null);
+    private void ensureLoaded() {
+        if (alarms != null) {
+            return;
+        }
 
-        if (json != null) {
-            Type type = new TypeToken<ArrayList<AlarmItem>>() {}.getType();
-            alarms = gson.fromJson(json, type);
-        } else {
-            alarms = new ArrayList<>();
+        Type type = new TypeToken<ArrayList<AlarmItem>>() {}.getType();
+        store.migrateFromPreferences(context, PREFS_NAME, KEY_ALARMS, type);
+
+        alarms = store.loadAll();
+        alarmsById = new HashMap<>();
+        for (AlarmItem alarm : alarms) {
+            alarmsById.put(alarm.getId(), alarm);
+        }
+        Log.d(TAG, "알람 " + alarms.size() + "개 로드 완료");
+        readySignal.markReady();
+    }
+
+    /**
+     * 백그라운드에서 저장된 알람 미리 로드
+     */
+    public void preload() {
+        if (readySignal.isReady()) {
+            return;
+        }
+        LocalStorage.runInBackground(() -> {
+            synchronized (AlarmRepository.this) {
+                ensureLoaded();
+            }
+        });
+    }
+
+    /**
+     * 로드가 끝났는지 여부 (true이면 조회가 디스크 읽기 없이 바로 끝남)
+     */
+    public boolean isReady() {
+        return readySignal.isReady();
+    }
+
+    /**
+     * 로드가 끝나면 메인 스레드에서 callback 실행 (이미 로드됐으면 바로 실행)
+     */
+    public void whenReady(Runnable callback) {
+        readySignal.whenReady(callback);
+        preload();
+    }
+
+    /**
+     * 전체 알람 스냅샷 (추가 순, 수정 불가)
+     * 로드 전에는 빈 목록을 반환하며 로드를 기다리지 않습니다.
+     */
+    public List<AlarmItem> getSnapshot() {
+        if (!readySignal.isReady()) {
+            return Collections.emptyList();
+        }
+
+        List<AlarmItem> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = Collections.unmodifiableList(new ArrayList<>(alarms));
+                }
+                current = snapshot;
+            }
         }
+        return current;
+    }
+
+    /**
+     * 일괄 작업 시작
+     * endBatch()까지의 변경은 한 번에 기록됩니다. 반드시 finally에서 endBatch()를 호출해야 합니다.
+     */
+    public void beginBatch() {
+        store.beginBatch();
     }
 
     /**
-     * SharedPreferences에 알람 저장
+     * 일괄 작업 종료 (모인 알람 변경을 한 트랜잭션으로 기록)
      */
-    private void saveAlarms() {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        String json = gson.toJson(alarms);
-        editor.putString(KEY_ALARMS, json);
-        editor.apply();
+    public void endBatch() {
+        store.endBatch();
     }
 
     /**
      * 알람 추가
      */
     public synchronized void addAlarm(AlarmItem alarm) {
-        alarms.add(alarm);
-        saveAlarms();
+        ensureLoaded();
+        AlarmItem existing = alarmsById.put(alarm.getId(), alarm);
+        if (existing != null) {
+            // 같은 ID는 하나의 레코드로 저장되므로 기존 항목을 대체
+            alarms.set(alarms.indexOf(existing), alarm);
+        } else {
+            alarms.add(alarm);
+        }
+        snapshot = null;
+        store.put(alarm);
     }
 
     /**
      * 알람 삭제
      */
     public synchronized boolean deleteAlarm(int alarmId) {
-        for (int i = 0; i < alarms.size(); i++) {
-            if (alarms.get(i).getId() == alarmId) {
-                alarms.remove(i);
-                saveAlarms();
-                return true;
-            }
+        ensureLoaded();
+        AlarmItem existing = alarmsById.remove(alarmId);
+        if (existing == null) {
+            return false;
         }
-        return false;
+
+        alarms.remove(existing);
+        snapshot = null;
+        store.delete(alarmId);
+        return true;
     }
 
     /**
      * 알람 업데이트
      */
     public synchronized boolean updateAlarm(AlarmItem updatedAlarm) {
-        for (int i = 0; i < alarms.size(); i++) {
-            if (alarms.get(i).getId() == updatedAlarm.getId()) {
-                alarms.set(i, updatedAlarm);
-                saveAlarms();
-                return true;
-            }
+        ensureLoaded();
+        AlarmItem existing = alarmsById.get(updatedAlarm.getId());
+        if (existing == null) {
+            return false;
+        }
+
+        if (existing != updatedAlarm) {
+            alarms.set(alarms.indexOf(existing), updatedAlarm);
+            alarmsById.put(updatedAlarm.getId(), updatedAlarm);
         }
-        return false;
+        snapshot = null;
+        store.put(updatedAlarm);
+        return true;
     }
 
     /**
      * 모든 알람 가져오기
      */
     public synchronized List<AlarmItem> getAllAlarms() {
+        ensureLoaded();
         return new ArrayList<>(alarms);
     }
 
@@ -109,12 +217,8 @@ public class AlarmRepository {
      * ID로 알람 찾기
      */
     public synchronized AlarmItem getAlarmById(int alarmId) {
-        for (AlarmItem alarm : alarms) {
-            if (alarm.getId() == alarmId) {
-                return alarm;
-            }
-        }
-        return null;
+        ensureLoaded();
+        return alarmsById.get(alarmId);
     }
 
     /**
@@ -124,6 +228,7 @@ public class AlarmRepository {
         if (serverId == null) {
             return null;
         }
+        ensureLoaded();
         for (AlarmItem alarm : alarms) {
             if (serverId.equals(alarm.getServerId())) {
                 return alarm;
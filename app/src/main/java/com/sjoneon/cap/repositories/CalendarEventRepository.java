@@ -1,37 +1,86 @@
 package com.sjoneon.cap.repositories;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.util.Log;
 
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.utils.ModelCodecs;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 /**
  * 일정 데이터를 관리하는 저장소 클래스
+ * 일정은 레코드 단위로 로컬 DB에 저장되며, 첫 접근 시점에 메모리로 로드됩니다.
+ * 메모리에서는 일정 시각 순으로 정렬된 인덱스를 유지해 날짜/기간 조회를 O(log n + k)로 처리합니다.
+ * 앱 시작 시 preload()로 백그라운드에서 미리 로드하며, 화면은 whenReady() 이후에 조회해야 메인 스레드가 막히지 않습니다.
  */
 public class CalendarEventRepository {
+    private static final String TAG = "CalendarRepository";
+
+    // 기존 SharedPreferences 저장 위치 (마이그레이션용)
     private static final String PREFS_NAME = "calendar_events_prefs";
     private static final String KEY_EVENTS = "calendar_events";
 
+    private static final String STORE_NAME = "calendar_events";
+
     private static CalendarEventRepository instance;
     private final Context context;
-    private List<CalendarEvent> events;
-    private final Gson gson;
+    private final RecordStore<CalendarEvent> store;
+
+    // 첫 접근 전까지 null (지연 로드)
+    private Map<Long, CalendarEvent> eventsById;
+    private NavigableSet<TimeKey> timeIndex;
+    // 인덱스에 등록된 시각 (일정 객체가 외부에서 수정되어도 인덱스 항목을 찾을 수 있도록 보관)
+    private Map<Long, TimeKey> timeKeysById;
+
+    private final ReadySignal readySignal = new ReadySignal();
+
+    /**
+     * 시간 인덱스 항목 (일정 시각, 일정 ID 순 정렬)
+     */
+    private static final class TimeKey implements Comparable<TimeKey> {
+        final long dateTime;
+        final long eventId;
+
+        TimeKey(long dateTime, long eventId) {
+            this.dateTime = dateTime;
+            this.eventId = eventId;
+        }
+
+        @Override
+        public int compareTo(TimeKey other) {
+            int result = Long.compare(dateTime, other.dateTime);
+            return result != 0 ? result : Long.compare(eventId, other.eventId);
+        }
+    }
 
     private CalendarEventRepository(Context context) {
         this.context = context.getApplicationContext();
-        this.gson = new Gson();
-        loadEvents();
+        this.store = new RecordStore<>(this.context, STORE_NAME, CalendarEvent.class,
+                new RecordStore.KeyMapper<CalendarEvent>() {
+                    @Override
+                    public long getRecordId(CalendarEvent event) {
+                        return event.getId();
+                    }
+
+                    @Override
+                    public long getSortKey(CalendarEvent event) {
+                        return event.getDateTime();
+                    }
+
+                    @Override
+                    public String getSecondaryKey(CalendarEvent event) {
+                        return event.getServerId() != null ? String.valueOf(event.getServerId()) : null;
+                    }
+                }, ModelCodecs.CALENDAR_EVENT);
     }
 
     public static synchronized CalendarEventRepository getInstance(Context context) {
@@ -42,128 +91,191 @@ public class CalendarEventRepository {
     }
 
     /**
-     * 저장된 일정 로드
+     * 저장된 일정 로드 (최초 1회, 기존 SharedPreferences 데이터는 DB로 이전)
      */
-    private void loadEvents() {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        String json = prefs.getString(KEY_EVENTS, null);
+    private void ensureLoaded() {
+        if (eventsById != null) {
+            return;
+        }
+
+        Type type = new TypeToken<ArrayList<CalendarEvent>>() {}.getType();
+        store.migrateFromPreferences(context, PREFS_NAME, KEY_EVENTS, type);
+
+        eventsById = new HashMap<>();
+        timeIndex = new TreeSet<>();
+        timeKeysById = new HashMap<>();
+        for (CalendarEvent event : store.loadAll()) {
+            indexEvent(event);
+        }
+        Log.d(TAG, "일정 " + eventsById.size() + "개 로드 완료");
+        readySignal.markReady();
+    }
 
-        if (json != null) {
-            Type type = new TypeToken<ArrayList<CalendarEvent>>() {}.getType();
-            events = gson.fromJson(json, type);
-        } else {
-            events = new ArrayList<>();
+    /**
+     * 백그라운드에서 저장된 일정 미리 로드
+     */
+    public void preload() {
+        if (readySignal.isReady()) {
+            return;
         }
+        LocalStorage.runInBackground(() -> {
+            synchronized (CalendarEventRepository.this) {
+                ensureLoaded();
+            }
+        });
     }
 
     /**
-     * 일정 저장
+     * 로드가 끝났는지 여부 (true이면 조회가 디스크 읽기 없이 바로 끝남)
      */
-    private void saveEvents() {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        SharedPreferences.Editor editor = prefs.edit();
-        String json = gson.toJson(events);
-        editor.putString(KEY_EVENTS, json);
-        editor.apply();
+    public boolean isReady() {
+        return readySignal.isReady();
     }
 
     /**
-     * 특정 날짜의 일정 가져오기 (수정된 버전)
+     * 로드가 끝나면 메인 스레드에서 callback 실행 (이미 로드됐으면 바로 실행)
      */
-    public List<CalendarEvent> getEventsForDate(long date) {
-        List<CalendarEvent> eventsForDate = new ArrayList<>();
+    public void whenReady(Runnable callback) {
+        readySignal.whenReady(callback);
+        preload();
+    }
+
+    private void indexEvent(CalendarEvent event) {
+        TimeKey key = new TimeKey(event.getDateTime(), event.getId());
+        eventsById.put(event.getId(), event);
+        timeIndex.add(key);
+        timeKeysById.put(event.getId(), key);
+    }
+
+    private void unindexEvent(long eventId) {
+        TimeKey key = timeKeysById.remove(eventId);
+        if (key != null) {
+            timeIndex.remove(key);
+        }
+        eventsById.remove(eventId);
+    }
+
+    private List<CalendarEvent> toEvents(Iterable<TimeKey> keys, int limit) {
+        List<CalendarEvent> result = new ArrayList<>();
+        for (TimeKey key : keys) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(eventsById.get(key.eventId));
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 일정 가져오기 (from 이상 to 미만, 시각 순)
+     */
+    public synchronized List<CalendarEvent> getEventsInRange(long from, long to) {
+        ensureLoaded();
+        if (from >= to) {
+            return new ArrayList<>();
+        }
+        return toEvents(timeIndex.subSet(
+                new TimeKey(from, Long.MIN_VALUE), true,
+                new TimeKey(to, Long.MIN_VALUE), false), Integer.MAX_VALUE);
+    }
 
+    /**
+     * 특정 날짜의 일정 가져오기 (시각 순)
+     */
+    public synchronized List<CalendarEvent> getEventsForDate(long date) {
         Calendar calendar = Calendar.getInstance();
         calendar.setTimeInMillis(date);
-
-        // 해당 날짜의 시작과 끝을 정확히 설정
-        calendar.set(Calendar.HOUR_OF_DAY, 0);
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
+        setToStartOfDay(calendar);
         long startOfDay = calendar.getTimeInMillis();
 
-        calendar.set(Calendar.HOUR_OF_DAY, 23);
-        calendar.set(Calendar.MINUTE, 59);
-        calendar.set(Calendar.SECOND, 59);
-        calendar.set(Calendar.MILLISECOND, 999);
-        long endOfDay = calendar.getTimeInMillis();
+        calendar.add(Calendar.DAY_OF_MONTH, 1);
+        long startOfNextDay = calendar.getTimeInMillis();
 
-        Log.d("CalendarRepository", "검색 날짜 범위: " +
-                new Date(startOfDay) + " ~ " + new Date(endOfDay));
+        List<CalendarEvent> eventsForDate = getEventsInRange(startOfDay, startOfNextDay);
+        Log.d(TAG, "총 " + eventsForDate.size() + "개 이벤트 발견");
+        return eventsForDate;
+    }
 
-        for (CalendarEvent event : events) {
-            Log.d("CalendarRepository", "이벤트 시간: " + new Date(event.getDateTime()) +
-                    ", 제목: " + event.getTitle());
+    /**
+     * 지정 시각 이후(포함) 다가오는 일정을 최대 limit개 가져오기 (시각 순)
+     */
+    public synchronized List<CalendarEvent> getUpcoming(long now, int limit) {
+        ensureLoaded();
+        return toEvents(timeIndex.tailSet(new TimeKey(now, Long.MIN_VALUE), true), limit);
+    }
 
-            if (event.getDateTime() >= startOfDay && event.getDateTime() <= endOfDay) {
-                eventsForDate.add(event);
-                Log.d("CalendarRepository", "이벤트 매칭됨: " + event.getTitle());
-            }
-        }
+    private static void setToStartOfDay(Calendar calendar) {
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+    }
 
-        Collections.sort(eventsForDate, new Comparator<CalendarEvent>() {
-            @Override
-            public int compare(CalendarEvent o1, CalendarEvent o2) {
-                return Long.compare(o1.getDateTime(), o2.getDateTime());
-            }
-        });
+    /**
+     * 일괄 작업 시작
+     * endBatch()까지의 변경은 한 번에 기록됩니다. 반드시 finally에서 endBatch()를 호출해야 합니다.
+     */
+    public void beginBatch() {
+        store.beginBatch();
+    }
 
-        Log.d("CalendarRepository", "총 " + eventsForDate.size() + "개 이벤트 발견");
-        return eventsForDate;
+    /**
+     * 일괄 작업 종료 (모인 일정 변경을 한 트랜잭션으로 기록)
+     */
+    public void endBatch() {
+        store.endBatch();
     }
 
     /**
      * 일정 추가
      */
-    public long addEvent(CalendarEvent event) {
+    public synchronized long addEvent(CalendarEvent event) {
+        ensureLoaded();
         if (event.getId() == 0 || isIdExists(event.getId())) {
             event.setId(generateUniqueId());
         }
 
-        events.add(event);
-        saveEvents();
+        indexEvent(event);
+        store.put(event);
         return event.getId();
     }
 
     /**
      * 일정 수정
      */
-    public boolean updateEvent(CalendarEvent updatedEvent) {
-        for (int i = 0; i < events.size(); i++) {
-            if (events.get(i).getId() == updatedEvent.getId()) {
-                events.set(i, updatedEvent);
-                saveEvents();
-                return true;
-            }
+    public synchronized boolean updateEvent(CalendarEvent updatedEvent) {
+        ensureLoaded();
+        if (!eventsById.containsKey(updatedEvent.getId())) {
+            return false;
         }
-        return false;
+
+        // 시각이 바뀌었을 수 있으므로 이전 인덱스 항목을 지우고 다시 등록
+        unindexEvent(updatedEvent.getId());
+        indexEvent(updatedEvent);
+        store.put(updatedEvent);
+        return true;
     }
 
     /**
      * 일정 삭제
      */
-    public boolean deleteEvent(long eventId) {
-        for (int i = 0; i < events.size(); i++) {
-            if (events.get(i).getId() == eventId) {
-                events.remove(i);
-                saveEvents();
-                return true;
-            }
+    public synchronized boolean deleteEvent(long eventId) {
+        ensureLoaded();
+        if (!eventsById.containsKey(eventId)) {
+            return false;
         }
-        return false;
+
+        unindexEvent(eventId);
+        store.delete(eventId);
+        return true;
     }
 
     /**
      * ID로 일정 찾기
      */
-    public CalendarEvent getEventById(long eventId) {
-        for (CalendarEvent event : events) {
-            if (event.getId() == eventId) {
-                return event;
-            }
-        }
-        return null;
+    public synchronized CalendarEvent getEventById(long eventId) {
+        ensureLoaded();
+        return eventsById.get(eventId);
     }
 
     /**
@@ -181,24 +293,14 @@ public class CalendarEventRepository {
      * ID 중복 확인
      */
     private boolean isIdExists(long id) {
-        for (CalendarEvent event : events) {
-            if (event.getId() == id) {
-                return true;
-            }
-        }
-        return false;
+        return eventsById.containsKey(id);
     }
 
     /**
-     * 모든 일정 가져오기
+     * 모든 일정 가져오기 (시각 순)
      */
-    public List<CalendarEvent> getAllEvents() {
-        Collections.sort(events, new Comparator<CalendarEvent>() {
-            @Override
-            public int compare(CalendarEvent o1, CalendarEvent o2) {
-                return Long.compare(o1.getDateTime(), o2.getDateTime());
-            }
-        });
-        return new ArrayList<>(events);
+    public synchronized List<CalendarEvent> getAllEvents() {
+        ensureLoaded();
+        return toEvents(timeIndex, Integer.MAX_VALUE);
     }
 }
\ No newline at end of file
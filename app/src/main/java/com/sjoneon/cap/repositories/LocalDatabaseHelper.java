@@ -0,0 +1,72 @@
+package com.sjoneon.cap.repositories;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+/**
+ * 로컬 레코드 저장소용 SQLite 헬퍼
+ * 일정/알람/알림 저장소가 하나의 records 테이블을 store 이름으로 구분해 레코드 단위로 저장합니다.
+ */
+class LocalDatabaseHelper extends SQLiteOpenHelper {
+    private static final String DATABASE_NAME = "daysync_local.db";
+    private static final int DATABASE_VERSION = 3;
+
+    static final String TABLE_RECORDS = "records";
+    static final String COLUMN_STORE = "store";
+    static final String COLUMN_RECORD_ID = "record_id";
+    static final String COLUMN_SORT_KEY = "sort_key";
+    static final String COLUMN_SECONDARY_KEY = "secondary_key";
+    static final String COLUMN_PAYLOAD = "payload";
+    // 바이너리 코덱을 쓰는 저장소의 레코드 (버전 2부터, 이 값이 있으면 payload는 빈 문자열)
+    static final String COLUMN_PAYLOAD_BLOB = "payload_blob";
+
+    private static LocalDatabaseHelper instance;
+
+    private LocalDatabaseHelper(Context context) {
+        super(context.getApplicationContext(), DATABASE_NAME, null, DATABASE_VERSION);
+        // 읽기와 쓰기가 서로 막지 않도록 WAL 모드 사용
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    static synchronized LocalDatabaseHelper getInstance(Context context) {
+        if (instance == null) {
+            instance = new LocalDatabaseHelper(context);
+        }
+        return instance;
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_RECORDS + " (" +
+                COLUMN_STORE + " TEXT NOT NULL, " +
+                COLUMN_RECORD_ID + " INTEGER NOT NULL, " +
+                COLUMN_SORT_KEY + " INTEGER NOT NULL DEFAULT 0, " +
+                COLUMN_SECONDARY_KEY + " TEXT, " +
+                COLUMN_PAYLOAD + " TEXT NOT NULL, " +
+                COLUMN_PAYLOAD_BLOB + " BLOB, " +
+                "PRIMARY KEY (" + COLUMN_STORE + ", " + COLUMN_RECORD_ID + "))");
+
+        // 정렬 키 범위 조회 및 보조 키(서버 ID 등) 조회용 인덱스
+        db.execSQL("CREATE INDEX idx_records_sort ON " + TABLE_RECORDS +
+                " (" + COLUMN_STORE + ", " + COLUMN_SORT_KEY + ")");
+        db.execSQL("CREATE INDEX idx_records_secondary ON " + TABLE_RECORDS +
+                " (" + COLUMN_STORE + ", " + COLUMN_SECONDARY_KEY + ")");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        if (oldVersion < 2) {
+            // 기존 JSON 레코드는 그대로 두고 읽을 때 바이너리로 다시 기록
+            db.execSQL("ALTER TABLE " + TABLE_RECORDS + " ADD COLUMN " + COLUMN_PAYLOAD_BLOB + " BLOB");
+        }
+        if (oldVersion < 3) {
+            // 알림 레코드 키를 (표시 시각 * 31 + ID)에서 알림 ID로 변경 (보조 키에 ID가 저장되어 있음)
+            // 같은 ID가 여러 행이면 나중에 저장된 행만 남김
+            db.execSQL("UPDATE OR REPLACE " + TABLE_RECORDS +
+                    " SET " + COLUMN_RECORD_ID + " = CAST(" + COLUMN_SECONDARY_KEY + " AS INTEGER)" +
+                    " WHERE " + COLUMN_STORE + " = ? AND " + COLUMN_SECONDARY_KEY + " IS NOT NULL",
+                    new Object[]{NotificationRepository.STORE_NAME});
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sjoneon.cap.repositories;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저장소 쓰기 스케줄러
+ * 저장소의 변경은 메모리에 모였다가 짧은 대기 시간 후 백그라운드에서 한 트랜잭션으로 기록됩니다.
+ * 화면이 사라지거나 프로세스가 종료될 수 있는 시점에는 flushAll()로 남은 변경을 즉시 기록해야 합니다.
+ * 메인 스레드(생명주기 콜백)에서는 디스크 쓰기를 기다리지 않도록 flushAllAsync()를 사용합니다.
+ * 저장소의 첫 로드도 별도 백그라운드 스레드에서 수행해 메인 스레드가 디스크 읽기를 기다리지 않게 합니다.
+ */
+public final class LocalStorage {
+    // 연속된 변경을 한 번의 기록으로 모으는 대기 시간
+    static final long FLUSH_DELAY_MS = 300;
+
+    private static final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor();
+    // 저장소 첫 로드 전용 스레드 (큰 데이터 로드가 쓰기 기록을 지연시키지 않도록 분리)
+    private static final ExecutorService loadExecutor = Executors.newSingleThreadExecutor();
+    private static final List<RecordStore<?>> stores = new CopyOnWriteArrayList<>();
+
+    private LocalStorage() {
+    }
+
+    static void register(RecordStore<?> store) {
+        stores.add(store);
+    }
+
+    static void runInBackground(Runnable task) {
+        loadExecutor.execute(task);
+    }
+
+    static void scheduleFlush(RecordStore<?> store, long delayMs) {
+        flushExecutor.schedule((Runnable) store::flush, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 기록 대기 중인 모든 변경을 호출 스레드에서 즉시 기록
+     *
+     * @return 모든 저장소의 변경이 기록됐으면 true
+     */
+    public static boolean flushAll() {
+        boolean flushed = true;
+        for (RecordStore<?> store : stores) {
+            flushed &= store.flush();
+        }
+        return flushed;
+    }
+
+    /**
+     * 기록 대기 중인 모든 변경을 쓰기 스레드에서 기록
+     * 예약된 기록과 같은 스레드에서 순서대로 실행되므로 호출 스레드는 SQLite 쓰기를 기다리지 않습니다.
+     */
+    public static Future<?> flushAllAsync() {
+        return flushExecutor.submit((Runnable) LocalStorage::flushAll);
+    }
+
+    /**
+     * 기록 대기 중인 모든 변경을 쓰기 스레드에서 기록한 뒤, 모두 기록됐으면 쓰기 스레드에서 onFlushed 실행
+     * 로컬 변경이 디스크에 남은 뒤에만 진행해야 하는 작업(동기화 cursor 저장 등)에 사용합니다.
+     */
+    public static void flushAllAsync(Runnable onFlushed) {
+        flushExecutor.execute(() -> {
+            if (flushAll()) {
+                onFlushed.run();
+            }
+        });
+    }
+}
@@ -1,29 +1,93 @@
 package com.sjoneon.cap.repositories;
 
 import android.content.Context;
-import android.content.SharedPreferences;
+import android.util.Log;
 
-import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.sjoneon.cap.models.local.NotificationItem;
+import com.sjoneon.cap.utils.ModelCodecs;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 /**
  * 알림 데이터를 관리하는 저장소 클래스 (동시성 안전 버전)
+ * 알림은 레코드 단위로 로컬 DB에 저장되며, 첫 접근 시점에 메모리로 로드됩니다.
+ * 앱 시작 시 preload()로 백그라운드에서 미리 로드하며, 화면은 whenReady() 이후에 조회해야 메인 스레드가 막히지 않습니다.
+ * 메모리에서는 최신순으로 정렬된 상태를 유지하므로 페이지 조회에 정렬이 필요 없고,
+ * 보관 개수/기간을 넘은 오래된 알림은 추가/로드 시점에 정리됩니다.
  */
 public class NotificationRepository {
+    private static final String TAG = "NotificationRepository";
+
+    // 기존 SharedPreferences 저장 위치 (마이그레이션용)
     private static final String PREFS_NAME = "notification_prefs";
     private static final String KEY_NOTIFICATIONS = "notifications";
 
+    static final String STORE_NAME = "notifications";
+
+    // 보관 정책
+    private static final int MAX_NOTIFICATIONS = 500;
+    private static final long MAX_AGE_MS = 30L * 24 * 60 * 60 * 1000;
+
+    /**
+     * 최신순 정렬 (같은 시각이면 알림 ID 역순)
+     */
+    private static final Comparator<NotificationItem> NEWEST_FIRST = new Comparator<NotificationItem>() {
+        @Override
+        public int compare(NotificationItem o1, NotificationItem o2) {
+            int result = Long.compare(o2.getTimestamp(), o1.getTimestamp());
+            return result != 0 ? result : Long.compare(getRecordKey(o2), getRecordKey(o1));
+        }
+    };
+
     private static NotificationRepository instance;
     private final Context context;
-    private List<NotificationItem> notifications;
-    private final Gson gson;
+    private final RecordStore<NotificationItem> store;
+
+    // 첫 접근 전까지 null (지연 로드)
+    private NavigableSet<NotificationItem> notifications;
+    private Map<Long, NotificationItem> notificationsByKey;
+    // 읽지 않은 알림 개수 (변경 시마다 갱신)
+    private int unreadCount;
+
+    private final ReadySignal readySignal = new ReadySignal();
+
+    /**
+     * 알림 한 페이지
+     */
+    public static class Page {
+        private final List<NotificationItem> items;
+        private final Long nextCursor;
+
+        Page(List<NotificationItem> items, Long nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        /**
+         * 페이지 알림 목록 (최신순, 저장소와 분리된 복사본)
+         * @return 알림 목록
+         */
+        public List<NotificationItem> getItems() {
+            return items;
+        }
+
+        /**
+         * 다음 페이지 조회에 넘길 cursor
+         * @return 다음 페이지 cursor (마지막 페이지면 null)
+         */
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+    }
 
     /**
      * 생성자 (private - 싱글톤 패턴)
@@ -31,8 +95,31 @@ public class NotificationRepository {
      */
     private NotificationRepository(Context context) {
         this.context = context.getApplicationContext();
-        this.gson = new Gson();
-        loadNotifications();
+        this.store = new RecordStore<>(this.context, STORE_NAME, NotificationItem.class,
+                new RecordStore.KeyMapper<NotificationItem>() {
+                    @Override
+                    public long getRecordId(NotificationItem notification) {
+                        return getRecordKey(notification);
+                    }
+
+                    @Override
+                    public long getSortKey(NotificationItem notification) {
+                        return notification.getTimestamp();
+                    }
+
+                    @Override
+                    public String getSecondaryKey(NotificationItem notification) {
+                        return String.valueOf(notification.getId());
+                    }
+                }, ModelCodecs.NOTIFICATION);
+    }
+
+    /**
+     * 알림 레코드 키 (알림 ID, 표시 시각은 정렬 키로만 사용)
+     * 같은 ID의 알림이 다시 표시되면 기존 항목을 대체합니다.
+     */
+    private static long getRecordKey(NotificationItem notification) {
+        return notification.getId();
     }
 
     /**
@@ -48,73 +135,178 @@ public class NotificationRepository {
     }
 
     /**
-     * 저장된 알림 로드
+     * 저장된 알림 로드 (최초 1회, 기존 SharedPreferences 데이터는 DB로 이전)
      */
-    private synchronized void loadNotifications() {
-        try {
-            SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-            String json = prefs.getString(KEY_NOTIFICATIONS, null);
-
-            if (json != null) {
-                Type type = new TypeToken<ArrayList<NotificationItem>>() {}.getType();
-                notifications = gson.fromJson(json, type);
+    private synchronized void ensureLoaded() {
+        if (notifications != null) {
+            return;
+        }
 
-                // null 체크
-                if (notifications == null) {
-                    notifications = new ArrayList<>();
-                }
-            } else {
-                notifications = new ArrayList<>();
+        notifications = new TreeSet<>(NEWEST_FIRST);
+        notificationsByKey = new HashMap<>();
+        unreadCount = 0;
+        try {
+            Type type = new TypeToken<ArrayList<NotificationItem>>() {}.getType();
+            store.migrateFromPreferences(context, PREFS_NAME, KEY_NOTIFICATIONS, type);
+            for (NotificationItem notification : store.loadAll()) {
+                index(notification);
             }
+            compact();
         } catch (Exception e) {
-            // 예외 발생 시 빈 리스트로 초기화
-            notifications = new ArrayList<>();
+            // 예외 발생 시 빈 목록으로 초기화
+            e.printStackTrace();
+            notifications.clear();
+            notificationsByKey.clear();
+            unreadCount = 0;
+        }
+        readySignal.markReady();
+    }
+
+    /**
+     * 백그라운드에서 저장된 알림 미리 로드
+     */
+    public void preload() {
+        if (readySignal.isReady()) {
+            return;
         }
+        LocalStorage.runInBackground(this::ensureLoaded);
     }
 
     /**
-     * 알림 저장
+     * 로드가 끝났는지 여부 (true이면 조회가 디스크 읽기 없이 바로 끝남)
      */
-    private synchronized void saveNotifications() {
+    public boolean isReady() {
+        return readySignal.isReady();
+    }
+
+    /**
+     * 로드가 끝나면 메인 스레드에서 callback 실행 (이미 로드됐으면 바로 실행)
+     */
+    public void whenReady(Runnable callback) {
+        readySignal.whenReady(callback);
+        preload();
+    }
+
+    // ================================================================================================
+    // 인덱스/보관 정책
+    // ================================================================================================
+
+    private void index(NotificationItem notification) {
+        // 같은 레코드 키는 하나의 항목으로 대체
+        NotificationItem previous = notificationsByKey.get(getRecordKey(notification));
+        if (previous != null) {
+            unindex(previous);
+        }
+        notificationsByKey.put(getRecordKey(notification), notification);
+        notifications.add(notification);
+        if (!notification.isRead()) {
+            unreadCount++;
+        }
+    }
+
+    private void unindex(NotificationItem notification) {
+        notifications.remove(notification);
+        notificationsByKey.remove(getRecordKey(notification));
+        if (!notification.isRead()) {
+            unreadCount--;
+        }
+    }
+
+    /**
+     * 보관 개수/기간을 넘은 오래된 알림 정리
+     * @return 정리된 알림 개수
+     */
+    private int compact() {
+        long cutoff = System.currentTimeMillis() - MAX_AGE_MS;
+        List<NotificationItem> expired = new ArrayList<>();
+
+        // 가장 오래된 알림부터 확인
+        Iterator<NotificationItem> iterator = notifications.descendingIterator();
+        int remaining = notifications.size();
+        while (iterator.hasNext()) {
+            NotificationItem oldest = iterator.next();
+            if (remaining <= MAX_NOTIFICATIONS && oldest.getTimestamp() >= cutoff) {
+                break;
+            }
+            expired.add(oldest);
+            remaining--;
+        }
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        store.beginBatch();
         try {
-            SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-            SharedPreferences.Editor editor = prefs.edit();
-            String json = gson.toJson(notifications);
-            editor.putString(KEY_NOTIFICATIONS, json);
-            editor.apply();
-        } catch (Exception e) {
-            // 저장 실패 시 로그만 출력 (실제 앱에서는 로깅 라이브러리 사용 권장)
-            e.printStackTrace();
+            for (NotificationItem notification : expired) {
+                unindex(notification);
+                store.delete(getRecordKey(notification));
+            }
+        } finally {
+            store.endBatch();
         }
+        Log.d(TAG, "오래된 알림 " + expired.size() + "개 정리");
+        return expired.size();
     }
 
+    // ================================================================================================
+    // 조회
+    // ================================================================================================
+
     /**
      * 모든 알림 가져오기 (동시성 안전 버전)
      * @return 알림 목록 복사본 (최신순)
      */
     public synchronized List<NotificationItem> getAllNotifications() {
         try {
-            if (notifications == null) {
-                notifications = new ArrayList<>();
-            }
+            ensureLoaded();
+            // 이미 최신순으로 정렬되어 있으므로 복사만 수행
+            return new ArrayList<>(notifications);
+        } catch (Exception e) {
+            return new ArrayList<>(); // 예외 발생 시 빈 리스트 반환
+        }
+    }
 
-            // 원본 리스트의 복사본을 생성하여 반환
-            List<NotificationItem> copyList = new ArrayList<>(notifications);
+    /**
+     * 알림 한 페이지 조회 (최신순)
+     * 같은 시각의 알림은 페이지 경계에서 나뉘지 않으므로 limit보다 조금 많을 수 있습니다.
+     * @param before 이 시각보다 이전 알림만 조회 (null이면 가장 최신부터)
+     * @param limit 최대 개수
+     * @return 알림 페이지 (항목은 복사본이므로 화면에서 변경 비교에 그대로 사용 가능)
+     */
+    public synchronized Page loadPage(Long before, int limit) {
+        try {
+            ensureLoaded();
 
-            // 시간 역순으로 정렬 (최신 알림이 먼저 표시되도록)
-            Collections.sort(copyList, new Comparator<NotificationItem>() {
-                @Override
-                public int compare(NotificationItem o1, NotificationItem o2) {
-                    return Long.compare(o2.getTimestamp(), o1.getTimestamp());
+            Iterable<NotificationItem> source = notifications;
+            if (before != null) {
+                // before 시각의 알림 중 가장 뒤(알림 ID 최소) 항목보다 뒤쪽
+                NotificationItem boundary = new NotificationItem(Integer.MIN_VALUE, null, null, before, true);
+                source = notifications.tailSet(boundary, false);
+            }
+
+            List<NotificationItem> items = new ArrayList<>();
+            long lastTimestamp = Long.MIN_VALUE;
+            boolean hasMore = false;
+            for (NotificationItem notification : source) {
+                if (items.size() >= limit && notification.getTimestamp() != lastTimestamp) {
+                    hasMore = true;
+                    break;
                 }
-            });
+                items.add(new NotificationItem(notification));
+                lastTimestamp = notification.getTimestamp();
+            }
 
-            return copyList;
+            return new Page(items, hasMore ? lastTimestamp : null);
         } catch (Exception e) {
-            return new ArrayList<>(); // 예외 발생 시 빈 리스트 반환
+            return new Page(new ArrayList<>(), null);
         }
     }
 
+    // ================================================================================================
+    // 변경
+    // ================================================================================================
+
     /**
      * 새 알림 추가
      * @param notification 추가할 알림
@@ -122,13 +314,13 @@ public class NotificationRepository {
      */
     public synchronized boolean addNotification(NotificationItem notification) {
         try {
-            if (notifications == null) {
-                notifications = new ArrayList<>();
-            }
-
             if (notification != null) {
-                notifications.add(notification);
-                saveNotifications();
+                // 아직 로드 전이면 기록만 예약 (로드 시 대기 중인 변경도 반영되므로 목록에 포함됨)
+                if (notifications != null) {
+                    index(notification);
+                    compact();
+                }
+                store.put(notification);
                 return true;
             }
             return false;
@@ -144,18 +336,9 @@ public class NotificationRepository {
      */
     public synchronized boolean deleteNotification(int id) {
         try {
-            if (notifications == null) {
-                return false;
-            }
-
-            for (int i = 0; i < notifications.size(); i++) {
-                if (notifications.get(i).getId() == id) {
-                    notifications.remove(i);
-                    saveNotifications();
-                    return true;
-                }
-            }
-            return false; // 해당 ID의 알림을 찾지 못함
+            ensureLoaded();
+            NotificationItem existing = notificationsByKey.get((long) id);
+            return existing != null && delete(existing); // 없으면 해당 ID의 알림을 찾지 못함
         } catch (Exception e) {
             // 예외 발생 시 로그 출력 후 false 반환
             e.printStackTrace();
@@ -163,6 +346,28 @@ public class NotificationRepository {
         }
     }
 
+    /**
+     * 특정 알림 삭제
+     * @param notification 삭제할 알림 (loadPage 결과의 복사본도 가능)
+     * @return 삭제 성공 여부
+     */
+    public synchronized boolean deleteNotification(NotificationItem notification) {
+        try {
+            ensureLoaded();
+            NotificationItem existing = notificationsByKey.get(getRecordKey(notification));
+            return existing != null && delete(existing);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private boolean delete(NotificationItem notification) {
+        unindex(notification);
+        store.delete(getRecordKey(notification));
+        return true;
+    }
+
     /**
      * 알림 읽음 처리 (동시성 안전 버전)
      * @param id 알림 ID
@@ -170,47 +375,70 @@ public class NotificationRepository {
      */
     public synchronized boolean markAsRead(int id) {
         try {
-            if (notifications == null) {
-                return false;
+            ensureLoaded();
+            NotificationItem existing = notificationsByKey.get((long) id);
+            if (existing == null) {
+                return false; // 해당 ID의 알림을 찾지 못함
             }
+            markRead(existing);
+            return true;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
 
-            for (NotificationItem notification : notifications) {
-                if (notification.getId() == id) {
-                    notification.setRead(true);
-                    saveNotifications();
-                    return true;
-                }
+    /**
+     * 특정 알림 읽음 처리
+     * @param notification 읽음 처리할 알림 (loadPage 결과의 복사본도 가능)
+     * @return 처리 성공 여부
+     */
+    public synchronized boolean markAsRead(NotificationItem notification) {
+        try {
+            ensureLoaded();
+            NotificationItem existing = notificationsByKey.get(getRecordKey(notification));
+            if (existing == null) {
+                return false;
             }
-            return false; // 해당 ID의 알림을 찾지 못함
+            markRead(existing);
+            return true;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
         }
     }
 
+    private void markRead(NotificationItem notification) {
+        if (!notification.isRead()) {
+            notification.setRead(true);
+            unreadCount--;
+        }
+        store.put(notification);
+    }
+
     /**
      * 모든 알림 읽음 처리
      * @return 처리 성공 여부
      */
     public synchronized boolean markAllAsRead() {
         try {
-            if (notifications == null || notifications.isEmpty()) {
-                return false;
+            ensureLoaded();
+            if (unreadCount == 0) {
+                return false; // 읽지 않은 알림이 없었음
             }
 
-            boolean hasUnread = false;
+            List<NotificationItem> changed = new ArrayList<>();
             for (NotificationItem notification : notifications) {
                 if (!notification.isRead()) {
                     notification.setRead(true);
-                    hasUnread = true;
+                    changed.add(notification);
                 }
             }
 
-            if (hasUnread) {
-                saveNotifications();
-                return true;
-            }
-            return false; // 읽지 않은 알림이 없었음
+            // 읽음 처리된 알림만 하나의 트랜잭션으로 저장
+            unreadCount = 0;
+            store.putAll(changed);
+            return true;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
@@ -218,22 +446,13 @@ public class NotificationRepository {
     }
 
     /**
-     * 읽지 않은 알림 개수
+     * 읽지 않은 알림 개수 (O(1))
      * @return 읽지 않은 알림 개수
      */
     public synchronized int getUnreadCount() {
         try {
-            if (notifications == null) {
-                return 0;
-            }
-
-            int count = 0;
-            for (NotificationItem notification : notifications) {
-                if (!notification.isRead()) {
-                    count++;
-                }
-            }
-            return count;
+            ensureLoaded();
+            return unreadCount;
         } catch (Exception e) {
             return 0;
         }
@@ -245,12 +464,12 @@ public class NotificationRepository {
      */
     public synchronized boolean clearAllNotifications() {
         try {
-            if (notifications != null) {
-                notifications.clear();
-                saveNotifications();
-                return true;
-            }
-            return false;
+            ensureLoaded();
+            notifications.clear();
+            notificationsByKey.clear();
+            unreadCount = 0;
+            store.deleteAll();
+            return true;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
@@ -264,18 +483,10 @@ public class NotificationRepository {
      */
     public synchronized boolean hasNotification(int id) {
         try {
-            if (notifications == null) {
-                return false;
-            }
-
-            for (NotificationItem notification : notifications) {
-                if (notification.getId() == id) {
-                    return true;
-                }
-            }
-            return false;
+            ensureLoaded();
+            return notificationsByKey.containsKey((long) id);
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
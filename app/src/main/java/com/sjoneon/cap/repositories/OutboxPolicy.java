@@ -0,0 +1,75 @@
+package com.sjoneon.cap.repositories;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sjoneon.cap.models.local.OutboxEntry;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 요청 합치기/재시도 규칙 (SyncOutbox에서 사용)
+ */
+final class OutboxPolicy {
+
+    // 재시도 대기 시간 (실패할 때마다 두 배, 최대 5분)
+    static final long RETRY_BASE_DELAY_MS = 5 * 1000;
+    static final long RETRY_MAX_DELAY_MS = 5 * 60 * 1000;
+
+    /**
+     * 아직 보내지 않은 요청에 새 요청이 들어왔을 때의 처리
+     */
+    enum Coalesce {
+        MERGE,      // 기존 요청 본문에 새 요청 필드를 덮어씀 (생성+수정, 수정+수정)
+        TO_DELETE,  // 기존 요청을 삭제 요청으로 바꿈 (수정+삭제)
+        CANCEL,     // 기존 요청을 취소하고 아무것도 보내지 않음 (생성+삭제)
+        NONE        // 합치지 않고 새 요청을 따로 등록
+    }
+
+    private OutboxPolicy() {}
+
+    static Coalesce coalesce(String previousOperation, String operation) {
+        if (OutboxEntry.OP_UPDATE.equals(operation)
+                && (OutboxEntry.OP_CREATE.equals(previousOperation) || OutboxEntry.OP_UPDATE.equals(previousOperation))) {
+            return Coalesce.MERGE;
+        }
+
+        if (OutboxEntry.OP_DELETE.equals(operation)) {
+            if (OutboxEntry.OP_CREATE.equals(previousOperation)) {
+                // 서버에 만들어지기 전에 삭제됨 → 보낼 것이 없음
+                return Coalesce.CANCEL;
+            }
+            if (OutboxEntry.OP_UPDATE.equals(previousOperation)) {
+                return Coalesce.TO_DELETE;
+            }
+        }
+        return Coalesce.NONE;
+    }
+
+    /**
+     * 수정 요청 필드를 기존 요청 본문에 덮어쓰기 (생성/수정 요청은 같은 필드 이름을 사용)
+     */
+    static String mergePayload(String basePayload, String updatePayload) {
+        if (basePayload == null) {
+            return updatePayload;
+        }
+        if (updatePayload == null) {
+            return basePayload;
+        }
+
+        JsonObject merged = JsonParser.parseString(basePayload).getAsJsonObject();
+        JsonObject update = JsonParser.parseString(updatePayload).getAsJsonObject();
+        for (Map.Entry<String, JsonElement> field : update.entrySet()) {
+            merged.add(field.getKey(), field.getValue());
+        }
+        return merged.toString();
+    }
+
+    /**
+     * 연속 실패 횟수에 따른 재시도 대기 시간
+     */
+    static long retryDelayMs(int consecutiveFailures) {
+        int doublings = Math.min(Math.max(consecutiveFailures - 1, 0), 16);
+        return Math.min(RETRY_MAX_DELAY_MS, RETRY_BASE_DELAY_MS << doublings);
+    }
+}
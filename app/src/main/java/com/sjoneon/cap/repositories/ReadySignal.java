@@ -0,0 +1,51 @@
+package com.sjoneon.cap.repositories;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장소 로드 완료 신호
+ * 로드 전에 등록된 콜백은 로드가 끝난 뒤, 로드 후에 등록된 콜백은 바로 메인 스레드에서 실행됩니다.
+ */
+final class ReadySignal {
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final List<Runnable> pendingCallbacks = new ArrayList<>();
+    private volatile boolean ready;
+
+    boolean isReady() {
+        return ready;
+    }
+
+    void whenReady(Runnable callback) {
+        synchronized (pendingCallbacks) {
+            if (!ready) {
+                pendingCallbacks.add(callback);
+                return;
+            }
+        }
+        mainHandler.post(callback);
+    }
+
+    /**
+     * 로드 완료 알림 (두 번째 호출부터는 무시)
+     */
+    void markReady() {
+        List<Runnable> callbacks;
+        synchronized (pendingCallbacks) {
+            if (ready) {
+                return;
+            }
+            ready = true;
+            callbacks = new ArrayList<>(pendingCallbacks);
+            pendingCallbacks.clear();
+        }
+
+        for (Runnable callback : callbacks) {
+            mainHandler.post(callback);
+        }
+    }
+}
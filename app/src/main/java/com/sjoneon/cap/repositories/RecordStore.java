@@ -0,0 +1,410 @@
+package com.sjoneon.cap.repositories;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sjoneon.cap.utils.BinaryCodec;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레코드 단위 로컬 저장소
+ * 레코드 하나를 한 행(JSON)으로 저장하므로 변경 1건의 쓰기 비용이 전체 데이터 크기와 무관합니다.
+ * 기본 키(record_id), 정렬 키(sort_key), 보조 키(secondary_key) 인덱스를 제공합니다.
+ * 쓰기는 레코드 ID별로 모았다가 LocalStorage 스케줄러가 한 트랜잭션으로 기록합니다.
+ * 조회는 기록을 기다리지 않고 DB 결과에 아직 기록되지 않은 변경을 메모리에서 덧씌워 반환합니다.
+ * 바이너리 코덱이 주어지면 레코드를 JSON 대신 코덱 형식으로 저장하고, 기존 JSON 레코드는 읽을 때 변환합니다.
+ */
+class RecordStore<T> {
+    private static final String TAG = "RecordStore";
+
+    private static final String SELECTION_STORE = LocalDatabaseHelper.COLUMN_STORE + " = ?";
+    private static final String SELECTION_RECORD = SELECTION_STORE + " AND " +
+            LocalDatabaseHelper.COLUMN_RECORD_ID + " = ?";
+    private static final String ORDER_BY_SORT_KEY = LocalDatabaseHelper.COLUMN_SORT_KEY + ", rowid";
+
+    // 파싱할 수 없는 기존 SharedPreferences 데이터를 보존하는 키 접미사
+    private static final String LEGACY_BACKUP_SUFFIX = "_backup";
+
+    /**
+     * 레코드에서 저장용 키를 추출하는 인터페이스
+     */
+    interface KeyMapper<T> {
+        long getRecordId(T record);
+
+        long getSortKey(T record);
+
+        String getSecondaryKey(T record);
+    }
+
+    private final LocalDatabaseHelper dbHelper;
+    private final String storeName;
+    private final Class<T> recordClass;
+    private final KeyMapper<T> keyMapper;
+    // null이면 JSON 저장
+    private final BinaryCodec<T> codec;
+    private final Gson gson;
+
+    // 기록 순서를 보장하기 위한 락 (대기 목록 교체 후 DB 기록까지 보호)
+    private final Object flushLock = new Object();
+    // 기록 대기 중인 변경 (값이 null이면 삭제)
+    private Map<Long, T> pendingWrites = new LinkedHashMap<>();
+    private boolean pendingDeleteAll;
+    // 기록 중인 변경 (DB 트랜잭션이 끝날 때까지 조회 결과에 반영)
+    private Map<Long, T> flushingWrites = Collections.emptyMap();
+    private boolean flushingDeleteAll;
+    private boolean flushScheduled;
+    private int batchDepth;
+
+    RecordStore(Context context, String storeName, Class<T> recordClass, KeyMapper<T> keyMapper) {
+        this(context, storeName, recordClass, keyMapper, null);
+    }
+
+    RecordStore(Context context, String storeName, Class<T> recordClass, KeyMapper<T> keyMapper,
+                BinaryCodec<T> codec) {
+        this.dbHelper = LocalDatabaseHelper.getInstance(context);
+        this.storeName = storeName;
+        this.recordClass = recordClass;
+        this.keyMapper = keyMapper;
+        this.codec = codec;
+        this.gson = new Gson();
+        LocalStorage.register(this);
+    }
+
+    /**
+     * 전체 레코드 로드 (정렬 키 순, 같으면 저장 순)
+     * DB 조회 결과에 기록 중/대기 중인 변경을 덧씌워 반환합니다.
+     */
+    List<T> loadAll() {
+        // DB를 읽기 전에 복사해야 그 사이 기록이 끝난 변경도 빠지지 않음 (두 번 반영돼도 결과는 같음)
+        Map<Long, T> flushing;
+        Map<Long, T> pending;
+        boolean flushingCleared;
+        boolean pendingCleared;
+        synchronized (this) {
+            flushing = flushingWrites.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>(flushingWrites);
+            pending = pendingWrites.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>(pendingWrites);
+            flushingCleared = flushingDeleteAll;
+            pendingCleared = pendingDeleteAll;
+        }
+
+        // 레코드 ID -> 레코드 (정렬 키 순, 같으면 저장 순)
+        Map<Long, T> records = new LinkedHashMap<>();
+        // 코덱 저장소인데 JSON으로 남아 있던 레코드 (바이너리로 다시 기록)
+        Map<Long, T> legacyJsonRecords = new LinkedHashMap<>();
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        try (Cursor cursor = db.query(LocalDatabaseHelper.TABLE_RECORDS,
+                new String[]{LocalDatabaseHelper.COLUMN_RECORD_ID, LocalDatabaseHelper.COLUMN_PAYLOAD,
+                        LocalDatabaseHelper.COLUMN_PAYLOAD_BLOB},
+                SELECTION_STORE, new String[]{storeName}, null, null, ORDER_BY_SORT_KEY)) {
+
+            while (cursor.moveToNext()) {
+                long recordId = cursor.getLong(0);
+                try {
+                    T record;
+                    if (!cursor.isNull(2) && codec != null) {
+                        record = codec.decode(cursor.getBlob(2));
+                    } else {
+                        record = gson.fromJson(cursor.getString(1), recordClass);
+                        if (record != null && codec != null) {
+                            legacyJsonRecords.put(recordId, record);
+                        }
+                    }
+                    if (record != null) {
+                        records.put(recordId, record);
+                    }
+                } catch (JsonParseException | IOException e) {
+                    // 손상된 레코드 하나 때문에 전체 로드가 실패하지 않도록 건너뜀
+                    Log.w(TAG, storeName + " 레코드 파싱 실패 (ID: " + recordId + ")", e);
+                }
+            }
+        }
+
+        boolean overlaid = overlay(records, legacyJsonRecords, flushing, flushingCleared);
+        overlaid |= overlay(records, legacyJsonRecords, pending, pendingCleared);
+
+        if (!legacyJsonRecords.isEmpty()) {
+            Log.i(TAG, storeName + " JSON 레코드 " + legacyJsonRecords.size() + "건을 바이너리로 변환 예약");
+            putAll(legacyJsonRecords.values());
+        }
+
+        List<T> result = new ArrayList<>(records.values());
+        if (overlaid) {
+            // 안정 정렬이므로 정렬 키가 같으면 기존 행 순서, 새 레코드는 뒤 (DB 기록 후와 같은 순서)
+            result.sort(Comparator.comparingLong(keyMapper::getSortKey));
+        }
+        return result;
+    }
+
+    /**
+     * 아직 DB에 없는 변경을 조회 결과에 반영
+     * 변경된 레코드는 이미 최신이므로 JSON → 바이너리 변환 대상에서도 뺍니다.
+     *
+     * @return 결과가 바뀌었으면 true
+     */
+    private boolean overlay(Map<Long, T> records, Map<Long, T> legacyJsonRecords,
+                            Map<Long, T> writes, boolean deleteAll) {
+        if (deleteAll) {
+            records.clear();
+            legacyJsonRecords.clear();
+        }
+        for (Map.Entry<Long, T> entry : writes.entrySet()) {
+            T record = entry.getValue();
+            legacyJsonRecords.remove(entry.getKey());
+            if (record != null) {
+                // 기존 키는 자리를 유지 (UPDATE는 rowid를 바꾸지 않음)
+                records.put(entry.getKey(), record);
+            } else {
+                records.remove(entry.getKey());
+            }
+        }
+        return deleteAll || !writes.isEmpty();
+    }
+
+    /**
+     * 레코드 저장 예약 (있으면 갱신, 없으면 추가)
+     */
+    void put(T record) {
+        synchronized (this) {
+            pendingWrites.put(keyMapper.getRecordId(record), record);
+        }
+        requestFlush();
+    }
+
+    /**
+     * 여러 레코드 저장 예약 (같은 트랜잭션으로 기록됨)
+     */
+    void putAll(Collection<T> records) {
+        synchronized (this) {
+            for (T record : records) {
+                pendingWrites.put(keyMapper.getRecordId(record), record);
+            }
+        }
+        requestFlush();
+    }
+
+    /**
+     * 레코드 삭제 예약
+     */
+    void delete(long recordId) {
+        synchronized (this) {
+            pendingWrites.put(recordId, null);
+        }
+        requestFlush();
+    }
+
+    /**
+     * 이 저장소의 모든 레코드 삭제 예약
+     */
+    void deleteAll() {
+        synchronized (this) {
+            pendingWrites.clear();
+            pendingDeleteAll = true;
+        }
+        requestFlush();
+    }
+
+    /**
+     * 일괄 작업 시작 (endBatch 전까지 기록을 미룸, 중첩 가능)
+     */
+    synchronized void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * 일괄 작업 종료 (가장 바깥 범위가 끝나면 바로 기록 예약)
+     */
+    void endBatch() {
+        synchronized (this) {
+            if (batchDepth == 0) {
+                Log.w(TAG, storeName + " beginBatch 없이 endBatch 호출");
+                return;
+            }
+            batchDepth--;
+            if (batchDepth > 0 || flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        LocalStorage.scheduleFlush(this, 0);
+    }
+
+    private void requestFlush() {
+        synchronized (this) {
+            if (batchDepth > 0 || flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        LocalStorage.scheduleFlush(this, LocalStorage.FLUSH_DELAY_MS);
+    }
+
+    /**
+     * 기록 대기 중인 변경을 대기 시간 없이 쓰기 스레드에서 기록 (호출 스레드는 기다리지 않음)
+     */
+    void flushAsync() {
+        synchronized (this) {
+            if (batchDepth > 0) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        LocalStorage.scheduleFlush(this, 0);
+    }
+
+    /**
+     * 기록 대기 중인 변경을 호출 스레드에서 한 트랜잭션으로 기록
+     * 레코드는 기록 시점에 직렬화되며, 이후 변경은 저장소를 통해 다시 예약되므로 최신 상태가 남습니다.
+     *
+     * @return 대기 중이던 변경이 모두 기록됐으면 true (실패한 변경은 다음 기록 때 재시도)
+     */
+    boolean flush() {
+        synchronized (flushLock) {
+            Map<Long, T> writes;
+            boolean deleteAll;
+            synchronized (this) {
+                flushScheduled = false;
+                if (pendingWrites.isEmpty() && !pendingDeleteAll) {
+                    return true;
+                }
+                writes = pendingWrites;
+                deleteAll = pendingDeleteAll;
+                pendingWrites = new LinkedHashMap<>();
+                pendingDeleteAll = false;
+                flushingWrites = writes;
+                flushingDeleteAll = deleteAll;
+            }
+
+            try {
+                writeBatch(writes, deleteAll);
+                clearFlushing();
+                return true;
+            } catch (RuntimeException e) {
+                Log.e(TAG, storeName + " 변경 " + writes.size() + "건 기록 실패, 다음 기록 때 재시도", e);
+                requeue(writes, deleteAll);
+                return false;
+            }
+        }
+    }
+
+    private synchronized void clearFlushing() {
+        flushingWrites = Collections.emptyMap();
+        flushingDeleteAll = false;
+    }
+
+    private synchronized void requeue(Map<Long, T> failedWrites, boolean failedDeleteAll) {
+        clearFlushing();
+        // 이후 전체 삭제가 예약됐다면 실패한 변경은 의미가 없음
+        if (!pendingDeleteAll) {
+            Map<Long, T> merged = new LinkedHashMap<>(failedWrites);
+            // 실패 이후에 들어온 변경이 우선
+            merged.putAll(pendingWrites);
+            pendingWrites = merged;
+        }
+        pendingDeleteAll |= failedDeleteAll;
+    }
+
+    private void writeBatch(Map<Long, T> writes, boolean deleteAll) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            if (deleteAll) {
+                db.delete(LocalDatabaseHelper.TABLE_RECORDS, SELECTION_STORE, new String[]{storeName});
+            }
+            for (Map.Entry<Long, T> entry : writes.entrySet()) {
+                if (entry.getValue() == null) {
+                    db.delete(LocalDatabaseHelper.TABLE_RECORDS, SELECTION_RECORD,
+                            new String[]{storeName, String.valueOf(entry.getKey())});
+                } else {
+                    upsert(db, entry.getValue());
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private void upsert(SQLiteDatabase db, T record) {
+        long recordId = keyMapper.getRecordId(record);
+
+        ContentValues values = new ContentValues();
+        values.put(LocalDatabaseHelper.COLUMN_SORT_KEY, keyMapper.getSortKey(record));
+        values.put(LocalDatabaseHelper.COLUMN_SECONDARY_KEY, keyMapper.getSecondaryKey(record));
+        if (codec != null) {
+            values.put(LocalDatabaseHelper.COLUMN_PAYLOAD, "");
+            values.put(LocalDatabaseHelper.COLUMN_PAYLOAD_BLOB, codec.encode(record));
+        } else {
+            values.put(LocalDatabaseHelper.COLUMN_PAYLOAD, gson.toJson(record));
+        }
+
+        // 기존 행은 UPDATE로 갱신해 rowid(저장 순서)를 유지
+        int updated = db.update(LocalDatabaseHelper.TABLE_RECORDS, values, SELECTION_RECORD,
+                new String[]{storeName, String.valueOf(recordId)});
+
+        if (updated == 0) {
+            values.put(LocalDatabaseHelper.COLUMN_STORE, storeName);
+            values.put(LocalDatabaseHelper.COLUMN_RECORD_ID, recordId);
+            db.insertOrThrow(LocalDatabaseHelper.TABLE_RECORDS, null, values);
+        }
+    }
+
+    /**
+     * 기존 SharedPreferences JSON 목록을 한 번만 가져오고 원본 키 삭제
+     * 파싱에 실패하면 원본을 백업 키(key + "_backup")로 옮겨 두어 데이터를 잃지 않습니다.
+     *
+     * @return 가져온 레코드 수 (가져올 데이터가 없으면 0)
+     */
+    int migrateFromPreferences(Context context, String prefsName, String key, Type listType) {
+        SharedPreferences prefs = context.getSharedPreferences(prefsName, Context.MODE_PRIVATE);
+        String json = prefs.getString(key, null);
+        if (json == null) {
+            return 0;
+        }
+
+        List<T> legacyRecords;
+        try {
+            legacyRecords = gson.fromJson(json, listType);
+        } catch (JsonParseException e) {
+            Log.e(TAG, storeName + " 기존 데이터 파싱 실패, 원본을 백업 키로 보존", e);
+            prefs.edit()
+                    .putString(key + LEGACY_BACKUP_SUFFIX, json)
+                    .remove(key)
+                    .apply();
+            return 0;
+        }
+
+        int migrated = 0;
+        if (legacyRecords != null) {
+            Map<Long, T> validRecords = new LinkedHashMap<>();
+            for (T record : legacyRecords) {
+                if (record != null) {
+                    validRecords.put(keyMapper.getRecordId(record), record);
+                }
+            }
+            // 원본을 지우기 전에 기록되어야 하므로 예약하지 않고 바로 기록
+            writeBatch(validRecords, false);
+            migrated = validRecords.size();
+        }
+
+        // 저장이 끝난 뒤에만 원본 삭제 (writeBatch 실패 시 예외로 여기까지 오지 않음)
+        prefs.edit().remove(key).apply();
+        Log.i(TAG, storeName + " 기존 SharedPreferences 데이터 " + migrated + "건 마이그레이션 완료");
+        return migrated;
+    }
+}
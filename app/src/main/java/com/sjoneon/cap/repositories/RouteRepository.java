@@ -6,16 +6,29 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 
-import com.sjoneon.cap.fragments.RouteFragment;
+import com.sjoneon.cap.BuildConfig;
 import com.sjoneon.cap.models.api.RouteResponse;
 import com.sjoneon.cap.models.api.RouteSearchRequest;
 import com.sjoneon.cap.models.api.RouteSearchResponse;
 import com.sjoneon.cap.models.api.RouteSaveRequest;
+import com.sjoneon.cap.models.local.OutboxEntry;
+import com.sjoneon.cap.models.local.RouteInfo;
 import com.sjoneon.cap.services.DaySyncApiService;
+import com.sjoneon.cap.services.TagoApiService;
+import com.sjoneon.cap.services.TmapApiService;
 import com.sjoneon.cap.utils.ApiClient;
+import com.sjoneon.cap.utils.BusRideTimeModel;
+import com.sjoneon.cap.utils.RetrofitClient;
+import com.sjoneon.cap.utils.RouteCandidate;
+import com.sjoneon.cap.utils.RouteEngine;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -37,10 +50,25 @@ public class RouteRepository {
     private static final String TAG = "RouteRepository";
     private static RouteRepository instance;
 
+    // 좌표 양자화 단위 (약 100m) - 근처에서 다시 검색해도 같은 캐시 키를 사용
+    private static final double COORDINATE_QUANTUM = 0.001;
+
+    // 메모리 캐시에 보관한 검색 결과의 유효 시간
+    private static final long RECENT_ROUTE_MAX_AGE_MS = 10 * 60 * 1000;
+
+    // 일정 전에 미리 받아 둔 경로의 유효 시간 (표시할 때 실시간 도착 정보로 다시 확인)
+    private static final long PREFETCHED_ROUTE_MAX_AGE_MS = 60 * 60 * 1000;
+
     private final DaySyncApiService apiService;
     private final ExecutorService executorService;
     private final Context context;
 
+    // 최근 검색 결과 메모리 캐시 (양자화된 출발/도착 좌표 -> 경로 목록)
+    private final Map<String, RecentRoutes> recentRouteCache = new HashMap<>();
+
+    // TAGO 전체 탐색 엔진 (처음 탐색할 때 생성, 한 번에 한 탐색만 실행)
+    private RouteEngine routeEngine;
+
     private RouteRepository(Context context) {
         this.context = context.getApplicationContext();
         this.apiService = ApiClient.getDaySyncApiService();
@@ -60,24 +88,30 @@ public class RouteRepository {
     public void saveRouteToServer(
             double startLat, double startLng,
             double endLat, double endLng,
-            List<RouteFragment.RouteInfo> routes,
+            List<RouteInfo> routes,
             String userUuid,
             @NonNull SaveRouteCallback callback
     ) {
+        putRecentRoutes(startLat, startLng, endLat, endLng, routes);
+
         executorService.execute(() -> {
             try {
                 // RouteInfo를 API 형식으로 변환
                 List<RouteSaveRequest.RouteDataItem> routeDataItems = new ArrayList<>();
-                for (RouteFragment.RouteInfo route : routes) {
+                for (RouteInfo route : routes) {
                     routeDataItems.add(RouteSaveRequest.fromRouteInfo(route));
                 }
 
+                // 저장은 실제 좌표 그대로 (양자화는 검색/캐시 키에만 사용)
                 RouteSaveRequest request = new RouteSaveRequest(
                         startLat, startLng, endLat, endLng,
                         routeDataItems, userUuid
                 );
 
-                Call<RouteResponse> call = apiService.saveRoute(request);
+                // 실패해서 대기열로 넘어가도 같은 키로 재전송
+                String idempotencyKey = UUID.randomUUID().toString();
+
+                Call<RouteResponse> call = apiService.saveRoute(idempotencyKey, request);
                 call.enqueue(new Callback<RouteResponse>() {
                     @Override
                     public void onResponse(@NonNull Call<RouteResponse> call,
@@ -88,6 +122,10 @@ public class RouteRepository {
                         } else {
                             String error = "서버 응답 오류: " + response.code();
                             Log.e(TAG, error);
+                            if (response.code() >= 500) {
+                                SyncOutbox.getInstance(context).enqueueFailedRequest(
+                                        OutboxEntry.TYPE_ROUTE, request, idempotencyKey);
+                            }
                             callback.onFailure(error);
                         }
                     }
@@ -96,6 +134,9 @@ public class RouteRepository {
                     public void onFailure(@NonNull Call<RouteResponse> call, @NonNull Throwable t) {
                         String error = "네트워크 오류: " + t.getMessage();
                         Log.e(TAG, error, t);
+                        // 연결이 돌아오면 대기열에서 다시 전송
+                        SyncOutbox.getInstance(context).enqueueFailedRequest(
+                                OutboxEntry.TYPE_ROUTE, request, idempotencyKey);
                         callback.onFailure(error);
                     }
                 });
@@ -109,6 +150,7 @@ public class RouteRepository {
 
     /**
      * 서버에서 캐시된 경로 검색
+     * 근처에서 다시 검색해도 같은 결과를 찾도록 양자화한 좌표로 조회
      */
     public void searchRouteFromServer(
             double startLat, double startLng,
@@ -116,7 +158,8 @@ public class RouteRepository {
             @NonNull SearchRouteCallback callback
     ) {
         RouteSearchRequest request = new RouteSearchRequest(
-                startLat, startLng, endLat, endLng
+                quantizeCoordinate(startLat), quantizeCoordinate(startLng),
+                quantizeCoordinate(endLat), quantizeCoordinate(endLng)
         );
 
         Call<RouteSearchResponse> call = apiService.searchRoute(request);
@@ -147,6 +190,194 @@ public class RouteRepository {
         });
     }
 
+    /**
+     * 경로를 미리 받아 메모리 캐시에 넣어 둠 (백그라운드 스레드 전용, 동기 호출)
+     * 서버에 캐시된 경로가 없으면 TAGO 전체 탐색을 실행합니다.
+     * 경로 화면에서 같은 출발/도착지를 검색하면 네트워크 없이 바로 표시됩니다.
+     *
+     * @return 받은 경로 목록 (경로를 찾지 못하거나 실패하면 null)
+     */
+    public List<RouteInfo> prefetchRoutes(
+            double startLat, double startLng,
+            double endLat, double endLng
+    ) {
+        List<RouteInfo> recent = getRecentRoutes(startLat, startLng, endLat, endLng);
+        if (recent != null && !recent.isEmpty()) {
+            return recent;
+        }
+
+        List<RouteInfo> routes = fetchServerCachedRoutes(startLat, startLng, endLat, endLng);
+        if (routes == null) {
+            try {
+                routes = searchRoutes(startLat, startLng, endLat, endLng);
+            } catch (RouteEngine.SearchException e) {
+                Log.d(TAG, "미리 받을 경로 없음: " + e.getMessage());
+                return null;
+            } catch (RuntimeException e) {
+                Log.w(TAG, "경로 미리 탐색 실패", e);
+                return null;
+            }
+        }
+        if (routes.isEmpty()) {
+            return null;
+        }
+
+        synchronized (this) {
+            recentRouteCache.put(buildRouteCacheKey(startLat, startLng, endLat, endLng),
+                    new RecentRoutes(new ArrayList<>(routes), System.currentTimeMillis(),
+                            PREFETCHED_ROUTE_MAX_AGE_MS));
+        }
+        Log.i(TAG, "경로 미리 받기 완료: " + routes.size() + "개");
+        return routes;
+    }
+
+    /**
+     * 서버에 캐시된 경로 동기 조회
+     *
+     * @return 캐시된 경로가 없거나 실패하면 null
+     */
+    private List<RouteInfo> fetchServerCachedRoutes(
+            double startLat, double startLng,
+            double endLat, double endLng
+    ) {
+        RouteSearchRequest request = new RouteSearchRequest(
+                quantizeCoordinate(startLat), quantizeCoordinate(startLng),
+                quantizeCoordinate(endLat), quantizeCoordinate(endLng)
+        );
+
+        try {
+            Response<RouteSearchResponse> response = apiService.searchRoute(request).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                Log.w(TAG, "캐시 경로 조회 실패: " + response.code());
+                return null;
+            }
+            if (!response.body().isFound()) {
+                Log.d(TAG, "서버에 캐시된 경로 없음 - 전체 탐색");
+                return null;
+            }
+
+            List<RouteInfo> routes = toRouteInfoList(response.body().getRoute());
+            return routes.isEmpty() ? null : routes;
+        } catch (IOException e) {
+            Log.w(TAG, "캐시 경로 조회 네트워크 오류: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * TAGO 전체 경로 탐색 (백그라운드 스레드 전용, 동기 호출)
+     * 탐색 엔진의 노선/정류장 캐시를 공유하므로 동시에 요청되면 순서대로 실행됩니다.
+     *
+     * @return 총 소요 시간순 경로 목록 (경로가 없으면 빈 목록)
+     * @throws RouteEngine.SearchException 출발지나 도착지 근처에 정류장이 없는 경우
+     */
+    public List<RouteInfo> searchRoutes(
+            double startLat, double startLng,
+            double endLat, double endLng
+    ) throws RouteEngine.SearchException {
+        RouteEngine engine = getRouteEngine();
+        List<RouteCandidate> candidates;
+        synchronized (engine) {
+            candidates = engine.search(startLat, startLng, endLat, endLng);
+        }
+        return RouteEngine.toRouteInfoList(candidates, endLat, endLng);
+    }
+
+    private synchronized RouteEngine getRouteEngine() {
+        if (routeEngine == null) {
+            routeEngine = new RouteEngine(
+                    RetrofitClient.getTagoInstance().create(TagoApiService.class),
+                    RetrofitClient.getTmapInstance().create(TmapApiService.class),
+                    BuildConfig.TAGO_API_KEY_DECODED, BuildConfig.TMAP_API_KEY,
+                    BusRideTimeModel.getInstance(context));
+        }
+        return routeEngine;
+    }
+
+    /**
+     * RouteResponse를 RouteInfo 리스트로 변환
+     */
+    public static List<RouteInfo> toRouteInfoList(RouteResponse response) {
+        List<RouteInfo> routes = new ArrayList<>();
+
+        if (response.getRouteData() != null) {
+            for (RouteSaveRequest.RouteDataItem item : response.getRouteData()) {
+                RouteInfo routeInfo = new RouteInfo(
+                        item.getType(),
+                        item.getDuration(),
+                        item.getBusWaitTime(),
+                        item.getBusNumber(),
+                        item.getStartStopName(),
+                        item.getEndStopName()
+                );
+
+                routeInfo.setBusRideTime(item.getBusRideTime());
+                routeInfo.setWalkingTimeToStartStop(item.getWalkingTimeToStartStop());
+                routeInfo.setWalkingTimeToDestination(item.getWalkingTimeToDestination());
+                routeInfo.setDirectionInfo(item.getDirectionInfo());
+                routeInfo.setStartStopLat(item.getStartStopLat());
+                routeInfo.setStartStopLng(item.getStartStopLng());
+                routeInfo.setEndStopLat(item.getEndStopLat());
+                routeInfo.setEndStopLng(item.getEndStopLng());
+                routeInfo.setDestinationLat(item.getDestinationLat());
+                routeInfo.setDestinationLng(item.getDestinationLng());
+                routeInfo.setRouteId(item.getRouteId());
+                routeInfo.setCityCode(item.getCityCode());
+                routeInfo.setStartStopId(item.getStartStopId());
+                routeInfo.setCached(true);
+
+                routes.add(routeInfo);
+            }
+        }
+
+        return routes;
+    }
+
+    /**
+     * 메모리 캐시에서 근처 좌표의 최근 검색 결과 조회
+     *
+     * @return 유효 시간 내 결과가 없으면 null
+     */
+    public synchronized List<RouteInfo> getRecentRoutes(
+            double startLat, double startLng,
+            double endLat, double endLng
+    ) {
+        String key = buildRouteCacheKey(startLat, startLng, endLat, endLng);
+        RecentRoutes recent = recentRouteCache.get(key);
+
+        if (recent == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - recent.savedAt > recent.maxAgeMs) {
+            recentRouteCache.remove(key);
+            return null;
+        }
+        return new ArrayList<>(recent.routes);
+    }
+
+    private synchronized void putRecentRoutes(
+            double startLat, double startLng,
+            double endLat, double endLng,
+            List<RouteInfo> routes
+    ) {
+        if (routes == null || routes.isEmpty()) return;
+        recentRouteCache.put(buildRouteCacheKey(startLat, startLng, endLat, endLng),
+                new RecentRoutes(new ArrayList<>(routes), System.currentTimeMillis(), RECENT_ROUTE_MAX_AGE_MS));
+    }
+
+    private static String buildRouteCacheKey(double startLat, double startLng, double endLat, double endLng) {
+        return String.format(Locale.US, "%.3f_%.3f_%.3f_%.3f",
+                quantizeCoordinate(startLat), quantizeCoordinate(startLng),
+                quantizeCoordinate(endLat), quantizeCoordinate(endLng));
+    }
+
+    /**
+     * 좌표를 격자 단위로 양자화
+     */
+    public static double quantizeCoordinate(double value) {
+        return Math.round(value / COORDINATE_QUANTUM) * COORDINATE_QUANTUM;
+    }
+
     /**
      * 로컬 SharedPreferences에 경로 저장 (백업)
      */
@@ -181,6 +412,18 @@ public class RouteRepository {
         return new double[]{startLat, startLng, endLat, endLng};
     }
 
+    private static class RecentRoutes {
+        final List<RouteInfo> routes;
+        final long savedAt;
+        final long maxAgeMs;
+
+        RecentRoutes(List<RouteInfo> routes, long savedAt, long maxAgeMs) {
+            this.routes = routes;
+            this.savedAt = savedAt;
+            this.maxAgeMs = maxAgeMs;
+        }
+    }
+
     // 콜백 인터페이스들
     public interface SaveRouteCallback {
         void onSuccess(RouteResponse response);
@@ -0,0 +1,619 @@
+package com.sjoneon.cap.repositories;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.sjoneon.cap.models.api.AlarmRequest;
+import com.sjoneon.cap.models.api.AlarmResponse;
+import com.sjoneon.cap.models.api.AlarmUpdateRequest;
+import com.sjoneon.cap.models.api.CalendarEventRequest;
+import com.sjoneon.cap.models.api.CalendarEventResponse;
+import com.sjoneon.cap.models.api.CalendarEventUpdateRequest;
+import com.sjoneon.cap.models.api.RouteSaveRequest;
+import com.sjoneon.cap.models.api.ScheduleBatchRequest;
+import com.sjoneon.cap.models.api.ScheduleBatchResponse;
+import com.sjoneon.cap.models.local.AlarmItem;
+import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.models.local.OutboxEntry;
+import com.sjoneon.cap.services.DaySyncApiService;
+import com.sjoneon.cap.utils.ApiClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Response;
+
+/**
+ * 서버 변경 요청 대기열 (오프라인 아웃박스)
+ * 일정/알람/경로 변경 요청을 로컬 DB에 순서대로 기록한 뒤 백그라운드에서 전송합니다.
+ * 아직 전송하지 않은 같은 엔티티의 요청은 하나로 합쳐지며(생성+수정 → 생성, 생성+삭제 → 없음),
+ * 네트워크 오류나 서버 오류 시에는 순서를 유지한 채 재시도하고 네트워크가 다시 연결되면 이어서 전송합니다.
+ * 일정/알람 요청은 일괄 API로 묶어 보내므로 연속된 변경 N건이 한 번의 요청으로 전송됩니다.
+ */
+public class SyncOutbox {
+    private static final String TAG = "SyncOutbox";
+
+    private static final String STORE_NAME = "sync_outbox";
+
+    // 한 번에 연속 전송하는 최대 요청 수
+    private static final int REPLAY_BATCH_SIZE = 20;
+
+    /**
+     * 요청 전송 결과
+     */
+    private enum SendResult {
+        SUCCESS,    // 서버 반영 완료
+        DROPPED,    // 다시 보내도 성공할 수 없어 폐기
+        RETRY       // 일시적 오류 - 대기열에 남겨 두고 나중에 재시도
+    }
+
+    private static SyncOutbox instance;
+    private final Context context;
+    private final RecordStore<OutboxEntry> store;
+    private final Gson gson = new Gson();
+    private final ScheduledExecutorService replayExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // 첫 접근 전까지 null (지연 로드)
+    private TreeMap<Long, OutboxEntry> entries;
+    // 엔티티별 가장 최근 요청 (합치기 대상)
+    private Map<String, OutboxEntry> latestByEntity;
+    private long nextSequence;
+
+    // 전송 중인 요청 (합치기 대상에서 제외)
+    private final Set<Long> inFlight = new HashSet<>();
+    // 서버가 일괄 API를 지원하지 않으면 이번 실행 동안은 단건 전송
+    private volatile boolean batchUnsupported;
+    private boolean replayScheduled;
+    private int consecutiveFailures;
+    private boolean started;
+
+    private SyncOutbox(Context context) {
+        this.context = context.getApplicationContext();
+        this.store = new RecordStore<>(this.context, STORE_NAME, OutboxEntry.class,
+                new RecordStore.KeyMapper<OutboxEntry>() {
+                    @Override
+                    public long getRecordId(OutboxEntry entry) {
+                        return entry.getSequence();
+                    }
+
+                    @Override
+                    public long getSortKey(OutboxEntry entry) {
+                        return entry.getSequence();
+                    }
+
+                    @Override
+                    public String getSecondaryKey(OutboxEntry entry) {
+                        return entry.getEntityType();
+                    }
+                });
+    }
+
+    public static synchronized SyncOutbox getInstance(Context context) {
+        if (instance == null) {
+            instance = new SyncOutbox(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 네트워크 연결 감시 시작 및 남아 있는 요청 전송 (앱 시작 시 1회)
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (connectivityManager != null) {
+            connectivityManager.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+                @Override
+                public void onAvailable(@NonNull Network network) {
+                    Log.d(TAG, "네트워크 연결됨 - 대기 중인 요청 전송");
+                    scheduleReplay(0, true);
+                }
+            });
+        }
+
+        scheduleReplay(0, false);
+    }
+
+    private void ensureLoaded() {
+        if (entries != null) {
+            return;
+        }
+
+        entries = new TreeMap<>();
+        latestByEntity = new HashMap<>();
+        for (OutboxEntry entry : store.loadAll()) {
+            entries.put(entry.getSequence(), entry);
+            String entityKey = entityKey(entry.getEntityType(), entry.getLocalId());
+            if (entityKey != null) {
+                latestByEntity.put(entityKey, entry);
+            }
+        }
+        nextSequence = entries.isEmpty() ? 1 : entries.lastKey() + 1;
+    }
+
+    private static String entityKey(String entityType, long localId) {
+        return localId != 0 ? entityType + ":" + localId : null;
+    }
+
+    // ================================================================================================
+    // 요청 등록
+    // ================================================================================================
+
+    /**
+     * 변경 요청 등록
+     *
+     * @param localId  로컬 엔티티 ID (0이면 다른 요청과 합치지 않음)
+     * @param serverId 서버 ID (생성 요청이 아직 끝나지 않았으면 null - 전송 시점에 채워짐)
+     * @param body     요청 본문 (삭제는 null)
+     */
+    public void enqueue(String entityType, long localId, Integer serverId, String operation, Object body) {
+        String payload = body != null ? gson.toJson(body) : null;
+
+        synchronized (this) {
+            ensureLoaded();
+            String entityKey = entityKey(entityType, localId);
+            OutboxEntry previous = entityKey != null ? latestByEntity.get(entityKey) : null;
+
+            // 한 번도 보내지 않은 요청만 합침 (이미 보낸 요청은 서버에 반영됐을 수 있음)
+            if (previous != null && !inFlight.contains(previous.getSequence()) && previous.getAttempts() == 0
+                    && coalesce(previous, operation, payload)) {
+                Log.d(TAG, entityKey + " " + operation + " 요청을 기존 " + previous.getOperation() + " 요청과 합침");
+            } else {
+                OutboxEntry entry = new OutboxEntry(nextSequence++, entityType, localId, serverId,
+                        operation, payload, UUID.randomUUID().toString());
+                entries.put(entry.getSequence(), entry);
+                if (entityKey != null) {
+                    latestByEntity.put(entityKey, entry);
+                }
+                store.put(entry);
+            }
+        }
+
+        // 앱이 바로 종료되어도 요청이 남도록 쓰기 스레드에서 바로 기록 (호출 스레드는 기다리지 않음)
+        store.flushAsync();
+        scheduleReplay(0, false);
+    }
+
+    /**
+     * 직접 전송에 실패한 요청을 같은 멱등성 키로 대기열에 추가 (다른 요청과 합치지 않음)
+     * 첫 전송이 서버에 반영됐더라도 같은 키로 재전송되므로 중복 저장되지 않습니다.
+     */
+    public void enqueueFailedRequest(String entityType, Object body, String idempotencyKey) {
+        synchronized (this) {
+            ensureLoaded();
+            OutboxEntry entry = new OutboxEntry(nextSequence++, entityType, 0, null,
+                    OutboxEntry.OP_CREATE, gson.toJson(body), idempotencyKey);
+            entry.setAttempts(1);
+            entries.put(entry.getSequence(), entry);
+            store.put(entry);
+        }
+
+        store.flushAsync();
+        scheduleReplay(OutboxPolicy.RETRY_BASE_DELAY_MS, false);
+    }
+
+    /**
+     * 기존 대기 요청에 새 요청 합치기
+     * @return 합쳤으면 true (새 요청을 따로 등록할 필요 없음)
+     */
+    private boolean coalesce(OutboxEntry previous, String operation, String payload) {
+        switch (OutboxPolicy.coalesce(previous.getOperation(), operation)) {
+            case MERGE:
+                // 생성+수정 → 수정된 내용으로 생성, 수정+수정 → 마지막 내용으로 수정
+                previous.setPayload(OutboxPolicy.mergePayload(previous.getPayload(), payload));
+                store.put(previous);
+                return true;
+
+            case TO_DELETE:
+                previous.setOperation(OutboxEntry.OP_DELETE);
+                previous.setPayload(null);
+                store.put(previous);
+                return true;
+
+            case CANCEL:
+                removeEntry(previous);
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private void removeEntry(OutboxEntry entry) {
+        entries.remove(entry.getSequence());
+        String entityKey = entityKey(entry.getEntityType(), entry.getLocalId());
+        if (entityKey != null && latestByEntity.get(entityKey) == entry) {
+            latestByEntity.remove(entityKey);
+        }
+        store.delete(entry.getSequence());
+    }
+
+    // ================================================================================================
+    // 대기 요청 조회
+    // ================================================================================================
+
+    /**
+     * 엔티티 유형의 전송 대기 요청 스냅샷
+     * 서버 동기화가 아직 보내지 않은 로컬 변경을 서버 값으로 덮어쓰거나 삭제하지 않도록 사용합니다.
+     */
+    public synchronized PendingSnapshot getPendingSnapshot(String entityType) {
+        ensureLoaded();
+        Set<Long> localIds = new HashSet<>();
+        Set<Integer> deletedServerIds = new HashSet<>();
+        for (OutboxEntry entry : entries.values()) {
+            if (!entry.getEntityType().equals(entityType)) {
+                continue;
+            }
+            if (entry.getLocalId() != 0) {
+                localIds.add(entry.getLocalId());
+            }
+            if (OutboxEntry.OP_DELETE.equals(entry.getOperation()) && entry.getServerId() != null) {
+                deletedServerIds.add(entry.getServerId());
+            }
+        }
+        return new PendingSnapshot(localIds, deletedServerIds);
+    }
+
+    /**
+     * 전송 대기 요청이 있는 로컬 ID와 삭제 요청 중인 서버 ID
+     */
+    public static final class PendingSnapshot {
+        private final Set<Long> localIds;
+        private final Set<Integer> deletedServerIds;
+
+        PendingSnapshot(Set<Long> localIds, Set<Integer> deletedServerIds) {
+            this.localIds = localIds;
+            this.deletedServerIds = deletedServerIds;
+        }
+
+        public boolean hasPendingChange(long localId) {
+            return localIds.contains(localId);
+        }
+
+        public boolean hasPendingDelete(int serverId) {
+            return deletedServerIds.contains(serverId);
+        }
+    }
+
+    // ================================================================================================
+    // 전송
+    // ================================================================================================
+
+    private void scheduleReplay(long delayMs, boolean resetBackoff) {
+        synchronized (this) {
+            if (resetBackoff) {
+                consecutiveFailures = 0;
+            } else if (replayScheduled) {
+                return;
+            }
+            replayScheduled = true;
+        }
+        replayExecutor.schedule(this::replayPending, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 맨 앞의 대기 요청을 전송 (일정/알람은 같은 유형의 연속된 요청을 최대 REPLAY_BATCH_SIZE개까지 한 번에)
+     * 일시적 오류가 나면 뒤 요청이 앞 요청을 앞지르지 않도록 중단하고 재시도를 예약합니다.
+     */
+    private void replayPending() {
+        synchronized (this) {
+            replayScheduled = false;
+        }
+        if (!isNetworkAvailable()) {
+            Log.d(TAG, "네트워크 없음 - 연결되면 전송");
+            return;
+        }
+
+        List<OutboxEntry> batch;
+        synchronized (this) {
+            ensureLoaded();
+            if (entries.isEmpty()) {
+                consecutiveFailures = 0;
+                return;
+            }
+            batch = takeNextBatch();
+            for (OutboxEntry entry : batch) {
+                inFlight.add(entry.getSequence());
+                entry.setAttempts(entry.getAttempts() + 1);
+                store.put(entry);
+            }
+        }
+
+        // 결과가 없는 요청은 재시도 대상
+        Map<OutboxEntry, SendResult> results = batch.size() > 1 ? sendBatch(batch) : sendEach(batch);
+
+        synchronized (this) {
+            inFlight.clear();
+            boolean retry = false;
+            for (OutboxEntry entry : batch) {
+                SendResult result = results.get(entry);
+                if (result == null || result == SendResult.RETRY) {
+                    retry = true;
+                } else {
+                    removeEntry(entry);
+                }
+            }
+
+            if (retry) {
+                consecutiveFailures++;
+                long delay = OutboxPolicy.retryDelayMs(consecutiveFailures);
+                Log.w(TAG, "요청 전송 실패 - " + delay + "ms 후 재시도 (대기 " + entries.size() + "건)");
+                scheduleReplay(delay, false);
+                return;
+            }
+
+            consecutiveFailures = 0;
+            if (entries.isEmpty()) {
+                return;
+            }
+        }
+
+        Log.d(TAG, batch.size() + "건 전송 완료, 남은 요청 계속 전송");
+        scheduleReplay(0, false);
+    }
+
+    /**
+     * 맨 앞부터 같은 유형의 연속된 요청 선택 (일괄 API가 없는 유형이면 한 건)
+     */
+    private List<OutboxEntry> takeNextBatch() {
+        List<OutboxEntry> batch = new ArrayList<>();
+        OutboxEntry head = entries.firstEntry().getValue();
+        batch.add(head);
+
+        boolean batchable = !batchUnsupported
+                && (OutboxEntry.TYPE_CALENDAR_EVENT.equals(head.getEntityType())
+                || OutboxEntry.TYPE_ALARM.equals(head.getEntityType()));
+        if (!batchable) {
+            return batch;
+        }
+
+        for (OutboxEntry entry : entries.tailMap(head.getSequence(), false).values()) {
+            if (batch.size() >= REPLAY_BATCH_SIZE || !entry.getEntityType().equals(head.getEntityType())) {
+                break;
+            }
+            // 같은 요청 안의 생성 결과(서버 ID)가 필요한 요청은 다음 전송으로
+            if (!OutboxEntry.OP_CREATE.equals(entry.getOperation()) && entry.getServerId() == null) {
+                break;
+            }
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    /**
+     * 일정/알람 일괄 API로 한 번에 전송
+     */
+    private Map<OutboxEntry, SendResult> sendBatch(List<OutboxEntry> batch) {
+        String entityType = batch.get(0).getEntityType();
+        Map<OutboxEntry, SendResult> results = new HashMap<>();
+
+        try {
+            ScheduleBatchRequest request = new ScheduleBatchRequest();
+            for (OutboxEntry entry : batch) {
+                request.addOperation(new ScheduleBatchRequest.Operation(
+                        entry.getOperation(), entry.getIdempotencyKey(), entry.getServerId(),
+                        entry.getPayload() != null ? JsonParser.parseString(entry.getPayload()) : null));
+            }
+
+            DaySyncApiService apiService = ApiClient.getDaySyncApiService();
+            Response<ScheduleBatchResponse> response = OutboxEntry.TYPE_CALENDAR_EVENT.equals(entityType)
+                    ? apiService.batchCalendarEvents(request).execute()
+                    : apiService.batchAlarms(request).execute();
+
+            if (response.code() == 404 || response.code() == 405) {
+                Log.w(TAG, "서버가 일괄 API를 지원하지 않음 - 단건 전송으로 대체");
+                batchUnsupported = true;
+                return sendEach(batch);
+            }
+            if (response.code() >= 400 && response.code() < 500) {
+                // 요청 하나 때문에 전체가 거부됐을 수 있으므로 단건으로 나눠 전송
+                Log.w(TAG, "일괄 요청 거부(" + response.code() + ") - 단건 전송으로 재시도");
+                return sendEach(batch);
+            }
+            if (!response.isSuccessful() || response.body() == null) {
+                return results;
+            }
+
+            Map<String, ScheduleBatchResponse.Result> resultsByKey = new HashMap<>();
+            for (ScheduleBatchResponse.Result result : response.body().getResults()) {
+                resultsByKey.put(result.getIdempotencyKey(), result);
+            }
+
+            for (OutboxEntry entry : batch) {
+                ScheduleBatchResponse.Result result = resultsByKey.get(entry.getIdempotencyKey());
+                if (result == null) {
+                    continue;
+                }
+
+                SendResult sendResult = classify(entry, result.getStatus());
+                if (sendResult == SendResult.SUCCESS && result.getId() != null
+                        && OutboxEntry.OP_CREATE.equals(entry.getOperation())) {
+                    onCreated(entry, result.getId());
+                }
+                results.put(entry, sendResult);
+            }
+            Log.d(TAG, entityType + " 일괄 전송: " + batch.size() + "건 중 " + results.size() + "건 처리");
+
+        } catch (IOException e) {
+            Log.w(TAG, "네트워크 오류: " + entityType + " 일괄 전송", e);
+        } catch (RuntimeException e) {
+            // 손상된 요청 본문 등 - 단건 전송에서 해당 요청만 폐기됨
+            Log.e(TAG, "일괄 요청 생성 실패 - 단건 전송으로 대체", e);
+            return sendEach(batch);
+        }
+        return results;
+    }
+
+    /**
+     * 한 건씩 순서대로 전송 (일시적 오류가 나면 나머지는 보내지 않음)
+     */
+    private Map<OutboxEntry, SendResult> sendEach(List<OutboxEntry> batch) {
+        Map<OutboxEntry, SendResult> results = new HashMap<>();
+        for (OutboxEntry entry : batch) {
+            SendResult result = send(entry);
+            results.put(entry, result);
+            if (result == SendResult.RETRY) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private SendResult send(OutboxEntry entry) {
+        DaySyncApiService apiService = ApiClient.getDaySyncApiService();
+        String key = entry.getIdempotencyKey();
+        boolean isCreate = OutboxEntry.OP_CREATE.equals(entry.getOperation());
+        boolean isDelete = OutboxEntry.OP_DELETE.equals(entry.getOperation());
+
+        if (!isCreate && entry.getServerId() == null) {
+            // 서버에 생성된 적 없는 엔티티 - 로컬 변경만 유지
+            Log.w(TAG, entry.getEntityType() + ":" + entry.getLocalId() + " 서버 ID 없음, " +
+                    entry.getOperation() + " 요청 폐기");
+            return SendResult.DROPPED;
+        }
+
+        try {
+            Response<?> response;
+            switch (entry.getEntityType()) {
+                case OutboxEntry.TYPE_CALENDAR_EVENT:
+                    if (isCreate) {
+                        Response<CalendarEventResponse> created = apiService.createCalendarEvent(key,
+                                gson.fromJson(entry.getPayload(), CalendarEventRequest.class)).execute();
+                        if (created.isSuccessful() && created.body() != null) {
+                            onCreated(entry, created.body().getId());
+                        }
+                        response = created;
+                    } else if (isDelete) {
+                        response = apiService.deleteCalendarEvent(key, entry.getServerId()).execute();
+                    } else {
+                        response = apiService.updateCalendarEvent(key, entry.getServerId(),
+                                gson.fromJson(entry.getPayload(), CalendarEventUpdateRequest.class)).execute();
+                    }
+                    break;
+
+                case OutboxEntry.TYPE_ALARM:
+                    if (isCreate) {
+                        Response<AlarmResponse> created = apiService.createAlarm(key,
+                                gson.fromJson(entry.getPayload(), AlarmRequest.class)).execute();
+                        if (created.isSuccessful() && created.body() != null) {
+                            onCreated(entry, created.body().getId());
+                        }
+                        response = created;
+                    } else if (isDelete) {
+                        response = apiService.deleteAlarm(key, entry.getServerId()).execute();
+                    } else {
+                        response = apiService.updateAlarm(key, entry.getServerId(),
+                                gson.fromJson(entry.getPayload(), AlarmUpdateRequest.class)).execute();
+                    }
+                    break;
+
+                case OutboxEntry.TYPE_ROUTE:
+                    response = apiService.saveRoute(key,
+                            gson.fromJson(entry.getPayload(), RouteSaveRequest.class)).execute();
+                    break;
+
+                default:
+                    Log.e(TAG, "알 수 없는 요청 유형: " + entry.getEntityType());
+                    return SendResult.DROPPED;
+            }
+            return classify(entry, response.code());
+
+        } catch (IOException e) {
+            Log.w(TAG, "네트워크 오류: " + entry.getEntityType() + " " + entry.getOperation(), e);
+            return SendResult.RETRY;
+        } catch (RuntimeException e) {
+            // 손상된 요청 본문 등 - 다시 보내도 같은 결과
+            Log.e(TAG, "요청 생성 실패, 폐기: " + entry.getEntityType() + " " + entry.getOperation(), e);
+            return SendResult.DROPPED;
+        }
+    }
+
+    private static SendResult classify(OutboxEntry entry, int code) {
+        if (code >= 200 && code < 300) {
+            return SendResult.SUCCESS;
+        }
+        if (code >= 500 || code == 408 || code == 429) {
+            return SendResult.RETRY;
+        }
+        if (code == 404 && !OutboxEntry.OP_CREATE.equals(entry.getOperation())) {
+            Log.d(TAG, "서버에 이미 없는 엔티티: " + entry.getEntityType() + " 서버 ID " + entry.getServerId());
+        } else {
+            Log.e(TAG, "서버가 요청을 거부함(" + code + "), 폐기: " + entry.getEntityType() + " " + entry.getOperation());
+        }
+        return SendResult.DROPPED;
+    }
+
+    /**
+     * 생성 요청 완료 - 뒤에 대기 중인 같은 엔티티 요청과 로컬 엔티티에 서버 ID 반영
+     */
+    private void onCreated(OutboxEntry createEntry, int serverId) {
+        synchronized (this) {
+            for (OutboxEntry entry : entries.values()) {
+                if (entry != createEntry
+                        && entry.getLocalId() == createEntry.getLocalId()
+                        && entry.getEntityType().equals(createEntry.getEntityType())) {
+                    entry.setServerId(serverId);
+                    store.put(entry);
+                }
+            }
+        }
+
+        Log.d(TAG, createEntry.getEntityType() + " 서버 생성 완료, 서버 ID: " + serverId);
+        mainHandler.post(() -> saveServerIdToLocal(createEntry, serverId));
+    }
+
+    private void saveServerIdToLocal(OutboxEntry createEntry, int serverId) {
+        if (OutboxEntry.TYPE_CALENDAR_EVENT.equals(createEntry.getEntityType())) {
+            CalendarEventRepository repository = CalendarEventRepository.getInstance(context);
+            CalendarEvent event = repository.getEventById(createEntry.getLocalId());
+            if (event != null) {
+                event.setServerId(serverId);
+                repository.updateEvent(event);
+            }
+        } else if (OutboxEntry.TYPE_ALARM.equals(createEntry.getEntityType())) {
+            AlarmRepository repository = AlarmRepository.getInstance(context);
+            AlarmItem alarm = repository.getAlarmById((int) createEntry.getLocalId());
+            if (alarm != null) {
+                alarm.setServerId(serverId);
+                repository.updateAlarm(alarm);
+            }
+        }
+    }
+
+    private boolean isNetworkAvailable() {
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (connectivityManager == null) {
+            return true;
+        }
+        Network network = connectivityManager.getActiveNetwork();
+        NetworkCapabilities capabilities = network != null
+                ? connectivityManager.getNetworkCapabilities(network) : null;
+        return capabilities != null && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+    }
+}
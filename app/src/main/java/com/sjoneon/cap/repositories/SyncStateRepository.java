@@ -0,0 +1,71 @@
+package com.sjoneon.cap.repositories;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+/**
+ * 서버 증분 동기화 상태 저장소
+ * 사용자와 동기화 대상(일정, 알람)별로 서버가 내려준 마지막 cursor를 보관합니다.
+ */
+public class SyncStateRepository {
+    private static final String PREFS_NAME = "sync_state_prefs";
+    private static final String KEY_CURSOR_PREFIX = "cursor_";
+
+    public static final String SCOPE_CALENDAR = "calendar";
+    public static final String SCOPE_ALARMS = "alarms";
+
+    private static SyncStateRepository instance;
+    private final SharedPreferences prefs;
+
+    // 서버가 변경분 API를 지원하지 않으면 이번 실행 동안은 전체 조회만 사용
+    private volatile boolean deltaUnsupported;
+
+    private SyncStateRepository(Context context) {
+        this.prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    public static synchronized SyncStateRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new SyncStateRepository(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 마지막 동기화 cursor (없으면 null - 전체 동기화 필요)
+     */
+    public String getCursor(String scope, String userUuid) {
+        return prefs.getString(cursorKey(scope, userUuid), null);
+    }
+
+    /**
+     * 동기화 cursor 저장
+     * 변경분이 로컬 저장소에 기록된 뒤에 호출해야 합니다.
+     */
+    public void saveCursor(String scope, String userUuid, String cursor) {
+        if (cursor == null) {
+            clearCursor(scope, userUuid);
+            return;
+        }
+        prefs.edit().putString(cursorKey(scope, userUuid), cursor).apply();
+    }
+
+    /**
+     * 동기화 cursor 삭제 (다음 동기화는 전체 동기화)
+     */
+    public void clearCursor(String scope, String userUuid) {
+        prefs.edit().remove(cursorKey(scope, userUuid)).apply();
+    }
+
+    public boolean isDeltaSupported() {
+        return !deltaUnsupported;
+    }
+
+    public void markDeltaUnsupported() {
+        deltaUnsupported = true;
+    }
+
+    private static String cursorKey(String scope, String userUuid) {
+        return KEY_CURSOR_PREFIX + scope + "_" + userUuid;
+    }
+}
@@ -0,0 +1,866 @@
+package com.sjoneon.cap.repositories;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.google.gson.JsonParseException;
+import com.sjoneon.cap.BuildConfig;
+import com.sjoneon.cap.models.local.MidTermForecast;
+import com.sjoneon.cap.models.local.VillageForecast;
+import com.sjoneon.cap.models.local.WeeklyForecastItem;
+import com.sjoneon.cap.services.WeatherApiService;
+import com.sjoneon.cap.utils.KmaGrid;
+import com.sjoneon.cap.utils.MidTermForecastDecoder;
+import com.sjoneon.cap.utils.ModelCodecs;
+import com.sjoneon.cap.utils.VillageForecastDecoder;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.scalars.ScalarsConverterFactory;
+
+/**
+ * 날씨 데이터 저장소
+ * 기상청 단기예보를 (nx, ny, baseDate, baseTime) 단위로 한 번만 받아 파싱하고, 날씨 화면과 채팅이 같은 결과를 사용합니다.
+ * 받은 예보는 격자별로 로컬 DB에 저장하며, 다음 발표분이 제공되기 전까지는 네트워크 호출 없이 저장된 예보로 응답합니다.
+ * 같은 격자의 예보를 동시에 요청하면 네트워크 호출은 한 번만 수행하고 결과를 모든 요청자에게 전달합니다.
+ */
+public class WeatherRepository {
+    private static final String TAG = "WeatherRepository";
+
+    private static final String KMA_API_BASE_URL = "https://apihub.kma.go.kr/api/typ02/openApi/";
+    private static final int VILLAGE_NUM_OF_ROWS = 500;
+    private static final int MAX_RETRY_COUNT = 3;
+    private static final int RETRY_DELAY_MS = 2000;
+
+    private static final String STORE_NAME = "village_forecasts";
+    private static final String PREFS_NAME = "weather_prefs";
+    private static final String KEY_LAST_NX = "last_nx";
+    private static final String KEY_LAST_NY = "last_ny";
+    // 저장해 두는 격자 수 (자주 오가는 위치 몇 곳)
+    private static final int MAX_CACHED_GRIDS = 4;
+
+    // 위치를 알 수 없을 때 사용하는 기본 격자 (충청북도 청주시)
+    public static final int DEFAULT_NX = 69;
+    public static final int DEFAULT_NY = 107;
+
+    // 단기예보 발표 시각 (02시부터 3시간 간격, 발표 후 약 10분 뒤 제공)
+    private static final int[] VILLAGE_BASE_HOURS = {2, 5, 8, 11, 14, 17, 20, 23};
+    private static final int VILLAGE_BASE_INTERVAL_HOURS = 3;
+    private static final int VILLAGE_PUBLISH_DELAY_MINUTES = 10;
+
+    // 중기예보 발표 시각 (06시, 18시)
+    private static final String MID_TERM_STORE_NAME = "mid_term_forecasts";
+    private static final int[] MID_TERM_BASE_HOURS = {6, 18};
+    private static final int MID_TERM_PUBLISH_DELAY_MINUTES = 10;
+
+    // 주간 예보 일수 (오늘 포함)
+    private static final int WEEKLY_DAY_COUNT = 10;
+
+    private static WeatherRepository instance;
+
+    private final WeatherApiService weatherApiService;
+    private final SharedPreferences prefs;
+    private final RecordStore<VillageForecast> store;
+    private final RecordStore<MidTermForecast> midTermStore;
+    private final ExecutorService executorService;
+    // 중기예보 갱신 전용 (단기예보 갱신과 동시에 진행)
+    private final ExecutorService midTermExecutor;
+    // 중기기온/중기육상 동시 요청용
+    private final ExecutorService midTermFetchExecutor;
+    private final Handler mainHandler;
+
+    // 격자별 가장 최근 예보
+    private final Map<String, VillageForecast> forecastsByGrid = new HashMap<>();
+    // 진행 중인 요청 (격자 키 -> 결과를 기다리는 요청자)
+    private final Map<String, List<Waiter>> pendingRequests = new HashMap<>();
+    // 저장된 예보 로드 여부 (executorService 스레드에서만 접근)
+    private boolean persistedLoaded;
+
+    // 기온 예보구역 코드별 가장 최근 중기예보
+    private final Map<String, MidTermForecast> midTermByRegion = new HashMap<>();
+    // 저장된 중기예보 로드 여부 (midTermExecutor 스레드에서만 접근)
+    private boolean midTermLoaded;
+
+    // 마지막으로 조회한 격자 (채팅은 날씨 화면이 조회한 위치를 그대로 사용, 앱 재시작 후에도 유지)
+    private volatile int lastNx;
+    private volatile int lastNy;
+
+    public interface ForecastCallback {
+        void onSuccess(VillageForecast forecast);
+        void onError(String message);
+    }
+
+    public interface WeeklyForecastCallback {
+        void onSuccess(List<WeeklyForecastItem> forecasts);
+        void onError(String message);
+    }
+
+    private interface MidTermCallback {
+        void onSuccess(MidTermForecast forecast);
+        void onError(String message);
+    }
+
+    private static class Waiter {
+        final ForecastCallback callback;
+        final boolean allowStale;
+        // 이전 발표분을 이미 전달했는지 여부
+        boolean staleDelivered;
+
+        Waiter(ForecastCallback callback, boolean allowStale) {
+            this.callback = callback;
+            this.allowStale = allowStale;
+        }
+    }
+
+    private WeatherRepository(Context context) {
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .connectTimeout(60, TimeUnit.SECONDS)
+                .readTimeout(60, TimeUnit.SECONDS)
+                .writeTimeout(60, TimeUnit.SECONDS)
+                .build();
+
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(KMA_API_BASE_URL)
+                .client(okHttpClient)
+                .addConverterFactory(ScalarsConverterFactory.create())
+                .build();
+
+        this.weatherApiService = retrofit.create(WeatherApiService.class);
+        this.prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        this.lastNx = prefs.getInt(KEY_LAST_NX, DEFAULT_NX);
+        this.lastNy = prefs.getInt(KEY_LAST_NY, DEFAULT_NY);
+        this.store = new RecordStore<>(context.getApplicationContext(), STORE_NAME, VillageForecast.class,
+                new RecordStore.KeyMapper<VillageForecast>() {
+                    @Override
+                    public long getRecordId(VillageForecast forecast) {
+                        return gridId(forecast.getNx(), forecast.getNy());
+                    }
+
+                    @Override
+                    public long getSortKey(VillageForecast forecast) {
+                        return Long.parseLong(forecast.getBaseDate() + forecast.getBaseTime());
+                    }
+
+                    @Override
+                    public String getSecondaryKey(VillageForecast forecast) {
+                        return null;
+                    }
+                }, ModelCodecs.VILLAGE_FORECAST);
+        this.midTermStore = new RecordStore<>(context.getApplicationContext(), MID_TERM_STORE_NAME,
+                MidTermForecast.class, new RecordStore.KeyMapper<MidTermForecast>() {
+                    @Override
+                    public long getRecordId(MidTermForecast forecast) {
+                        return regionId(forecast.getTemperatureRegId());
+                    }
+
+                    @Override
+                    public long getSortKey(MidTermForecast forecast) {
+                        return Long.parseLong(forecast.getTmFc());
+                    }
+
+                    @Override
+                    public String getSecondaryKey(MidTermForecast forecast) {
+                        return forecast.getTemperatureRegId();
+                    }
+                }, ModelCodecs.MID_TERM_FORECAST);
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.midTermExecutor = Executors.newSingleThreadExecutor();
+        this.midTermFetchExecutor = Executors.newFixedThreadPool(2);
+        this.mainHandler = new Handler(Looper.getMainLooper());
+    }
+
+    public static synchronized WeatherRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new WeatherRepository(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 저장된 예보를 백그라운드에서 미리 로드
+     */
+    public void preload() {
+        executorService.execute(this::ensurePersistedLoaded);
+        midTermExecutor.execute(this::ensureMidTermLoaded);
+    }
+
+    /**
+     * 단기예보 조회 (결과는 메인 스레드로 전달)
+     */
+    public void getVillageForecast(int nx, int ny, ForecastCallback callback) {
+        getVillageForecast(nx, ny, false, callback);
+    }
+
+    /**
+     * 단기예보 조회 (결과는 메인 스레드로 전달)
+     * 저장된 예보가 가장 최근 발표분이면 네트워크 호출 없이 바로 전달합니다.
+     * allowStale이면 새 발표분을 받는 동안 이전 발표분을 먼저 전달하고, 새 예보를 받으면 onSuccess를 한 번 더 호출합니다.
+     * 새 예보를 받지 못하면 이전 발표분으로 대신 응답하고, 이전 발표분도 없을 때만 onError를 호출합니다.
+     */
+    public void getVillageForecast(int nx, int ny, boolean allowStale, ForecastCallback callback) {
+        if (nx != lastNx || ny != lastNy) {
+            lastNx = nx;
+            lastNy = ny;
+            prefs.edit().putInt(KEY_LAST_NX, nx).putInt(KEY_LAST_NY, ny).apply();
+        }
+        requestVillageForecast(nx, ny, allowStale, callback);
+    }
+
+    /**
+     * 사용자 위치가 아닌 격자(일정 장소 등)의 단기예보를 미리 받아 둠 (결과는 메인 스레드로 전달)
+     * 마지막 조회 격자(getLastGrid)는 바꾸지 않습니다.
+     */
+    public void prefetchVillageForecast(int nx, int ny, ForecastCallback callback) {
+        requestVillageForecast(nx, ny, false, callback);
+    }
+
+    private void requestVillageForecast(int nx, int ny, boolean allowStale, ForecastCallback callback) {
+        String gridKey = gridKey(nx, ny);
+        boolean startRefresh;
+        synchronized (this) {
+            VillageForecast cached = forecastsByGrid.get(gridKey);
+            if (cached != null && isCurrent(cached, Calendar.getInstance())) {
+                mainHandler.post(() -> callback.onSuccess(cached));
+                return;
+            }
+
+            Waiter waiter = new Waiter(callback, allowStale);
+            if (cached != null && allowStale) {
+                waiter.staleDelivered = true;
+                mainHandler.post(() -> callback.onSuccess(cached));
+            }
+
+            List<Waiter> waiting = pendingRequests.get(gridKey);
+            startRefresh = waiting == null;
+            if (startRefresh) {
+                waiting = new ArrayList<>();
+                pendingRequests.put(gridKey, waiting);
+            } else {
+                Log.d(TAG, "진행 중인 단기예보 요청에 합류: " + gridKey);
+            }
+            waiting.add(waiter);
+        }
+
+        if (startRefresh) {
+            executorService.execute(() -> refreshVillageForecast(nx, ny));
+        }
+    }
+
+    /**
+     * 격자의 가장 최근 예보 (발표 시각과 무관, 없으면 null)
+     */
+    public synchronized VillageForecast getCachedForecast(int nx, int ny) {
+        return forecastsByGrid.get(gridKey(nx, ny));
+    }
+
+    /**
+     * 격자의 가장 최근 예보를 로컬에서만 조회 (네트워크 호출 없음, 백그라운드 스레드 전용)
+     * 메모리에 없으면 저장소를 바로 읽으므로, 미리 로드가 끝나지 않은 리시버에서도 사용할 수 있습니다.
+     */
+    public VillageForecast readCachedForecast(int nx, int ny) {
+        VillageForecast cached = getCachedForecast(nx, ny);
+        if (cached != null) {
+            return cached;
+        }
+        // 저장 격자 수가 적으므로 전체를 읽어 메모리 캐시까지 채움
+        mergeStored(store.loadAll());
+        return getCachedForecast(nx, ny);
+    }
+
+    /**
+     * 마지막으로 조회한 격자 {nx, ny} (조회 기록이 없으면 기본 격자)
+     */
+    public int[] getLastGrid() {
+        return new int[]{lastNx, lastNy};
+    }
+
+    /**
+     * 10일 주간 예보 조회 (결과는 메인 스레드로 전달)
+     * 단기예보와 중기예보를 동시에 요청하므로 단기예보만 받을 때보다 늦어지지 않습니다.
+     * 단기예보를 받으면 바로 전달하고, 중기예보를 받으면 합친 결과를 한 번 더 전달합니다.
+     * allowStale이면 이전 발표분으로 먼저 전달하고, 새 예보를 받을 때마다 다시 전달합니다.
+     */
+    public void getWeeklyForecast(int nx, int ny, boolean allowStale, WeeklyForecastCallback callback) {
+        WeeklyMerge merge = new WeeklyMerge(callback);
+
+        getVillageForecast(nx, ny, allowStale, new ForecastCallback() {
+            @Override
+            public void onSuccess(VillageForecast forecast) {
+                merge.village = forecast;
+                merge.villageDone = true;
+                merge.publish();
+            }
+
+            @Override
+            public void onError(String message) {
+                merge.villageDone = true;
+                merge.error = message;
+                merge.publish();
+            }
+        });
+
+        getMidTermForecast(KmaGrid.findMidTermRegion(nx, ny), allowStale, new MidTermCallback() {
+            @Override
+            public void onSuccess(MidTermForecast forecast) {
+                merge.midTerm = forecast;
+                merge.midTermDone = true;
+                merge.publish();
+            }
+
+            @Override
+            public void onError(String message) {
+                merge.midTermDone = true;
+                merge.publish();
+            }
+        });
+    }
+
+    /**
+     * 메모리에 있는 예보로 만든 주간 예보 (발표 시각과 무관, 없으면 빈 목록)
+     */
+    public List<WeeklyForecastItem> getCachedWeeklyForecast(int nx, int ny) {
+        VillageForecast village;
+        MidTermForecast midTerm;
+        synchronized (this) {
+            village = forecastsByGrid.get(gridKey(nx, ny));
+            midTerm = midTermByRegion.get(KmaGrid.findMidTermRegion(nx, ny).getTemperatureRegId());
+        }
+        return buildWeeklyForecast(village, midTerm, Calendar.getInstance());
+    }
+
+    // ================================================================================================
+    // 저장/갱신 (백그라운드 스레드)
+    // ================================================================================================
+
+    private void ensurePersistedLoaded() {
+        if (persistedLoaded) {
+            return;
+        }
+        persistedLoaded = true;
+
+        List<VillageForecast> stored = store.loadAll();
+        mergeStored(stored);
+        Log.d(TAG, "저장된 단기예보 로드 완료 - 격자 " + stored.size() + "개");
+    }
+
+    /**
+     * 저장된 예보를 메모리 캐시에 반영 (메모리에 더 최근 발표분이 있으면 유지)
+     */
+    private synchronized void mergeStored(List<VillageForecast> stored) {
+        for (VillageForecast forecast : stored) {
+            String gridKey = gridKey(forecast.getNx(), forecast.getNy());
+            VillageForecast current = forecastsByGrid.get(gridKey);
+            if (current == null || issuedKey(forecast).compareTo(issuedKey(current)) > 0) {
+                forecastsByGrid.put(gridKey, forecast);
+            }
+        }
+    }
+
+    private void refreshVillageForecast(int nx, int ny) {
+        ensurePersistedLoaded();
+
+        String gridKey = gridKey(nx, ny);
+        VillageForecast cached;
+        synchronized (this) {
+            cached = forecastsByGrid.get(gridKey);
+            if (cached != null) {
+                if (isCurrent(cached, Calendar.getInstance())) {
+                    Log.d(TAG, "저장된 단기예보 사용 (발표: " + cached.getBaseDate() + cached.getBaseTime() + ")");
+                    complete(gridKey, cached, null, null);
+                    return;
+                }
+                deliverStale(gridKey, cached);
+            }
+        }
+
+        String[] base = getVillageBaseDateTime(Calendar.getInstance());
+        String[] error = new String[1];
+        VillageForecast forecast = fetchVillageForecast(nx, ny, base[0], base[1], error);
+        if (forecast != null) {
+            saveForecast(gridKey, forecast);
+        }
+        complete(gridKey, forecast, cached, error[0]);
+    }
+
+    private VillageForecast fetchVillageForecast(int nx, int ny, String baseDate, String baseTime, String[] error) {
+        for (int attempt = 0; attempt <= MAX_RETRY_COUNT; attempt++) {
+            if (attempt > 0) {
+                Log.w(TAG, RETRY_DELAY_MS + "ms 후 단기예보 재시도 (" + attempt + "/" + MAX_RETRY_COUNT + ")");
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            Log.d(TAG, "단기예보 API 호출 - baseDate: " + baseDate + ", baseTime: " + baseTime +
+                    ", nx: " + nx + ", ny: " + ny);
+            try {
+                Response<ResponseBody> response = weatherApiService.getVillageForecast(BuildConfig.KMA_API_HUB_KEY,
+                        VILLAGE_NUM_OF_ROWS, 1, "JSON", baseDate, baseTime, nx, ny).execute();
+
+                if (response.isSuccessful() && response.body() != null) {
+                    VillageForecast forecast;
+                    try (ResponseBody body = response.body()) {
+                        forecast = VillageForecastDecoder.decode(body.charStream(), nx, ny, baseDate, baseTime);
+                    }
+                    if (forecast == null) {
+                        // API 오류 코드는 재시도해도 같은 결과
+                        error[0] = "날씨 정보를 불러올 수 없습니다";
+                    } else {
+                        Log.d(TAG, "단기예보 파싱 완료 - 시간대 " + forecast.getSlotCount() + "개");
+                    }
+                    return forecast;
+                }
+                Log.w(TAG, "단기예보 API 응답 실패 (코드: " + response.code() + ")");
+                error[0] = "단기예보 정보를 가져오는 데 실패했습니다.";
+            } catch (IOException e) {
+                Log.w(TAG, "단기예보 API 네트워크 실패: " + e.getMessage());
+                error[0] = "네트워크 오류로 단기예보 정보를 가져올 수 없습니다.";
+            } catch (JsonParseException e) {
+                Log.e(TAG, "단기예보 파싱 에러", e);
+                error[0] = "날씨 정보를 처리하는 중 문제가 발생했습니다.";
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 예보를 메모리와 DB에 저장 (오래된 격자부터 정리)
+     */
+    private synchronized void saveForecast(String gridKey, VillageForecast forecast) {
+        forecastsByGrid.put(gridKey, forecast);
+        store.put(forecast);
+
+        // 마지막 조회 격자는 미리 받은 다른 격자 때문에 밀려나지 않도록 제외
+        String lastGridKey = gridKey(lastNx, lastNy);
+        while (forecastsByGrid.size() > MAX_CACHED_GRIDS) {
+            String oldestKey = null;
+            VillageForecast oldest = null;
+            for (Map.Entry<String, VillageForecast> entry : forecastsByGrid.entrySet()) {
+                if (entry.getKey().equals(lastGridKey)) {
+                    continue;
+                }
+                if (oldest == null || issuedKey(entry.getValue()).compareTo(issuedKey(oldest)) < 0) {
+                    oldestKey = entry.getKey();
+                    oldest = entry.getValue();
+                }
+            }
+            forecastsByGrid.remove(oldestKey);
+            store.delete(gridId(oldest.getNx(), oldest.getNy()));
+        }
+    }
+
+    /**
+     * 이전 발표분을 허용한 요청자 중 아직 받지 못한 요청자에게 전달 (호출자가 락 보유)
+     */
+    private void deliverStale(String gridKey, VillageForecast stale) {
+        List<Waiter> waiting = pendingRequests.get(gridKey);
+        if (waiting == null) {
+            return;
+        }
+        for (Waiter waiter : waiting) {
+            if (waiter.allowStale && !waiter.staleDelivered) {
+                waiter.staleDelivered = true;
+                mainHandler.post(() -> waiter.callback.onSuccess(stale));
+            }
+        }
+    }
+
+    private void complete(String gridKey, VillageForecast forecast, VillageForecast fallback, String error) {
+        List<Waiter> waiting;
+        synchronized (this) {
+            waiting = pendingRequests.remove(gridKey);
+        }
+        if (waiting == null) {
+            return;
+        }
+
+        mainHandler.post(() -> {
+            for (Waiter waiter : waiting) {
+                if (forecast != null) {
+                    waiter.callback.onSuccess(forecast);
+                } else if (fallback != null && !waiter.staleDelivered) {
+                    waiter.callback.onSuccess(fallback);
+                } else {
+                    waiter.callback.onError(error);
+                }
+            }
+        });
+    }
+
+    // ================================================================================================
+    // 중기예보 (백그라운드 스레드)
+    // ================================================================================================
+
+    /**
+     * 중기예보 조회 (결과는 메인 스레드로 전달)
+     * 갱신 작업은 한 스레드에서 차례로 실행되므로, 같은 구역을 연달아 요청하면 뒤 요청은 앞 요청이 저장한 결과를 사용합니다.
+     */
+    private void getMidTermForecast(KmaGrid.MidTermRegion region, boolean allowStale, MidTermCallback callback) {
+        boolean staleDelivered = false;
+        synchronized (this) {
+            MidTermForecast cached = midTermByRegion.get(region.getTemperatureRegId());
+            if (cached != null && isMidTermCurrent(cached, Calendar.getInstance())) {
+                mainHandler.post(() -> callback.onSuccess(cached));
+                return;
+            }
+            if (cached != null && allowStale) {
+                staleDelivered = true;
+                mainHandler.post(() -> callback.onSuccess(cached));
+            }
+        }
+
+        boolean alreadyDelivered = staleDelivered;
+        midTermExecutor.execute(() -> refreshMidTermForecast(region, allowStale, alreadyDelivered, callback));
+    }
+
+    private void ensureMidTermLoaded() {
+        if (midTermLoaded) {
+            return;
+        }
+        midTermLoaded = true;
+
+        List<MidTermForecast> stored = midTermStore.loadAll();
+        synchronized (this) {
+            for (MidTermForecast forecast : stored) {
+                midTermByRegion.put(forecast.getTemperatureRegId(), forecast);
+            }
+        }
+        Log.d(TAG, "저장된 중기예보 로드 완료 - 구역 " + stored.size() + "개");
+    }
+
+    private void refreshMidTermForecast(KmaGrid.MidTermRegion region, boolean allowStale,
+                                        boolean staleDelivered, MidTermCallback callback) {
+        ensureMidTermLoaded();
+
+        MidTermForecast cached;
+        synchronized (this) {
+            cached = midTermByRegion.get(region.getTemperatureRegId());
+        }
+        if (cached != null && isMidTermCurrent(cached, Calendar.getInstance())) {
+            mainHandler.post(() -> callback.onSuccess(cached));
+            return;
+        }
+        if (cached != null && allowStale && !staleDelivered) {
+            staleDelivered = true;
+            mainHandler.post(() -> callback.onSuccess(cached));
+        }
+
+        // 중기기온과 중기육상을 동시에 요청
+        String tmFc = getMidTermTmFc(Calendar.getInstance());
+        Log.d(TAG, "중기예보 API 호출 - 지점: " + region.getName() + ", tmFc: " + tmFc);
+        Future<Map<String, String>> temperatureItem = midTermFetchExecutor.submit(
+                () -> fetchMidTermItem(true, region.getTemperatureRegId(), tmFc));
+        Future<Map<String, String>> landItem = midTermFetchExecutor.submit(
+                () -> fetchMidTermItem(false, region.getLandRegId(), tmFc));
+        Map<String, String> temperature = awaitItem(temperatureItem);
+        Map<String, String> land = awaitItem(landItem);
+
+        if (temperature == null && land == null) {
+            if (cached != null && !staleDelivered) {
+                mainHandler.post(() -> callback.onSuccess(cached));
+            } else {
+                mainHandler.post(() -> callback.onError("중기예보 정보를 가져오는 데 실패했습니다."));
+            }
+            return;
+        }
+
+        MidTermForecast.Builder builder = new MidTermForecast.Builder(region.getTemperatureRegId(),
+                region.getLandRegId(), tmFc);
+        if (temperature != null) {
+            builder.applyTemperatureItem(temperature);
+        }
+        if (land != null) {
+            builder.applyLandItem(land);
+        }
+        MidTermForecast forecast = builder.build();
+
+        // 한쪽만 받은 결과는 저장하지 않음 (저장하면 다음 발표까지 나머지를 다시 받지 않음)
+        if (temperature != null && land != null) {
+            saveMidTermForecast(forecast);
+        }
+        mainHandler.post(() -> callback.onSuccess(forecast));
+    }
+
+    /**
+     * 중기예보 API 항목 조회 (실패하거나 항목이 없으면 null)
+     */
+    private Map<String, String> fetchMidTermItem(boolean temperature, String regId, String tmFc) {
+        String apiName = temperature ? "중기기온" : "중기육상";
+        try {
+            Response<ResponseBody> response = (temperature
+                    ? weatherApiService.getMidTermTemperature(BuildConfig.KMA_API_HUB_KEY, regId, tmFc, "JSON")
+                    : weatherApiService.getMidLandForecast(BuildConfig.KMA_API_HUB_KEY, regId, tmFc, "JSON"))
+                    .execute();
+
+            if (response.isSuccessful() && response.body() != null) {
+                Map<String, String> item;
+                try (ResponseBody body = response.body()) {
+                    item = MidTermForecastDecoder.decodeFirstItem(body.charStream());
+                }
+                return item != null && !item.isEmpty() ? item : null;
+            }
+            Log.w(TAG, apiName + " API 응답 실패 (코드: " + response.code() + ")");
+        } catch (IOException e) {
+            Log.w(TAG, apiName + " API 네트워크 실패: " + e.getMessage());
+        } catch (JsonParseException e) {
+            Log.e(TAG, apiName + " 파싱 에러", e);
+        }
+        return null;
+    }
+
+    private static Map<String, String> awaitItem(Future<Map<String, String>> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Log.e(TAG, "중기예보 조회 실패", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private synchronized void saveMidTermForecast(MidTermForecast forecast) {
+        midTermByRegion.put(forecast.getTemperatureRegId(), forecast);
+        midTermStore.put(forecast);
+
+        while (midTermByRegion.size() > MAX_CACHED_GRIDS) {
+            MidTermForecast oldest = null;
+            for (MidTermForecast candidate : midTermByRegion.values()) {
+                if (oldest == null || candidate.getTmFc().compareTo(oldest.getTmFc()) < 0) {
+                    oldest = candidate;
+                }
+            }
+            midTermByRegion.remove(oldest.getTemperatureRegId());
+            midTermStore.delete(regionId(oldest.getTemperatureRegId()));
+        }
+    }
+
+    // ================================================================================================
+    // 주간 예보 병합
+    // ================================================================================================
+
+    /**
+     * 단기예보와 중기예보 응답을 모아 주간 예보로 전달 (메인 스레드 전용)
+     */
+    private static class WeeklyMerge {
+        final WeeklyForecastCallback callback;
+        VillageForecast village;
+        MidTermForecast midTerm;
+        boolean villageDone;
+        boolean midTermDone;
+        String error;
+
+        WeeklyMerge(WeeklyForecastCallback callback) {
+            this.callback = callback;
+        }
+
+        void publish() {
+            // 단기예보 응답 전에는 전달하지 않음 (앞쪽 날짜가 빠진 목록을 먼저 보여주지 않도록)
+            if (!villageDone) {
+                return;
+            }
+            if (village == null && midTerm == null) {
+                if (midTermDone) {
+                    callback.onError(error);
+                }
+                return;
+            }
+            callback.onSuccess(buildWeeklyForecast(village, midTerm, Calendar.getInstance()));
+        }
+    }
+
+    /**
+     * 오늘부터 10일간의 주간 예보 생성
+     * 단기예보에 오후(15시) 예보까지 있는 날은 단기예보를, 나머지는 중기예보를 사용합니다.
+     */
+    static List<WeeklyForecastItem> buildWeeklyForecast(VillageForecast village, MidTermForecast midTerm,
+                                                        Calendar today) {
+        List<WeeklyForecastItem> items = new ArrayList<>();
+        SimpleDateFormat dateKeyFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREAN);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("M/d", Locale.KOREAN);
+        SimpleDateFormat dayOfWeekFormat = new SimpleDateFormat("E요일", Locale.KOREAN);
+
+        for (int i = 0; i < WEEKLY_DAY_COUNT; i++) {
+            Calendar cal = (Calendar) today.clone();
+            cal.add(Calendar.DATE, i);
+            String date = dateKeyFormat.format(cal.getTime());
+            String dateStr = dateFormat.format(cal.getTime());
+            String dayOfWeekStr = (i == 0) ? "오늘" : dayOfWeekFormat.format(cal.getTime());
+
+            WeeklyForecastItem item = null;
+            boolean villageCoversDay = village != null && village.findSlot(date, "1500") >= 0;
+            if (!villageCoversDay && midTerm != null) {
+                item = fromMidTerm(midTerm, midTerm.getDayOffset(date), date, dateStr, dayOfWeekStr);
+            }
+            if (item == null && village != null) {
+                item = fromVillage(village, date, dateStr, dayOfWeekStr);
+            }
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private static WeeklyForecastItem fromVillage(VillageForecast village, String date,
+                                                  String dateStr, String dayOfWeekStr) {
+        Integer maxTemp = village.getMaxTemperature(date);
+        Integer minTemp = village.getMinTemperature(date);
+        if (maxTemp == null || minTemp == null) {
+            return null;
+        }
+
+        int amSlot = village.findSlot(date, "0900");
+        int pmSlot = village.findSlot(date, "1500");
+        return new WeeklyForecastItem(Long.parseLong(date), dateStr, dayOfWeekStr,
+                villageCondition(village, amSlot), villageCondition(village, pmSlot),
+                villageRainChance(village, amSlot), villageRainChance(village, pmSlot), minTemp, maxTemp);
+    }
+
+    private static String villageCondition(VillageForecast village, int slot) {
+        return slot >= 0 ? village.getCondition(slot) : VillageForecast.conditionText(0, 1);
+    }
+
+    private static int villageRainChance(VillageForecast village, int slot) {
+        double pop = village.getNumber(slot, VillageForecast.CATEGORY_PRECIPITATION_CHANCE);
+        return Double.isNaN(pop) ? 0 : (int) pop;
+    }
+
+    private static WeeklyForecastItem fromMidTerm(MidTermForecast midTerm, int dayOffset, String date,
+                                                  String dateStr, String dayOfWeekStr) {
+        if (!midTerm.hasTemperature(dayOffset)) {
+            return null;
+        }
+
+        String am = midTerm.getAmCondition(dayOffset);
+        String pm = midTerm.getPmCondition(dayOffset);
+        Integer amRain = midTerm.getAmRainChance(dayOffset);
+        Integer pmRain = midTerm.getPmRainChance(dayOffset);
+        return new WeeklyForecastItem(Long.parseLong(date), dateStr, dayOfWeekStr,
+                am != null ? am : "정보 없음", pm != null ? pm : "정보 없음",
+                amRain != null ? amRain : 0, pmRain != null ? pmRain : 0,
+                midTerm.getMinTemp(dayOffset), midTerm.getMaxTemp(dayOffset));
+    }
+
+    // ================================================================================================
+    // 발표 시각
+    // ================================================================================================
+
+    /**
+     * 지금 조회할 수 있는 가장 최근 단기예보 발표 일자/시각 {baseDate, baseTime}
+     * 02:10 이전에는 전날 23시 발표분을 사용합니다.
+     */
+    public static String[] getVillageBaseDateTime(Calendar now) {
+        Calendar cal = (Calendar) now.clone();
+        int minutes = cal.get(Calendar.HOUR_OF_DAY) * 60 + cal.get(Calendar.MINUTE);
+
+        int baseHour = -1;
+        for (int i = VILLAGE_BASE_HOURS.length - 1; i >= 0; i--) {
+            if (minutes > VILLAGE_BASE_HOURS[i] * 60 + VILLAGE_PUBLISH_DELAY_MINUTES) {
+                baseHour = VILLAGE_BASE_HOURS[i];
+                break;
+            }
+        }
+        if (baseHour < 0) {
+            cal.add(Calendar.DATE, -1);
+            baseHour = 23;
+        }
+
+        String baseDate = new SimpleDateFormat("yyyyMMdd", Locale.US).format(cal.getTime());
+        return new String[]{baseDate, String.format(Locale.US, "%02d00", baseHour)};
+    }
+
+    /**
+     * 예보가 지금 조회할 수 있는 가장 최근 발표분인지 여부 (다음 발표분이 제공되기 전까지 유효)
+     */
+    public static boolean isCurrent(VillageForecast forecast, Calendar now) {
+        return now.getTimeInMillis() < getExpiresAt(forecast);
+    }
+
+    /**
+     * 예보가 최신이 아니게 되는 시각 (다음 발표 시각 + 제공 지연, epoch ms)
+     */
+    public static long getExpiresAt(VillageForecast forecast) {
+        Calendar cal = Calendar.getInstance();
+        try {
+            cal.setTime(new SimpleDateFormat("yyyyMMddHHmm", Locale.US).parse(issuedKey(forecast)));
+        } catch (ParseException e) {
+            // 발표 시각을 알 수 없으면 이미 만료된 것으로 처리
+            return 0;
+        }
+        cal.add(Calendar.HOUR_OF_DAY, VILLAGE_BASE_INTERVAL_HOURS);
+        // getVillageBaseDateTime은 제공 지연이 "지난" 뒤부터 새 발표분을 사용
+        cal.add(Calendar.MINUTE, VILLAGE_PUBLISH_DELAY_MINUTES + 1);
+        return cal.getTimeInMillis();
+    }
+
+    /**
+     * 지금 조회할 수 있는 가장 최근 중기예보 발표 시각 tmFc (yyyyMMddHHmm)
+     * 06:10 이전에는 전날 18시 발표분을 사용합니다.
+     */
+    public static String getMidTermTmFc(Calendar now) {
+        Calendar cal = (Calendar) now.clone();
+        int minutes = cal.get(Calendar.HOUR_OF_DAY) * 60 + cal.get(Calendar.MINUTE);
+
+        int baseHour = -1;
+        for (int i = MID_TERM_BASE_HOURS.length - 1; i >= 0; i--) {
+            if (minutes > MID_TERM_BASE_HOURS[i] * 60 + MID_TERM_PUBLISH_DELAY_MINUTES) {
+                baseHour = MID_TERM_BASE_HOURS[i];
+                break;
+            }
+        }
+        if (baseHour < 0) {
+            cal.add(Calendar.DATE, -1);
+            baseHour = MID_TERM_BASE_HOURS[MID_TERM_BASE_HOURS.length - 1];
+        }
+
+        String baseDate = new SimpleDateFormat("yyyyMMdd", Locale.US).format(cal.getTime());
+        return baseDate + String.format(Locale.US, "%02d00", baseHour);
+    }
+
+    private static boolean isMidTermCurrent(MidTermForecast forecast, Calendar now) {
+        return forecast.getTmFc() != null && forecast.getTmFc().compareTo(getMidTermTmFc(now)) >= 0;
+    }
+
+    private static String issuedKey(VillageForecast forecast) {
+        return forecast.getBaseDate() + forecast.getBaseTime();
+    }
+
+    private static long gridId(int nx, int ny) {
+        return nx * 1000L + ny;
+    }
+
+    private static long regionId(String regId) {
+        // 예보구역 코드는 영문/숫자 8자리이므로 36진수로 그대로 변환 (충돌 없음)
+        return Long.parseLong(regId, 36);
+    }
+
+    private static String gridKey(int nx, int ny) {
+        return nx + "_" + ny;
+    }
+}
@@ -8,14 +8,18 @@ import com.sjoneon.cap.models.api.UserCreateRequest;
 import com.sjoneon.cap.models.api.UserCreateResponse;
 import com.sjoneon.cap.models.api.UserResponse;
 
+import com.sjoneon.cap.models.api.CalendarEventChangesResponse;
 import com.sjoneon.cap.models.api.CalendarEventRequest;
 import com.sjoneon.cap.models.api.CalendarEventResponse;
 import com.sjoneon.cap.models.api.CalendarEventUpdateRequest;
 
+import com.sjoneon.cap.models.api.AlarmChangesResponse;
 import com.sjoneon.cap.models.api.AlarmUpdateRequest;
 import com.sjoneon.cap.models.api.AlarmRequest;
 import com.sjoneon.cap.models.api.AlarmResponse;
 
+import com.sjoneon.cap.models.api.ScheduleBatchRequest;
+import com.sjoneon.cap.models.api.ScheduleBatchResponse;
 import com.sjoneon.cap.models.api.SessionListResponse;
 import com.sjoneon.cap.models.api.MessageListResponse;
 
@@ -33,6 +37,7 @@ import retrofit2.http.Body;
 import retrofit2.http.PATCH;
 import retrofit2.http.DELETE;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
 import retrofit2.http.Path;
@@ -44,6 +49,12 @@ import retrofit2.http.Query;
  */
 public interface DaySyncApiService {
 
+    /**
+     * 변경 요청 중복 방지 헤더
+     * 재전송된 요청도 같은 키를 보내므로 서버는 같은 키의 요청을 한 번만 처리해야 함
+     */
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     // ========================================
     // AI 채팅 API
     // ========================================
@@ -116,7 +127,10 @@ public interface DaySyncApiService {
      * 새 일정 생성
      */
     @POST("/api/schedule/calendar/events")
-    Call<CalendarEventResponse> createCalendarEvent(@Body CalendarEventRequest request);
+    Call<CalendarEventResponse> createCalendarEvent(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Body CalendarEventRequest request
+    );
 
     /**
      * 사용자의 모든 일정 조회
@@ -124,20 +138,40 @@ public interface DaySyncApiService {
     @GET("/api/schedule/calendar/events/{user_uuid}")
     Call<List<CalendarEventResponse>> getUserEvents(@Path("user_uuid") String userUuid);
 
+    /**
+     * 마지막 동기화 이후 변경된 일정과 삭제된 일정 ID 조회
+     * updatedSince가 null이면 전체 목록과 새 cursor를 반환
+     */
+    @GET("/api/schedule/calendar/events/{user_uuid}/changes")
+    Call<CalendarEventChangesResponse> getUserEventChanges(
+            @Path("user_uuid") String userUuid,
+            @Query("updated_since") String updatedSince
+    );
+
     /**
      * 일정 수정
      */
     @PUT("/api/schedule/calendar/events/{event_id}")
     Call<CalendarEventResponse> updateCalendarEvent(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
             @Path("event_id") int eventId,
             @Body CalendarEventUpdateRequest request
     );
 
+    /**
+     * 일정 일괄 생성/수정/삭제 (작업별 결과 반환)
+     */
+    @POST("/api/schedule/calendar/events:batch")
+    Call<ScheduleBatchResponse> batchCalendarEvents(@Body ScheduleBatchRequest request);
+
     /**
      * 일정 삭제
      */
     @DELETE("/api/schedule/calendar/events/{event_id}")
-    Call<ApiResponse> deleteCalendarEvent(@Path("event_id") int eventId);
+    Call<ApiResponse> deleteCalendarEvent(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Path("event_id") int eventId
+    );
 
     // ========================================
     // 알람 관리 API
@@ -147,7 +181,10 @@ public interface DaySyncApiService {
      * 새 알람 생성
      */
     @POST("/api/schedule/alarms")
-    Call<AlarmResponse> createAlarm(@Body AlarmRequest request);
+    Call<AlarmResponse> createAlarm(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Body AlarmRequest request
+    );
 
     /**
      * 사용자의 모든 알람 조회
@@ -155,20 +192,40 @@ public interface DaySyncApiService {
     @GET("/api/schedule/alarms/{user_uuid}")
     Call<List<AlarmResponse>> getUserAlarms(@Path("user_uuid") String userUuid);
 
+    /**
+     * 마지막 동기화 이후 변경된 알람과 삭제된 알람 ID 조회
+     * updatedSince가 null이면 전체 목록과 새 cursor를 반환
+     */
+    @GET("/api/schedule/alarms/{user_uuid}/changes")
+    Call<AlarmChangesResponse> getUserAlarmChanges(
+            @Path("user_uuid") String userUuid,
+            @Query("updated_since") String updatedSince
+    );
+
     /**
      * 알람 수정
      */
     @PUT("/api/schedule/alarms/{alarm_id}")
     Call<AlarmResponse> updateAlarm(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
             @Path("alarm_id") int alarmId,
             @Body AlarmUpdateRequest request
     );
 
+    /**
+     * 알람 일괄 생성/수정/삭제 (작업별 결과 반환)
+     */
+    @POST("/api/schedule/alarms:batch")
+    Call<ScheduleBatchResponse> batchAlarms(@Body ScheduleBatchRequest request);
+
     /**
      * 알람 삭제
      */
     @DELETE("/api/schedule/alarms/{alarm_id}")
-    Call<ApiResponse> deleteAlarm(@Path("alarm_id") int alarmId);
+    Call<ApiResponse> deleteAlarm(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Path("alarm_id") int alarmId
+    );
 
     /**
      * 알람 활성화/비활성화 토글
@@ -181,7 +238,10 @@ public interface DaySyncApiService {
      * POST /api/routes/save
      */
     @POST("api/routes/save")
-    Call<RouteResponse> saveRoute(@Body RouteSaveRequest request);
+    Call<RouteResponse> saveRoute(
+            @Header(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Body RouteSaveRequest request
+    );
 
     /**
      * 경로 검색 (좌표 기반)
@@ -0,0 +1,191 @@
+package com.sjoneon.cap.services;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.location.Address;
+import android.location.Geocoder;
+import android.location.Location;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.google.android.gms.location.LocationServices;
+import com.google.android.gms.tasks.Tasks;
+import com.sjoneon.cap.helpers.EventPrefetchScheduler;
+import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.models.local.RouteInfo;
+import com.sjoneon.cap.models.local.VillageForecast;
+import com.sjoneon.cap.repositories.CalendarEventRepository;
+import com.sjoneon.cap.repositories.RouteRepository;
+import com.sjoneon.cap.repositories.WeatherRepository;
+import com.sjoneon.cap.utils.KmaGrid;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다가오는 일정의 장소 기준으로 날씨/경로를 미리 받아 두는 작업
+ * 한 번 실행될 때 가까운 일정을 모두 처리하며, 같은 장소/격자는 한 번만 조회합니다.
+ * 날씨는 WeatherRepository 캐시(디스크 포함)에, 경로는 RouteRepository 메모리 캐시에 남아 화면을 열면 바로 표시됩니다.
+ * 서버에 캐시된 경로가 없으면 작업 스레드에서 TAGO 전체 탐색을 실행해 결과를 저장합니다.
+ */
+public class EventPrefetchWorker extends Worker {
+
+    private static final String TAG = "EventPrefetchWorker";
+
+    // 한 번에 처리할 최대 일정 수 (같은 시각의 일정은 나누지 않으므로 조금 넘을 수 있음)
+    private static final int MAX_EVENTS_PER_RUN = 10;
+    private static final long LOCATION_TIMEOUT_SECONDS = 10;
+    private static final long WEATHER_TIMEOUT_SECONDS = 30;
+
+    public EventPrefetchWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context context = getApplicationContext();
+        long now = System.currentTimeMillis();
+        long batchEnd = now + EventPrefetchScheduler.BATCH_WINDOW_MS;
+        // 다음 예약 기준 시각 (범위 안의 일정을 다 처리하지 못하면 마지막으로 처리한 일정 시각)
+        long resumeAfter = batchEnd;
+
+        try {
+            List<CalendarEvent> upcoming = CalendarEventRepository.getInstance(context)
+                    .getEventsInRange(now, batchEnd);
+            Log.d(TAG, "미리 받기 시작 - 일정 " + upcoming.size() + "개");
+
+            Location current = getCurrentLocation(context);
+            Geocoder geocoder = new Geocoder(context, Locale.KOREA);
+            Map<String, Address> addressByAlias = new HashMap<>();
+            Set<Long> warmedGrids = new HashSet<>();
+
+            int processed = 0;
+            long lastProcessedTime = now;
+            for (CalendarEvent event : upcoming) {
+                // 다음 예약은 마지막 시각 이후부터 찾으므로 같은 시각의 일정은 이번에 모두 처리
+                if (isStopped() || (processed >= MAX_EVENTS_PER_RUN && event.getDateTime() > lastProcessedTime)) {
+                    resumeAfter = lastProcessedTime;
+                    break;
+                }
+                lastProcessedTime = event.getDateTime();
+                if (!event.hasLocation()) {
+                    continue;
+                }
+                processed++;
+
+                String alias = event.getLocationAlias().trim();
+                if (!addressByAlias.containsKey(alias)) {
+                    addressByAlias.put(alias, geocode(geocoder, alias));
+                }
+                Address address = addressByAlias.get(alias);
+                if (address == null) {
+                    continue;
+                }
+
+                int[] grid = KmaGrid.toGrid(address.getLatitude(), address.getLongitude());
+                EventPrefetchScheduler.saveEventGrid(context, event.getId(), grid[0], grid[1]);
+                if (warmedGrids.add(grid[0] * 1000L + grid[1])) {
+                    warmWeather(context, grid[0], grid[1]);
+                }
+
+                if (current != null) {
+                    prefetchRoute(context, event, current, address);
+                }
+            }
+            Log.d(TAG, "미리 받기 완료 - 처리한 일정 " + processed + "개"
+                    + (resumeAfter < batchEnd ? ", 남은 일정은 바로 이어서 처리" : ""));
+        } catch (RuntimeException e) {
+            Log.e(TAG, "미리 받기 중 오류", e);
+        } finally {
+            // 남은 일정이 있으면 곧 시작하는 일정이므로 바로 다음 작업이 예약됨
+            EventPrefetchScheduler.scheduleNextBatch(context, resumeAfter);
+        }
+
+        // 일부 실패는 화면을 열 때 다시 조회하므로 재시도하지 않음
+        return Result.success();
+    }
+
+    /**
+     * 일정 장소 격자의 단기예보를 받아 캐시에 저장 (이미 최신이면 네트워크 호출 없음)
+     */
+    private void warmWeather(Context context, int nx, int ny) {
+        CountDownLatch done = new CountDownLatch(1);
+        WeatherRepository.getInstance(context).prefetchVillageForecast(nx, ny, new WeatherRepository.ForecastCallback() {
+            @Override
+            public void onSuccess(VillageForecast forecast) {
+                done.countDown();
+            }
+
+            @Override
+            public void onError(String message) {
+                Log.w(TAG, "날씨 미리 받기 실패 (" + nx + ", " + ny + "): " + message);
+                done.countDown();
+            }
+        });
+
+        try {
+            done.await(WEATHER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void prefetchRoute(Context context, CalendarEvent event, Location current, Address destination) {
+        List<RouteInfo> routes = RouteRepository.getInstance(context).prefetchRoutes(
+                current.getLatitude(), current.getLongitude(),
+                destination.getLatitude(), destination.getLongitude());
+        if (routes == null || routes.isEmpty()) {
+            return;
+        }
+
+        int fastest = Integer.MAX_VALUE;
+        for (RouteInfo route : routes) {
+            fastest = Math.min(fastest, route.getDuration());
+        }
+        EventPrefetchScheduler.saveEtaMinutes(context, event.getId(), fastest);
+        Log.d(TAG, "예상 소요 시간 저장: " + event.getTitle() + " - " + fastest + "분");
+    }
+
+    private static Address geocode(Geocoder geocoder, String locationName) {
+        try {
+            List<Address> addresses = geocoder.getFromLocationName(locationName, 1);
+            if (addresses != null && !addresses.isEmpty()) {
+                return addresses.get(0);
+            }
+            Log.w(TAG, "일정 장소 검색 결과 없음: " + locationName);
+        } catch (IOException e) {
+            Log.w(TAG, "일정 장소 지오코딩 실패: " + locationName, e);
+        }
+        return null;
+    }
+
+    /**
+     * 마지막으로 알려진 현재 위치 (권한이 없거나 가져오지 못하면 null)
+     */
+    private static Location getCurrentLocation(Context context) {
+        if (ContextCompat.checkSelfPermission(context, Manifest.permission.ACCESS_FINE_LOCATION)
+                != PackageManager.PERMISSION_GRANTED) {
+            return null;
+        }
+        try {
+            return Tasks.await(LocationServices.getFusedLocationProviderClient(context).getLastLocation(),
+                    LOCATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            Log.w(TAG, "현재 위치 가져오기 실패: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sjoneon.cap.services;
 
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.GET;
 import retrofit2.http.Query;
@@ -22,9 +23,10 @@ public interface WeatherApiService {
 
     /**
      * 기상청 API Hub - 단기예보(동네예보) API
+     * 응답을 문자열로 모으지 않고 스트림으로 파싱하도록 원본 본문을 반환
      */
     @GET("VilageFcstInfoService_2.0/getVilageFcst")
-    Call<String> getVillageForecast(
+    Call<ResponseBody> getVillageForecast(
             @Query("authKey") String authKey,
             @Query("numOfRows") int numOfRows,
             @Query("pageNo") int pageNo,
@@ -39,7 +41,7 @@ public interface WeatherApiService {
      * 기상청 API Hub - 중기기온예보 API
      */
     @GET("MidFcstInfoService/getMidTa")
-    Call<String> getMidTermTemperature(
+    Call<ResponseBody> getMidTermTemperature(
             @Query("authKey") String authKey,
             @Query("regId") String regId,
             @Query("tmFc") String tmFc,
@@ -50,7 +52,7 @@ public interface WeatherApiService {
      * 기상청 API Hub - 중기육상예보 API
      */
     @GET("MidFcstInfoService/getMidLandFcst")
-    Call<String> getMidLandForecast(
+    Call<ResponseBody> getMidLandForecast(
             @Query("authKey") String authKey,
             @Query("regId") String regId,
             @Query("tmFc") String tmFc,
@@ -0,0 +1,245 @@
+package com.sjoneon.cap.utils;
+
+import android.location.Address;
+import android.location.Geocoder;
+import android.location.Location;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주소/장소명을 좌표로 변환하는 유틸리티
+ * Geocoder 검색 결과 최대 5개를 입력과의 일치도(장소명, 키워드, 지역)로 점수화해 가장 적합한 결과를 고릅니다.
+ * Geocoder는 네트워크를 사용하므로 백그라운드 스레드에서만 호출해야 합니다.
+ */
+public final class AddressResolver {
+    private static final String TAG = "AddressResolver";
+
+    private AddressResolver() {
+    }
+
+    /**
+     * 주소 -> 좌표 변환
+     *
+     * @return 선택된 위치 (검색 결과가 없거나 실패하면 null)
+     */
+    public static Location resolve(Geocoder geocoder, String address) {
+        try {
+            // 최대 5개의 검색 결과 조회
+            List<Address> addresses = geocoder.getFromLocationName(address, 5);
+
+            if (addresses == null || addresses.isEmpty()) {
+                Log.w(TAG, "주소 검색 결과 없음: " + address);
+                return null;
+            }
+
+            Log.d(TAG, "주소 검색 결과 " + addresses.size() + "개: " + address);
+
+            // 입력 주소를 정규화하고 키워드 추출
+            String normalizedInput = normalizeAddressText(address);
+            String[] inputKeywords = extractAddressKeywords(address);
+
+            Address bestMatch = null;
+            int bestScore = -1;
+
+            // 각 검색 결과를 점수화하여 가장 적합한 결과 선택
+            for (Address addr : addresses) {
+                String locality = addr.getLocality();
+                String adminArea = addr.getAdminArea();
+                String featureName = addr.getFeatureName();
+                String fullAddress = addr.getAddressLine(0);
+
+                Log.d(TAG, String.format("검색 결과: %s, 지역: %s %s, 특징: %s",
+                        fullAddress, adminArea, locality, featureName));
+
+                int score = calculateAddressMatchScore(
+                        address, normalizedInput, inputKeywords,
+                        adminArea, locality, featureName, fullAddress
+                );
+
+                Log.d(TAG, String.format("매칭 점수: %d - %s", score, fullAddress));
+
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMatch = addr;
+                }
+            }
+
+            // 적합한 결과가 없으면 첫 번째 결과 사용
+            if (bestMatch == null) {
+                bestMatch = addresses.get(0);
+                Log.w(TAG, "최적 매칭 실패, 첫 번째 결과 사용: " + bestMatch.getAddressLine(0));
+            }
+
+            Location location = new Location("geocoder");
+            location.setLatitude(bestMatch.getLatitude());
+            location.setLongitude(bestMatch.getLongitude());
+
+            Log.i(TAG, String.format("최종 선택된 위치: %s (%.6f, %.6f)",
+                    bestMatch.getAddressLine(0),
+                    bestMatch.getLatitude(),
+                    bestMatch.getLongitude()));
+
+            return location;
+
+        } catch (IOException e) {
+            Log.e(TAG, "주소 -> 좌표 변환 실패: " + address, e);
+        }
+        return null;
+    }
+
+    /**
+     * 주소 문자열 정규화 (공백, 특수문자 제거 및 소문자 변환)
+     */
+    private static String normalizeAddressText(String text) {
+        if (text == null) return "";
+        return text.replaceAll("\\s+", "")
+                .replaceAll("[·.-]", "")
+                .toLowerCase();
+    }
+
+    /**
+     * 주소에서 핵심 키워드 추출
+     */
+    private static String[] extractAddressKeywords(String address) {
+        if (address == null) return new String[0];
+
+        String[] words = address.split("[\\s,]+");
+        List<String> keywords = new ArrayList<>();
+
+        for (String word : words) {
+            String cleaned = word.trim();
+            // 의미 있는 단어만 키워드로 사용 (2글자 이상)
+            if (cleaned.length() >= 2) {
+                keywords.add(normalizeAddressText(cleaned));
+            }
+        }
+
+        return keywords.toArray(new String[0]);
+    }
+
+    /**
+     * 주소 검색 결과의 적합도를 점수로 계산
+     */
+    private static int calculateAddressMatchScore(String originalInput, String normalizedInput,
+                                                  String[] inputKeywords,
+                                                  String adminArea, String locality,
+                                                  String featureName, String fullAddress) {
+        int score = 0;
+
+        // 충청북도/청주시 지역이면 우선 점수 부여
+        if (adminArea != null && adminArea.contains("충청북도")) {
+            score += 10;
+        }
+        if (locality != null && locality.contains("청주")) {
+            score += 5;
+        }
+
+        // 장소명(featureName)과 입력 주소의 유사도 계산
+        if (featureName != null && !featureName.isEmpty()) {
+            String normalizedFeature = normalizeAddressText(featureName);
+
+            // 완전 일치하면 가장 높은 점수
+            if (normalizedInput.equals(normalizedFeature)) {
+                score += 100;
+            }
+            // 입력이 장소명에 포함되면 중간 점수 (길이 차이 고려)
+            else if (normalizedFeature.contains(normalizedInput)) {
+                int lengthDiff = Math.abs(normalizedFeature.length() - normalizedInput.length());
+                score += Math.max(50 - lengthDiff * 5, 20);
+            }
+            // 장소명이 입력에 포함되면 낮은 점수
+            else if (normalizedInput.contains(normalizedFeature)) {
+                score += 40;
+            }
+        }
+
+        // 추출한 키워드들이 결과에 포함되는지 확인
+        if (inputKeywords.length > 0) {
+            String searchTarget = normalizeAddressText(
+                    (featureName != null ? featureName : "") +
+                            (fullAddress != null ? fullAddress : "")
+            );
+
+            int matchedKeywords = 0;
+            for (String keyword : inputKeywords) {
+                if (searchTarget.contains(keyword)) {
+                    matchedKeywords++;
+                    score += 15;
+                }
+            }
+
+            // 모든 키워드가 매칭되면 보너스 점수
+            if (matchedKeywords == inputKeywords.length) {
+                score += 30;
+            }
+
+            // 키워드 순서까지 일치하면 추가 점수
+            if (matchedKeywords == inputKeywords.length &&
+                    isKeywordOrderMatched(searchTarget, inputKeywords)) {
+                score += 20;
+            }
+        }
+
+        // 전체 주소 문자열과의 유사도도 고려
+        if (fullAddress != null) {
+            String normalizedFullAddress = normalizeAddressText(fullAddress);
+
+            if (normalizedFullAddress.contains(normalizedInput)) {
+                score += 25;
+            }
+
+            double similarity = calculateTextSimilarity(normalizedInput, normalizedFullAddress);
+            score += (int)(similarity * 20);
+        }
+
+        return score;
+    }
+
+    /**
+     * 키워드들이 대상 문자열에서 순서대로 나타나는지 확인
+     */
+    private static boolean isKeywordOrderMatched(String target, String[] keywords) {
+        int lastIndex = -1;
+        for (String keyword : keywords) {
+            int currentIndex = target.indexOf(keyword);
+            if (currentIndex <= lastIndex) {
+                return false;
+            }
+            lastIndex = currentIndex;
+        }
+        return true;
+    }
+
+    /**
+     * 두 문자열의 유사도 계산 (0.0~1.0)
+     */
+    private static double calculateTextSimilarity(String s1, String s2) {
+        if (s1 == null || s2 == null || s1.isEmpty() || s2.isEmpty()) {
+            return 0.0;
+        }
+
+        // 같은 위치의 문자가 일치하는 비율 계산
+        int commonChars = 0;
+        int minLength = Math.min(s1.length(), s2.length());
+
+        for (int i = 0; i < minLength; i++) {
+            if (s1.charAt(i) == s2.charAt(i)) {
+                commonChars++;
+            }
+        }
+
+        double positionSimilarity = (double) commonChars / Math.max(s1.length(), s2.length());
+
+        // 한 문자열이 다른 문자열을 포함하는 경우의 유사도
+        double containsSimilarity = 0.0;
+        if (s1.contains(s2) || s2.contains(s1)) {
+            containsSimilarity = (double) Math.min(s1.length(), s2.length()) /
+                    Math.max(s1.length(), s2.length());
+        }
+
+        return Math.max(positionSimilarity, containsSimilarity);
+    }
+}
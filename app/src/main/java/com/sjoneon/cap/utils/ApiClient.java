@@ -31,15 +31,20 @@ public class ApiClient {
     private static final String BASE_URL = BASE_URL_CLOUD;
 
 
+    // 스트리밍 응답은 토큰 사이 간격만 제한 (전체 응답 시간은 제한하지 않음)
+    private static final long STREAM_READ_TIMEOUT_SECONDS = 30;
+
     private static ApiClient instance;
     private DaySyncApiService apiService;
+    private OkHttpClient okHttpClient;
+    private OkHttpClient streamingHttpClient;
 
     private ApiClient() {
         HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
         loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
 
         // 타임아웃을 각 상황(API)에 맞게 처리 (사용자 경험 개선)
-        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+        okHttpClient = new OkHttpClient.Builder()
                 .connectTimeout(10, TimeUnit.SECONDS) // 연결 타임아웃: 10초
                 .readTimeout(30, TimeUnit.SECONDS) // 읽기 타임아웃: 30초
                 .writeTimeout(30, TimeUnit.SECONDS) // 쓰기 타임아웃: 30초
@@ -66,6 +71,20 @@ public class ApiClient {
         return apiService;
     }
 
+    /**
+     * 스트리밍(SSE) 응답용 OkHttpClient
+     * BODY 로깅은 응답 전체를 읽은 뒤에 기록하므로 스트리밍에서는 빼고, 연결 풀은 공유합니다.
+     */
+    public synchronized OkHttpClient getStreamingHttpClient() {
+        if (streamingHttpClient == null) {
+            OkHttpClient.Builder builder = okHttpClient.newBuilder()
+                    .readTimeout(STREAM_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            builder.interceptors().clear();
+            streamingHttpClient = builder.build();
+        }
+        return streamingHttpClient;
+    }
+
     public static DaySyncApiService getDaySyncApiService() {
         return getInstance().getApiService();
     }
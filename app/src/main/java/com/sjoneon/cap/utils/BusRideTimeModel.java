@@ -0,0 +1,230 @@
+package com.sjoneon.cap.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+
+import java.lang.reflect.Type;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버스 탑승 시간 추정 모델
+ * 노선 정류장 순서를 따라 구간 거리를 합산하고, 시간대별 기본 속도 또는
+ * 실제 탑승 기록으로 학습한 노선별/시간대별 속도를 사용해 탑승 시간을 계산합니다.
+ */
+public class BusRideTimeModel {
+    private static final String TAG = "BusRideTimeModel";
+    private static final String PREFS_NAME = "bus_ride_time_prefs";
+    private static final String KEY_LEARNED_SPEEDS = "learned_speeds";
+
+    // 정류장 사이 직선 거리 대비 실제 도로 거리 보정값
+    private static final double SEGMENT_CURVATURE_MULTIPLIER = 1.1;
+
+    // 정류장 정차 시간 (분)
+    private static final double DWELL_MINUTES_PER_STOP = 0.4;
+
+    // 시간대별 기본 주행 속도 (m/분, 정차 시간 제외)
+    private static final double PEAK_SPEED_M_PER_MIN = 250;
+    private static final double DAYTIME_SPEED_M_PER_MIN = 300;
+    private static final double NIGHT_SPEED_M_PER_MIN = 360;
+
+    // 학습 속도 관련 설정
+    private static final double LEARNING_RATE = 0.3;
+    private static final int FULL_CONFIDENCE_SAMPLES = 5;
+    private static final double MIN_VALID_SPEED_M_PER_MIN = 50;
+    private static final double MAX_VALID_SPEED_M_PER_MIN = 800;
+
+    private static BusRideTimeModel instance;
+    private final Context context;
+    private final Gson gson;
+    private Map<String, LearnedSpeed> learnedSpeeds;
+
+    /**
+     * 탑승 시간 추정 결과
+     */
+    public static class RideEstimate {
+        public final int minutes;
+        public final double distanceMeters;
+        public final int stopCount;
+        public final boolean usedLearnedSpeed;
+
+        public RideEstimate(int minutes, double distanceMeters, int stopCount, boolean usedLearnedSpeed) {
+            this.minutes = minutes;
+            this.distanceMeters = distanceMeters;
+            this.stopCount = stopCount;
+            this.usedLearnedSpeed = usedLearnedSpeed;
+        }
+    }
+
+    /**
+     * 노선/시간대별 학습 속도 (지수 이동 평균)
+     */
+    private static class LearnedSpeed {
+        double speedMPerMin;
+        int samples;
+    }
+
+    private BusRideTimeModel(Context context) {
+        this.context = context.getApplicationContext();
+        this.gson = new Gson();
+        loadLearnedSpeeds();
+    }
+
+    public static synchronized BusRideTimeModel getInstance(Context context) {
+        if (instance == null) {
+            instance = new BusRideTimeModel(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 저장된 학습 속도 로드
+     */
+    private void loadLearnedSpeeds() {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        String json = prefs.getString(KEY_LEARNED_SPEEDS, null);
+
+        if (json != null) {
+            Type type = new TypeToken<HashMap<String, LearnedSpeed>>() {}.getType();
+            learnedSpeeds = gson.fromJson(json, type);
+        }
+        if (learnedSpeeds == null) {
+            learnedSpeeds = new HashMap<>();
+        }
+    }
+
+    /**
+     * 학습 속도 저장
+     */
+    private void saveLearnedSpeeds() {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        prefs.edit().putString(KEY_LEARNED_SPEEDS, gson.toJson(learnedSpeeds)).apply();
+    }
+
+    /**
+     * 노선 정류장 순서를 따라 출발~도착 구간의 탑승 시간 추정
+     * 이미 조회한 노선 정보만 사용하므로 추가 네트워크 호출이 없습니다.
+     *
+     * @return 추정 결과 (인덱스가 유효하지 않으면 null)
+     */
+    public synchronized RideEstimate estimate(List<TagoBusRouteStationResponse.RouteStation> stations,
+                                              int startIndex, int endIndex,
+                                              String routeId, long departureTimeMillis) {
+        if (stations == null || startIndex < 0 || endIndex <= startIndex || endIndex >= stations.size()) {
+            return null;
+        }
+
+        double distance = measureRideDistance(stations, startIndex, endIndex);
+        int stopCount = endIndex - startIndex;
+        int timeBucket = getTimeBucket(departureTimeMillis);
+
+        double defaultMinutes = distance / getDefaultSpeed(timeBucket) + stopCount * DWELL_MINUTES_PER_STOP;
+
+        LearnedSpeed learned = learnedSpeeds.get(buildKey(routeId, timeBucket));
+        double minutes = defaultMinutes;
+        boolean usedLearnedSpeed = false;
+
+        if (learned != null && learned.samples > 0 && learned.speedMPerMin > 0) {
+            // 학습 속도는 정차 시간이 포함된 실측 속도이므로 그대로 사용하고, 표본 수에 따라 가중치 부여
+            double learnedMinutes = distance / learned.speedMPerMin;
+            double weight = Math.min(learned.samples, FULL_CONFIDENCE_SAMPLES) / (double) FULL_CONFIDENCE_SAMPLES;
+            minutes = learnedMinutes * weight + defaultMinutes * (1 - weight);
+            usedLearnedSpeed = true;
+        }
+
+        Log.d(TAG, String.format("노선 %s 탑승 시간 추정: %.0fm, %d개 정류장, 시간대 %d, %.1f분 (학습 속도: %b)",
+                routeId, distance, stopCount, timeBucket, minutes, usedLearnedSpeed));
+
+        return new RideEstimate((int) Math.ceil(minutes), distance, stopCount, usedLearnedSpeed);
+    }
+
+    /**
+     * 실제 탑승 기록으로 노선/시간대별 속도 학습
+     */
+    public synchronized void recordRideObservation(String routeId, double distanceMeters,
+                                                   double rideMinutes, long boardingTimeMillis) {
+        if (routeId == null || distanceMeters <= 0 || rideMinutes <= 0) {
+            return;
+        }
+
+        double observedSpeed = distanceMeters / rideMinutes;
+        if (observedSpeed < MIN_VALID_SPEED_M_PER_MIN || observedSpeed > MAX_VALID_SPEED_M_PER_MIN) {
+            Log.w(TAG, String.format("비정상 탑승 기록 무시: 노선 %s, %.0fm, %.1f분", routeId, distanceMeters, rideMinutes));
+            return;
+        }
+
+        String key = buildKey(routeId, getTimeBucket(boardingTimeMillis));
+        LearnedSpeed learned = learnedSpeeds.get(key);
+        if (learned == null) {
+            learned = new LearnedSpeed();
+            learned.speedMPerMin = observedSpeed;
+        } else {
+            learned.speedMPerMin = learned.speedMPerMin * (1 - LEARNING_RATE) + observedSpeed * LEARNING_RATE;
+        }
+        learned.samples++;
+        learnedSpeeds.put(key, learned);
+        saveLearnedSpeeds();
+
+        Log.i(TAG, String.format("탑승 속도 학습: %s -> %.0fm/분 (표본 %d개)", key, learned.speedMPerMin, learned.samples));
+    }
+
+    /**
+     * 정류장 순서를 따라 구간 거리 합산 (미터)
+     */
+    public static double measureRideDistance(List<TagoBusRouteStationResponse.RouteStation> stations,
+                                             int startIndex, int endIndex) {
+        double total = 0;
+        TagoBusRouteStationResponse.RouteStation previous = null;
+
+        for (int i = startIndex; i <= endIndex; i++) {
+            TagoBusRouteStationResponse.RouteStation station = stations.get(i);
+            if (!station.isValid()) {
+                continue;
+            }
+            if (previous != null) {
+                total += previous.calculateDistanceTo(station);
+            }
+            previous = station;
+        }
+
+        return total * SEGMENT_CURVATURE_MULTIPLIER;
+    }
+
+    /**
+     * 시간대 구분 (0: 심야, 1: 출근 첨두, 2: 주간, 3: 퇴근 첨두, 4: 야간)
+     */
+    private static int getTimeBucket(long timeMillis) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(timeMillis);
+        int hour = calendar.get(Calendar.HOUR_OF_DAY);
+
+        if (hour < 6) return 0;
+        if (hour < 10) return 1;
+        if (hour < 17) return 2;
+        if (hour < 20) return 3;
+        return 4;
+    }
+
+    private static double getDefaultSpeed(int timeBucket) {
+        switch (timeBucket) {
+            case 1:
+            case 3:
+                return PEAK_SPEED_M_PER_MIN;
+            case 2:
+                return DAYTIME_SPEED_M_PER_MIN;
+            default:
+                return NIGHT_SPEED_M_PER_MIN;
+        }
+    }
+
+    private static String buildKey(String routeId, int timeBucket) {
+        return routeId + "_" + timeBucket;
+    }
+}
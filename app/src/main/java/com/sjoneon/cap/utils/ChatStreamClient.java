@@ -0,0 +1,207 @@
+package com.sjoneon.cap.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import com.sjoneon.cap.models.api.ChatRequest;
+import com.sjoneon.cap.models.api.ChatResponse;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.sse.EventSource;
+import okhttp3.sse.EventSourceListener;
+import okhttp3.sse.EventSources;
+
+import java.util.Locale;
+
+/**
+ * AI 채팅 스트리밍(SSE) 클라이언트
+ * POST /api/ai/chat/stream 응답을 이벤트 단위로 받아 전체 응답을 기다리지 않고 화면에 전달합니다.
+ *
+ * 이벤트 형식:
+ * - meta: 함수 호출 정보 (function_called, route_search_requested, weather_requested 등 ChatResponse 필드)
+ * - token: 응답 텍스트 조각 {"text": "..."}
+ * - done: 최종 ChatResponse (ai_response 전체 포함)
+ * - error: {"error": "..."}
+ *
+ * 모든 콜백은 메인 스레드에서 호출됩니다.
+ */
+public class ChatStreamClient {
+    private static final String TAG = "ChatStreamClient";
+
+    private static final String STREAM_PATH = "api/ai/chat/stream";
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static final String EVENT_META = "meta";
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
+
+    private static final String EVENT_STREAM_TYPE = "text/event-stream";
+
+    private static ChatStreamClient instance;
+
+    private final EventSource.Factory eventSourceFactory;
+    private final String streamUrl;
+    private final Gson gson = new Gson();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 스트리밍 응답 콜백
+     */
+    public interface StreamCallback {
+        /** 함수 호출 정보가 확정되면 호출 (응답 텍스트보다 먼저 올 수 있음) */
+        void onMetadata(ChatResponse metadata);
+
+        /** 응답 텍스트 조각 수신 */
+        void onToken(String text);
+
+        /** 응답 완료 (최종 ChatResponse) */
+        void onComplete(ChatResponse response);
+
+        /**
+         * 스트림 실패
+         *
+         * @param streamingUnsupported 서버가 스트리밍을 지원하지 않아 요청을 처리하지 않은 경우
+         *                             (404/405 또는 text/event-stream이 아닌 정상 응답) - 이때만 일반 API로 다시 요청해도 안전
+         */
+        void onError(String message, boolean streamingUnsupported);
+    }
+
+    private ChatStreamClient() {
+        ApiClient apiClient = ApiClient.getInstance();
+        this.eventSourceFactory = EventSources.createFactory(apiClient.getStreamingHttpClient());
+        this.streamUrl = apiClient.getBaseUrl() + STREAM_PATH;
+    }
+
+    public static synchronized ChatStreamClient getInstance() {
+        if (instance == null) {
+            instance = new ChatStreamClient();
+        }
+        return instance;
+    }
+
+    /**
+     * 채팅 메시지를 보내고 응답을 스트리밍으로 수신
+     *
+     * @return 진행 중인 스트림 (화면 종료 시 cancel() 호출)
+     */
+    public EventSource streamChat(ChatRequest chatRequest, @NonNull StreamCallback callback) {
+        Request request = new Request.Builder()
+                .url(streamUrl)
+                .header("Accept", "text/event-stream")
+                .post(RequestBody.create(gson.toJson(chatRequest), JSON))
+                .build();
+
+        Log.d(TAG, "스트리밍 요청 시작 - SessionID: " + chatRequest.getSessionId());
+        return eventSourceFactory.newEventSource(request, new StreamListener(callback));
+    }
+
+    /**
+     * SSE 이벤트를 StreamCallback으로 변환 (OkHttp 스레드에서 호출되므로 메인 스레드로 넘김)
+     */
+    private class StreamListener extends EventSourceListener {
+        private final StreamCallback callback;
+        private boolean finished = false;
+
+        StreamListener(StreamCallback callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void onEvent(@NonNull EventSource eventSource, @Nullable String id,
+                            @Nullable String type, @NonNull String data) {
+            if (finished) {
+                return;
+            }
+
+            try {
+                if (EVENT_TOKEN.equals(type)) {
+                    TokenChunk chunk = gson.fromJson(data, TokenChunk.class);
+                    if (chunk != null && chunk.text != null && !chunk.text.isEmpty()) {
+                        mainHandler.post(() -> callback.onToken(chunk.text));
+                    }
+                } else if (EVENT_META.equals(type)) {
+                    ChatResponse metadata = gson.fromJson(data, ChatResponse.class);
+                    Log.d(TAG, "함수 호출 정보 수신: " + metadata.getFunctionCalled());
+                    mainHandler.post(() -> callback.onMetadata(metadata));
+                } else if (EVENT_DONE.equals(type)) {
+                    finished = true;
+                    ChatResponse response = gson.fromJson(data, ChatResponse.class);
+                    mainHandler.post(() -> callback.onComplete(response));
+                    eventSource.cancel();
+                } else if (EVENT_ERROR.equals(type)) {
+                    finished = true;
+                    TokenChunk chunk = gson.fromJson(data, TokenChunk.class);
+                    String message = chunk != null && chunk.error != null ? chunk.error : "알 수 없는 오류";
+                    mainHandler.post(() -> callback.onError(message, false));
+                    eventSource.cancel();
+                } else {
+                    Log.w(TAG, "알 수 없는 이벤트 무시: " + type);
+                }
+            } catch (JsonParseException e) {
+                Log.e(TAG, "스트리밍 이벤트 파싱 실패 (" + type + "): " + data, e);
+            }
+        }
+
+        @Override
+        public void onClosed(@NonNull EventSource eventSource) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            Log.w(TAG, "완료 이벤트 없이 스트림 종료");
+            mainHandler.post(() -> callback.onError("응답이 중간에 끊겼습니다", false));
+        }
+
+        @Override
+        public void onFailure(@NonNull EventSource eventSource, @Nullable Throwable t, @Nullable Response response) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            String message = response != null ? "서버 응답 코드 " + response.code()
+                    : (t != null ? t.getMessage() : "연결 실패");
+            Log.e(TAG, "스트리밍 실패: " + message, t);
+            boolean unsupported = isStreamingUnsupported(response);
+            mainHandler.post(() -> callback.onError(message, unsupported));
+        }
+    }
+
+    /**
+     * 서버가 스트리밍 요청을 처리하지 않았는지 판단
+     * 연결 끊김/타임아웃/5xx는 서버가 이미 요청을 처리했을 수 있으므로 false (다시 보내면 메시지가 중복될 수 있음)
+     */
+    private static boolean isStreamingUnsupported(@Nullable Response response) {
+        if (response == null) {
+            return false;
+        }
+        int code = response.code();
+        if (code == 404 || code == 405) {
+            return true;
+        }
+        String contentType = response.header("Content-Type");
+        return response.isSuccessful()
+                && (contentType == null || !contentType.trim().toLowerCase(Locale.ROOT).startsWith(EVENT_STREAM_TYPE));
+    }
+
+    /**
+     * token/error 이벤트 데이터
+     */
+    private static class TokenChunk {
+        @SerializedName("text")
+        String text;
+
+        @SerializedName("error")
+        String error;
+    }
+}
@@ -0,0 +1,235 @@
+package com.sjoneon.cap.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 기상청 격자(nx, ny) 관련 유틸리티
+ * 위경도 ↔ 격자 변환(Lambert 정각원추도법, 5km 격자)과 격자별 중기예보 구역 코드를 제공합니다.
+ * 투영 상수는 클래스 로드 시 한 번만 계산하고, 격자 → 위경도와 격자 → 중기예보 구역은 격자 칸별로 캐시합니다.
+ */
+public final class KmaGrid {
+
+    // ================================================================================================
+    // 투영 상수 (기상청 동네예보 격자 기준)
+    // ================================================================================================
+
+    private static final double EARTH_RADIUS_KM = 6371.00877;
+    private static final double GRID_KM = 5.0;
+    private static final double STANDARD_LAT1 = 30.0;
+    private static final double STANDARD_LAT2 = 60.0;
+    private static final double ORIGIN_LON = 126.0;
+    private static final double ORIGIN_LAT = 38.0;
+    // 기준점 격자 좌표
+    private static final double ORIGIN_X = 43;
+    private static final double ORIGIN_Y = 136;
+
+    // 격자 범위 (1 ~ 149, 1 ~ 253)
+    public static final int MAX_NX = 149;
+    public static final int MAX_NY = 253;
+
+    private static final double DEG_TO_RAD = Math.PI / 180.0;
+    private static final double RAD_TO_DEG = 180.0 / Math.PI;
+
+    private static final double RE = EARTH_RADIUS_KM / GRID_KM;
+    private static final double OLON = ORIGIN_LON * DEG_TO_RAD;
+    private static final double SN;
+    private static final double SF;
+    private static final double RO;
+
+    static {
+        double slat1 = STANDARD_LAT1 * DEG_TO_RAD;
+        double slat2 = STANDARD_LAT2 * DEG_TO_RAD;
+        double olat = ORIGIN_LAT * DEG_TO_RAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
+        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
+        ro = RE * sf / Math.pow(ro, sn);
+
+        SN = sn;
+        SF = sf;
+        RO = ro;
+    }
+
+    // 격자 칸별 캐시 (여러 스레드에서 채울 수 있으므로 volatile 읽기/쓰기로 계산이 끝난 값만 공개,
+    // 같은 칸을 동시에 계산해도 결과가 같으므로 잠금은 사용하지 않음)
+    private static final AtomicReferenceArray<double[]> LAT_LON_BY_CELL =
+            new AtomicReferenceArray<>(MAX_NX * MAX_NY);
+    private static final AtomicReferenceArray<MidTermRegion> REGION_BY_CELL =
+            new AtomicReferenceArray<>(MAX_NX * MAX_NY);
+
+    /**
+     * 중기예보 지점 (기온 예보구역 + 육상 예보구역)
+     */
+    public static class MidTermRegion {
+        private final String name;
+        private final int nx;
+        private final int ny;
+        private final String temperatureRegId;
+        private final String landRegId;
+
+        MidTermRegion(String name, int nx, int ny, String temperatureRegId, String landRegId) {
+            this.name = name;
+            this.nx = nx;
+            this.ny = ny;
+            this.temperatureRegId = temperatureRegId;
+            this.landRegId = landRegId;
+        }
+
+        public String getName() { return name; }
+        public int getNx() { return nx; }
+        public int getNy() { return ny; }
+        public String getTemperatureRegId() { return temperatureRegId; }
+        public String getLandRegId() { return landRegId; }
+    }
+
+    // 육상 예보구역
+    private static final String LAND_CAPITAL = "11B00000";          // 서울, 인천, 경기도
+    private static final String LAND_GANGWON_WEST = "11D10000";     // 강원도영서
+    private static final String LAND_GANGWON_EAST = "11D20000";     // 강원도영동
+    private static final String LAND_CHUNGBUK = "11C10000";         // 충청북도
+    private static final String LAND_CHUNGNAM = "11C20000";         // 대전, 세종, 충청남도
+    private static final String LAND_JEONBUK = "11F10000";          // 전북자치도
+    private static final String LAND_JEONNAM = "11F20000";          // 광주, 전라남도
+    private static final String LAND_GYEONGBUK = "11H10000";        // 대구, 경상북도
+    private static final String LAND_GYEONGNAM = "11H20000";        // 부산, 울산, 경상남도
+    private static final String LAND_JEJU = "11G00000";             // 제주도
+
+    // 중기기온 예보 지점 (지점 격자 좌표 기준)
+    private static final MidTermRegion[] MID_TERM_REGIONS = {
+            new MidTermRegion("서울", 60, 127, "11B10101", LAND_CAPITAL),
+            new MidTermRegion("인천", 55, 124, "11B20201", LAND_CAPITAL),
+            new MidTermRegion("수원", 60, 121, "11B20601", LAND_CAPITAL),
+            new MidTermRegion("춘천", 73, 134, "11D10301", LAND_GANGWON_WEST),
+            new MidTermRegion("원주", 76, 122, "11D10401", LAND_GANGWON_WEST),
+            new MidTermRegion("강릉", 92, 131, "11D20501", LAND_GANGWON_EAST),
+            new MidTermRegion("청주", 69, 106, "11C10301", LAND_CHUNGBUK),
+            new MidTermRegion("충주", 76, 114, "11C10101", LAND_CHUNGBUK),
+            new MidTermRegion("대전", 67, 100, "11C20401", LAND_CHUNGNAM),
+            new MidTermRegion("세종", 66, 103, "11C20404", LAND_CHUNGNAM),
+            new MidTermRegion("홍성", 55, 106, "11C20104", LAND_CHUNGNAM),
+            new MidTermRegion("전주", 63, 89, "11F10201", LAND_JEONBUK),
+            new MidTermRegion("광주", 58, 74, "11F20501", LAND_JEONNAM),
+            new MidTermRegion("목포", 50, 67, "21F20801", LAND_JEONNAM),
+            new MidTermRegion("여수", 73, 66, "11F20401", LAND_JEONNAM),
+            new MidTermRegion("대구", 89, 90, "11H10701", LAND_GYEONGBUK),
+            new MidTermRegion("안동", 91, 106, "11H10501", LAND_GYEONGBUK),
+            new MidTermRegion("포항", 102, 94, "11H10201", LAND_GYEONGBUK),
+            new MidTermRegion("울릉도", 127, 127, "11E00101", LAND_GYEONGBUK),
+            new MidTermRegion("부산", 98, 76, "11H20201", LAND_GYEONGNAM),
+            new MidTermRegion("울산", 102, 84, "11H20101", LAND_GYEONGNAM),
+            new MidTermRegion("창원", 90, 77, "11H20301", LAND_GYEONGNAM),
+            new MidTermRegion("진주", 81, 75, "11H20701", LAND_GYEONGNAM),
+            new MidTermRegion("제주", 52, 38, "11G00201", LAND_JEJU),
+            new MidTermRegion("서귀포", 52, 33, "11G00401", LAND_JEJU)
+    };
+
+    private KmaGrid() {
+    }
+
+    // ================================================================================================
+    // 좌표 변환
+    // ================================================================================================
+
+    /**
+     * 위경도 → 격자 좌표 {nx, ny}
+     */
+    public static int[] toGrid(double lat, double lon) {
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEG_TO_RAD * 0.5);
+        ra = RE * SF / Math.pow(ra, SN);
+        double theta = lon * DEG_TO_RAD - OLON;
+        if (theta > Math.PI) theta -= 2.0 * Math.PI;
+        if (theta < -Math.PI) theta += 2.0 * Math.PI;
+        theta *= SN;
+
+        int nx = (int) Math.floor(ra * Math.sin(theta) + ORIGIN_X + 0.5);
+        int ny = (int) Math.floor(RO - ra * Math.cos(theta) + ORIGIN_Y + 0.5);
+        return new int[]{nx, ny};
+    }
+
+    /**
+     * 격자 좌표 → 격자 중심의 위경도 {lat, lon}
+     */
+    public static double[] toLatLon(int nx, int ny) {
+        int cell = cellIndex(nx, ny);
+        if (cell < 0) {
+            return computeLatLon(nx, ny);
+        }
+
+        double[] cached = LAT_LON_BY_CELL.get(cell);
+        if (cached == null) {
+            cached = computeLatLon(nx, ny);
+            LAT_LON_BY_CELL.set(cell, cached);
+        }
+        return cached.clone();
+    }
+
+    private static double[] computeLatLon(int nx, int ny) {
+        double xn = nx - ORIGIN_X;
+        double yn = RO - ny + ORIGIN_Y;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (SN < 0.0) ra = -ra;
+
+        double alat = Math.pow(RE * SF / ra, 1.0 / SN);
+        alat = 2.0 * Math.atan(alat) - Math.PI * 0.5;
+
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = xn < 0.0 ? -Math.PI * 0.5 : Math.PI * 0.5;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        double alon = theta / SN + OLON;
+        return new double[]{alat * RAD_TO_DEG, alon * RAD_TO_DEG};
+    }
+
+    /**
+     * 격자 칸 캐시 인덱스 (격자 범위 밖이면 -1)
+     */
+    private static int cellIndex(int nx, int ny) {
+        if (nx < 1 || nx > MAX_NX || ny < 1 || ny > MAX_NY) {
+            return -1;
+        }
+        return (ny - 1) * MAX_NX + (nx - 1);
+    }
+
+    // ================================================================================================
+    // 중기예보 구역
+    // ================================================================================================
+
+    /**
+     * 격자에서 가장 가까운 중기예보 지점 (격자 칸별로 캐시)
+     */
+    public static MidTermRegion findMidTermRegion(int nx, int ny) {
+        int cell = cellIndex(nx, ny);
+        if (cell < 0) {
+            return nearestMidTermRegion(nx, ny);
+        }
+
+        MidTermRegion region = REGION_BY_CELL.get(cell);
+        if (region == null) {
+            region = nearestMidTermRegion(nx, ny);
+            REGION_BY_CELL.set(cell, region);
+        }
+        return region;
+    }
+
+    private static MidTermRegion nearestMidTermRegion(int nx, int ny) {
+        MidTermRegion nearest = MID_TERM_REGIONS[0];
+        int nearestDistance = Integer.MAX_VALUE;
+        for (MidTermRegion region : MID_TERM_REGIONS) {
+            int dx = region.nx - nx;
+            int dy = region.ny - ny;
+            int distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearest = region;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,134 @@
+package com.sjoneon.cap.utils;
+
+import android.util.Log;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기상청 중기예보(getMidTa, getMidLandFcst) 응답 스트리밍 디코더
+ * 두 API 모두 예보구역 하나당 항목 하나(taMin3, wf3Am 등 일차별 필드)를 돌려주므로 첫 항목을 이름 -> 값 맵으로 읽습니다.
+ */
+public final class MidTermForecastDecoder {
+    private static final String TAG = "MidTermForecastDecoder";
+
+    private MidTermForecastDecoder() {
+    }
+
+    /**
+     * @return 첫 항목의 필드 (API 오류 코드 응답이면 null, 항목이 없으면 빈 맵)
+     * @throws JsonParseException 응답 형식이 잘못된 경우
+     * @throws IOException 읽는 중 연결이 끊긴 경우
+     */
+    public static Map<String, String> decodeFirstItem(Reader source) throws IOException {
+        Map<String, String> item = new HashMap<>();
+        String[] header = new String[2];
+
+        JsonReader reader = new JsonReader(source);
+        reader.setLenient(true);
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("response".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    readResponse(reader, item, header);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (MalformedJsonException | IllegalStateException e) {
+            throw new JsonParseException("중기예보 응답 형식 오류", e);
+        } finally {
+            reader.close();
+        }
+
+        String resultCode = header[0];
+        if (resultCode != null && !"00".equals(resultCode)) {
+            Log.e(TAG, "API 에러: " + resultCode + " - " + header[1]);
+            return null;
+        }
+        return item;
+    }
+
+    private static void readResponse(JsonReader reader, Map<String, String> item, String[] header)
+            throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("header".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                Map<String, String> fields = readFields(reader);
+                header[0] = fields.get("resultCode");
+                header[1] = fields.get("resultMsg");
+            } else if ("body".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readBody(reader, item);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void readBody(JsonReader reader, Map<String, String> item) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"items".equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_OBJECT) {
+                // 결과가 없으면 "items": "" 로 오기도 함
+                reader.skipValue();
+                continue;
+            }
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!"item".equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+
+                JsonToken token = reader.peek();
+                if (token == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (item.isEmpty() && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                            item.putAll(readFields(reader));
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endArray();
+                } else if (token == JsonToken.BEGIN_OBJECT) {
+                    item.putAll(readFields(reader));
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+    }
+
+    /**
+     * 객체의 문자열/숫자 필드를 맵으로 읽음 (중첩 값은 건너뜀)
+     */
+    private static Map<String, String> readFields(JsonReader reader) throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonToken token = reader.peek();
+            if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                fields.put(name, reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return fields;
+    }
+}
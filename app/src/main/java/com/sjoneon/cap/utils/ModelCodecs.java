@@ -0,0 +1,321 @@
+package com.sjoneon.cap.utils;
+
+import com.sjoneon.cap.models.local.AlarmItem;
+import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.models.local.MidTermForecast;
+import com.sjoneon.cap.models.local.NotificationItem;
+import com.sjoneon.cap.models.local.RouteInfo;
+import com.sjoneon.cap.models.local.VillageForecast;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 모델 바이너리 코덱 모음
+ * 필드를 추가할 때는 write()의 맨 뒤에 기록하고 버전을 올린 뒤, read()에서 해당 버전 이상일 때만 읽어야 합니다.
+ */
+public final class ModelCodecs {
+
+    private ModelCodecs() {
+    }
+
+    // ================================================================================================
+    // 일정
+    // ================================================================================================
+
+    public static final BinaryCodec<CalendarEvent> CALENDAR_EVENT = new BinaryCodec<CalendarEvent>() {
+        @Override
+        protected int getVersion() {
+            // 2: 일정 장소(locationAlias) 추가
+            return 2;
+        }
+
+        @Override
+        protected void write(CalendarEvent event, DataOutput out) throws IOException {
+            out.writeLong(event.getId());
+            writeString(out, event.getTitle());
+            writeString(out, event.getDescription());
+            out.writeLong(event.getDateTime());
+            out.writeLong(event.getCreatedAt());
+            out.writeLong(event.getUpdatedAt());
+            writeNullableInt(out, event.getServerId());
+
+            List<CalendarEvent.NotificationSetting> settings = event.getNotificationSettings();
+            int count = settings != null ? settings.size() : 0;
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                CalendarEvent.NotificationSetting setting = settings.get(i);
+                // 순서가 바뀌어도 읽을 수 있도록 enum은 이름으로 기록
+                writeString(out, setting.getType() != null ? setting.getType().name() : null);
+                out.writeBoolean(setting.isEnabled());
+            }
+            writeString(out, event.getLocationAlias());
+        }
+
+        @Override
+        protected CalendarEvent read(DataInput in, int version) throws IOException {
+            long id = in.readLong();
+            String title = readString(in);
+            String description = readString(in);
+            long dateTime = in.readLong();
+            long createdAt = in.readLong();
+            long updatedAt = in.readLong();
+            Integer serverId = readNullableInt(in);
+
+            int count = in.readInt();
+            List<CalendarEvent.NotificationSetting> settings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String typeName = readString(in);
+                boolean enabled = in.readBoolean();
+                CalendarEvent.NotificationSetting.NotificationType type = parseNotificationType(typeName);
+                if (type != null) {
+                    settings.add(new CalendarEvent.NotificationSetting(type, enabled));
+                }
+            }
+
+            String locationAlias = version >= 2 ? readString(in) : null;
+
+            CalendarEvent event = new CalendarEvent(id, title, description, dateTime);
+            event.setNotificationSettings(settings);
+            event.setServerId(serverId);
+            event.setLocationAlias(locationAlias);
+            event.restoreTimestamps(createdAt, updatedAt);
+            return event;
+        }
+    };
+
+    private static CalendarEvent.NotificationSetting.NotificationType parseNotificationType(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return CalendarEvent.NotificationSetting.NotificationType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            // 이후 버전에서 추가된 알림 유형은 건너뜀
+            return null;
+        }
+    }
+
+    // ================================================================================================
+    // 알람
+    // ================================================================================================
+
+    public static final BinaryCodec<AlarmItem> ALARM = new BinaryCodec<AlarmItem>() {
+        @Override
+        protected int getVersion() {
+            return 1;
+        }
+
+        @Override
+        protected void write(AlarmItem alarm, DataOutput out) throws IOException {
+            out.writeInt(alarm.getId());
+            writeString(out, alarm.getTime());
+            writeString(out, alarm.getLabel());
+            out.writeBoolean(alarm.isEnabled());
+            out.writeBoolean(alarm.isSoundEnabled());
+            out.writeBoolean(alarm.isVibrationEnabled());
+            writeNullableInt(out, alarm.getServerId());
+        }
+
+        @Override
+        protected AlarmItem read(DataInput in, int version) throws IOException {
+            AlarmItem alarm = new AlarmItem(in.readInt(), readString(in), readString(in),
+                    in.readBoolean(), in.readBoolean(), in.readBoolean());
+            alarm.setServerId(readNullableInt(in));
+            return alarm;
+        }
+    };
+
+    // ================================================================================================
+    // 알림 내역
+    // ================================================================================================
+
+    public static final BinaryCodec<NotificationItem> NOTIFICATION = new BinaryCodec<NotificationItem>() {
+        @Override
+        protected int getVersion() {
+            return 1;
+        }
+
+        @Override
+        protected void write(NotificationItem notification, DataOutput out) throws IOException {
+            out.writeInt(notification.getId());
+            writeString(out, notification.getTitle());
+            writeString(out, notification.getContent());
+            out.writeLong(notification.getTimestamp());
+            out.writeBoolean(notification.isRead());
+        }
+
+        @Override
+        protected NotificationItem read(DataInput in, int version) throws IOException {
+            return new NotificationItem(in.readInt(), readString(in), readString(in),
+                    in.readLong(), in.readBoolean());
+        }
+    };
+
+    // ================================================================================================
+    // 경로
+    // ================================================================================================
+
+    public static final BinaryCodec<RouteInfo> ROUTE_INFO = new BinaryCodec<RouteInfo>() {
+        @Override
+        protected int getVersion() {
+            // 2: 도착 예정 버스 없음 표시(arrivalUnavailable) 추가
+            return 2;
+        }
+
+        @Override
+        protected void write(RouteInfo route, DataOutput out) throws IOException {
+            writeString(out, route.getType());
+            out.writeInt(route.getDuration());
+            out.writeInt(route.getBusWaitTime());
+            writeString(out, route.getBusNumber());
+            writeString(out, route.getStartStopName());
+            writeString(out, route.getEndStopName());
+            out.writeInt(route.getBusRideTime());
+            out.writeInt(route.getWalkingTimeToStartStop());
+            out.writeInt(route.getWalkingTimeToDestination());
+            out.writeBoolean(route.isExpanded());
+            writeString(out, route.getDirectionInfo());
+            writeString(out, route.getRouteId());
+            out.writeDouble(route.getBusRideDistance());
+            writeString(out, route.getCityCode());
+            writeString(out, route.getStartStopId());
+            out.writeBoolean(route.isCached());
+            out.writeDouble(route.getStartStopLat());
+            out.writeDouble(route.getStartStopLng());
+            out.writeDouble(route.getEndStopLat());
+            out.writeDouble(route.getEndStopLng());
+            out.writeDouble(route.getDestinationLat());
+            out.writeDouble(route.getDestinationLng());
+            out.writeBoolean(route.isArrivalUnavailable());
+        }
+
+        @Override
+        protected RouteInfo read(DataInput in, int version) throws IOException {
+            RouteInfo route = new RouteInfo(readString(in), in.readInt(), in.readInt(),
+                    readString(in), readString(in), readString(in));
+            route.setBusRideTime(in.readInt());
+            route.setWalkingTimeToStartStop(in.readInt());
+            route.setWalkingTimeToDestination(in.readInt());
+            route.setExpanded(in.readBoolean());
+            route.setDirectionInfo(readString(in));
+            route.setRouteId(readString(in));
+            route.setBusRideDistance(in.readDouble());
+            route.setCityCode(readString(in));
+            route.setStartStopId(readString(in));
+            route.setCached(in.readBoolean());
+            route.setStartStopLat(in.readDouble());
+            route.setStartStopLng(in.readDouble());
+            route.setEndStopLat(in.readDouble());
+            route.setEndStopLng(in.readDouble());
+            route.setDestinationLat(in.readDouble());
+            route.setDestinationLng(in.readDouble());
+            route.setArrivalUnavailable(version >= 2 && in.readBoolean());
+            return route;
+        }
+    };
+
+    // ================================================================================================
+    // 단기예보
+    // ================================================================================================
+
+    public static final BinaryCodec<VillageForecast> VILLAGE_FORECAST = new BinaryCodec<VillageForecast>() {
+        @Override
+        protected int getVersion() {
+            return 1;
+        }
+
+        @Override
+        protected void write(VillageForecast forecast, DataOutput out) throws IOException {
+            out.writeInt(forecast.getNx());
+            out.writeInt(forecast.getNy());
+            writeString(out, forecast.getBaseDate());
+            writeString(out, forecast.getBaseTime());
+
+            // 칸은 자료구분코드 이름과 함께 기록해 열 순서가 바뀌어도 읽을 수 있음
+            String[] categories = VillageForecast.getCategories();
+            int slotCount = forecast.getSlotCount();
+            out.writeInt(slotCount);
+            for (int slot = 0; slot < slotCount; slot++) {
+                writeString(out, forecast.getSlotDate(slot));
+                writeString(out, forecast.getSlotTime(slot));
+
+                int present = 0;
+                for (String category : categories) {
+                    if (forecast.hasValue(slot, category)) {
+                        present++;
+                    }
+                }
+                out.writeInt(present);
+                for (String category : categories) {
+                    String value = forecast.getValue(slot, category);
+                    if (value != null) {
+                        writeString(out, category);
+                        writeString(out, value);
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected VillageForecast read(DataInput in, int version) throws IOException {
+            VillageForecast.Builder builder = new VillageForecast.Builder(in.readInt(), in.readInt(),
+                    readString(in), readString(in));
+
+            int slotCount = in.readInt();
+            for (int slot = 0; slot < slotCount; slot++) {
+                String fcstDate = readString(in);
+                String fcstTime = readString(in);
+                int present = in.readInt();
+                for (int i = 0; i < present; i++) {
+                    builder.add(fcstDate, fcstTime, readString(in), readString(in));
+                }
+            }
+            return builder.build();
+        }
+    };
+
+    // ================================================================================================
+    // 중기예보
+    // ================================================================================================
+
+    public static final BinaryCodec<MidTermForecast> MID_TERM_FORECAST = new BinaryCodec<MidTermForecast>() {
+        @Override
+        protected int getVersion() {
+            return 1;
+        }
+
+        @Override
+        protected void write(MidTermForecast forecast, DataOutput out) throws IOException {
+            writeString(out, forecast.getTemperatureRegId());
+            writeString(out, forecast.getLandRegId());
+            writeString(out, forecast.getTmFc());
+
+            out.writeInt(MidTermForecast.MAX_DAY_OFFSET + 1);
+            for (int day = 0; day <= MidTermForecast.MAX_DAY_OFFSET; day++) {
+                writeNullableInt(out, forecast.getMinTemp(day));
+                writeNullableInt(out, forecast.getMaxTemp(day));
+                writeString(out, forecast.getAmCondition(day));
+                writeString(out, forecast.getPmCondition(day));
+                writeNullableInt(out, forecast.getAmRainChance(day));
+                writeNullableInt(out, forecast.getPmRainChance(day));
+            }
+        }
+
+        @Override
+        protected MidTermForecast read(DataInput in, int version) throws IOException {
+            MidTermForecast.Builder builder = new MidTermForecast.Builder(readString(in), readString(in),
+                    readString(in));
+
+            int days = in.readInt();
+            for (int day = 0; day < days; day++) {
+                builder.setTemperature(day, readNullableInt(in), readNullableInt(in));
+                builder.setLand(day, readString(in), readString(in), readNullableInt(in), readNullableInt(in));
+            }
+            return builder.build();
+        }
+    };
+}
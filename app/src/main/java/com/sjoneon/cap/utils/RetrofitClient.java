@@ -2,6 +2,8 @@ package com.sjoneon.cap.utils;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.sjoneon.cap.models.api.TagoBusArrivalResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
@@ -18,18 +20,24 @@ public class RetrofitClient {
             .setLenient()
             .create();
 
-    public static Retrofit getTagoInstance() {
+    // TAGO 응답은 items가 빈 문자열/단일 객체로 오기도 하므로 전용 역직렬화기 사용
+    private static Gson tagoGson = new GsonBuilder()
+            .registerTypeAdapter(TagoBusArrivalResponse.Body.class, new TagoBusArrivalDeserializer())
+            .registerTypeAdapter(TagoBusStopResponse.Body.class, new TagoBusStopDeserializer())
+            .setLenient()
+            .create();
+
+    public static synchronized Retrofit getTagoInstance() {
         if (tagoInstance == null) {
             tagoInstance = new Retrofit.Builder()
                     .baseUrl(TAGO_API_BASE_URL)
-                    // 수정된 Gson 객체 사용
-                    .addConverterFactory(GsonConverterFactory.create(gson))
+                    .addConverterFactory(GsonConverterFactory.create(tagoGson))
                     .build();
         }
         return tagoInstance;
     }
 
-    public static Retrofit getTmapInstance() {
+    public static synchronized Retrofit getTmapInstance() {
         if (tmapInstance == null) {
             tmapInstance = new Retrofit.Builder()
                     .baseUrl(TMAP_API_BASE_URL)
@@ -0,0 +1,60 @@
+package com.sjoneon.cap.utils;
+
+import com.sjoneon.cap.models.api.TagoBusArrivalResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+
+/**
+ * 경로 탐색 중간 후보를 담는 경량 클래스
+ * 탐색 중에는 정수 ID와 분 단위 시간만 비교하고, 최종 결과에 대해서만 RouteInfo로 변환합니다.
+ */
+public final class RouteCandidate {
+
+    // 중복 제거용 정수 ID (RouteCandidateCollector에서 발급)
+    public final int busNumberId;
+    public final int startStopNameId;
+    public final int endStopNameId;
+
+    // 소요 시간 (분)
+    public final int walkToStartMin;
+    public final int busWaitMin;
+    public final int busRideMin;
+    public final int walkToEndMin;
+    public final int durationMin;
+
+    public final float busRideDistance;
+
+    // 최종 RouteInfo 변환 시에만 사용하는 원본 참조 (복사하지 않음)
+    public final TagoBusStopResponse.BusStop startStop;
+    public final TagoBusStopResponse.BusStop endStop;
+    public final TagoBusArrivalResponse.BusArrival bus;
+    public final String directionInfo;
+
+    public RouteCandidate(int busNumberId, int startStopNameId, int endStopNameId,
+                          int walkToStartMin, int busWaitMin, int busRideMin, int walkToEndMin,
+                          float busRideDistance,
+                          TagoBusStopResponse.BusStop startStop,
+                          TagoBusStopResponse.BusStop endStop,
+                          TagoBusArrivalResponse.BusArrival bus,
+                          String directionInfo) {
+        this.busNumberId = busNumberId;
+        this.startStopNameId = startStopNameId;
+        this.endStopNameId = endStopNameId;
+        this.walkToStartMin = walkToStartMin;
+        this.busWaitMin = busWaitMin;
+        this.busRideMin = busRideMin;
+        this.walkToEndMin = walkToEndMin;
+        this.durationMin = walkToStartMin + busWaitMin + busRideMin + walkToEndMin;
+        this.busRideDistance = busRideDistance;
+        this.startStop = startStop;
+        this.endStop = endStop;
+        this.bus = bus;
+        this.directionInfo = directionInfo;
+    }
+
+    /**
+     * 같은 버스 번호 + 승하차 정류장명이면 같은 경로로 취급하는 중복 제거 키
+     */
+    public long getDedupKey() {
+        return RouteCandidateCollector.packKey(busNumberId, startStopNameId, endStopNameId);
+    }
+}
@@ -0,0 +1,153 @@
+package com.sjoneon.cap.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 경로 탐색 후보 수집기
+ * 문자열 ID를 정수로 인터닝하고, 해시 기반 중복 제거와 소요 시간 기준 상위 K개 힙을 유지합니다.
+ * 검색 1회마다 새로 만들어 RouteEngine 검색 스레드 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+public class RouteCandidateCollector {
+
+    // 키 패킹 시 ID당 사용하는 비트 수 (검색 1회당 약 200만 개까지)
+    private static final int ID_BITS = 21;
+    private static final int MAX_ID = (1 << ID_BITS) - 1;
+
+    // 소요 시간이 긴 후보가 먼저 나오는 힙 (상위 K개 유지용)
+    private static final Comparator<RouteCandidate> LONGEST_FIRST = (a, b) -> {
+        if (a.durationMin != b.durationMin) {
+            return Integer.compare(b.durationMin, a.durationMin);
+        }
+        return Integer.compare(b.busWaitMin, a.busWaitMin);
+    };
+
+    private final int capacity;
+    private final PriorityQueue<RouteCandidate> topCandidates;
+    private final LongHashSet seenRoutes = new LongHashSet();
+    private final LongHashSet processedRoutes = new LongHashSet();
+    private final Map<String, Integer> internedIds = new HashMap<>();
+
+    public RouteCandidateCollector(int capacity) {
+        this.capacity = capacity;
+        this.topCandidates = new PriorityQueue<>(capacity + 1, LONGEST_FIRST);
+    }
+
+    /**
+     * 문자열을 검색 범위 내에서 고유한 정수 ID로 변환 (0은 사용하지 않음)
+     */
+    public int intern(String value) {
+        String key = value != null ? value : "";
+        Integer id = internedIds.get(key);
+        if (id == null) {
+            id = internedIds.size() + 1;
+            if (id > MAX_ID) {
+                throw new IllegalStateException("인터닝 가능한 ID 개수 초과");
+            }
+            internedIds.put(key, id);
+        }
+        return id;
+    }
+
+    /**
+     * 이미 분석을 마친 (버스 번호, 출발 정류장) 조합인지 확인
+     */
+    public boolean isProcessed(String busNumber, String startStopId) {
+        return processedRoutes.contains(packKey(intern(busNumber), intern(startStopId), 0));
+    }
+
+    public void markProcessed(String busNumber, String startStopId) {
+        processedRoutes.add(packKey(intern(busNumber), intern(startStopId), 0));
+    }
+
+    /**
+     * 후보 추가 (중복이거나 상위 K개에 들지 못하면 false)
+     */
+    public boolean offer(RouteCandidate candidate) {
+        if (!seenRoutes.add(candidate.getDedupKey())) {
+            return false;
+        }
+
+        if (topCandidates.size() < capacity) {
+            topCandidates.add(candidate);
+            return true;
+        }
+
+        RouteCandidate worst = topCandidates.peek();
+        if (worst != null && LONGEST_FIRST.compare(candidate, worst) > 0) {
+            topCandidates.poll();
+            topCandidates.add(candidate);
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return topCandidates.size();
+    }
+
+    /**
+     * 소요 시간 오름차순으로 정렬된 최종 후보 목록
+     */
+    public List<RouteCandidate> getSortedCandidates() {
+        List<RouteCandidate> sorted = new ArrayList<>(topCandidates);
+        Collections.sort(sorted, Collections.reverseOrder(LONGEST_FIRST));
+        return sorted;
+    }
+
+    static long packKey(int first, int second, int third) {
+        return ((long) first << (ID_BITS * 2)) | ((long) second << ID_BITS) | third;
+    }
+
+    /**
+     * long 키 전용 오픈 어드레싱 해시 집합 (박싱 없음, 0은 빈 슬롯)
+     */
+    private static class LongHashSet {
+        private long[] table = new long[64];
+        private int size;
+
+        boolean contains(long key) {
+            int mask = table.length - 1;
+            int index = mix(key) & mask;
+            while (table[index] != 0) {
+                if (table[index] == key) return true;
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        boolean add(long key) {
+            if ((size + 1) * 2 > table.length) {
+                rehash(table.length * 2);
+            }
+            int mask = table.length - 1;
+            int index = mix(key) & mask;
+            while (table[index] != 0) {
+                if (table[index] == key) return false;
+                index = (index + 1) & mask;
+            }
+            table[index] = key;
+            size++;
+            return true;
+        }
+
+        private void rehash(int newCapacity) {
+            long[] oldTable = table;
+            table = new long[newCapacity];
+            size = 0;
+            for (long key : oldTable) {
+                if (key != 0) add(key);
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -1,4 +1,956 @@
 package com.sjoneon.cap.utils;
 
+import android.util.Log;
+
+import com.google.gson.Gson;
+import com.sjoneon.cap.models.api.TagoBusArrivalResponse;
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+import com.sjoneon.cap.models.api.TmapPedestrianResponse;
+import com.sjoneon.cap.models.local.RouteInfo;
+import com.sjoneon.cap.services.TagoApiService;
+import com.sjoneon.cap.services.TmapApiService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import retrofit2.Response;
+
+/**
+ * 버스 경로 탐색 엔진
+ * 주변 정류장 → 도착 정보 → 노선 정류장 → 회차 방향 검증 → 도보/탑승 시간 → 상위 후보 수집 순서로 탐색합니다.
+ *
+ * 모든 API 호출을 동기로 실행하므로 백그라운드 스레드에서 호출해야 하며, 노선/정류장 캐시를 공유하므로
+ * 한 번에 하나의 스레드에서만 사용합니다. Android 프레임워크에 의존하지 않아 JVM 벤치마크에서도 같은 코드를 실행합니다.
+ */
 public class RouteEngine {
+    private static final String TAG = "RouteEngine";
+
+    public static final int MAX_ROUTES_TO_SHOW = 10;
+
+    // 위치별 최대 정류장 수
+    private static final int MAX_STOPS_PER_LOCATION = 20;
+
+    // 정류장 검색 범위 (API 반경 500m 제한을 여러 지점 검색으로 보완)
+    private static final double SEARCH_POINT_OFFSET_DEGREES = 0.0045;
+    private static final double MAX_STOP_DISTANCE_METERS = 1000;
+
+    // 도착 정보 페이지 설정
+    private static final int ARRIVAL_ROWS_PER_PAGE = 200;
+    private static final int MAX_ARRIVAL_PAGES = 2;
+
+    // 탑승 시간 계산 상수
+    private static final double DISTANCE_MULTIPLIER = 1.3;
+    private static final int BUS_AVERAGE_SPEED_M_PER_MIN = 200;
+    private static final int MIN_BUS_RIDE_TIME = 2;
+    private static final int MAX_BUS_RIDE_TIME = 50;
+    private static final int MAX_RIDE_STOP_COUNT = 50;
+
+    // 직선거리 기반 도보 속도 (m/분)
+    private static final double WALKING_SPEED_M_PER_MIN = 83.33;
+
+    private final TagoApiService tagoApiService;
+    private final TmapApiService tmapApiService;
+    private final String tagoServiceKey;
+    private final String tmapApiKey;
+    private final BusRideTimeModel busRideTimeModel;
+    private final Gson gson = new Gson();
+
+    // 캐시 최대 항목 수 (앱 실행 내내 유지되므로 오래 쓰지 않은 항목부터 제거)
+    private static final int BUS_STOP_CACHE_SIZE = 32;
+    private static final int ROUTE_STATION_CACHE_SIZE = 64;
+    private static final int STATION_INDEX_CACHE_SIZE = 512;
+
+    // 캐시 (검색 간 공유, 크기 제한)
+    private final Map<String, Integer> stationIndexCache = new LruMap<>(STATION_INDEX_CACHE_SIZE);
+    private final Map<String, List<TagoBusStopResponse.BusStop>> busStopSearchCache = new LruMap<>(BUS_STOP_CACHE_SIZE);
+    private final Map<String, List<TagoBusRouteStationResponse.RouteStation>> routeStationCache =
+            new LruMap<>(ROUTE_STATION_CACHE_SIZE);
+
+    /**
+     * 탐색 실패 (정류장 없음 등 사용자에게 보여줄 메시지 포함)
+     */
+    public static class SearchException extends Exception {
+        public SearchException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 최근에 사용한 순서로 maxSize개까지만 유지하는 캐시
+     */
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private final int maxSize;
+
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * 노선 매칭 결과를 담는 클래스
+     */
+    private static class RouteMatchResult {
+        final TagoBusStopResponse.BusStop endStopBusStop;
+        final String directionInfo;
+
+        RouteMatchResult(TagoBusStopResponse.BusStop endStop, String direction) {
+            this.endStopBusStop = endStop;
+            this.directionInfo = direction;
+        }
+    }
+
+    public RouteEngine(TagoApiService tagoApiService, TmapApiService tmapApiService,
+                       String tagoServiceKey, String tmapApiKey, BusRideTimeModel busRideTimeModel) {
+        this.tagoApiService = tagoApiService;
+        this.tmapApiService = tmapApiService;
+        this.tagoServiceKey = tagoServiceKey;
+        this.tmapApiKey = tmapApiKey;
+        this.busRideTimeModel = busRideTimeModel;
+    }
+
+    /**
+     * 출발지에서 도착지까지 버스 경로 탐색
+     *
+     * @return 총 소요 시간순 상위 MAX_ROUTES_TO_SHOW개 후보 (경로가 없으면 빈 목록)
+     * @throws SearchException 출발지나 도착지 근처에 정류장이 없는 경우
+     */
+    public List<RouteCandidate> search(double startLat, double startLng,
+                                       double endLat, double endLng) throws SearchException {
+        Log.d(TAG, "=== 1단계: 출발지/도착지 근처 정류장 탐색 ===");
+
+        List<TagoBusStopResponse.BusStop> allStartStops = searchBusStopsInMultipleRadii(startLat, startLng, "출발지");
+        List<TagoBusStopResponse.BusStop> allEndStops = searchBusStopsInMultipleRadii(endLat, endLng, "도착지");
+
+        if (allStartStops.isEmpty() || allEndStops.isEmpty()) {
+            throw new SearchException("근처에 버스 정류장이 없습니다.");
+        }
+
+        Log.i(TAG, "출발지 근처 정류장: " + allStartStops.size() + "개, 도착지 근처 정류장: " + allEndStops.size() + "개");
+
+        Log.d(TAG, "=== 2단계: 목적지 키워드 추출 ===");
+        Set<String> destinationKeywords = extractKeywordsFromStops(allEndStops);
+        Log.d(TAG, "추출된 키워드: " + destinationKeywords);
+
+        Log.d(TAG, "=== 3단계: 회차 방향성 검증 포함 버스 노선 분석 ===");
+        RouteCandidateCollector candidates = new RouteCandidateCollector(MAX_ROUTES_TO_SHOW);
+
+        for (TagoBusStopResponse.BusStop startStop : allStartStops) {
+            if (startStop.citycode == null || startStop.nodeid == null) {
+                continue;
+            }
+
+            Log.d(TAG, "출발 정류장 분석: " + startStop.nodenm + " (ID: " + startStop.nodeid + ")");
+
+            List<TagoBusArrivalResponse.BusArrival> allBuses = getAllBusesAtStop(startStop);
+
+            if (allBuses.isEmpty()) {
+                Log.d(TAG, "정류장 " + startStop.nodenm + "에 도착 예정 버스 없음");
+                continue;
+            }
+
+            Log.i(TAG, "정류장 " + startStop.nodenm + "에서 총 " + allBuses.size() + "개 버스 발견");
+
+            for (TagoBusArrivalResponse.BusArrival bus : allBuses) {
+                if (bus.routeid == null || bus.routeno == null) {
+                    continue;
+                }
+
+                if (candidates.isProcessed(bus.routeno, startStop.nodeid)) {
+                    continue;
+                }
+
+                Log.d(TAG, "버스 노선 상세 분석: " + bus.routeno + "번");
+
+                RouteMatchResult matchResult = findDirectionalRouteMatch(startStop, allEndStops, destinationKeywords, bus);
+                if (matchResult == null) {
+                    continue;
+                }
+
+                boolean isCorrectDirection = validateRouteDirection(
+                        startLat, startLng, endLat, endLng,
+                        startStop, matchResult.endStopBusStop, bus);
+
+                if (isCorrectDirection) {
+                    Log.i(TAG, "회차 방향성 검증 통과: " + bus.routeno + "번 -> " + matchResult.endStopBusStop.nodenm);
+
+                    candidates.markProcessed(bus.routeno, startStop.nodeid);
+
+                    RouteCandidate candidate = calculateRouteCandidate(startLat, startLng, endLat, endLng,
+                            startStop, matchResult.endStopBusStop, bus, matchResult.directionInfo, candidates);
+
+                    if (candidate != null && candidates.offer(candidate)) {
+                        Log.i(TAG, "검증된 경로 후보 추가: " + bus.routeno + "번 " + candidate.directionInfo +
+                                " (총 " + candidate.durationMin + "분)");
+                    }
+                } else {
+                    Log.w(TAG, "회차 방향성 검증 실패: " + bus.routeno + "번 (회차 대기 필요/잘못된 방향)");
+
+                    // 회차가 필요한 버스의 경우 반대 정류장에서 재검색 시도
+                    attemptReverseStopSearch(startLat, startLng, endLat, endLng,
+                            allStartStops, allEndStops, destinationKeywords, bus);
+                }
+            }
+        }
+
+        // 수집기가 이미 중복 제거 및 상위 MAX_ROUTES_TO_SHOW개만 유지
+        List<RouteCandidate> result = candidates.getSortedCandidates();
+        Log.i(TAG, "=== 최종 경로 결과 (" + result.size() + "개) ===");
+        return result;
+    }
+
+    /**
+     * 정류장/노선 캐시 비우기
+     */
+    public void clearCaches() {
+        stationIndexCache.clear();
+        busStopSearchCache.clear();
+        routeStationCache.clear();
+    }
+
+    // ================================================================================================
+    // 회차 방향 검증
+    // ================================================================================================
+
+    /**
+     * 회차가 필요한 버스를 위한 반대 정류장 검색
+     * 407번, 412번 같은 버스들을 올바른 정류장에서 찾기 위함
+     */
+    private void attemptReverseStopSearch(double startLat, double startLng, double endLat, double endLng,
+                                          List<TagoBusStopResponse.BusStop> allStartStops,
+                                          List<TagoBusStopResponse.BusStop> allEndStops,
+                                          Set<String> destinationKeywords,
+                                          TagoBusArrivalResponse.BusArrival bus) {
+
+        // 근처의 다른 정류장들에서 같은 버스 번호 찾기
+        for (TagoBusStopResponse.BusStop alternativeStartStop : allStartStops) {
+            if (alternativeStartStop.nodeid.equals(bus.routeid)) {
+                continue; // 이미 확인한 정류장은 스킵
+            }
+
+            List<TagoBusArrivalResponse.BusArrival> alternativeBuses = getAllBusesAtStop(alternativeStartStop);
+
+            for (TagoBusArrivalResponse.BusArrival altBus : alternativeBuses) {
+                if (altBus.routeno.equals(bus.routeno)) {
+                    Log.d(TAG, bus.routeno + "번 반대 정류장 검색: " + alternativeStartStop.nodenm);
+
+                    RouteMatchResult matchResult = findDirectionalRouteMatch(
+                            alternativeStartStop, allEndStops, destinationKeywords, altBus);
+
+                    if (matchResult != null) {
+                        boolean isCorrectDirection = validateRouteDirection(
+                                startLat, startLng, endLat, endLng,
+                                alternativeStartStop, matchResult.endStopBusStop, altBus);
+
+                        if (isCorrectDirection) {
+                            Log.i(TAG, "반대 정류장에서 올바른 방향 발견: " + bus.routeno + "번 @ " +
+                                    alternativeStartStop.nodenm);
+                            return; // 찾았으면 더 이상 검색하지 않음
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 엄격한 방향성 검증 (순서기반과 좌표기반이 모두 일치해야 통과)
+     */
+    private boolean validateRouteDirectionStrict(double startLat, double startLng, double endLat, double endLng,
+                                                 TagoBusStopResponse.BusStop startStop,
+                                                 TagoBusStopResponse.BusStop endStop,
+                                                 TagoBusArrivalResponse.BusArrival bus) {
+
+        boolean directionByOrder = isCorrectDirection(startStop, endStop, bus);
+        boolean directionByCoords = isCorrectDirectionByCoordinates(startLat, startLng, endLat, endLng, startStop, bus);
+
+        Log.d(TAG, String.format("%s번 버스 엄격한 방향성 검증: 순서기반=%b, 좌표기반=%b",
+                bus.routeno, directionByOrder, directionByCoords));
+
+        boolean finalResult = directionByOrder && directionByCoords;
+
+        if (!finalResult) {
+            if (directionByOrder) {
+                Log.w(TAG, String.format("%s번: 순서상 맞지만 좌표상 맞지 않음 - 회차 구간일 가능성 높음", bus.routeno));
+            } else if (directionByCoords) {
+                Log.w(TAG, String.format("%s번: 좌표상 맞지만 순서상 맞지 않음 - 노선 데이터 문제일 가능성", bus.routeno));
+            } else {
+                Log.w(TAG, String.format("%s번: 순서와 좌표 모두 맞지 않음 - 명확한 잘못된 방향", bus.routeno));
+            }
+        }
+
+        return finalResult;
+    }
+
+    /**
+     * BusDirectionAnalyzer 신뢰도 기반 회차 방향성 검증
+     */
+    private boolean validateRouteDirection(double startLat, double startLng, double endLat, double endLng,
+                                           TagoBusStopResponse.BusStop startStop,
+                                           TagoBusStopResponse.BusStop endStop,
+                                           TagoBusArrivalResponse.BusArrival bus) {
+        try {
+            List<TagoBusRouteStationResponse.RouteStation> routeStations =
+                    getRouteStations(startStop.citycode, bus.routeid);
+            if (routeStations == null) {
+                return false;
+            }
+
+            BusDirectionAnalyzer.RouteDirectionInfo directionInfo =
+                    BusDirectionAnalyzer.analyzeRouteDirection(startStop, endStop, bus, routeStations);
+
+            Log.i(TAG, String.format("%s번 버스 회차 분석 결과: %s (신뢰도: %d%%, 구간: %s)",
+                    bus.routeno,
+                    directionInfo.isValidDirection ? "승차가능" : "회차대기",
+                    directionInfo.confidence,
+                    directionInfo.currentSegment));
+
+            // 회차 구간 판정
+            if (directionInfo.currentSegment.contains("회차") ||
+                    directionInfo.currentSegment.contains("후반부") ||
+                    !directionInfo.isForwardDirection) {
+
+                Log.w(TAG, String.format("%s번: 회차 구간 감지 - 승차 불가 (구간: %s, 방향: %s)",
+                        bus.routeno, directionInfo.currentSegment, directionInfo.directionDescription));
+                return false;
+            }
+
+            // 좌표 추정 경로 필터링
+            if (directionInfo.directionDescription.contains("좌표추정")) {
+                Log.w(TAG, String.format("%s번: 좌표 추정 경로 - 도착지 정류장이 노선에 없어 경로 제외",
+                        bus.routeno));
+                return false;
+            }
+
+            // 신뢰도 기반 3단계 판정
+            if (directionInfo.confidence >= 70) {
+                Log.i(TAG, bus.routeno + "번: 높은 신뢰도 (" + directionInfo.confidence + "%) - 회차 분석 결과 채택");
+                return directionInfo.isValidDirection;
+
+            } else if (directionInfo.confidence >= 50) {
+                if (!directionInfo.isValidDirection) {
+                    Log.w(TAG, bus.routeno + "번: 중간 신뢰도 (" + directionInfo.confidence + "%) - 회차 대기 판정");
+                    return false;
+                }
+
+                boolean strictResult = validateRouteDirectionStrict(
+                        startLat, startLng, endLat, endLng, startStop, endStop, bus);
+                if (strictResult) {
+                    Log.i(TAG, bus.routeno + "번: 중간 신뢰도 (" + directionInfo.confidence + "%), 엄격한 검증과 일치하여 승차 허용");
+                } else {
+                    Log.w(TAG, bus.routeno + "번: 중간 신뢰도 (" + directionInfo.confidence + "%), 엄격한 검증과 불일치하여 회차 대기");
+                }
+                return strictResult;
+
+            } else {
+                if (!directionInfo.isValidDirection) {
+                    Log.w(TAG, bus.routeno + "번: 낮은 신뢰도 (" + directionInfo.confidence + "%) - 회차 대기 판정");
+                    return false;
+                }
+
+                boolean strictResult = validateRouteDirectionStrict(
+                        startLat, startLng, endLat, endLng, startStop, endStop, bus);
+                boolean coordsResult = isCorrectDirectionByCoordinates(
+                        startLat, startLng, endLat, endLng, startStop, bus);
+
+                if (strictResult && coordsResult) {
+                    Log.w(TAG, bus.routeno + "번: 낮은 신뢰도 (" + directionInfo.confidence + "%), 모든 검증 통과로 조건부 승차 허용");
+                    return true;
+                } else {
+                    Log.w(TAG, bus.routeno + "번: 낮은 신뢰도 (" + directionInfo.confidence + "%), 검증 실패로 회차 대기");
+                    return false;
+                }
+            }
+
+        } catch (Exception e) {
+            Log.e(TAG, "방향성 검증 실패: " + bus.routeno + "번", e);
+            // 예외 발생 시 엄격한 검증으로 폴백
+            return validateRouteDirectionStrict(startLat, startLng, endLat, endLng, startStop, endStop, bus);
+        }
+    }
+
+    /**
+     * 방향성을 고려한 노선 매칭 (도착지 근처 정류장을 차례로 시도)
+     * 출발 정류장 이후 구간에 도착지 키워드가 들어간 정류장이 없으면 반대 방향 노선으로 보고 제외합니다.
+     */
+    private RouteMatchResult findDirectionalRouteMatch(TagoBusStopResponse.BusStop startStop,
+                                                       List<TagoBusStopResponse.BusStop> endStops,
+                                                       Set<String> destinationKeywords,
+                                                       TagoBusArrivalResponse.BusArrival bus) {
+        try {
+            List<TagoBusRouteStationResponse.RouteStation> routeStations =
+                    getRouteStations(startStop.citycode, bus.routeid);
+            if (routeStations == null) {
+                return null;
+            }
+
+            int startIndex = findStationIndex(bus.routeid, routeStations, startStop);
+            if (startIndex == -1) {
+                Log.w(TAG, bus.routeno + "번: 출발지 정류장을 노선에서 찾을 수 없음");
+                return null;
+            }
+
+            if (!headsTowardDestination(routeStations, startIndex, destinationKeywords)) {
+                Log.d(TAG, bus.routeno + "번: 출발 정류장 이후 도착지 방향 정류장 없음 (반대 방향)");
+                return null;
+            }
+
+            for (TagoBusStopResponse.BusStop endStop : endStops) {
+                BusDirectionAnalyzer.RouteDirectionInfo directionInfo =
+                        BusDirectionAnalyzer.analyzeRouteDirection(startStop, endStop, bus, routeStations);
+
+                Log.d(TAG, String.format("%s번 → %s 방향 분석: %s",
+                        bus.routeno, endStop.nodenm, directionInfo.directionDescription));
+
+                // 회차 구간이면 다음 도착지로 시도
+                if (directionInfo.currentSegment.contains("회차") ||
+                        directionInfo.currentSegment.contains("후반부") ||
+                        !directionInfo.isForwardDirection) {
+                    continue;
+                }
+
+                // 좌표 추정 경로는 제외
+                if (directionInfo.directionDescription.contains("좌표추정")) {
+                    continue;
+                }
+
+                int endIndex = findStationIndex(bus.routeid, routeStations, endStop);
+                if (endIndex != -1 && endIndex > startIndex) {
+                    Log.i(TAG, String.format("%s번: 유효한 경로 발견 → %s", bus.routeno, endStop.nodenm));
+                    return new RouteMatchResult(endStop, directionInfo.directionDescription);
+                }
+            }
+
+            Log.d(TAG, bus.routeno + "번: 모든 도착지 정류장에서 유효한 경로를 찾지 못함");
+            return null;
+
+        } catch (Exception e) {
+            Log.e(TAG, "방향성 고려 노선 매칭 실패: " + bus.routeno + "번", e);
+            return null;
+        }
+    }
+
+    /**
+     * 정류장 순서 기반 방향 판단
+     */
+    private boolean isCorrectDirection(TagoBusStopResponse.BusStop startStop,
+                                       TagoBusStopResponse.BusStop endStop,
+                                       TagoBusArrivalResponse.BusArrival bus) {
+        try {
+            List<TagoBusRouteStationResponse.RouteStation> routeStations =
+                    getRouteStations(startStop.citycode, bus.routeid);
+            if (routeStations == null) {
+                return false;
+            }
+
+            int startIndex = findStationIndex(bus.routeid, routeStations, startStop);
+            int endIndex = findStationIndex(bus.routeid, routeStations, endStop);
+
+            if (startIndex == -1 || endIndex == -1) {
+                Log.w(TAG, "정류장 인덱스를 찾을 수 없음: start=" + startIndex + ", end=" + endIndex);
+                return false;
+            }
+
+            return startIndex < endIndex;
+
+        } catch (Exception e) {
+            Log.e(TAG, "방향 판단 중 오류", e);
+            return false;
+        }
+    }
+
+    /**
+     * 출발지/도착지 좌표에 가장 가까운 노선 정류장 순서로 방향 판단
+     */
+    private boolean isCorrectDirectionByCoordinates(double startLat, double startLng, double endLat, double endLng,
+                                                    TagoBusStopResponse.BusStop startStop,
+                                                    TagoBusArrivalResponse.BusArrival bus) {
+        try {
+            List<TagoBusRouteStationResponse.RouteStation> routeStations =
+                    getRouteStations(startStop.citycode, bus.routeid);
+            if (routeStations == null) {
+                return false;
+            }
+
+            int startRouteIndex = findClosestStationIndex(routeStations, startLat, startLng);
+            int endRouteIndex = findClosestStationIndex(routeStations, endLat, endLng);
+
+            if (startRouteIndex == -1 || endRouteIndex == -1) {
+                Log.w(TAG, "좌표 기반 정류장 매칭 실패");
+                return false;
+            }
+
+            boolean isForward = startRouteIndex < endRouteIndex;
+
+            Log.d(TAG, String.format("좌표 기반 방향 판단: %s번 버스, 출발(%d) -> 도착(%d), 순방향: %b",
+                    bus.routeno, startRouteIndex, endRouteIndex, isForward));
+
+            return isForward;
+
+        } catch (Exception e) {
+            Log.e(TAG, "좌표 기반 방향 판단 중 오류", e);
+            return false;
+        }
+    }
+
+    // ================================================================================================
+    // 정류장 및 버스 정보 수집
+    // ================================================================================================
+
+    private List<TagoBusStopResponse.BusStop> searchBusStopsInMultipleRadii(
+            double latitude, double longitude, String locationName) {
+
+        String cacheKey = String.format(Locale.US, "%.6f_%.6f", latitude, longitude);
+        List<TagoBusStopResponse.BusStop> cachedStops = busStopSearchCache.get(cacheKey);
+        if (cachedStops != null) {
+            Log.d(TAG, locationName + " 캐시 사용: " + cachedStops.size() + "개");
+            return new ArrayList<>(cachedStops);
+        }
+
+        List<TagoBusStopResponse.BusStop> allStops = new ArrayList<>();
+        Map<TagoBusStopResponse.BusStop, Double> distances = new HashMap<>();
+        Set<String> uniqueStopIds = new HashSet<>();
+
+        double offset = SEARCH_POINT_OFFSET_DEGREES;
+        double[][] searchPoints = {
+                {latitude, longitude},              // 중심점
+                {latitude + offset, longitude},     // 북쪽 500m
+                {latitude - offset, longitude},     // 남쪽 500m
+                {latitude, longitude + offset},     // 동쪽 500m
+                {latitude, longitude - offset}      // 서쪽 500m
+        };
+
+        for (int i = 0; i < searchPoints.length; i++) {
+            double[] point = searchPoints[i];
+            try {
+                Response<TagoBusStopResponse> response = tagoApiService.getNearbyBusStops(
+                        tagoServiceKey,
+                        point[0], point[1],
+                        100, 1, "json"
+                ).execute();
+
+                if (!response.isSuccessful() || response.body() == null) {
+                    continue;
+                }
+
+                TagoBusStopResponse.Items itemsContainer;
+                try {
+                    itemsContainer = gson.fromJson(response.body().response.body.items, TagoBusStopResponse.Items.class);
+                } catch (Exception e) {
+                    Log.w(TAG, locationName + " 지점 " + (i + 1) + " 파싱 실패", e);
+                    continue;
+                }
+
+                if (itemsContainer != null && itemsContainer.item != null) {
+                    for (TagoBusStopResponse.BusStop stop : itemsContainer.item) {
+                        if (stop.nodeid != null && !uniqueStopIds.contains(stop.nodeid)) {
+                            // 실제 중심점과의 거리 계산하여 1km 이내만 선택
+                            double distance = calculateDistance(latitude, longitude, stop.gpslati, stop.gpslong);
+                            if (distance <= MAX_STOP_DISTANCE_METERS) {
+                                uniqueStopIds.add(stop.nodeid);
+                                allStops.add(stop);
+                                distances.put(stop, distance);
+                            }
+                        }
+                    }
+                }
+
+            } catch (Exception e) {
+                Log.w(TAG, locationName + " 지점 " + (i + 1) + " 검색 실패", e);
+            }
+        }
+
+        // 거리순 정렬 후 가까운 순으로 제한
+        Collections.sort(allStops, (a, b) -> Double.compare(distances.get(a), distances.get(b)));
+
+        List<TagoBusStopResponse.BusStop> resultStops = new ArrayList<>(
+                allStops.size() > MAX_STOPS_PER_LOCATION ? allStops.subList(0, MAX_STOPS_PER_LOCATION) : allStops);
+
+        Log.i(TAG, locationName + " 근처 " + resultStops.size() + "개 정류장 발견");
+
+        busStopSearchCache.put(cacheKey, resultStops);
+        return new ArrayList<>(resultStops);
+    }
+
+    private List<TagoBusArrivalResponse.BusArrival> getAllBusesAtStop(TagoBusStopResponse.BusStop stop) {
+        List<TagoBusArrivalResponse.BusArrival> allBuses = new ArrayList<>();
+        Set<String> uniqueBusIds = new HashSet<>();
+
+        for (int page = 1; page <= MAX_ARRIVAL_PAGES; page++) {
+            try {
+                Response<TagoBusArrivalResponse> response = tagoApiService.getBusArrivalInfo(
+                        tagoServiceKey,
+                        stop.citycode,
+                        stop.nodeid,
+                        ARRIVAL_ROWS_PER_PAGE,
+                        page,
+                        "json"
+                ).execute();
+
+                if (!response.isSuccessful() || response.body() == null) {
+                    break;
+                }
+
+                TagoBusArrivalResponse.ItemsContainer itemsContainer;
+                try {
+                    itemsContainer = gson.fromJson(
+                            response.body().response.body.items,
+                            TagoBusArrivalResponse.ItemsContainer.class
+                    );
+                } catch (Exception e) {
+                    Log.w(TAG, "JSON 파싱 실패 - page: " + page);
+                    continue;
+                }
+
+                if (itemsContainer == null || itemsContainer.item == null) {
+                    break;
+                }
+
+                // 중복 제거하며 버스 목록 추가
+                for (TagoBusArrivalResponse.BusArrival bus : itemsContainer.item) {
+                    if (bus.routeid != null && bus.routeno != null
+                            && uniqueBusIds.add(bus.routeno + "_" + bus.routeid)) {
+                        allBuses.add(bus);
+                    }
+                }
+
+                // 한 페이지를 다 채우지 못했으면 더 이상 페이지 없음
+                if (itemsContainer.item.size() < ARRIVAL_ROWS_PER_PAGE) {
+                    break;
+                }
+
+            } catch (Exception e) {
+                Log.w(TAG, "API 호출 실패 - page: " + page, e);
+                break;
+            }
+        }
+
+        Log.d(TAG, "정류장 " + stop.nodenm + "에서 총 " + allBuses.size() + "개 버스 수집");
+        return allBuses;
+    }
+
+    /**
+     * 노선별 경유 정류장 목록 조회 (캐시 우선)
+     * 방향 검증과 탑승 시간 계산이 같은 노선 정보를 공유하여 후보마다 재조회하지 않음
+     */
+    private List<TagoBusRouteStationResponse.RouteStation> getRouteStations(String cityCode, String routeId)
+            throws IOException {
+        String cacheKey = cityCode + "_" + routeId;
+        List<TagoBusRouteStationResponse.RouteStation> cachedStations = routeStationCache.get(cacheKey);
+        if (cachedStations != null) {
+            return cachedStations;
+        }
+
+        Response<TagoBusRouteStationResponse> response = tagoApiService.getBusRouteStationList(
+                tagoServiceKey,
+                cityCode,
+                routeId,
+                200, 1, "json"
+        ).execute();
+
+        if (!response.isSuccessful() || response.body() == null) {
+            Log.w(TAG, "버스 노선 정보 API 응답 실패");
+            return null;
+        }
+
+        TagoBusRouteStationResponse.ResponseData data = response.body().response;
+        if (data == null || data.body == null || data.body.items == null || data.body.items.item == null) {
+            Log.w(TAG, "버스 노선 정보 비어 있음: " + routeId);
+            return null;
+        }
+
+        List<TagoBusRouteStationResponse.RouteStation> stations = data.body.items.item;
+        routeStationCache.put(cacheKey, stations);
+        return stations;
+    }
+
+    /**
+     * 노선 내 정류장 인덱스 (노선 ID + 정류장 ID로 결과 캐시)
+     */
+    private int findStationIndex(String routeId, List<TagoBusRouteStationResponse.RouteStation> stations,
+                                 TagoBusStopResponse.BusStop targetStop) {
+        String cacheKey = routeId + "_" + targetStop.nodeid;
+
+        Integer cachedIndex = stationIndexCache.get(cacheKey);
+        if (cachedIndex != null) {
+            return cachedIndex;
+        }
+
+        int resultIndex = StationIndexFinder.findStationIndex(stations, targetStop);
+        if (resultIndex != -1) {
+            stationIndexCache.put(cacheKey, resultIndex);
+        }
+        return resultIndex;
+    }
+
+    /**
+     * 도착지 근처 정류장 이름에서 방향 판단용 키워드 추출 (정류장/앞/입구 등 공통 단어 제외)
+     */
+    private static Set<String> extractKeywordsFromStops(List<TagoBusStopResponse.BusStop> stops) {
+        Set<String> keywords = new HashSet<>();
+
+        for (TagoBusStopResponse.BusStop stop : stops) {
+            if (stop.nodenm != null && !stop.nodenm.trim().isEmpty()) {
+                String[] words = stop.nodenm.split("[\\s·.-]");
+                for (String word : words) {
+                    String cleaned = word.replaceAll("정류장|정류소|버스|앞|입구|사거리", "").trim();
+                    if (cleaned.length() >= 2) {
+                        keywords.add(cleaned);
+                    }
+                }
+            }
+        }
+
+        return keywords;
+    }
+
+    /**
+     * 출발 정류장 이후 구간에 도착지 키워드가 들어간 정류장이 있는지 (키워드가 없으면 판단하지 않음)
+     */
+    private static boolean headsTowardDestination(List<TagoBusRouteStationResponse.RouteStation> stations,
+                                                  int startIndex, Set<String> destinationKeywords) {
+        if (destinationKeywords.isEmpty()) {
+            return true;
+        }
+
+        for (int i = startIndex + 1; i < stations.size(); i++) {
+            String stationName = stations.get(i).nodenm;
+            if (stationName == null) {
+                continue;
+            }
+            for (String keyword : destinationKeywords) {
+                if (stationName.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 좌표에 가장 가까운 노선 정류장의 순서 (같은 정류장이 두 번 나오는 순환 노선은 첫 번째 순서)
+     */
+    private static int findClosestStationIndex(List<TagoBusRouteStationResponse.RouteStation> stations,
+                                               double targetLat, double targetLng) {
+        TagoBusRouteStationResponse.RouteStation closest = null;
+        double minDistance = Double.MAX_VALUE;
+
+        for (TagoBusRouteStationResponse.RouteStation station : stations) {
+            if (station.gpslati > 0 && station.gpslong > 0) {
+                double distance = calculateDistance(station.gpslati, station.gpslong, targetLat, targetLng);
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    closest = station;
+                }
+            }
+        }
+
+        return closest != null ? stations.indexOf(closest) : -1;
+    }
+
+    // ================================================================================================
+    // 경로 후보 계산
+    // ================================================================================================
+
+    /**
+     * 도보/대기/탑승 시간으로 경로 후보 생성
+     *
+     * @return 도보 시간 안에 버스가 먼저 도착해 탈 수 없으면 null
+     */
+    private RouteCandidate calculateRouteCandidate(double startLat, double startLng, double endLat, double endLng,
+                                                   TagoBusStopResponse.BusStop startStop,
+                                                   TagoBusStopResponse.BusStop endStop,
+                                                   TagoBusArrivalResponse.BusArrival bus,
+                                                   String directionInfo,
+                                                   RouteCandidateCollector candidates) {
+        int walkToStartMin = calculateWalkingTime(startLat, startLng, startStop);
+        int walkToEndMin = calculateWalkingTime(endLat, endLng, endStop);
+        int busArrivalMin = Math.max(1, bus.arrtime / 60);
+
+        if (busArrivalMin < walkToStartMin) {
+            Log.w(TAG, String.format("%s번 버스: 도보 시간(%d분) > 버스 도착(%d분) - 탑승 불가능, 경로 제외",
+                    bus.routeno, walkToStartMin, busArrivalMin));
+            return null;
+        }
+
+        // 버스 탑승 시점 기준 시간대로 탑승 시간 추정
+        long departureTimeMillis = System.currentTimeMillis() + busArrivalMin * 60_000L;
+        BusRideTimeModel.RideEstimate rideEstimate = calculateOptimalBusRideTime(
+                startStop, endStop, bus.routeid, bus.routeno, departureTimeMillis);
+
+        return new RouteCandidate(
+                candidates.intern(bus.routeno),
+                candidates.intern(startStop.nodenm),
+                candidates.intern(endStop.nodenm),
+                walkToStartMin,
+                busArrivalMin,
+                rideEstimate.minutes,
+                walkToEndMin,
+                (float) rideEstimate.distanceMeters,
+                startStop,
+                endStop,
+                bus,
+                directionInfo
+        );
+    }
+
+    /**
+     * TMAP 보행 경로 시간 (실패 시 직선거리 기반)
+     */
+    private int calculateWalkingTime(double fromLat, double fromLng, TagoBusStopResponse.BusStop toStop) {
+        try {
+            Response<TmapPedestrianResponse> response = tmapApiService.getPedestrianRoute(
+                    tmapApiKey,
+                    String.valueOf(fromLng),
+                    String.valueOf(fromLat),
+                    String.valueOf(toStop.gpslong),
+                    String.valueOf(toStop.gpslati),
+                    "출발지",
+                    "도착지"
+            ).execute();
+
+            if (response.isSuccessful() && response.body() != null &&
+                    response.body().getFeatures() != null && !response.body().getFeatures().isEmpty()) {
+
+                TmapPedestrianResponse.Feature firstFeature = response.body().getFeatures().get(0);
+                if (firstFeature.getProperties() != null) {
+                    int totalTimeSeconds = firstFeature.getProperties().getTotalTime();
+                    return Math.max(1, (int) Math.ceil(totalTimeSeconds / 60.0));
+                }
+            }
+        } catch (Exception e) {
+            Log.w(TAG, "TMAP API 호출 실패, 직선거리 계산 사용", e);
+        }
+
+        double distance = calculateDistance(fromLat, fromLng, toStop.gpslati, toStop.gpslong);
+        return Math.max(1, (int) Math.ceil(distance / WALKING_SPEED_M_PER_MIN));
+    }
+
+    /**
+     * 캐시된 노선 정보로 정류장 순서를 따라 탑승 시간 계산 (추가 API 호출 없음)
+     * 노선에서 정류장 순서를 찾지 못하면 직선 거리 기반으로 대체
+     */
+    private BusRideTimeModel.RideEstimate calculateOptimalBusRideTime(TagoBusStopResponse.BusStop startStop,
+                                                                     TagoBusStopResponse.BusStop endStop,
+                                                                     String routeId,
+                                                                     String busNumber,
+                                                                     long departureTimeMillis) {
+        try {
+            List<TagoBusRouteStationResponse.RouteStation> stations =
+                    getRouteStations(startStop.citycode, routeId);
+
+            if (stations != null) {
+                int startIndex = findStationIndex(routeId, stations, startStop);
+                int endIndex = findStationIndex(routeId, stations, endStop);
+                int stopCount = endIndex - startIndex;
+
+                // 정류장 개수가 비정상적으로 많으면 회차 경로 가능성이 높으므로 거리 기반만 사용
+                if (startIndex != -1 && endIndex != -1 && stopCount > 0 && stopCount <= MAX_RIDE_STOP_COUNT) {
+                    BusRideTimeModel.RideEstimate estimate = busRideTimeModel.estimate(
+                            stations, startIndex, endIndex, routeId, departureTimeMillis);
+
+                    if (estimate != null) {
+                        int finalTime = Math.max(MIN_BUS_RIDE_TIME, Math.min(MAX_BUS_RIDE_TIME, estimate.minutes));
+                        return new BusRideTimeModel.RideEstimate(finalTime, estimate.distanceMeters,
+                                estimate.stopCount, estimate.usedLearnedSpeed);
+                    }
+                } else if (stopCount > MAX_RIDE_STOP_COUNT) {
+                    Log.w(TAG, String.format("%s번: 정류장 개수 과다(%d개) - 회차 경로 가능성, 거리 기반만 사용",
+                            busNumber, stopCount));
+                }
+            }
+
+        } catch (Exception e) {
+            Log.w(TAG, "노선 기반 탑승 시간 계산 실패: " + busNumber + "번", e);
+        }
+
+        double distance = calculateDistance(startStop.gpslati, startStop.gpslong, endStop.gpslati, endStop.gpslong);
+        int distanceBasedTime = (int) Math.ceil(distance * DISTANCE_MULTIPLIER / BUS_AVERAGE_SPEED_M_PER_MIN);
+        int finalTime = Math.max(MIN_BUS_RIDE_TIME, Math.min(MAX_BUS_RIDE_TIME, distanceBasedTime));
+
+        return new BusRideTimeModel.RideEstimate(finalTime, 0, 0, false);
+    }
+
+    /**
+     * 두 좌표 사이 직선 거리 (미터, Haversine)
+     */
+    private static double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
+        double earthRadius = 6371000;
+
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return earthRadius * c;
+    }
+
+    // ================================================================================================
+    // 탐색 결과 변환
+    // ================================================================================================
+
+    /**
+     * 최종 후보를 화면 표시/저장용 RouteInfo 목록으로 변환
+     */
+    public static List<RouteInfo> toRouteInfoList(List<RouteCandidate> candidates,
+                                                  double destinationLat, double destinationLng) {
+        List<RouteInfo> routes = new ArrayList<>(candidates.size());
+        for (RouteCandidate candidate : candidates) {
+            routes.add(toRouteInfo(candidate, destinationLat, destinationLng));
+        }
+
+        for (int i = 0; i < routes.size(); i++) {
+            RouteInfo route = routes.get(i);
+            Log.d(TAG, String.format("경로 %d: %s번 버스 %s, %d분 소요",
+                    i + 1, route.getBusNumber(), route.getDirectionInfo(), route.getDuration()));
+        }
+        return routes;
+    }
+
+    private static RouteInfo toRouteInfo(RouteCandidate candidate, double destinationLat, double destinationLng) {
+        RouteInfo routeInfo = new RouteInfo(
+                "대중교통",
+                candidate.durationMin,
+                candidate.busWaitMin,
+                candidate.bus.routeno,
+                candidate.startStop.nodenm,
+                candidate.endStop.nodenm
+        );
+
+        routeInfo.setWalkingTimeToStartStop(candidate.walkToStartMin);
+        routeInfo.setBusRideTime(candidate.busRideMin);
+        routeInfo.setRouteId(candidate.bus.routeid);
+        routeInfo.setBusRideDistance(candidate.busRideDistance);
+        routeInfo.setCityCode(candidate.startStop.citycode);
+        routeInfo.setStartStopId(candidate.startStop.nodeid);
+        routeInfo.setWalkingTimeToDestination(candidate.walkToEndMin);
+        routeInfo.setDirectionInfo(candidate.directionInfo);
+
+        // 길안내를 위한 좌표 정보
+        routeInfo.setStartStopLat(candidate.startStop.gpslati);
+        routeInfo.setStartStopLng(candidate.startStop.gpslong);
+        routeInfo.setEndStopLat(candidate.endStop.gpslati);
+        routeInfo.setEndStopLng(candidate.endStop.gpslong);
+        routeInfo.setDestinationLat(destinationLat);
+        routeInfo.setDestinationLng(destinationLng);
+
+        return routeInfo;
+    }
 }
@@ -0,0 +1,84 @@
+package com.sjoneon.cap.utils;
+
+import android.util.Log;
+
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+
+import java.util.List;
+
+/**
+ * 노선 정류장 목록에서 특정 정류장의 인덱스를 찾는 유틸리티
+ * ID 정확 매칭 → 이름 포함 매칭 → 좌표 근접 매칭(50m) 순으로 시도합니다.
+ */
+public final class StationIndexFinder {
+    private static final String TAG = "StationIndexFinder";
+
+    // 좌표 기반 매칭 허용 거리 (미터)
+    private static final double COORDINATE_MATCH_RADIUS = 50;
+
+    private StationIndexFinder() {
+    }
+
+    /**
+     * 정류장 인덱스 찾기
+     *
+     * @return 노선 내 인덱스 (찾지 못하면 -1)
+     */
+    public static int findStationIndex(List<TagoBusRouteStationResponse.RouteStation> stations,
+                                       TagoBusStopResponse.BusStop targetStop) {
+
+        // 1단계: ID 정확 매칭
+        for (int i = 0; i < stations.size(); i++) {
+            TagoBusRouteStationResponse.RouteStation station = stations.get(i);
+            if (station.nodeid != null && station.nodeid.equals(targetStop.nodeid)) {
+                return i;
+            }
+        }
+
+        // 2단계: 이름 유사도 매칭
+        if (targetStop.nodenm != null) {
+            for (int i = 0; i < stations.size(); i++) {
+                String stationName = stations.get(i).nodenm;
+                // 정류장 이름이 포함 관계면 매칭
+                if (stationName != null &&
+                        (stationName.contains(targetStop.nodenm) || targetStop.nodenm.contains(stationName))) {
+                    Log.d(TAG, "이름 기반 매칭 성공: " + stationName + " ≈ " + targetStop.nodenm);
+                    return i;
+                }
+            }
+        }
+
+        // 3단계: 좌표 기반 매칭 (50m 이내)
+        for (int i = 0; i < stations.size(); i++) {
+            TagoBusRouteStationResponse.RouteStation station = stations.get(i);
+            if (station.gpslati > 0 && station.gpslong > 0) {
+                double distance = calculateDistance(
+                        targetStop.gpslati, targetStop.gpslong,
+                        station.gpslati, station.gpslong
+                );
+                if (distance <= COORDINATE_MATCH_RADIUS) {
+                    Log.d(TAG, "좌표 기반 매칭 성공: " + station.nodenm +
+                            " (거리: " + String.format("%.1fm", distance) + ")");
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private static double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
+        double earthRadius = 6371000; // 지구 반지름 (미터)
+
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return earthRadius * c;
+    }
+}
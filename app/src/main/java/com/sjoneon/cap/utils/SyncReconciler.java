@@ -0,0 +1,277 @@
+package com.sjoneon.cap.utils;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서버 목록과 로컬 목록 동기화 계산기
+ * 로컬 항목을 서버 ID로 한 번 색인한 뒤 서버 목록을 한 번 순회해 추가/수정/삭제 대상을 O(n + m)에 계산합니다.
+ * 서버 ID가 없는(아직 업로드되지 않은) 로컬 항목은 삭제 대상에서 제외됩니다.
+ * 아직 서버로 보내지 않은 로컬 변경(PendingChanges)이 있는 항목은 서버 값으로 덮어쓰거나 삭제하지 않습니다.
+ * 증분 동기화에서는 서버가 보낸 변경 항목과 삭제 ID(tombstone)만으로 계산합니다.
+ */
+public final class SyncReconciler<S, L> {
+    private static final String TAG = "SyncReconciler";
+
+    /**
+     * 서버 항목과 로컬 항목의 대응 정보
+     */
+    public interface ItemMapper<S, L> {
+        int getServerItemId(S serverItem);
+
+        /** 로컬 항목의 서버 ID (아직 서버에 없으면 null) */
+        Integer getLocalServerId(L localItem);
+
+        boolean needsUpdate(S serverItem, L localItem);
+    }
+
+    /**
+     * 아직 서버로 보내지 않은 로컬 변경 (아웃박스 대기 요청)
+     */
+    public interface PendingChanges<L> {
+        /** 로컬 항목에 전송 대기 중인 생성/수정/삭제 요청이 있는지 */
+        boolean hasPendingChange(L localItem);
+
+        /** 로컬에서 이미 삭제해 삭제 요청을 보내는 중인 서버 항목인지 (다시 추가하지 않음) */
+        boolean hasPendingDelete(int serverId);
+    }
+
+    /**
+     * 계산된 변경을 로컬에 반영하는 인터페이스 (반영하지 못했으면 false)
+     */
+    public interface Applier<S, L> {
+        boolean insert(S serverItem);
+
+        boolean update(S serverItem, L localItem);
+
+        boolean delete(L localItem);
+    }
+
+    /**
+     * 동기화 결과 (건수와 소요 시간)
+     */
+    public static final class Report {
+        public int inserted;
+        public int updated;
+        public int deleted;
+        public int unchanged;
+        public int failed;
+        public int skippedPending;
+        public long diffTimeMs;
+        public long applyTimeMs;
+
+        public boolean hasChanges() {
+            return inserted > 0 || updated > 0 || deleted > 0;
+        }
+
+        /**
+         * 모든 변경이 반영됐는지 (실패가 있으면 증분 동기화 cursor를 진행하지 않아야 함)
+         */
+        public boolean isComplete() {
+            return failed == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "추가 " + inserted + ", 수정 " + updated + ", 삭제 " + deleted +
+                    ", 유지 " + unchanged + ", 실패 " + failed + ", 전송 대기로 보류 " + skippedPending +
+                    " (비교 " + diffTimeMs + "ms, 반영 " + applyTimeMs + "ms)";
+        }
+    }
+
+    private final List<S> inserts = new ArrayList<>();
+    private final List<S> updateSources = new ArrayList<>();
+    private final List<L> updateTargets = new ArrayList<>();
+    private final List<L> deletes = new ArrayList<>();
+    private final Report report = new Report();
+
+    private SyncReconciler() {
+    }
+
+    /**
+     * 서버 전체 목록과 로컬 목록의 차이 계산 (서버에 없는 로컬 항목은 삭제)
+     */
+    public static <S, L> SyncReconciler<S, L> diff(List<S> serverItems, List<L> localItems,
+                                                   ItemMapper<S, L> mapper) {
+        return diff(serverItems, null, localItems, mapper, null);
+    }
+
+    /**
+     * 서버 전체 목록과 로컬 목록의 차이 계산 (전송 대기 중인 로컬 변경은 보존)
+     */
+    public static <S, L> SyncReconciler<S, L> diff(List<S> serverItems, List<L> localItems,
+                                                   ItemMapper<S, L> mapper, PendingChanges<L> pending) {
+        return diff(serverItems, null, localItems, mapper, pending);
+    }
+
+    /**
+     * 서버 변경분과 로컬 목록의 차이 계산 (deletedServerIds에 있는 로컬 항목만 삭제)
+     */
+    public static <S, L> SyncReconciler<S, L> diffChanges(List<S> changedServerItems,
+                                                          List<Integer> deletedServerIds,
+                                                          List<L> localItems,
+                                                          ItemMapper<S, L> mapper) {
+        return diff(changedServerItems, deletedServerIds, localItems, mapper, null);
+    }
+
+    /**
+     * 서버 변경분과 로컬 목록의 차이 계산 (전송 대기 중인 로컬 변경은 보존)
+     */
+    public static <S, L> SyncReconciler<S, L> diffChanges(List<S> changedServerItems,
+                                                          List<Integer> deletedServerIds,
+                                                          List<L> localItems,
+                                                          ItemMapper<S, L> mapper,
+                                                          PendingChanges<L> pending) {
+        return diff(changedServerItems, deletedServerIds, localItems, mapper, pending);
+    }
+
+    private static <S, L> SyncReconciler<S, L> diff(List<S> serverItems, List<Integer> deletedServerIds,
+                                                    List<L> localItems, ItemMapper<S, L> mapper,
+                                                    PendingChanges<L> pending) {
+        long startTime = System.nanoTime();
+        SyncReconciler<S, L> reconciler = new SyncReconciler<>();
+
+        Map<Integer, L> localByServerId = new HashMap<>(localItems.size() * 2);
+        for (L localItem : localItems) {
+            Integer serverId = mapper.getLocalServerId(localItem);
+            if (serverId != null && !localByServerId.containsKey(serverId)) {
+                localByServerId.put(serverId, localItem);
+            }
+        }
+
+        Set<Integer> seenServerIds = new HashSet<>(serverItems.size() * 2);
+        for (S serverItem : serverItems) {
+            int serverId = mapper.getServerItemId(serverItem);
+            if (!seenServerIds.add(serverId)) {
+                continue; // 서버 응답 내 중복 항목
+            }
+
+            L localItem = localByServerId.get(serverId);
+            if (localItem == null) {
+                if (pending != null && pending.hasPendingDelete(serverId)) {
+                    reconciler.report.skippedPending++;
+                } else {
+                    reconciler.inserts.add(serverItem);
+                }
+            } else if (pending != null && pending.hasPendingChange(localItem)) {
+                // 로컬 변경이 서버에 반영되기 전이므로 서버 값으로 덮어쓰지 않음
+                reconciler.report.skippedPending++;
+            } else if (mapper.needsUpdate(serverItem, localItem)) {
+                reconciler.updateSources.add(serverItem);
+                reconciler.updateTargets.add(localItem);
+            } else {
+                reconciler.report.unchanged++;
+            }
+        }
+
+        if (deletedServerIds == null) {
+            // 전체 목록: 서버에서 사라진 항목은 로컬에서도 삭제
+            for (Map.Entry<Integer, L> entry : localByServerId.entrySet()) {
+                if (seenServerIds.contains(entry.getKey())) {
+                    continue;
+                }
+                if (pending != null && pending.hasPendingChange(entry.getValue())) {
+                    reconciler.report.skippedPending++;
+                } else {
+                    reconciler.deletes.add(entry.getValue());
+                }
+            }
+        } else {
+            // 변경분: 삭제 ID로 받은 항목만 삭제 (같은 응답에서 다시 생긴 항목은 유지)
+            for (Integer serverId : deletedServerIds) {
+                L localItem = serverId != null && !seenServerIds.contains(serverId)
+                        ? localByServerId.remove(serverId) : null;
+                if (localItem == null) {
+                    continue;
+                }
+                if (pending != null && pending.hasPendingChange(localItem)) {
+                    reconciler.report.skippedPending++;
+                } else {
+                    reconciler.deletes.add(localItem);
+                }
+            }
+        }
+
+        reconciler.report.diffTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return reconciler;
+    }
+
+    /**
+     * 계산된 변경 반영 (한 번의 저장이 되도록 저장소 일괄 작업 범위 안에서 호출)
+     */
+    public Report apply(Applier<S, L> applier) {
+        long startTime = System.nanoTime();
+
+        for (L localItem : deletes) {
+            if (applyDelete(applier, localItem)) {
+                report.deleted++;
+            } else {
+                report.failed++;
+            }
+        }
+        for (int i = 0; i < updateSources.size(); i++) {
+            if (applyUpdate(applier, updateSources.get(i), updateTargets.get(i))) {
+                report.updated++;
+            } else {
+                report.failed++;
+            }
+        }
+        for (S serverItem : inserts) {
+            if (applyInsert(applier, serverItem)) {
+                report.inserted++;
+            } else {
+                report.failed++;
+            }
+        }
+
+        report.applyTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        Log.d(TAG, "동기화 반영 완료: " + report);
+        return report;
+    }
+
+    // 항목 하나의 실패가 나머지 동기화를 막지 않도록 항목별로 예외 처리
+    private boolean applyInsert(Applier<S, L> applier, S serverItem) {
+        try {
+            return applier.insert(serverItem);
+        } catch (RuntimeException e) {
+            Log.e(TAG, "항목 추가 실패", e);
+            return false;
+        }
+    }
+
+    private boolean applyUpdate(Applier<S, L> applier, S serverItem, L localItem) {
+        try {
+            return applier.update(serverItem, localItem);
+        } catch (RuntimeException e) {
+            Log.e(TAG, "항목 수정 실패", e);
+            return false;
+        }
+    }
+
+    private boolean applyDelete(Applier<S, L> applier, L localItem) {
+        try {
+            return applier.delete(localItem);
+        } catch (RuntimeException e) {
+            Log.e(TAG, "항목 삭제 실패", e);
+            return false;
+        }
+    }
+
+    public int getInsertCount() {
+        return inserts.size();
+    }
+
+    public int getUpdateCount() {
+        return updateSources.size();
+    }
+
+    public int getDeleteCount() {
+        return deletes.size();
+    }
+}
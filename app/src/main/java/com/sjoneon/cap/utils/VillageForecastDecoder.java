@@ -0,0 +1,176 @@
+package com.sjoneon.cap.utils;
+
+import android.util.Log;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import com.sjoneon.cap.models.local.VillageForecast;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 기상청 단기예보 응답 스트리밍 디코더
+ * JsonObject 트리나 항목 객체 목록을 만들지 않고, 응답을 한 번 읽으면서 항목을 바로 VillageForecast 표에 채웁니다.
+ * "item"이 배열이 아닌 단일 객체로 오거나 "items"가 빈 문자열로 오는 경우도 처리합니다.
+ */
+public final class VillageForecastDecoder {
+    private static final String TAG = "VillageForecastDecoder";
+
+    private VillageForecastDecoder() {
+    }
+
+    /**
+     * @return API 오류 코드 응답이면 null
+     * @throws JsonParseException 응답 형식이 잘못된 경우 (재시도해도 같은 결과)
+     * @throws IOException 읽는 중 연결이 끊긴 경우
+     */
+    public static VillageForecast decode(Reader source, int nx, int ny, String baseDate, String baseTime)
+            throws IOException {
+        VillageForecast.Builder builder = new VillageForecast.Builder(nx, ny, baseDate, baseTime);
+        String[] header = new String[2];
+
+        JsonReader reader = new JsonReader(source);
+        reader.setLenient(true);
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("response".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    readResponse(reader, builder, header);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (MalformedJsonException | IllegalStateException e) {
+            throw new JsonParseException("단기예보 응답 형식 오류", e);
+        } finally {
+            reader.close();
+        }
+
+        String resultCode = header[0];
+        if (resultCode != null && !"00".equals(resultCode)) {
+            Log.e(TAG, "API 에러: " + resultCode + " - " + header[1]);
+            return null;
+        }
+        return builder.build();
+    }
+
+    private static void readResponse(JsonReader reader, VillageForecast.Builder builder, String[] header)
+            throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("header".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readHeader(reader, header);
+            } else if ("body".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readBody(reader, builder);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void readHeader(JsonReader reader, String[] header) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("resultCode".equals(name)) {
+                header[0] = readString(reader);
+            } else if ("resultMsg".equals(name)) {
+                header[1] = readString(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void readBody(JsonReader reader, VillageForecast.Builder builder) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("items".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readItems(reader, builder);
+            } else {
+                // 결과가 없으면 "items": "" 로 오기도 함
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void readItems(JsonReader reader, VillageForecast.Builder builder) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!"item".equals(reader.nextName())) {
+                reader.skipValue();
+                continue;
+            }
+
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readItem(reader, builder);
+                }
+                reader.endArray();
+            } else if (token == JsonToken.BEGIN_OBJECT) {
+                readItem(reader, builder);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void readItem(JsonReader reader, VillageForecast.Builder builder) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+
+        String category = null;
+        String fcstDate = null;
+        String fcstTime = null;
+        String fcstValue = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "category":
+                    category = readString(reader);
+                    break;
+                case "fcstDate":
+                    fcstDate = readString(reader);
+                    break;
+                case "fcstTime":
+                    fcstTime = readString(reader);
+                    break;
+                case "fcstValue":
+                    fcstValue = readString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        builder.add(fcstDate, fcstTime, category, fcstValue);
+    }
+
+    /**
+     * 문자열/숫자 값을 문자열로 읽음 (null이나 객체면 null)
+     */
+    private static String readString(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return null;
+    }
+}
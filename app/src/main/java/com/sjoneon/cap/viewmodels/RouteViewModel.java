@@ -1,21 +1,37 @@
 package com.sjoneon.cap.viewmodels;
 
+import android.Manifest;
 import android.app.Application;
+import android.content.pm.PackageManager;
+import android.location.Address;
+import android.location.Geocoder;
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
-import com.sjoneon.cap.fragments.RouteFragment;
+import com.google.android.gms.location.LocationServices;
+import com.google.android.gms.tasks.Tasks;
 import com.sjoneon.cap.models.api.RouteResponse;
+import com.sjoneon.cap.models.local.RouteInfo;
 import com.sjoneon.cap.repositories.RouteRepository;
-import com.sjoneon.cap.models.api.RouteSaveRequest;
+import com.sjoneon.cap.utils.AddressResolver;
+import com.sjoneon.cap.utils.RouteEngine;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 경로 정보를 관리하는 ViewModel
@@ -29,10 +45,14 @@ public class RouteViewModel extends AndroidViewModel {
 
     private static final String TAG = "RouteViewModel";
 
+    // AI 채팅에서 출발지를 현재 위치로 요청할 때 쓰는 값
+    public static final String CURRENT_LOCATION = "CURRENT_LOCATION";
+    private static final long LOCATION_TIMEOUT_SECONDS = 10;
+
     private final RouteRepository repository;
 
     // 경로 목록
-    private final MutableLiveData<List<RouteFragment.RouteInfo>> routeList =
+    private final MutableLiveData<List<RouteInfo>> routeList =
             new MutableLiveData<>(new ArrayList<>());
 
     // 위치 정보
@@ -50,13 +70,31 @@ public class RouteViewModel extends AndroidViewModel {
     // 서버 동기화 상태
     private final MutableLiveData<Boolean> isSyncedWithServer = new MutableLiveData<>(false);
 
+    // 경로 탐색 결과 (캐시 표시/새 탐색 완료/실패, 화면에서 처리하면 null로 비움)
+    private final MutableLiveData<RouteSearchResult> routeSearchResult = new MutableLiveData<>();
+    private int routeSearchGeneration = 0;
+
+    // AI 채팅 자동 탐색의 출발지/도착지 좌표 (화면 전환과 동시에 계산)
+    private final MutableLiveData<AutoSearchEndpoints> autoSearchEndpoints = new MutableLiveData<>();
+    private int autoSearchGeneration = 0;
+
+    // 자동 탐색 좌표 계산(현재 위치/도착지 동시 조회)과 TAGO 경로 탐색에 공용으로 사용
+    private final ExecutorService searchExecutor = Executors.newFixedThreadPool(3);
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
     public RouteViewModel(@NonNull Application application) {
         super(application);
         this.repository = RouteRepository.getInstance(application);
     }
 
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        searchExecutor.shutdownNow();
+    }
+
     // LiveData Getters
-    public LiveData<List<RouteFragment.RouteInfo>> getRouteList() {
+    public LiveData<List<RouteInfo>> getRouteList() {
         return routeList;
     }
 
@@ -80,10 +118,18 @@ public class RouteViewModel extends AndroidViewModel {
         return isSyncedWithServer;
     }
 
+    public LiveData<RouteSearchResult> getRouteSearchResult() {
+        return routeSearchResult;
+    }
+
+    public LiveData<AutoSearchEndpoints> getAutoSearchEndpoints() {
+        return autoSearchEndpoints;
+    }
+
     /**
      * 경로 목록 업데이트 및 서버 저장
      */
-    public void updateRouteList(List<RouteFragment.RouteInfo> routes, String userUuid) {
+    public void updateRouteList(List<RouteInfo> routes, String userUuid) {
         Log.i(TAG, "=== updateRouteList 호출 ===");
         Log.i(TAG, "경로 개수: " + routes.size());
         Log.i(TAG, "userUuid: " + (userUuid != null ? userUuid : "NULL"));
@@ -113,13 +159,20 @@ public class RouteViewModel extends AndroidViewModel {
         }
     }
 
+    /**
+     * 실시간 도착 정보로 갱신된 경로 목록 반영 (서버 저장 없음)
+     */
+    public void refreshRouteList(List<RouteInfo> routes) {
+        routeList.setValue(routes);
+    }
+
     /**
      * 서버에 경로 저장
      */
     private void saveRoutesToServer(
             double startLat, double startLng,
             double endLat, double endLng,
-            List<RouteFragment.RouteInfo> routes,
+            List<RouteInfo> routes,
             String userUuid
     ) {
         Log.i(TAG, "=== saveRoutesToServer 시작 ===");
@@ -154,11 +207,20 @@ public class RouteViewModel extends AndroidViewModel {
     }
 
     /**
-     * 서버에서 캐시된 경로 검색
+     * 캐시된 경로 검색 (메모리 캐시 -> 서버 순서)
+     * 찾은 경로는 캐시 결과로 표시되며, 실시간 도착 정보로 갱신되기 전까지 cached 상태 유지
      */
     public void searchCachedRoute(double startLat, double startLng,
-                                  double endLat, double endLng) {
-        isLoading.setValue(true);
+                                  double endLat, double endLng,
+                                  @NonNull CachedRouteCallback callback) {
+        List<RouteInfo> recentRoutes =
+                repository.getRecentRoutes(startLat, startLng, endLat, endLng);
+
+        if (recentRoutes != null && !recentRoutes.isEmpty()) {
+            Log.i(TAG, "메모리 캐시 경로 사용: " + recentRoutes.size() + "개");
+            callback.onCachedRoutesFound(markAsCached(recentRoutes));
+            return;
+        }
 
         repository.searchRouteFromServer(
                 startLat, startLng, endLat, endLng,
@@ -166,61 +228,153 @@ public class RouteViewModel extends AndroidViewModel {
                     @Override
                     public void onRouteFound(RouteResponse route) {
                         // 서버에서 받은 경로 데이터를 RouteInfo로 변환
-                        List<RouteFragment.RouteInfo> routes = convertToRouteInfoList(route);
-                        routeList.postValue(routes);
-                        isLoading.postValue(false);
-                        Log.i(TAG, "캐시된 경로 로드 완료");
+                        List<RouteInfo> routes = RouteRepository.toRouteInfoList(route);
+                        if (routes.isEmpty()) {
+                            callback.onCacheMiss();
+                            return;
+                        }
+                        Log.i(TAG, "서버 캐시 경로 로드 완료: " + routes.size() + "개");
+                        callback.onCachedRoutesFound(routes);
                     }
 
                     @Override
                     public void onRouteNotFound() {
-                        isLoading.postValue(false);
                         Log.i(TAG, "캐시된 경로 없음 - 새로 검색 필요");
+                        callback.onCacheMiss();
                     }
 
                     @Override
                     public void onFailure(String error) {
-                        isLoading.postValue(false);
-                        errorMessage.postValue(error);
-                        Log.e(TAG, "경로 검색 실패: " + error);
+                        // 캐시 조회 실패는 전체 검색으로 대체하므로 사용자에게 알리지 않음
+                        Log.w(TAG, "캐시 경로 검색 실패: " + error);
+                        callback.onCacheMiss();
                     }
                 }
         );
     }
 
+    // ================================================================================================
+    // 경로 탐색
+    // ================================================================================================
+
     /**
-     * RouteResponse를 RouteInfo 리스트로 변환
+     * 출발지/도착지 좌표로 경로 탐색 (캐시 우선, 없으면 TAGO 전체 탐색)
+     * 진행 상태는 getIsLoading(), 결과는 getRouteList()와 getRouteSearchResult()로 전달합니다.
+     * 화면이 다시 만들어져도 탐색은 계속되고, 새 탐색이 시작되면 이전 결과는 버립니다.
      */
-    private List<RouteFragment.RouteInfo> convertToRouteInfoList(RouteResponse response) {
-        List<RouteFragment.RouteInfo> routes = new ArrayList<>();
-
-        if (response.getRouteData() != null) {
-            for (RouteSaveRequest.RouteDataItem item : response.getRouteData()) {
-                RouteFragment.RouteInfo routeInfo = new RouteFragment.RouteInfo(
-                        item.getType(),
-                        item.getDuration(),
-                        item.getBusWaitTime(),
-                        item.getBusNumber(),
-                        item.getStartStopName(),
-                        item.getEndStopName()
-                );
-
-                routeInfo.setBusRideTime(item.getBusRideTime());
-                routeInfo.setWalkingTimeToStartStop(item.getWalkingTimeToStartStop());
-                routeInfo.setWalkingTimeToDestination(item.getWalkingTimeToDestination());
-                routeInfo.setDirectionInfo(item.getDirectionInfo());
-                routeInfo.setStartStopLat(item.getStartStopLat());
-                routeInfo.setStartStopLng(item.getStartStopLng());
-                routeInfo.setEndStopLat(item.getEndStopLat());
-                routeInfo.setEndStopLng(item.getEndStopLng());
-                routeInfo.setDestinationLat(item.getDestinationLat());
-                routeInfo.setDestinationLng(item.getDestinationLng());
-
-                routes.add(routeInfo);
+    public void searchRoutes(String startText, String endText,
+                             @NonNull Location start, @NonNull Location end, String userUuid) {
+        int generation = ++routeSearchGeneration;
+        setStartLocation(start);
+        setEndLocation(end);
+        setStartLocationText(startText);
+        setEndLocationText(endText);
+        routeSearchResult.setValue(null);
+        isLoading.setValue(true);
+
+        searchCachedRoute(start.getLatitude(), start.getLongitude(),
+                end.getLatitude(), end.getLongitude(),
+                new CachedRouteCallback() {
+                    @Override
+                    public void onCachedRoutesFound(List<RouteInfo> routes) {
+                        mainHandler.post(() -> {
+                            if (generation != routeSearchGeneration) return;
+                            refreshRouteList(routes);
+                            finishRouteSearch(RouteSearchResult.cached(routes));
+                        });
+                    }
+
+                    @Override
+                    public void onCacheMiss() {
+                        mainHandler.post(() -> {
+                            if (generation != routeSearchGeneration) return;
+                            searchRoutesFromTago(generation, start, end, userUuid);
+                        });
+                    }
+                });
+    }
+
+    /**
+     * TAGO 전체 탐색 (백그라운드 스레드에서 실행)
+     */
+    private void searchRoutesFromTago(int generation, Location start, Location end, String userUuid) {
+        searchExecutor.execute(() -> {
+            RouteSearchResult result;
+            List<RouteInfo> routes = null;
+            try {
+                routes = repository.searchRoutes(
+                        start.getLatitude(), start.getLongitude(),
+                        end.getLatitude(), end.getLongitude());
+                result = RouteSearchResult.found(routes);
+            } catch (RouteEngine.SearchException e) {
+                result = RouteSearchResult.failed(e.getMessage());
+            } catch (Exception e) {
+                Log.e(TAG, "경로 탐색 중 예외 발생", e);
+                result = RouteSearchResult.failed("경로 탐색 중 오류 발생: " + e.getMessage());
             }
+
+            RouteSearchResult finalResult = result;
+            List<RouteInfo> finalRoutes = routes;
+            mainHandler.post(() -> {
+                if (generation != routeSearchGeneration) return;
+                if (finalRoutes != null && !finalRoutes.isEmpty()) {
+                    updateRouteList(new ArrayList<>(finalRoutes), userUuid);
+                }
+                finishRouteSearch(finalResult);
+            });
+        });
+    }
+
+    private void finishRouteSearch(RouteSearchResult result) {
+        isLoading.setValue(false);
+        routeSearchResult.setValue(result);
+    }
+
+    /**
+     * 탐색 결과를 화면에서 처리했음을 표시 (화면 재생성 시 다시 처리하지 않도록)
+     */
+    public void consumeRouteSearchResult() {
+        routeSearchResult.setValue(null);
+    }
+
+    /**
+     * 경로 탐색 결과
+     * 경로 목록 자체는 getRouteList()로 전달되고, 여기에는 결과 종류와 오류 메시지만 담깁니다.
+     */
+    public static class RouteSearchResult {
+        public enum Status { CACHED, FOUND, FAILED }
+
+        public final Status status;
+        public final int routeCount;
+        public final String errorMessage;
+
+        private RouteSearchResult(Status status, int routeCount, String errorMessage) {
+            this.status = status;
+            this.routeCount = routeCount;
+            this.errorMessage = errorMessage;
+        }
+
+        static RouteSearchResult cached(List<RouteInfo> routes) {
+            return new RouteSearchResult(Status.CACHED, routes.size(), null);
+        }
+
+        static RouteSearchResult found(List<RouteInfo> routes) {
+            return new RouteSearchResult(Status.FOUND, routes.size(), null);
         }
 
-        return routes;
+        static RouteSearchResult failed(String errorMessage) {
+            return new RouteSearchResult(Status.FAILED, 0, errorMessage);
+        }
+    }
+
+    private List<RouteInfo> markAsCached(List<RouteInfo> routes) {
+        List<RouteInfo> cachedRoutes = new ArrayList<>();
+        for (RouteInfo route : routes) {
+            RouteInfo copy = route.withBusWaitTime(route.getBusWaitTime());
+            copy.setCached(true);
+            cachedRoutes.add(copy);
+        }
+        return cachedRoutes;
     }
 
     // Setters
@@ -248,10 +402,167 @@ public class RouteViewModel extends AndroidViewModel {
         return endLocation;
     }
 
+    // ================================================================================================
+    // AI 채팅 자동 경로 탐색
+    // ================================================================================================
+
+    /**
+     * AI 채팅 응답을 받은 즉시 출발지/도착지 좌표 계산 시작
+     * 현재 위치 조회와 도착지 지오코딩을 동시에 실행하고, 결과는 getAutoSearchEndpoints()로 전달합니다.
+     * 경로 화면은 전환이 끝난 뒤 이 결과에 붙어 바로 경로 탐색을 시작합니다.
+     *
+     * @param startText   출발지 주소 또는 CURRENT_LOCATION
+     * @param destination 도착지 주소/장소명
+     */
+    public void startAutoSearch(String startText, @NonNull String destination) {
+        clearData();
+        int generation = ++autoSearchGeneration;
+        autoSearchEndpoints.setValue(AutoSearchEndpoints.pending(startText, destination));
+        Log.d(TAG, "자동 탐색 좌표 계산 시작 - 출발지: " + startText + ", 도착지: " + destination);
+
+        Geocoder geocoder = new Geocoder(getApplication(), Locale.KOREAN);
+        boolean useCurrentLocation = startText == null || startText.isEmpty() || CURRENT_LOCATION.equals(startText);
+
+        Future<Location> startFuture = searchExecutor.submit(() -> useCurrentLocation
+                ? getCurrentLocation()
+                : AddressResolver.resolve(geocoder, startText));
+        Future<Location> endFuture = searchExecutor.submit(() -> AddressResolver.resolve(geocoder, destination));
+
+        searchExecutor.execute(() -> {
+            AutoSearchEndpoints result;
+            try {
+                Location start = startFuture.get();
+                Location end = endFuture.get();
+
+                if (start == null && useCurrentLocation) {
+                    result = AutoSearchEndpoints.failed(AutoSearchEndpoints.Failure.LOCATION,
+                            "현재 위치를 가져올 수 없습니다. 위치 권한을 확인해주세요.");
+                } else if (start == null) {
+                    result = AutoSearchEndpoints.failed(AutoSearchEndpoints.Failure.ADDRESS,
+                            "출발지 주소를 찾을 수 없습니다.");
+                } else if (end == null) {
+                    result = AutoSearchEndpoints.failed(AutoSearchEndpoints.Failure.ADDRESS,
+                            "도착지 주소를 찾을 수 없습니다.");
+                } else {
+                    String resolvedStartText = useCurrentLocation ? describeLocation(geocoder, start) : startText;
+                    result = AutoSearchEndpoints.resolved(resolvedStartText, destination, start, end);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                Log.e(TAG, "자동 탐색 좌표 계산 실패", e);
+                result = AutoSearchEndpoints.failed(AutoSearchEndpoints.Failure.OTHER, "경로 탐색에 실패했습니다.");
+            }
+
+            // 그사이 새 요청이 들어왔으면 이전 결과는 버림
+            AutoSearchEndpoints finalResult = result;
+            mainHandler.post(() -> {
+                if (generation == autoSearchGeneration) {
+                    autoSearchEndpoints.setValue(finalResult);
+                }
+            });
+        });
+    }
+
+    /**
+     * 자동 탐색 결과를 화면에서 사용했음을 표시 (화면 재생성 시 다시 탐색하지 않도록)
+     */
+    public void consumeAutoSearch() {
+        autoSearchEndpoints.setValue(null);
+    }
+
+    /**
+     * 마지막으로 알려진 현재 위치 (권한이 없거나 가져오지 못하면 null, 백그라운드 스레드 전용)
+     */
+    private Location getCurrentLocation() {
+        Application context = getApplication();
+        if (ContextCompat.checkSelfPermission(context, Manifest.permission.ACCESS_FINE_LOCATION)
+                != PackageManager.PERMISSION_GRANTED) {
+            return null;
+        }
+        try {
+            return Tasks.await(LocationServices.getFusedLocationProviderClient(context).getLastLocation(),
+                    LOCATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            Log.w(TAG, "현재 위치 가져오기 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 출발지 입력창에 표시할 현재 위치 주소 (변환 실패 시 "현재 위치")
+     */
+    private String describeLocation(Geocoder geocoder, Location location) {
+        try {
+            List<Address> addresses = geocoder.getFromLocation(location.getLatitude(), location.getLongitude(), 1);
+            if (addresses != null && !addresses.isEmpty() && addresses.get(0).getAddressLine(0) != null) {
+                return addresses.get(0).getAddressLine(0);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "현재 위치 주소 변환 실패", e);
+        }
+        return "현재 위치";
+    }
+
+    /**
+     * 자동 탐색 출발지/도착지 계산 상태
+     * 계산 중이면 좌표와 오류가 모두 null, 실패하면 failure와 errorMessage만 채워집니다.
+     */
+    public static class AutoSearchEndpoints {
+        public enum Failure {
+            LOCATION,   // 현재 위치를 가져오지 못함 (권한 없음/위치 없음)
+            ADDRESS,    // 출발지/도착지 주소를 좌표로 바꾸지 못함
+            OTHER
+        }
+
+        public final String startText;
+        public final String endText;
+        public final Location start;
+        public final Location end;
+        public final Failure failure;
+        public final String errorMessage;
+
+        private AutoSearchEndpoints(String startText, String endText, Location start, Location end,
+                                    Failure failure, String errorMessage) {
+            this.startText = startText;
+            this.endText = endText;
+            this.start = start;
+            this.end = end;
+            this.failure = failure;
+            this.errorMessage = errorMessage;
+        }
+
+        static AutoSearchEndpoints pending(String startText, String endText) {
+            return new AutoSearchEndpoints(startText, endText, null, null, null, null);
+        }
+
+        static AutoSearchEndpoints resolved(String startText, String endText, Location start, Location end) {
+            return new AutoSearchEndpoints(startText, endText, start, end, null, null);
+        }
+
+        static AutoSearchEndpoints failed(Failure failure, String errorMessage) {
+            return new AutoSearchEndpoints(null, null, null, null, failure, errorMessage);
+        }
+
+        public boolean isPending() {
+            return start == null && errorMessage == null;
+        }
+    }
+
+    public interface CachedRouteCallback {
+        void onCachedRoutesFound(List<RouteInfo> routes);
+        void onCacheMiss();
+    }
+
     /**
      * 모든 데이터 초기화
      */
     public void clearData() {
+        // 진행 중인 경로 탐색 결과는 버림
+        routeSearchGeneration++;
+        routeSearchResult.setValue(null);
+        isLoading.setValue(false);
         routeList.setValue(new ArrayList<>());
         startLocationText.setValue("");
         endLocationText.setValue("");
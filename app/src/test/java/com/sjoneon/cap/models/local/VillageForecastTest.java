@@ -0,0 +1,37 @@
+package com.sjoneon.cap.models.local;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 단기예보 시간대 조회 테스트
+ */
+public class VillageForecastTest {
+
+    private static VillageForecast forecast() {
+        return new VillageForecast.Builder(69, 106, "20251019", "0500")
+                .add("20251019", "0600", VillageForecast.CATEGORY_TEMPERATURE, "11")
+                .add("20251019", "0700", VillageForecast.CATEGORY_TEMPERATURE, "12")
+                .add("20251019", "2300", VillageForecast.CATEGORY_TEMPERATURE, "9")
+                .add("20251020", "0000", VillageForecast.CATEGORY_TEMPERATURE, "8")
+                .build();
+    }
+
+    @Test
+    public void firstSlotFromMatchesSameHour() {
+        VillageForecast forecast = forecast();
+
+        assertEquals(1, forecast.findFirstSlotFrom("20251019", "0700"));
+        assertEquals(0, forecast.findFirstSlotFrom("20251019", "0000"));
+    }
+
+    @Test
+    public void firstSlotFromSkipsPastSlotsAcrossDays() {
+        VillageForecast forecast = forecast();
+
+        assertEquals(2, forecast.findFirstSlotFrom("20251019", "0800"));
+        assertEquals(3, forecast.findFirstSlotFrom("20251020", "0000"));
+        assertEquals(-1, forecast.findFirstSlotFrom("20251020", "0100"));
+    }
+}
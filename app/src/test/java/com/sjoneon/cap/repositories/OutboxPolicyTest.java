@@ -0,0 +1,81 @@
+package com.sjoneon.cap.repositories;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sjoneon.cap.models.local.OutboxEntry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 아웃박스 요청 합치기 및 재시도 대기 시간 테스트
+ */
+public class OutboxPolicyTest {
+
+    @Test
+    public void updateMergesIntoPendingCreateOrUpdate() {
+        assertEquals(OutboxPolicy.Coalesce.MERGE,
+                OutboxPolicy.coalesce(OutboxEntry.OP_CREATE, OutboxEntry.OP_UPDATE));
+        assertEquals(OutboxPolicy.Coalesce.MERGE,
+                OutboxPolicy.coalesce(OutboxEntry.OP_UPDATE, OutboxEntry.OP_UPDATE));
+    }
+
+    @Test
+    public void deleteCancelsPendingCreate() {
+        assertEquals(OutboxPolicy.Coalesce.CANCEL,
+                OutboxPolicy.coalesce(OutboxEntry.OP_CREATE, OutboxEntry.OP_DELETE));
+    }
+
+    @Test
+    public void deleteReplacesPendingUpdate() {
+        assertEquals(OutboxPolicy.Coalesce.TO_DELETE,
+                OutboxPolicy.coalesce(OutboxEntry.OP_UPDATE, OutboxEntry.OP_DELETE));
+    }
+
+    @Test
+    public void doesNotCoalesceAfterDeleteOrIntoNewCreate() {
+        assertEquals(OutboxPolicy.Coalesce.NONE,
+                OutboxPolicy.coalesce(OutboxEntry.OP_DELETE, OutboxEntry.OP_UPDATE));
+        assertEquals(OutboxPolicy.Coalesce.NONE,
+                OutboxPolicy.coalesce(OutboxEntry.OP_DELETE, OutboxEntry.OP_DELETE));
+        assertEquals(OutboxPolicy.Coalesce.NONE,
+                OutboxPolicy.coalesce(OutboxEntry.OP_UPDATE, OutboxEntry.OP_CREATE));
+    }
+
+    @Test
+    public void mergePayloadOverwritesOnlyUpdatedFields() {
+        String merged = OutboxPolicy.mergePayload(
+                "{\"title\":\"회의\",\"description\":\"3층\",\"start_time\":\"09:00\"}",
+                "{\"title\":\"팀 회의\",\"start_time\":null}");
+
+        JsonObject json = JsonParser.parseString(merged).getAsJsonObject();
+        assertEquals("팀 회의", json.get("title").getAsString());
+        assertEquals("3층", json.get("description").getAsString());
+        assertTrue(json.get("start_time").isJsonNull());
+    }
+
+    @Test
+    public void mergePayloadHandlesMissingSide() {
+        assertEquals("{\"a\":1}", OutboxPolicy.mergePayload(null, "{\"a\":1}"));
+        assertEquals("{\"a\":1}", OutboxPolicy.mergePayload("{\"a\":1}", null));
+        assertNull(OutboxPolicy.mergePayload(null, null));
+    }
+
+    @Test
+    public void retryDelayDoublesUpToMaximum() {
+        assertEquals(5_000L, OutboxPolicy.retryDelayMs(1));
+        assertEquals(10_000L, OutboxPolicy.retryDelayMs(2));
+        assertEquals(20_000L, OutboxPolicy.retryDelayMs(3));
+        assertEquals(160_000L, OutboxPolicy.retryDelayMs(6));
+        assertEquals(OutboxPolicy.RETRY_MAX_DELAY_MS, OutboxPolicy.retryDelayMs(7));
+        assertEquals(OutboxPolicy.RETRY_MAX_DELAY_MS, OutboxPolicy.retryDelayMs(1000));
+    }
+
+    @Test
+    public void retryDelayStartsAtBaseDelay() {
+        assertEquals(OutboxPolicy.RETRY_BASE_DELAY_MS, OutboxPolicy.retryDelayMs(0));
+    }
+}
@@ -0,0 +1,139 @@
+package com.sjoneon.cap.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 기상청 격자 변환 및 격자 칸 캐시 테스트
+ */
+public class KmaGridTest {
+
+    @Test
+    public void convertsSeoulToGrid() {
+        // 서울특별시 (기상청 격자 좌표표 60, 127)
+        assertArrayEquals(new int[]{60, 127}, KmaGrid.toGrid(37.5665, 126.9780));
+    }
+
+    @Test
+    public void convertsCheongjuToGrid() {
+        // 청주시 상당구 (기상청 격자 좌표표 69, 106)
+        assertArrayEquals(new int[]{69, 106}, KmaGrid.toGrid(36.6243, 127.4914));
+    }
+
+    @Test
+    public void convertsGridEdgesToGrid() {
+        // {위도, 경도, nx, ny} - 기상청 격자 좌표표 기준 남단/동단/서단 지역
+        double[][] cases = {
+                {33.4996, 126.5312, 53, 38},    // 제주시
+                {33.2510, 126.5101, 52, 33},    // 서귀포시
+                {37.4844, 130.9058, 127, 127},  // 울릉군
+                {37.2411, 131.8647, 144, 123},  // 독도
+                {37.9586, 124.7024, 21, 135}    // 옹진군 백령면
+        };
+
+        for (double[] c : cases) {
+            String message = c[0] + ", " + c[1];
+            assertArrayEquals(message, new int[]{(int) c[2], (int) c[3]}, KmaGrid.toGrid(c[0], c[1]));
+        }
+    }
+
+    @Test
+    public void mapsCellsToNearestMidTermStation() {
+        // {nx, ny, 지점 이름, 육상 구역 ID}
+        Object[][] cases = {
+                {60, 127, "서울", "11B00000"},
+                {69, 107, "청주", "11C10000"},
+                {98, 77, "부산", "11H20000"},
+                {53, 38, "제주", "11G00000"},
+                {52, 33, "서귀포", "11G00000"},
+                {127, 127, "울릉도", "11H10000"},
+                {144, 123, "울릉도", "11H10000"},   // 독도는 가장 가까운 울릉도 예보 사용
+                {21, 135, "인천", "11B00000"},      // 백령도
+                {1, 1, "서귀포", "11G00000"},
+                {KmaGrid.MAX_NX, KmaGrid.MAX_NY, "울릉도", "11H10000"}
+        };
+
+        for (Object[] c : cases) {
+            KmaGrid.MidTermRegion region = KmaGrid.findMidTermRegion((int) c[0], (int) c[1]);
+            String message = c[0] + ", " + c[1];
+            assertEquals(message, c[2], region.getName());
+            assertEquals(message, c[3], region.getLandRegId());
+        }
+    }
+
+    @Test
+    public void cachedLatLonRoundTripsToSameCell() {
+        double[] first = KmaGrid.toLatLon(69, 106);
+        double[] second = KmaGrid.toLatLon(69, 106);
+
+        assertArrayEquals(first, second, 0.0);
+        assertArrayEquals(new int[]{69, 106}, KmaGrid.toGrid(first[0], first[1]));
+        double[] seoul = KmaGrid.toLatLon(60, 127);
+        assertArrayEquals(new int[]{60, 127}, KmaGrid.toGrid(seoul[0], seoul[1]));
+    }
+
+    @Test
+    public void cachedLatLonIsCopiedForCallers() {
+        double[] first = KmaGrid.toLatLon(60, 127);
+        double lat = first[0];
+        first[0] = 0.0;
+
+        double[] second = KmaGrid.toLatLon(60, 127);
+        assertNotSame(first, second);
+        assertEquals(lat, second[0], 0.0);
+    }
+
+    @Test
+    public void findsMidTermRegionAndReusesCachedValue() {
+        KmaGrid.MidTermRegion seoul = KmaGrid.findMidTermRegion(60, 127);
+        KmaGrid.MidTermRegion cheongju = KmaGrid.findMidTermRegion(69, 106);
+
+        assertEquals("서울", seoul.getName());
+        assertEquals("11B10101", seoul.getTemperatureRegId());
+        assertEquals("청주", cheongju.getName());
+        assertEquals("11C10000", cheongju.getLandRegId());
+        assertSame(seoul, KmaGrid.findMidTermRegion(60, 127));
+        assertSame(cheongju, KmaGrid.findMidTermRegion(69, 106));
+    }
+
+    @Test
+    public void outOfRangeCellsAreComputedWithoutCache() {
+        double[] latLon = KmaGrid.toLatLon(0, 0);
+        assertEquals(2, latLon.length);
+        assertEquals("서귀포", KmaGrid.findMidTermRegion(-5, -5).getName());
+    }
+
+    @Test
+    public void concurrentLookupsSeeCompleteValues() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(new Callable<double[]>() {
+                    @Override
+                    public double[] call() {
+                        return KmaGrid.toLatLon(76, 114);
+                    }
+                }));
+            }
+
+            double[] expected = KmaGrid.toLatLon(76, 114);
+            for (Future<double[]> result : results) {
+                assertArrayEquals(expected, result.get(), 0.0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.sjoneon.cap.utils;
+
+import com.sjoneon.cap.models.local.AlarmItem;
+import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.models.local.MidTermForecast;
+import com.sjoneon.cap.models.local.NotificationItem;
+import com.sjoneon.cap.models.local.RouteInfo;
+import com.sjoneon.cap.models.local.VillageForecast;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 로컬 모델 바이너리 코덱 왕복 및 이전 버전 데이터 읽기 테스트
+ */
+public class ModelCodecsTest {
+
+    private static final long BASE_TIME = 1_760_000_000_000L;
+
+    private static CalendarEvent calendarEvent() {
+        CalendarEvent event = new CalendarEvent(BASE_TIME, "팀 회의", "충북대학교 학생회관 3층", BASE_TIME + 3_600_000L);
+        event.setNotificationSettings(new ArrayList<>(Arrays.asList(
+                new CalendarEvent.NotificationSetting(
+                        CalendarEvent.NotificationSetting.NotificationType.ONE_HOUR_BEFORE, true),
+                new CalendarEvent.NotificationSetting(
+                        CalendarEvent.NotificationSetting.NotificationType.AT_TIME_OF_EVENT, false))));
+        event.setServerId(42);
+        event.setLocationAlias("학교");
+        event.restoreTimestamps(BASE_TIME - 1000, BASE_TIME - 500);
+        return event;
+    }
+
+    private static void assertSameEvent(CalendarEvent expected, CalendarEvent actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getDateTime(), actual.getDateTime());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getServerId(), actual.getServerId());
+        assertEquals(expected.getNotificationSettings().size(), actual.getNotificationSettings().size());
+        for (int i = 0; i < expected.getNotificationSettings().size(); i++) {
+            assertEquals(expected.getNotificationSettings().get(i).getType(),
+                    actual.getNotificationSettings().get(i).getType());
+            assertEquals(expected.getNotificationSettings().get(i).isEnabled(),
+                    actual.getNotificationSettings().get(i).isEnabled());
+        }
+    }
+
+    // ================================================================================================
+    // 일정
+    // ================================================================================================
+
+    @Test
+    public void calendarEventRoundTrips() throws IOException {
+        CalendarEvent event = calendarEvent();
+
+        CalendarEvent decoded = ModelCodecs.CALENDAR_EVENT.decode(ModelCodecs.CALENDAR_EVENT.encode(event));
+
+        assertSameEvent(event, decoded);
+        assertEquals("학교", decoded.getLocationAlias());
+    }
+
+    @Test
+    public void calendarEventWithNullFieldsRoundTrips() throws IOException {
+        CalendarEvent event = new CalendarEvent(7L, "제목만", null, BASE_TIME);
+        event.setNotificationSettings(new ArrayList<>());
+
+        CalendarEvent decoded = ModelCodecs.CALENDAR_EVENT.decode(ModelCodecs.CALENDAR_EVENT.encode(event));
+
+        assertNull(decoded.getDescription());
+        assertNull(decoded.getServerId());
+        assertNull(decoded.getLocationAlias());
+        assertTrue(decoded.getNotificationSettings().isEmpty());
+    }
+
+    @Test
+    public void decodesVersion1CalendarEventWithoutLocation() throws IOException {
+        CalendarEvent event = calendarEvent();
+
+        // 버전 1 형식: 장소(locationAlias) 필드 없음
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(1);
+        out.writeLong(event.getId());
+        writeString(out, event.getTitle());
+        writeString(out, event.getDescription());
+        out.writeLong(event.getDateTime());
+        out.writeLong(event.getCreatedAt());
+        out.writeLong(event.getUpdatedAt());
+        out.writeBoolean(true);
+        out.writeInt(event.getServerId());
+        out.writeInt(2);
+        writeString(out, "ONE_HOUR_BEFORE");
+        out.writeBoolean(true);
+        writeString(out, "AT_TIME_OF_EVENT");
+        out.writeBoolean(false);
+        out.flush();
+
+        CalendarEvent decoded = ModelCodecs.CALENDAR_EVENT.decode(bytes.toByteArray());
+
+        assertSameEvent(event, decoded);
+        assertNull(decoded.getLocationAlias());
+        assertFalse(decoded.hasLocation());
+    }
+
+    @Test
+    public void skipsUnknownNotificationTypes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(2);
+        out.writeLong(1L);
+        writeString(out, "일정");
+        writeString(out, null);
+        out.writeLong(BASE_TIME);
+        out.writeLong(BASE_TIME);
+        out.writeLong(BASE_TIME);
+        out.writeBoolean(false);
+        out.writeInt(2);
+        writeString(out, "TWO_DAYS_BEFORE");
+        out.writeBoolean(true);
+        writeString(out, "FIVE_MINUTES_BEFORE");
+        out.writeBoolean(true);
+        writeString(out, null);
+        out.flush();
+
+        CalendarEvent decoded = ModelCodecs.CALENDAR_EVENT.decode(bytes.toByteArray());
+
+        assertEquals(1, decoded.getNotificationSettings().size());
+        assertEquals(CalendarEvent.NotificationSetting.NotificationType.FIVE_MINUTES_BEFORE,
+                decoded.getNotificationSettings().get(0).getType());
+    }
+
+    // ================================================================================================
+    // 알람/알림/경로
+    // ================================================================================================
+
+    @Test
+    public void alarmRoundTrips() throws IOException {
+        AlarmItem alarm = new AlarmItem(3, "07:30", "출근", true, false, true);
+        alarm.setServerId(99);
+
+        AlarmItem decoded = ModelCodecs.ALARM.decode(ModelCodecs.ALARM.encode(alarm));
+
+        assertEquals(3, decoded.getId());
+        assertEquals("07:30", decoded.getTime());
+        assertEquals("출근", decoded.getLabel());
+        assertTrue(decoded.isEnabled());
+        assertFalse(decoded.isSoundEnabled());
+        assertTrue(decoded.isVibrationEnabled());
+        assertEquals(Integer.valueOf(99), decoded.getServerId());
+    }
+
+    @Test
+    public void notificationListRoundTrips() throws IOException {
+        List<NotificationItem> notifications = Arrays.asList(
+                new NotificationItem(1, "버스 도착 알림", "502번 버스가 3분 후 도착합니다.", BASE_TIME, false),
+                new NotificationItem(2, "일정 알림", null, BASE_TIME - 60_000L, true));
+
+        List<NotificationItem> decoded = ModelCodecs.NOTIFICATION.decodeList(
+                ModelCodecs.NOTIFICATION.encodeList(notifications));
+
+        assertEquals(2, decoded.size());
+        assertEquals(1, decoded.get(0).getId());
+        assertEquals("502번 버스가 3분 후 도착합니다.", decoded.get(0).getContent());
+        assertFalse(decoded.get(0).isRead());
+        assertEquals(BASE_TIME - 60_000L, decoded.get(1).getTimestamp());
+        assertNull(decoded.get(1).getContent());
+        assertTrue(decoded.get(1).isRead());
+    }
+
+    @Test
+    public void routeInfoRoundTrips() throws IOException {
+        RouteInfo route = new RouteInfo("버스", 32, 5, "502", "충북대학교", "청주시청");
+        route.setBusRideTime(18);
+        route.setWalkingTimeToStartStop(4);
+        route.setWalkingTimeToDestination(5);
+        route.setExpanded(true);
+        route.setDirectionInfo("청주시청 방면");
+        route.setRouteId("CJB270001000");
+        route.setBusRideDistance(5230.5);
+        route.setCityCode("33010");
+        route.setStartStopId("CJB283000123");
+        route.setCached(true);
+        route.setArrivalUnavailable(true);
+        route.setStartStopLat(36.6285);
+        route.setStartStopLng(127.4561);
+        route.setEndStopLat(36.6424);
+        route.setEndStopLng(127.4890);
+        route.setDestinationLat(36.6427);
+        route.setDestinationLng(127.4893);
+
+        RouteInfo decoded = ModelCodecs.ROUTE_INFO.decode(ModelCodecs.ROUTE_INFO.encode(route));
+
+        assertEquals("버스", decoded.getType());
+        assertEquals(32, decoded.getDuration());
+        assertEquals(5, decoded.getBusWaitTime());
+        assertEquals("502", decoded.getBusNumber());
+        assertEquals("충북대학교", decoded.getStartStopName());
+        assertEquals("청주시청", decoded.getEndStopName());
+        assertEquals(18, decoded.getBusRideTime());
+        assertEquals(4, decoded.getWalkingTimeToStartStop());
+        assertEquals(5, decoded.getWalkingTimeToDestination());
+        assertTrue(decoded.isExpanded());
+        assertEquals("청주시청 방면", decoded.getDirectionInfo());
+        assertEquals("CJB270001000", decoded.getRouteId());
+        assertEquals(5230.5, decoded.getBusRideDistance(), 0.0);
+        assertEquals("33010", decoded.getCityCode());
+        assertEquals("CJB283000123", decoded.getStartStopId());
+        assertTrue(decoded.isCached());
+        assertTrue(decoded.isArrivalUnavailable());
+        assertEquals(36.6285, decoded.getStartStopLat(), 0.0);
+        assertEquals(127.4561, decoded.getStartStopLng(), 0.0);
+        assertEquals(36.6424, decoded.getEndStopLat(), 0.0);
+        assertEquals(127.4890, decoded.getEndStopLng(), 0.0);
+        assertEquals(36.6427, decoded.getDestinationLat(), 0.0);
+        assertEquals(127.4893, decoded.getDestinationLng(), 0.0);
+    }
+
+    // ================================================================================================
+    // 예보
+    // ================================================================================================
+
+    @Test
+    public void villageForecastRoundTrips() throws IOException {
+        VillageForecast forecast = new VillageForecast.Builder(69, 106, "20251019", "0500")
+                .add("20251019", "0600", VillageForecast.CATEGORY_TEMPERATURE, "11.5")
+                .add("20251019", "0600", VillageForecast.CATEGORY_PRECIPITATION, "강수없음")
+                .add("20251019", "0700", VillageForecast.CATEGORY_SKY, "3")
+                .build();
+
+        VillageForecast decoded = ModelCodecs.VILLAGE_FORECAST.decode(ModelCodecs.VILLAGE_FORECAST.encode(forecast));
+
+        assertEquals(69, decoded.getNx());
+        assertEquals(106, decoded.getNy());
+        assertEquals("20251019", decoded.getBaseDate());
+        assertEquals("0500", decoded.getBaseTime());
+        assertEquals(2, decoded.getSlotCount());
+        assertEquals(11.5, decoded.getNumber(0, VillageForecast.CATEGORY_TEMPERATURE), 0.0);
+        assertEquals("강수없음", decoded.getValue(0, VillageForecast.CATEGORY_PRECIPITATION));
+        assertEquals("3", decoded.getValue(1, VillageForecast.CATEGORY_SKY));
+        assertFalse(decoded.hasValue(1, VillageForecast.CATEGORY_TEMPERATURE));
+    }
+
+    @Test
+    public void midTermForecastRoundTrips() throws IOException {
+        MidTermForecast forecast = new MidTermForecast.Builder("11C10301", "11C10000", "202510190600")
+                .setTemperature(3, 8, 19)
+                .setLand(3, "맑음", "구름많음", 10, 20)
+                .setTemperature(MidTermForecast.MAX_DAY_OFFSET, 5, null)
+                .build();
+
+        MidTermForecast decoded = ModelCodecs.MID_TERM_FORECAST.decode(
+                ModelCodecs.MID_TERM_FORECAST.encode(forecast));
+
+        assertEquals("11C10301", decoded.getTemperatureRegId());
+        assertEquals("11C10000", decoded.getLandRegId());
+        assertEquals("202510190600", decoded.getTmFc());
+        assertEquals(Integer.valueOf(8), decoded.getMinTemp(3));
+        assertEquals(Integer.valueOf(19), decoded.getMaxTemp(3));
+        assertEquals("맑음", decoded.getAmCondition(3));
+        assertEquals("구름많음", decoded.getPmCondition(3));
+        assertEquals(Integer.valueOf(10), decoded.getAmRainChance(3));
+        assertEquals(Integer.valueOf(20), decoded.getPmRainChance(3));
+        assertEquals(Integer.valueOf(5), decoded.getMinTemp(MidTermForecast.MAX_DAY_OFFSET));
+        assertNull(decoded.getMaxTemp(MidTermForecast.MAX_DAY_OFFSET));
+        assertNull(decoded.getMinTemp(4));
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedDataThrowsIOException() throws IOException {
+        byte[] encoded = ModelCodecs.CALENDAR_EVENT.encode(calendarEvent());
+        ModelCodecs.CALENDAR_EVENT.decode(Arrays.copyOf(encoded, encoded.length / 2));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
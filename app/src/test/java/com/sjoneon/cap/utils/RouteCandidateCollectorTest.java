@@ -0,0 +1,106 @@
+package com.sjoneon.cap.utils;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * RouteCandidateCollector 상위 K개 유지/중복 제거 테스트
+ */
+public class RouteCandidateCollectorTest {
+
+    private static RouteCandidate candidate(RouteCandidateCollector collector, String bus,
+                                            String startStop, String endStop,
+                                            int busWaitMin, int busRideMin) {
+        return new RouteCandidate(
+                collector.intern(bus), collector.intern(startStop), collector.intern(endStop),
+                5, busWaitMin, busRideMin, 5, 1000f,
+                null, null, null, null);
+    }
+
+    @Test
+    public void keepsShortestCandidatesInAscendingOrder() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(3);
+        int[] rideTimes = {30, 10, 50, 20, 40, 5};
+        for (int i = 0; i < rideTimes.length; i++) {
+            collector.offer(candidate(collector, "버스" + i, "출발", "도착", 3, rideTimes[i]));
+        }
+
+        List<RouteCandidate> sorted = collector.getSortedCandidates();
+        assertEquals(3, sorted.size());
+        assertEquals(5 + 3 + 5 + 5, sorted.get(0).durationMin);
+        assertEquals(5 + 3 + 10 + 5, sorted.get(1).durationMin);
+        assertEquals(5 + 3 + 20 + 5, sorted.get(2).durationMin);
+    }
+
+    @Test
+    public void rejectsCandidateWorseThanFullHeap() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(2);
+        assertTrue(collector.offer(candidate(collector, "1", "A", "B", 3, 10)));
+        assertTrue(collector.offer(candidate(collector, "2", "A", "B", 3, 20)));
+
+        assertFalse(collector.offer(candidate(collector, "3", "A", "B", 3, 30)));
+        assertTrue(collector.offer(candidate(collector, "4", "A", "B", 3, 15)));
+        assertEquals(2, collector.size());
+    }
+
+    @Test
+    public void breaksDurationTiesByShorterWait() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(1);
+        // 총 소요 시간은 같고 대기 시간만 다름
+        collector.offer(candidate(collector, "1", "A", "B", 10, 10));
+        assertTrue(collector.offer(candidate(collector, "2", "A", "B", 5, 15)));
+
+        assertEquals(5, collector.getSortedCandidates().get(0).busWaitMin);
+    }
+
+    @Test
+    public void dropsDuplicateBusAndStopNames() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(10);
+        assertTrue(collector.offer(candidate(collector, "502", "시청", "터미널", 3, 20)));
+        // 같은 버스/정류장 조합은 시간이 더 짧아도 중복으로 처리
+        assertFalse(collector.offer(candidate(collector, "502", "시청", "터미널", 1, 10)));
+        // 하차 정류장이 다르면 다른 경로
+        assertTrue(collector.offer(candidate(collector, "502", "시청", "병원", 3, 20)));
+        assertEquals(2, collector.size());
+    }
+
+    @Test
+    public void dedupSurvivesRehash() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(5);
+        for (int i = 0; i < 1000; i++) {
+            collector.offer(candidate(collector, "버스" + i, "출발", "도착", 3, 10 + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(collector.offer(candidate(collector, "버스" + i, "출발", "도착", 3, 1)));
+        }
+        assertEquals(5, collector.size());
+    }
+
+    @Test
+    public void internReturnsStableNonZeroIds() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(1);
+        int first = collector.intern("502");
+        assertNotEquals(0, first);
+        assertEquals(first, collector.intern("502"));
+        assertNotEquals(first, collector.intern("503"));
+        // null은 빈 문자열과 같은 ID
+        assertEquals(collector.intern(""), collector.intern(null));
+    }
+
+    @Test
+    public void tracksProcessedBusAndStopPairs() {
+        RouteCandidateCollector collector = new RouteCandidateCollector(1);
+        assertFalse(collector.isProcessed("502", "CJB001"));
+
+        collector.markProcessed("502", "CJB001");
+        assertTrue(collector.isProcessed("502", "CJB001"));
+        assertFalse(collector.isProcessed("502", "CJB002"));
+        assertFalse(collector.isProcessed("503", "CJB001"));
+    }
+}
@@ -0,0 +1,241 @@
+package com.sjoneon.cap.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * SyncReconciler 추가/수정/삭제 계산 및 전송 대기 변경 보존 테스트
+ */
+public class SyncReconcilerTest {
+
+    private static final class ServerItem {
+        final int id;
+        final String title;
+
+        ServerItem(int id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+    }
+
+    private static final class LocalItem {
+        final long localId;
+        final Integer serverId;
+        final String title;
+
+        LocalItem(long localId, Integer serverId, String title) {
+            this.localId = localId;
+            this.serverId = serverId;
+            this.title = title;
+        }
+    }
+
+    private static final SyncReconciler.ItemMapper<ServerItem, LocalItem> MAPPER =
+            new SyncReconciler.ItemMapper<ServerItem, LocalItem>() {
+                @Override
+                public int getServerItemId(ServerItem serverItem) {
+                    return serverItem.id;
+                }
+
+                @Override
+                public Integer getLocalServerId(LocalItem localItem) {
+                    return localItem.serverId;
+                }
+
+                @Override
+                public boolean needsUpdate(ServerItem serverItem, LocalItem localItem) {
+                    return !serverItem.title.equals(localItem.title);
+                }
+            };
+
+    /**
+     * 반영 요청을 기록하는 Applier
+     */
+    private static class RecordingApplier implements SyncReconciler.Applier<ServerItem, LocalItem> {
+        final List<Integer> inserted = new ArrayList<>();
+        final List<Long> updated = new ArrayList<>();
+        final List<Long> deleted = new ArrayList<>();
+
+        @Override
+        public boolean insert(ServerItem serverItem) {
+            inserted.add(serverItem.id);
+            return true;
+        }
+
+        @Override
+        public boolean update(ServerItem serverItem, LocalItem localItem) {
+            updated.add(localItem.localId);
+            return true;
+        }
+
+        @Override
+        public boolean delete(LocalItem localItem) {
+            deleted.add(localItem.localId);
+            return true;
+        }
+    }
+
+    private static SyncReconciler.PendingChanges<LocalItem> pending(Set<Long> localIds, Set<Integer> deletedServerIds) {
+        return new SyncReconciler.PendingChanges<LocalItem>() {
+            @Override
+            public boolean hasPendingChange(LocalItem localItem) {
+                return localIds.contains(localItem.localId);
+            }
+
+            @Override
+            public boolean hasPendingDelete(int serverId) {
+                return deletedServerIds.contains(serverId);
+            }
+        };
+    }
+
+    @Test
+    public void fullDiffInsertsUpdatesAndDeletes() {
+        List<ServerItem> server = Arrays.asList(
+                new ServerItem(1, "same"), new ServerItem(2, "changed"), new ServerItem(3, "new"));
+        List<LocalItem> local = Arrays.asList(
+                new LocalItem(10, 1, "same"), new LocalItem(20, 2, "old"), new LocalItem(40, 4, "gone"));
+
+        RecordingApplier applier = new RecordingApplier();
+        SyncReconciler.Report report = SyncReconciler.diff(server, local, MAPPER).apply(applier);
+
+        assertEquals(Collections.singletonList(3), applier.inserted);
+        assertEquals(Collections.singletonList(20L), applier.updated);
+        assertEquals(Collections.singletonList(40L), applier.deleted);
+        assertEquals(1, report.unchanged);
+        assertEquals(0, report.failed);
+    }
+
+    @Test
+    public void fullDiffKeepsLocalItemsWithoutServerId() {
+        List<LocalItem> local = Collections.singletonList(new LocalItem(10, null, "offline"));
+
+        SyncReconciler<ServerItem, LocalItem> reconciler =
+                SyncReconciler.diff(Collections.emptyList(), local, MAPPER);
+
+        assertEquals(0, reconciler.getDeleteCount());
+    }
+
+    @Test
+    public void ignoresDuplicateServerItems() {
+        List<ServerItem> server = Arrays.asList(new ServerItem(1, "a"), new ServerItem(1, "a"));
+
+        SyncReconciler<ServerItem, LocalItem> reconciler =
+                SyncReconciler.diff(server, Collections.emptyList(), MAPPER);
+
+        assertEquals(1, reconciler.getInsertCount());
+    }
+
+    @Test
+    public void fullDiffSkipsItemsWithPendingLocalChanges() {
+        List<ServerItem> server = Collections.singletonList(new ServerItem(2, "server title"));
+        List<LocalItem> local = Arrays.asList(
+                new LocalItem(20, 2, "edited offline"), new LocalItem(30, 3, "not yet on server list"));
+
+        RecordingApplier applier = new RecordingApplier();
+        SyncReconciler.Report report = SyncReconciler.diff(server, local, MAPPER,
+                pending(new HashSet<>(Arrays.asList(20L, 30L)), Collections.emptySet())).apply(applier);
+
+        assertTrue(applier.updated.isEmpty());
+        assertTrue(applier.deleted.isEmpty());
+        assertEquals(2, report.skippedPending);
+    }
+
+    @Test
+    public void fullDiffDoesNotReinsertPendingDeletes() {
+        List<ServerItem> server = Arrays.asList(new ServerItem(5, "deleted locally"), new ServerItem(6, "new"));
+
+        RecordingApplier applier = new RecordingApplier();
+        SyncReconciler.Report report = SyncReconciler.diff(server, Collections.emptyList(), MAPPER,
+                pending(Collections.emptySet(), Collections.singleton(5))).apply(applier);
+
+        assertEquals(Collections.singletonList(6), applier.inserted);
+        assertEquals(1, report.skippedPending);
+    }
+
+    @Test
+    public void changesDiffDeletesOnlyTombstones() {
+        List<ServerItem> changed = Collections.singletonList(new ServerItem(2, "changed"));
+        List<LocalItem> local = Arrays.asList(
+                new LocalItem(10, 1, "untouched"), new LocalItem(20, 2, "old"), new LocalItem(30, 3, "removed"));
+
+        RecordingApplier applier = new RecordingApplier();
+        SyncReconciler.diffChanges(changed, Collections.singletonList(3), local, MAPPER).apply(applier);
+
+        assertEquals(Collections.singletonList(20L), applier.updated);
+        assertEquals(Collections.singletonList(30L), applier.deleted);
+    }
+
+    @Test
+    public void changesDiffKeepsItemRecreatedInSameResponse() {
+        List<ServerItem> changed = Collections.singletonList(new ServerItem(3, "recreated"));
+        List<LocalItem> local = Collections.singletonList(new LocalItem(30, 3, "old"));
+
+        SyncReconciler<ServerItem, LocalItem> reconciler =
+                SyncReconciler.diffChanges(changed, Collections.singletonList(3), local, MAPPER);
+
+        assertEquals(0, reconciler.getDeleteCount());
+        assertEquals(1, reconciler.getUpdateCount());
+    }
+
+    @Test
+    public void changesDiffKeepsTombstonedItemsWithPendingLocalChanges() {
+        List<ServerItem> changed = Collections.singletonList(new ServerItem(2, "server title"));
+        List<LocalItem> local = Arrays.asList(
+                new LocalItem(20, 2, "edited offline"), new LocalItem(30, 3, "edited offline"));
+
+        RecordingApplier applier = new RecordingApplier();
+        SyncReconciler.Report report = SyncReconciler.diffChanges(changed, Collections.singletonList(3), local,
+                MAPPER, pending(new HashSet<>(Arrays.asList(20L, 30L)), Collections.emptySet())).apply(applier);
+
+        assertTrue(applier.updated.isEmpty());
+        assertTrue(applier.deleted.isEmpty());
+        assertEquals(2, report.skippedPending);
+        assertTrue(report.isComplete());
+    }
+
+    @Test
+    public void reportIsIncompleteWhenInsertFails() {
+        List<ServerItem> changed = Collections.singletonList(new ServerItem(1, "bad time"));
+
+        SyncReconciler.Report report = SyncReconciler.diffChanges(changed, null, Collections.emptyList(), MAPPER)
+                .apply(new RecordingApplier() {
+                    @Override
+                    public boolean insert(ServerItem serverItem) {
+                        return false;
+                    }
+                });
+
+        assertEquals(1, report.failed);
+        assertFalse(report.isComplete());
+    }
+
+    @Test
+    public void applyCountsFailuresAndContinues() {
+        List<ServerItem> server = Arrays.asList(new ServerItem(1, "a"), new ServerItem(2, "b"));
+
+        SyncReconciler.Report report = SyncReconciler.diff(server, Collections.emptyList(), MAPPER)
+                .apply(new RecordingApplier() {
+                    @Override
+                    public boolean insert(ServerItem serverItem) {
+                        if (serverItem.id == 1) {
+                            throw new IllegalStateException("저장 실패");
+                        }
+                        return super.insert(serverItem);
+                    }
+                });
+
+        assertEquals(1, report.inserted);
+        assertEquals(1, report.failed);
+    }
+}
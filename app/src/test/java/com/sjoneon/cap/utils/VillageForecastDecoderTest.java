@@ -0,0 +1,111 @@
+package com.sjoneon.cap.utils;
+
+import com.google.gson.JsonParseException;
+import com.sjoneon.cap.models.local.VillageForecast;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 단기예보 스트리밍 디코더 테스트 (배열/단일 객체/빈 items/오류 응답)
+ */
+public class VillageForecastDecoderTest {
+
+    private static final String BASE_DATE = "20251019";
+    private static final String BASE_TIME = "0500";
+
+    private static String response(String resultCode, String items) {
+        return "{\"response\":{" +
+                "\"header\":{\"resultCode\":\"" + resultCode + "\",\"resultMsg\":\"NORMAL_SERVICE\"}," +
+                "\"body\":{\"dataType\":\"JSON\",\"items\":" + items + ",\"pageNo\":1,\"numOfRows\":1000,\"totalCount\":4}" +
+                "}}";
+    }
+
+    private static String item(String category, String fcstDate, String fcstTime, String fcstValue) {
+        return "{\"baseDate\":\"" + BASE_DATE + "\",\"baseTime\":\"" + BASE_TIME + "\"," +
+                "\"category\":\"" + category + "\",\"fcstDate\":\"" + fcstDate + "\"," +
+                "\"fcstTime\":\"" + fcstTime + "\",\"fcstValue\":\"" + fcstValue + "\",\"nx\":69,\"ny\":106}";
+    }
+
+    private static VillageForecast decode(String json) throws IOException {
+        return VillageForecastDecoder.decode(new StringReader(json), 69, 106, BASE_DATE, BASE_TIME);
+    }
+
+    @Test
+    public void decodesItemArrayIntoSortedSlots() throws IOException {
+        String items = "{\"item\":[" +
+                item("TMP", "20251019", "0700", "12") + "," +
+                item("SKY", "20251019", "0700", "3") + "," +
+                item("PCP", "20251019", "0700", "강수없음") + "," +
+                item("TMP", "20251019", "0600", "11.5") +
+                "]}";
+
+        VillageForecast forecast = decode(response("00", items));
+
+        assertNotNull(forecast);
+        assertEquals(69, forecast.getNx());
+        assertEquals(106, forecast.getNy());
+        assertEquals(2, forecast.getSlotCount());
+        assertEquals("0600", forecast.getSlotTime(0));
+        assertEquals("0700", forecast.getSlotTime(1));
+
+        int slot = forecast.findSlot("20251019", "0700");
+        assertEquals(12.0, forecast.getNumber(slot, VillageForecast.CATEGORY_TEMPERATURE), 0.0);
+        assertEquals("3", forecast.getValue(slot, VillageForecast.CATEGORY_SKY));
+        assertEquals("강수없음", forecast.getValue(slot, VillageForecast.CATEGORY_PRECIPITATION));
+        assertEquals("11.5", forecast.getValue(0, VillageForecast.CATEGORY_TEMPERATURE));
+        assertArrayEquals(new int[]{0, 2}, forecast.getSlotRange("20251019"));
+    }
+
+    @Test
+    public void decodesSingleItemObject() throws IOException {
+        String items = "{\"item\":" + item("TMP", "20251020", "1200", "18") + "}";
+
+        VillageForecast forecast = decode(response("00", items));
+
+        assertNotNull(forecast);
+        assertEquals(1, forecast.getSlotCount());
+        assertEquals("18", forecast.getValue(0, VillageForecast.CATEGORY_TEMPERATURE));
+    }
+
+    @Test
+    public void emptyItemsStringGivesEmptyForecast() throws IOException {
+        VillageForecast forecast = decode(response("00", "\"\""));
+
+        assertNotNull(forecast);
+        assertEquals(0, forecast.getSlotCount());
+    }
+
+    @Test
+    public void ignoresUnknownCategoriesAndKeepsFirstDuplicate() throws IOException {
+        String items = "{\"item\":[" +
+                item("UUU", "20251019", "0700", "1.2") + "," +
+                item("TMP", "20251019", "0700", "12") + "," +
+                item("TMP", "20251019", "0700", "30") +
+                "]}";
+
+        VillageForecast forecast = decode(response("00", items));
+
+        assertEquals(1, forecast.getSlotCount());
+        assertEquals("12", forecast.getValue(0, VillageForecast.CATEGORY_TEMPERATURE));
+        assertFalse(forecast.hasValue(0, VillageForecast.CATEGORY_WIND_SPEED));
+    }
+
+    @Test
+    public void apiErrorCodeReturnsNull() throws IOException {
+        assertNull(decode(response("03", "\"\"")));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void malformedResponseThrowsJsonParseException() throws IOException {
+        decode("{\"response\":{\"body\":{\"items\":{\"item\":[{\"category\" 12]}}}}");
+    }
+}
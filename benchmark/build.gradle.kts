@@ -0,0 +1,67 @@
+// 경로 탐색/파싱/로컬 저장 형식 핵심 코드 JVM 벤치마크 (JMH)
+// 실행: ./gradlew :benchmark:jmh  (결과: benchmark/build/results/jmh/results.json)
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// 앱 모듈 중 Android 프레임워크 의존성이 없는 파일만 그대로 컴파일
+// android.util.Log, android.content.Context/SharedPreferences는 src/main/java의 대체 구현 사용
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            include(
+                "android/content/Context.java",
+                "android/content/SharedPreferences.java",
+                "android/util/Log.java",
+                "com/sjoneon/cap/models/api/TagoBusArrivalResponse.java",
+                "com/sjoneon/cap/models/api/TagoBusStopResponse.java",
+                "com/sjoneon/cap/models/api/TagoBusRouteStationResponse.java",
+                "com/sjoneon/cap/models/api/TmapPedestrianResponse.java",
+                "com/sjoneon/cap/models/local/AlarmItem.java",
+                "com/sjoneon/cap/models/local/CalendarEvent.java",
+                "com/sjoneon/cap/models/local/MidTermForecast.java",
+                "com/sjoneon/cap/models/local/NotificationItem.java",
+                "com/sjoneon/cap/models/local/RouteInfo.java",
+                "com/sjoneon/cap/models/local/VillageForecast.java",
+                "com/sjoneon/cap/services/TagoApiService.java",
+                "com/sjoneon/cap/services/TmapApiService.java",
+                "com/sjoneon/cap/utils/BinaryCodec.java",
+                "com/sjoneon/cap/utils/BusDirectionAnalyzer.java",
+                "com/sjoneon/cap/utils/BusRideTimeModel.java",
+                "com/sjoneon/cap/utils/ModelCodecs.java",
+                "com/sjoneon/cap/utils/RouteCandidate.java",
+                "com/sjoneon/cap/utils/RouteCandidateCollector.java",
+                "com/sjoneon/cap/utils/RouteEngine.java",
+                "com/sjoneon/cap/utils/StationIndexFinder.java",
+                "com/sjoneon/cap/utils/TagoBusArrivalDeserializer.java",
+                "com/sjoneon/cap/utils/TagoBusStopDeserializer.java"
+            )
+        }
+    }
+}
+
+dependencies {
+    // 앱 모듈과 동일한 버전 사용 (Gson은 converter-gson을 통해 포함)
+    implementation("com.squareup.retrofit2:retrofit:2.9.0")
+    implementation("com.squareup.retrofit2:converter-gson:2.9.0")
+    implementation("com.squareup.okhttp3:okhttp:4.12.0")
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("s")
+    // 처리량(ops/s)과 함께 할당률(gc.alloc.rate.norm) 보고
+    profilers.set(listOf("gc"))
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,63 @@
+package com.sjoneon.cap.benchmark;
+
+import com.google.gson.Gson;
+import com.sjoneon.cap.models.api.TagoBusArrivalResponse;
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+import com.sjoneon.cap.utils.BusDirectionAnalyzer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * BusDirectionAnalyzer.analyzeRouteDirection 벤치마크
+ * 왕복 100개 정류장 노선에서 정방향 승차와 회차 대기(동명 반대편 정류장) 두 경우를 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class BusDirectionAnalyzerBenchmark {
+
+    private List<TagoBusRouteStationResponse.RouteStation> routeStations;
+    private TagoBusArrivalResponse.BusArrival bus;
+    private TagoBusStopResponse.BusStop forwardStartStop;
+    private TagoBusStopResponse.BusStop reverseStartStop;
+    private TagoBusStopResponse.BusStop endStop;
+
+    @Setup
+    public void setUp() {
+        Gson tagoGson = Fixtures.tagoGson();
+        Gson plainGson = new Gson();
+
+        routeStations = Fixtures.parseRouteStations(tagoGson,
+                Fixtures.read("tago_route_" + Fixtures.ROUTE_IDS[0] + ".json"));
+
+        List<TagoBusStopResponse.BusStop> startStops =
+                Fixtures.parseStops(tagoGson, plainGson, Fixtures.read("tago_stops_start.json"));
+        List<TagoBusStopResponse.BusStop> endStops =
+                Fixtures.parseStops(tagoGson, plainGson, Fixtures.read("tago_stops_end.json"));
+
+        // 픽스처 순서: [정방향, 반대편, 정방향, 반대편]
+        forwardStartStop = startStops.get(0);
+        reverseStartStop = startStops.get(1);
+        endStop = endStops.get(0);
+
+        bus = new TagoBusArrivalResponse.BusArrival();
+        bus.routeid = Fixtures.ROUTE_IDS[0];
+        bus.routeno = "105";
+        bus.arrtime = 420;
+        bus.arrprevstationcnt = 4;
+    }
+
+    @Benchmark
+    public BusDirectionAnalyzer.RouteDirectionInfo analyzeForwardDirection() {
+        return BusDirectionAnalyzer.analyzeRouteDirection(forwardStartStop, endStop, bus, routeStations);
+    }
+
+    @Benchmark
+    public BusDirectionAnalyzer.RouteDirectionInfo analyzeTurnaroundDirection() {
+        return BusDirectionAnalyzer.analyzeRouteDirection(reverseStartStop, endStop, bus, routeStations);
+    }
+}
@@ -0,0 +1,92 @@
+package com.sjoneon.cap.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * 녹화된 TAGO/TMAP 응답을 재생하는 프로세스 내 가짜 서버
+ * 요청 경로와 쿼리(좌표, nodeId, routeId)로 픽스처를 선택합니다.
+ * 루프백 소켓 지연이 측정값을 덮지 않도록 OkHttp 인터셉터 단계에서 응답합니다.
+ */
+final class FakeRouteApiServer implements Interceptor {
+
+    static final String TAGO_BASE_URL = "https://apis.data.go.kr/1613000/";
+    static final String TMAP_BASE_URL = "https://apis.openapi.sk.com/";
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=UTF-8");
+
+    // 출발지/도착지 픽스처를 구분하는 위도 기준값
+    private static final double END_AREA_MIN_LATITUDE = 36.64;
+
+    private final Map<String, String> responses = new HashMap<>();
+
+    FakeRouteApiServer() {
+        responses.put("stops_start", Fixtures.read("tago_stops_start.json"));
+        responses.put("stops_end", Fixtures.read("tago_stops_end.json"));
+        responses.put("pedestrian", Fixtures.read("tmap_pedestrian.json"));
+        for (String stopId : Fixtures.START_STOP_IDS) {
+            responses.put("arrivals_" + stopId, Fixtures.read("tago_arrivals_" + stopId + ".json"));
+        }
+        for (String routeId : Fixtures.ROUTE_IDS) {
+            responses.put("route_" + routeId, Fixtures.read("tago_route_" + routeId + ".json"));
+        }
+    }
+
+    /**
+     * 모든 요청을 이 서버로 보내는 클라이언트
+     */
+    OkHttpClient newClient() {
+        return new OkHttpClient.Builder()
+                .addInterceptor(this)
+                .build();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String body = responses.get(resolveFixtureKey(request.url()));
+
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1);
+
+        if (body == null) {
+            return builder.code(404).message("Not Found")
+                    .body(ResponseBody.create("", JSON))
+                    .build();
+        }
+        return builder.code(200).message("OK")
+                .body(ResponseBody.create(body, JSON))
+                .build();
+    }
+
+    private static String resolveFixtureKey(HttpUrl url) {
+        String path = url.encodedPath();
+
+        if (path.endsWith("getCrdntPrxmtSttnList")) {
+            String latitude = url.queryParameter("gpsLati");
+            return latitude != null && Double.parseDouble(latitude) >= END_AREA_MIN_LATITUDE
+                    ? "stops_end" : "stops_start";
+        }
+        if (path.endsWith("getSttnAcctoArvlPrearngeInfoList")) {
+            return "arrivals_" + url.queryParameter("nodeId");
+        }
+        if (path.endsWith("getRouteAcctoThrghSttnList")) {
+            return "route_" + url.queryParameter("routeId");
+        }
+        if (path.endsWith("routes/pedestrian")) {
+            return "pedestrian";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,101 @@
+package com.sjoneon.cap.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sjoneon.cap.models.api.TagoBusArrivalResponse;
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+import com.sjoneon.cap.utils.TagoBusArrivalDeserializer;
+import com.sjoneon.cap.utils.TagoBusStopDeserializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 녹화된 TAGO/TMAP 응답 픽스처 로더 및 RouteFragment와 동일한 파싱 설정
+ */
+final class Fixtures {
+
+    static final String CITY_CODE = "33010";
+
+    // 픽스처 정류장/노선 ID (fixtures/*.json과 일치)
+    static final String[] START_STOP_IDS = {
+            "CJB280100025", "CJB280100026", "CJB280100027", "CJB280100028"
+    };
+    static final String[] ROUTE_IDS = {
+            "CJB270000101", "CJB270000102", "CJB270000103",
+            "CJB270000104", "CJB270000105", "CJB270000106"
+    };
+
+    private Fixtures() {
+    }
+
+    static String read(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("픽스처 없음: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * RouteFragment.initializeServices()의 TAGO용 Gson과 동일한 설정
+     */
+    static Gson tagoGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(TagoBusArrivalResponse.Body.class, new TagoBusArrivalDeserializer())
+                .registerTypeAdapter(TagoBusStopResponse.Body.class, new TagoBusStopDeserializer())
+                .setLenient()
+                .create();
+    }
+
+    static Gson generalGson() {
+        return new GsonBuilder().setLenient().create();
+    }
+
+    /**
+     * 정류장 응답 본문을 RouteFragment와 같은 2단계 방식으로 파싱
+     */
+    static List<TagoBusStopResponse.BusStop> parseStops(Gson tagoGson, Gson plainGson, String json) {
+        TagoBusStopResponse response = tagoGson.fromJson(json, TagoBusStopResponse.class);
+        if (response == null || response.response == null || response.response.body == null) {
+            return Collections.emptyList();
+        }
+        TagoBusStopResponse.Items items = plainGson.fromJson(
+                response.response.body.items, TagoBusStopResponse.Items.class);
+        return items != null && items.item != null ? items.item : Collections.emptyList();
+    }
+
+    static List<TagoBusArrivalResponse.BusArrival> parseArrivals(Gson tagoGson, Gson plainGson, String json) {
+        TagoBusArrivalResponse response = tagoGson.fromJson(json, TagoBusArrivalResponse.class);
+        if (response == null || response.response == null || response.response.body == null) {
+            return Collections.emptyList();
+        }
+        TagoBusArrivalResponse.ItemsContainer items = plainGson.fromJson(
+                response.response.body.items, TagoBusArrivalResponse.ItemsContainer.class);
+        return items != null && items.item != null ? items.item : Collections.emptyList();
+    }
+
+    static List<TagoBusRouteStationResponse.RouteStation> parseRouteStations(Gson tagoGson, String json) {
+        TagoBusRouteStationResponse response = tagoGson.fromJson(json, TagoBusRouteStationResponse.class);
+        if (response == null || response.response == null || response.response.body == null
+                || response.response.body.items == null || response.response.body.items.item == null) {
+            return Collections.emptyList();
+        }
+        return response.response.body.items.item;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sjoneon.cap.benchmark;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메모리에만 값을 보관하는 벤치마크용 Context
+ * BusRideTimeModel 같은 Context 기반 싱글톤을 디스크 I/O 없이 생성하기 위해 사용합니다.
+ */
+final class InMemoryContext extends Context {
+
+    private final Map<String, InMemoryPreferences> preferences = new HashMap<>();
+
+    @Override
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    @Override
+    public SharedPreferences getSharedPreferences(String name, int mode) {
+        return preferences.computeIfAbsent(name, key -> new InMemoryPreferences());
+    }
+
+    private static final class InMemoryPreferences implements SharedPreferences, SharedPreferences.Editor {
+        private final Map<String, String> values = new HashMap<>();
+
+        @Override
+        public String getString(String key, String defValue) {
+            return values.getOrDefault(key, defValue);
+        }
+
+        @Override
+        public Editor edit() {
+            return this;
+        }
+
+        @Override
+        public Editor putString(String key, String value) {
+            values.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void apply() {
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.sjoneon.cap.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sjoneon.cap.models.local.AlarmItem;
+import com.sjoneon.cap.models.local.CalendarEvent;
+import com.sjoneon.cap.models.local.NotificationItem;
+import com.sjoneon.cap.utils.ModelCodecs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 로컬 저장 형식 벤치마크
+ * 이전 저장 방식(Gson + TypeToken 목록 JSON)과 ModelCodecs 바이너리 코덱으로 같은 레코드 목록을 인코딩/디코딩합니다.
+ */
+@State(Scope.Benchmark)
+public class ModelCodecBenchmark {
+
+    private static final long BASE_TIME = 1_760_000_000_000L;
+
+    // 저장소별 레코드 수
+    @Param({"20", "500"})
+    public int recordCount;
+
+    private Gson gson;
+
+    private final Type calendarEventListType = new TypeToken<ArrayList<CalendarEvent>>() {}.getType();
+    private final Type alarmListType = new TypeToken<ArrayList<AlarmItem>>() {}.getType();
+    private final Type notificationListType = new TypeToken<ArrayList<NotificationItem>>() {}.getType();
+
+    private List<CalendarEvent> events;
+    private List<AlarmItem> alarms;
+    private List<NotificationItem> notifications;
+
+    private String eventsJson;
+    private String alarmsJson;
+    private String notificationsJson;
+    private byte[] eventsBinary;
+    private byte[] alarmsBinary;
+    private byte[] notificationsBinary;
+
+    @Setup
+    public void setUp() {
+        gson = new Gson();
+
+        events = new ArrayList<>(recordCount);
+        alarms = new ArrayList<>(recordCount);
+        notifications = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            CalendarEvent event = new CalendarEvent(BASE_TIME + i, "일정 " + i,
+                    "충북대학교 학생회관 " + i + "호 회의", BASE_TIME + i * 3_600_000L);
+            event.setNotificationSettings(new ArrayList<>(Arrays.asList(
+                    new CalendarEvent.NotificationSetting(
+                            CalendarEvent.NotificationSetting.NotificationType.ONE_HOUR_BEFORE, true),
+                    new CalendarEvent.NotificationSetting(
+                            CalendarEvent.NotificationSetting.NotificationType.AT_TIME_OF_EVENT, i % 2 == 0))));
+            event.setServerId(i % 3 == 0 ? null : 1000 + i);
+            event.setLocationAlias(i % 2 == 0 ? "학교" : null);
+            events.add(event);
+
+            AlarmItem alarm = new AlarmItem(i, String.format("%02d:%02d", i % 24, i % 60),
+                    "알람 " + i, i % 2 == 0, true, i % 3 == 0);
+            alarm.setServerId(i % 3 == 0 ? null : 2000 + i);
+            alarms.add(alarm);
+
+            notifications.add(new NotificationItem(i, "버스 도착 알림 " + i,
+                    "502번 버스가 " + (i % 10) + "분 후 도착합니다.", BASE_TIME - i * 60_000L, i % 4 == 0));
+        }
+
+        eventsJson = gson.toJson(events, calendarEventListType);
+        alarmsJson = gson.toJson(alarms, alarmListType);
+        notificationsJson = gson.toJson(notifications, notificationListType);
+        eventsBinary = ModelCodecs.CALENDAR_EVENT.encodeList(events);
+        alarmsBinary = ModelCodecs.ALARM.encodeList(alarms);
+        notificationsBinary = ModelCodecs.NOTIFICATION.encodeList(notifications);
+    }
+
+    // ================================================================================================
+    // 일정
+    // ================================================================================================
+
+    @Benchmark
+    public String encodeCalendarEventsGson() {
+        return gson.toJson(events, calendarEventListType);
+    }
+
+    @Benchmark
+    public byte[] encodeCalendarEventsCodec() {
+        return ModelCodecs.CALENDAR_EVENT.encodeList(events);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> decodeCalendarEventsGson() {
+        return gson.fromJson(eventsJson, calendarEventListType);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> decodeCalendarEventsCodec() throws IOException {
+        return ModelCodecs.CALENDAR_EVENT.decodeList(eventsBinary);
+    }
+
+    // ================================================================================================
+    // 알람
+    // ================================================================================================
+
+    @Benchmark
+    public String encodeAlarmsGson() {
+        return gson.toJson(alarms, alarmListType);
+    }
+
+    @Benchmark
+    public byte[] encodeAlarmsCodec() {
+        return ModelCodecs.ALARM.encodeList(alarms);
+    }
+
+    @Benchmark
+    public List<AlarmItem> decodeAlarmsGson() {
+        return gson.fromJson(alarmsJson, alarmListType);
+    }
+
+    @Benchmark
+    public List<AlarmItem> decodeAlarmsCodec() throws IOException {
+        return ModelCodecs.ALARM.decodeList(alarmsBinary);
+    }
+
+    // ================================================================================================
+    // 알림
+    // ================================================================================================
+
+    @Benchmark
+    public String encodeNotificationsGson() {
+        return gson.toJson(notifications, notificationListType);
+    }
+
+    @Benchmark
+    public byte[] encodeNotificationsCodec() {
+        return ModelCodecs.NOTIFICATION.encodeList(notifications);
+    }
+
+    @Benchmark
+    public List<NotificationItem> decodeNotificationsGson() {
+        return gson.fromJson(notificationsJson, notificationListType);
+    }
+
+    @Benchmark
+    public List<NotificationItem> decodeNotificationsCodec() throws IOException {
+        return ModelCodecs.NOTIFICATION.decodeList(notificationsBinary);
+    }
+}
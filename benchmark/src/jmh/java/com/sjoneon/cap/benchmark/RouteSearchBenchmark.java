@@ -0,0 +1,80 @@
+package com.sjoneon.cap.benchmark;
+
+import com.sjoneon.cap.services.TagoApiService;
+import com.sjoneon.cap.services.TmapApiService;
+import com.sjoneon.cap.utils.BusRideTimeModel;
+import com.sjoneon.cap.utils.RouteCandidate;
+import com.sjoneon.cap.utils.RouteEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * 가짜 서버를 상대로 한 경로 탐색 전체 흐름 벤치마크
+ * 앱의 RouteEngine(주변 정류장 → 도착 정보 → 노선 정류장 → 회차 방향 검증 → 도보/탑승 시간 → 후보 수집)과
+ * BusRideTimeModel을 그대로 실행합니다.
+ */
+@State(Scope.Benchmark)
+public class RouteSearchBenchmark {
+
+    private static final String SERVICE_KEY = "benchmark";
+
+    private static final double START_LATITUDE = 36.6195;
+    private static final double START_LONGITUDE = 127.4670;
+    private static final double END_LATITUDE = 36.6585;
+    private static final double END_LONGITUDE = 127.5010;
+
+    private RouteEngine routeEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() throws RouteEngine.SearchException {
+        OkHttpClient client = new FakeRouteApiServer().newClient();
+
+        TagoApiService tagoApiService = new Retrofit.Builder()
+                .baseUrl(FakeRouteApiServer.TAGO_BASE_URL)
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create(Fixtures.tagoGson()))
+                .build()
+                .create(TagoApiService.class);
+
+        TmapApiService tmapApiService = new Retrofit.Builder()
+                .baseUrl(FakeRouteApiServer.TMAP_BASE_URL)
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create(Fixtures.generalGson()))
+                .build()
+                .create(TmapApiService.class);
+
+        routeEngine = new RouteEngine(tagoApiService, tmapApiService, SERVICE_KEY, SERVICE_KEY,
+                BusRideTimeModel.getInstance(new InMemoryContext()));
+
+        if (routeEngine.search(START_LATITUDE, START_LONGITUDE, END_LATITUDE, END_LONGITUDE).isEmpty()) {
+            throw new IllegalStateException("픽스처로 경로를 찾지 못함 - 벤치마크 설정 확인 필요");
+        }
+    }
+
+    /**
+     * 처음 검색하는 구간 (정류장/노선 캐시 없음)
+     */
+    @Benchmark
+    public List<RouteCandidate> searchRoutesColdCache() throws RouteEngine.SearchException {
+        routeEngine.clearCaches();
+        return routeEngine.search(START_LATITUDE, START_LONGITUDE, END_LATITUDE, END_LONGITUDE);
+    }
+
+    /**
+     * 같은 화면에서 다시 검색하는 구간 (정류장/노선 캐시 재사용, 도착 정보와 도보 시간은 매번 조회)
+     */
+    @Benchmark
+    public List<RouteCandidate> searchRoutesWarmCache() throws RouteEngine.SearchException {
+        return routeEngine.search(START_LATITUDE, START_LONGITUDE, END_LATITUDE, END_LONGITUDE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.sjoneon.cap.benchmark;
+
+import com.google.gson.Gson;
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+import com.sjoneon.cap.utils.StationIndexFinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * StationIndexFinder 벤치마크
+ * ID 매칭, 이름 매칭, 좌표 매칭, 매칭 실패(전체 3회 순회) 경로를 각각 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class StationIndexBenchmark {
+
+    private List<TagoBusRouteStationResponse.RouteStation> routeStations;
+    private TagoBusStopResponse.BusStop stopById;
+    private TagoBusStopResponse.BusStop stopByName;
+    private TagoBusStopResponse.BusStop stopByCoordinate;
+    private TagoBusStopResponse.BusStop unknownStop;
+
+    @Setup
+    public void setUp() {
+        routeStations = Fixtures.parseRouteStations(Fixtures.tagoGson(),
+                Fixtures.read("tago_route_" + Fixtures.ROUTE_IDS[0] + ".json"));
+
+        List<TagoBusStopResponse.BusStop> endStops = Fixtures.parseStops(
+                Fixtures.tagoGson(), new Gson(), Fixtures.read("tago_stops_end.json"));
+        stopById = endStops.get(0);
+
+        stopByName = copyOf(stopById);
+        stopByName.nodeid = "CJB289999901";
+
+        // 노선 후반부 정류장에서 약 20m 떨어진 이름 없는 지점
+        TagoBusRouteStationResponse.RouteStation lateStation = routeStations.get(routeStations.size() - 10);
+        stopByCoordinate = new TagoBusStopResponse.BusStop();
+        stopByCoordinate.citycode = Fixtures.CITY_CODE;
+        stopByCoordinate.nodeid = "CJB289999902";
+        stopByCoordinate.nodenm = "임시정류장";
+        stopByCoordinate.gpslati = lateStation.gpslati + 0.00015;
+        stopByCoordinate.gpslong = lateStation.gpslong + 0.0001;
+
+        unknownStop = new TagoBusStopResponse.BusStop();
+        unknownStop.citycode = Fixtures.CITY_CODE;
+        unknownStop.nodeid = "CJB289999903";
+        unknownStop.nodenm = "노선외정류장";
+        unknownStop.gpslati = 36.9;
+        unknownStop.gpslong = 127.9;
+    }
+
+    private static TagoBusStopResponse.BusStop copyOf(TagoBusStopResponse.BusStop source) {
+        TagoBusStopResponse.BusStop copy = new TagoBusStopResponse.BusStop();
+        copy.citycode = source.citycode;
+        copy.nodeid = source.nodeid;
+        copy.nodenm = source.nodenm;
+        copy.gpslati = source.gpslati;
+        copy.gpslong = source.gpslong;
+        return copy;
+    }
+
+    @Benchmark
+    public int findById() {
+        return StationIndexFinder.findStationIndex(routeStations, stopById);
+    }
+
+    @Benchmark
+    public int findByName() {
+        return StationIndexFinder.findStationIndex(routeStations, stopByName);
+    }
+
+    @Benchmark
+    public int findByCoordinate() {
+        return StationIndexFinder.findStationIndex(routeStations, stopByCoordinate);
+    }
+
+    @Benchmark
+    public int findMissing() {
+        return StationIndexFinder.findStationIndex(routeStations, unknownStop);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sjoneon.cap.benchmark;
+
+import com.google.gson.Gson;
+import com.sjoneon.cap.models.api.TagoBusArrivalResponse;
+import com.sjoneon.cap.models.api.TagoBusRouteStationResponse;
+import com.sjoneon.cap.models.api.TagoBusStopResponse;
+import com.sjoneon.cap.models.api.TmapPedestrianResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * TAGO/TMAP 응답 파싱 벤치마크
+ * TagoBusStopDeserializer/TagoBusArrivalDeserializer를 거친 뒤 items를 다시 파싱하는 실제 앱 경로를 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class TagoParsingBenchmark {
+
+    private Gson tagoGson;
+    private Gson plainGson;
+    private Gson generalGson;
+
+    private String stopsJson;
+    private String singleStopJson;
+    private String emptyStopsJson;
+    private String arrivalsJson;
+    private String routeStationsJson;
+    private String pedestrianJson;
+
+    @Setup
+    public void setUp() {
+        tagoGson = Fixtures.tagoGson();
+        plainGson = new Gson();
+        generalGson = Fixtures.generalGson();
+
+        stopsJson = Fixtures.read("tago_stops_start.json");
+        singleStopJson = Fixtures.read("tago_stops_single.json");
+        emptyStopsJson = Fixtures.read("tago_stops_empty.json");
+        arrivalsJson = Fixtures.read("tago_arrivals_" + Fixtures.START_STOP_IDS[0] + ".json");
+        routeStationsJson = Fixtures.read("tago_route_" + Fixtures.ROUTE_IDS[0] + ".json");
+        pedestrianJson = Fixtures.read("tmap_pedestrian.json");
+    }
+
+    @Benchmark
+    public List<TagoBusStopResponse.BusStop> decodeBusStops() {
+        return Fixtures.parseStops(tagoGson, plainGson, stopsJson);
+    }
+
+    @Benchmark
+    public List<TagoBusStopResponse.BusStop> decodeSingleBusStop() {
+        return Fixtures.parseStops(tagoGson, plainGson, singleStopJson);
+    }
+
+    @Benchmark
+    public List<TagoBusStopResponse.BusStop> decodeEmptyBusStops() {
+        return Fixtures.parseStops(tagoGson, plainGson, emptyStopsJson);
+    }
+
+    @Benchmark
+    public List<TagoBusArrivalResponse.BusArrival> decodeBusArrivals() {
+        return Fixtures.parseArrivals(tagoGson, plainGson, arrivalsJson);
+    }
+
+    @Benchmark
+    public List<TagoBusRouteStationResponse.RouteStation> decodeRouteStations() {
+        return Fixtures.parseRouteStations(tagoGson, routeStationsJson);
+    }
+
+    @Benchmark
+    public TmapPedestrianResponse decodePedestrianRoute() {
+        return generalGson.fromJson(pedestrianJson, TmapPedestrianResponse.class);
+    }
+}
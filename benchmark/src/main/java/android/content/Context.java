@@ -0,0 +1,14 @@
+package android.content;
+
+/**
+ * JVM 벤치마크용 android.content.Context 대체 구현
+ * 벤치마크에 포함된 앱 코드가 사용하는 SharedPreferences 조회만 제공합니다.
+ */
+public abstract class Context {
+
+    public static final int MODE_PRIVATE = 0;
+
+    public abstract Context getApplicationContext();
+
+    public abstract SharedPreferences getSharedPreferences(String name, int mode);
+}
@@ -0,0 +1,18 @@
+package android.content;
+
+/**
+ * JVM 벤치마크용 android.content.SharedPreferences 대체 인터페이스
+ * 벤치마크에 포함된 앱 코드가 사용하는 문자열 값 읽기/쓰기만 제공합니다.
+ */
+public interface SharedPreferences {
+
+    String getString(String key, String defValue);
+
+    Editor edit();
+
+    interface Editor {
+        Editor putString(String key, String value);
+
+        void apply();
+    }
+}
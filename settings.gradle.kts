@@ -16,4 +16,5 @@ dependencyResolutionManagement {
 }
 
 rootProject.name = "cap"
-include(":app")
\ No newline at end of file
+include(":app")
+include(":benchmark")
\ No newline at end of file